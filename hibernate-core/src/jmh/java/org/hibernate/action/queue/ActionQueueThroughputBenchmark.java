@@ -11,6 +11,7 @@
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.BatchSettings;
+import org.hibernate.cfg.FlushSettings;
 import org.hibernate.service.ServiceRegistry;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
@@ -480,6 +481,23 @@ public void tearDown() {
 		}
 	}
 
+	@State(Scope.Benchmark)
+	public static class GraphQueuePlanCacheState {
+		SessionFactory sessionFactory;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			sessionFactory = createSessionFactory("graph", "graph_plan_cache", true, true, 256);
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			if (sessionFactory != null) {
+				sessionFactory.close();
+			}
+		}
+	}
+
 	// ========== Helper Methods ==========
 
 	private static SessionFactory createSessionFactory(String queueImpl) {
@@ -491,6 +509,15 @@ private static SessionFactory createSessionFactory(
 			String databaseName,
 			boolean orderInserts,
 			boolean orderUpdates) {
+		return createSessionFactory(queueImpl, databaseName, orderInserts, orderUpdates, 0);
+	}
+
+	private static SessionFactory createSessionFactory(
+			String queueImpl,
+			String databaseName,
+			boolean orderInserts,
+			boolean orderUpdates,
+			int planCacheSize) {
 		ServiceRegistry registry = new StandardServiceRegistryBuilder()
 				.applySetting(AvailableSettings.DIALECT, "org.hibernate.dialect.H2Dialect")
 				.applySetting(AvailableSettings.URL, "jdbc:h2:mem:throughput_" + databaseName + ";DB_CLOSE_DELAY=-1")
@@ -505,6 +532,7 @@ private static SessionFactory createSessionFactory(
 				// for apples/apples
 				.applySetting( BatchSettings.ORDER_INSERTS, Boolean.toString( orderInserts ) )
 				.applySetting( BatchSettings.ORDER_UPDATES, Boolean.toString( orderUpdates ) )
+				.applySetting( FlushSettings.PLAN_CACHE_MAX_SIZE, Integer.toString( planCacheSize ) )
 				.build();
 
 		return new MetadataSources(registry)
@@ -1126,6 +1154,47 @@ public void realisticInterleavedInsert_OrderInserts_Graph(GraphQueueState state,
 		realisticInterleavedInsert(state.sessionFactory, bh);
 	}
 
+	@Benchmark
+	public void realisticInterleavedInsert_OrderInserts_GraphPlanCache(GraphQueuePlanCacheState state, Blackhole bh) {
+		realisticInterleavedInsert(state.sessionFactory, bh);
+	}
+
+	/**
+	 * Benchmark: a unit-of-work loop repeatedly flushing the same mix of related
+	 * entity types, which is the steady-state case flush plan caching targets.
+	 */
+	@Benchmark
+	public void repeatedShapeFlush_Graph(GraphQueueState state, Blackhole bh) {
+		repeatedShapeFlush(state.sessionFactory, bh);
+	}
+
+	@Benchmark
+	public void repeatedShapeFlush_GraphPlanCache(GraphQueuePlanCacheState state, Blackhole bh) {
+		repeatedShapeFlush(state.sessionFactory, bh);
+	}
+
+	private void repeatedShapeFlush(SessionFactory sf, Blackhole bh) {
+		try (Session session = sf.openSession()) {
+			session.beginTransaction();
+			for (int i = 0; i < 20; i++) {
+				for (int j = 0; j < 5; j++) {
+					RetailCustomer customer = new RetailCustomer("Customer-" + i + "-" + j, j);
+					RetailOrder order = new RetailOrder("ORD-" + i + "-" + j, customer, 10_000 + j);
+					session.persist(customer);
+					session.persist(order);
+					session.persist(new RetailPayment("PAY-" + i + "-" + j, order, order.totalCents));
+					session.persist(new RetailShipment("TRK-" + i + "-" + j, order));
+				}
+				session.flush();
+				session.clear();
+			}
+			session.getTransaction().commit();
+			bh.consume(session);
+		}
+
+		cleanupRetailTables(sf);
+	}
+
 	private void realisticInterleavedInsert(SessionFactory sf, Blackhole bh) {
 		try (Session session = sf.openSession()) {
 			session.beginTransaction();
@@ -0,0 +1,181 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi.entry;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmarks for the {@link CacheEntryStructure} implementations of entities.
+ *
+ * Compares the time to encode an entity cache entry into the bytes a remote cache
+ * would store, and to decode it again, for the default unstructured entries and the
+ * structured entries, which are both written using Java serialization, and for the
+ * compact {@link BinaryCacheEntry}. The size of the encoded entry is reported as the
+ * {@code encodedBytes} secondary result of {@link #encode}.
+ *
+ * Run with (the gc profiler reports the allocation rate per operation):
+ * ./gradlew :hibernate-core:jmh -Pjmh.include=".*CacheEntryStructureBenchmark.*" --args="-prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1)
+public class CacheEntryStructureBenchmark {
+
+	@Embeddable
+	public static class Address {
+		private String street;
+		private String city;
+		private String zip;
+	}
+
+	@Entity(name = "Customer")
+	@Table(name = "customer")
+	public static class Customer {
+		@Id
+		private Long id;
+
+		@Version
+		private Integer version;
+
+		private String name;
+
+		private String email;
+
+		private BigDecimal balance;
+
+		private int visits;
+
+		private boolean active;
+
+		private UUID externalId;
+
+		private LocalDate birthDate;
+
+		private Instant lastLogin;
+
+		@Embedded
+		private Address address;
+	}
+
+	@Param({"unstructured", "structured", "binary"})
+	String format;
+
+	SessionFactoryImplementor sessionFactory;
+	CacheEntryStructure structure;
+	CacheEntry entry;
+	byte[] encoded;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final var registry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.DIALECT, "org.hibernate.dialect.H2Dialect" )
+				.applySetting( AvailableSettings.URL, "jdbc:h2:mem:cacheentrybench;DB_CLOSE_DELAY=-1" )
+				.applySetting( AvailableSettings.USER, "sa" )
+				.applySetting( AvailableSettings.PASS, "" )
+				.applySetting( AvailableSettings.SHOW_SQL, "false" )
+				.build();
+		sessionFactory = (SessionFactoryImplementor) new MetadataSources( registry )
+				.addAnnotatedClass( Customer.class )
+				.buildMetadata()
+				.buildSessionFactory();
+
+		final EntityPersister persister =
+				sessionFactory.getMappingMetamodel().getEntityDescriptor( Customer.class );
+		structure = switch ( format ) {
+			case "structured" -> new StructuredCacheEntry( persister );
+			case "binary" -> new BinaryCacheEntry( persister );
+			default -> UnstructuredCacheEntry.INSTANCE;
+		};
+
+		final Customer customer = new Customer();
+		customer.id = 123456L;
+		customer.version = 7;
+		customer.name = "Wile E. Coyote";
+		customer.email = "wile.e.coyote@acme.example";
+		customer.balance = new BigDecimal( "-1234.56" );
+		customer.visits = 42;
+		customer.active = true;
+		customer.externalId = UUID.randomUUID();
+		customer.birthDate = LocalDate.of( 1949, 9, 17 );
+		customer.lastLogin = Instant.now();
+		customer.address = new Address();
+		customer.address.street = "1 Desert Road";
+		customer.address.city = "Albuquerque";
+		customer.address.zip = "87101";
+		try ( var session = sessionFactory.openStatelessSession() ) {
+			entry = new StandardCacheEntryImpl(
+					persister.getValues( customer ),
+					persister,
+					customer.version,
+					(SharedSessionContractImplementor) session,
+					customer
+			);
+		}
+		encoded = encodeEntry();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+		}
+	}
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class EncodedSize {
+		public long encodedBytes;
+
+		@Setup(Level.Iteration)
+		public void reset(CacheEntryStructureBenchmark benchmark) {
+			encodedBytes = benchmark.encoded.length;
+		}
+	}
+
+	@Benchmark
+	public byte[] encode(EncodedSize size) {
+		// the size is only taken as a parameter to report it with this benchmark
+		return encodeEntry();
+	}
+
+	private byte[] encodeEntry() {
+		final Object structured = structure.structure( entry );
+		// a remote cache needs the bytes, and stores a byte[] as it is
+		return structured instanceof byte[] bytes
+				? bytes
+				: SerializationHelper.serialize( (Serializable) structured );
+	}
+
+	@Benchmark
+	public Object decode() {
+		final Object structured = structure instanceof BinaryCacheEntry
+				? encoded
+				: SerializationHelper.deserialize( encoded );
+		return structure.destructure( structured, sessionFactory );
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.collections.OpenAddressingHashMap;
+import org.hibernate.persister.entity.EntityPersister;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmarks for the storage of the persistence context.
+ *
+ * Compares the default {@link HashMap} based storage with the compact
+ * {@link OpenAddressingHashMap} storage enabled by
+ * {@value org.hibernate.cfg.PersistenceSettings#PERSISTENCE_CONTEXT_COMPACT_STORAGE}:
+ * - raw lookup/insertion of {@link EntityKey}s
+ * - loading a large number of entities into a single session
+ *
+ * Run with:
+ * ./gradlew :hibernate-core:jmh -Pjmh.include=".*PersistenceContextStorageBenchmark.*"
+ *
+ * Add {@code --args="-prof gc"} to compare the allocation rate (and so the footprint)
+ * of both storages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1)
+public class PersistenceContextStorageBenchmark {
+
+	@Entity(name = "Item")
+	@Table(name = "item")
+	public static class Item {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Item() {}
+		public Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	// ========== State Classes ==========
+
+	@State(Scope.Benchmark)
+	public static class StorageState {
+		@Param({"100", "10000"})
+		int entityCount;
+
+		@Param({"false", "true"})
+		boolean compactStorage;
+
+		SessionFactory sessionFactory;
+		EntityKey[] keys;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			sessionFactory = createSessionFactory( compactStorage );
+			final EntityPersister persister = sessionFactory.unwrap( SessionFactoryImplementor.class )
+					.getMappingMetamodel()
+					.getEntityDescriptor( Item.class );
+			keys = new EntityKey[entityCount];
+			for ( int i = 0; i < entityCount; i++ ) {
+				keys[i] = new EntityKey( (long) i, persister );
+			}
+
+			sessionFactory.inTransaction( session -> {
+				for ( int i = 0; i < entityCount; i++ ) {
+					session.persist( new Item( (long) i, "item " + i ) );
+				}
+			} );
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			if ( sessionFactory != null ) {
+				sessionFactory.close();
+			}
+		}
+
+		Map<EntityKey, Object> newMap() {
+			return compactStorage ? new OpenAddressingHashMap<>() : new HashMap<>();
+		}
+	}
+
+	private static SessionFactory createSessionFactory(boolean compactStorage) {
+		final StandardServiceRegistryBuilder builder = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.DIALECT, "org.hibernate.dialect.H2Dialect" )
+				.applySetting( AvailableSettings.URL, "jdbc:h2:mem:pcstoragebench_" + compactStorage + ";DB_CLOSE_DELAY=-1" )
+				.applySetting( AvailableSettings.USER, "sa" )
+				.applySetting( AvailableSettings.PASS, "" )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( AvailableSettings.SHOW_SQL, "false" )
+				.applySetting( AvailableSettings.STATEMENT_BATCH_SIZE, "50" )
+				.applySetting( AvailableSettings.PERSISTENCE_CONTEXT_COMPACT_STORAGE, Boolean.toString( compactStorage ) );
+
+		return new MetadataSources( builder.build() )
+				.addAnnotatedClass( Item.class )
+				.buildMetadata()
+				.buildSessionFactory();
+	}
+
+	// ========================================================================
+	// Raw EntityKey storage
+	// ========================================================================
+
+	@Benchmark
+	public Map<EntityKey, Object> populate(StorageState state) {
+		final Map<EntityKey, Object> map = state.newMap();
+		for ( EntityKey key : state.keys ) {
+			map.put( key, key );
+		}
+		return map;
+	}
+
+	@Benchmark
+	public void populateAndLookup(StorageState state, Blackhole blackhole) {
+		final Map<EntityKey, Object> map = state.newMap();
+		for ( EntityKey key : state.keys ) {
+			map.put( key, key );
+		}
+		for ( EntityKey key : state.keys ) {
+			blackhole.consume( map.get( key ) );
+		}
+	}
+
+	// ========================================================================
+	// Loading entities into a session
+	// ========================================================================
+
+	@Benchmark
+	public void loadAll(StorageState state, Blackhole blackhole) {
+		try ( Session session = state.sessionFactory.openSession() ) {
+			blackhole.consume( session.createSelectionQuery( "from Item", Item.class ).getResultList() );
+			// look each one up again through the persistence context
+			for ( int i = 0; i < state.entityCount; i++ ) {
+				blackhole.consume( session.find( Item.class, (long) i ) );
+			}
+		}
+	}
+}
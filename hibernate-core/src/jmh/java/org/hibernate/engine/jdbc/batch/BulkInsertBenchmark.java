@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.BatchSettings;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of {@link org.hibernate.StatelessSession#insertMultiple} comparing:
+ * - batched inserts (PreparedStatement#addBatch)
+ * - multi-row inserts (hibernate.jdbc.batch_multi_row_inserts)
+ * - bulk inserts (hibernate.jdbc.bulk_insert), using the bulk insert strategy
+ *   of the dialect, or multi-row inserts if the dialect has none
+ *
+ * By default, runs against in-memory H2, and H2 in PostgreSQL compatibility mode.
+ * To run against a local PostgreSQL database, where bulk inserts use COPY, set:
+ * -Dbulk.url=jdbc:postgresql://localhost/hibernate_orm_test
+ * -Dbulk.dialect=org.hibernate.dialect.PostgreSQLDialect
+ * -Dbulk.user=... -Dbulk.password=...
+ * in which case the database parameter is ignored.
+ *
+ * Run with:
+ * ./gradlew :hibernate-core:jmh -Pjmh.include=".*BulkInsertBenchmark.*"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1)
+public class BulkInsertBenchmark {
+
+	@Entity(name = "BulkRow")
+	@Table(name = "bulk_row")
+	public static class BulkRow {
+		@Id
+		private Long id;
+		private String name;
+		private String description;
+		private int quantity;
+		private LocalDate created;
+
+		public BulkRow() {}
+		public BulkRow(Long id, String name, String description, int quantity, LocalDate created) {
+			this.id = id;
+			this.name = name;
+			this.description = description;
+			this.quantity = quantity;
+			this.created = created;
+		}
+	}
+
+	@Param({"batched", "multi_row", "bulk"})
+	private String mode;
+
+	@Param({"h2", "h2_postgresql"})
+	private String database;
+
+	@Param({"1000", "10000"})
+	private int rows;
+
+	private SessionFactory sessionFactory;
+	private List<BulkRow> entities;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final String url = System.getProperty( "bulk.url" );
+		final var registry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.DIALECT,
+						url == null ? "org.hibernate.dialect.H2Dialect" : System.getProperty( "bulk.dialect" ) )
+				.applySetting( AvailableSettings.URL, url == null ? h2Url() : url )
+				.applySetting( AvailableSettings.USER, System.getProperty( "bulk.user", "sa" ) )
+				.applySetting( AvailableSettings.PASS, System.getProperty( "bulk.password", "" ) )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( AvailableSettings.SHOW_SQL, "false" )
+				.applySetting( BatchSettings.MULTI_ROW_INSERTS, Boolean.toString( mode.equals( "multi_row" ) ) )
+				.applySetting( BatchSettings.BULK_INSERT, Boolean.toString( mode.equals( "bulk" ) ) )
+				.build();
+		sessionFactory = new MetadataSources( registry )
+				.addAnnotatedClass( BulkRow.class )
+				.buildMetadata()
+				.buildSessionFactory();
+
+		final LocalDate today = LocalDate.now();
+		entities = new ArrayList<>( rows );
+		for ( long i = 0; i < rows; i++ ) {
+			entities.add( new BulkRow( i, "row " + i, i % 10 == 0 ? null : "a \"description\", of row " + i,
+					(int) i % 100, today.minusDays( i % 365 ) ) );
+		}
+	}
+
+	private String h2Url() {
+		return database.equals( "h2_postgresql" )
+				? "jdbc:h2:mem:bulk_" + mode + "_pg;MODE=PostgreSQL;DB_CLOSE_DELAY=-1"
+				: "jdbc:h2:mem:bulk_" + mode + ";DB_CLOSE_DELAY=-1";
+	}
+
+	@TearDown(Level.Invocation)
+	public void truncate() {
+		sessionFactory.getSchemaManager().truncate();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+		}
+	}
+
+	@Benchmark
+	public void insertMultiple() {
+		sessionFactory.inStatelessTransaction( session -> session.insertMultiple( entities ) );
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util.cache;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmarks for the {@link InternalCache} implementations.
+ *
+ * Compares the LIRS based {@link LegacyInternalCacheImplementation} with the
+ * W-TinyLFU based {@link TinyLfuInternalCacheImplementation}, for a workload
+ * resembling the query plan cache: a skewed (Zipf) distribution of "query strings"
+ * interrupted by bursts of one-off queries.
+ *
+ * Besides the throughput, the {@code hits} and {@code misses} secondary results
+ * report the number of cache hits and misses, from which the hit rate follows.
+ *
+ * Run with:
+ * ./gradlew :hibernate-core:jmh -Pjmh.include=".*InternalCacheBenchmark.*"
+ *
+ * Run multithreaded:
+ * ./gradlew :hibernate-core:jmh -Pjmh.include=".*InternalCacheBenchmark.*" --args="-t 8"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1)
+public class InternalCacheBenchmark {
+	private static final int TRACE_LENGTH = 1 << 20;
+
+	@Param({"lirs", "tinylfu"})
+	String eviction;
+
+	@Param({"2048"})
+	int maximumSize;
+
+	/**
+	 * Percentage of the accesses which belong to scan bursts of keys never seen before.
+	 */
+	@Param({"0", "30"})
+	int scanPercentage;
+
+	InternalCache<String, String> cache;
+	String[] trace;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		cache = new InternalCacheFactoryImpl( "tinylfu".equals( eviction ) ).createInternalCache( maximumSize );
+		trace = createTrace( maximumSize * 8, scanPercentage );
+	}
+
+	private static String[] createTrace(int distinctKeys, int scanPercentage) {
+		final Random random = new Random( 42 );
+		final ZipfGenerator zipf = new ZipfGenerator( distinctKeys, 0.99, random );
+		final String[] trace = new String[TRACE_LENGTH];
+		int scanKey = 0;
+		int i = 0;
+		while ( i < TRACE_LENGTH ) {
+			if ( random.nextInt( 100 ) < scanPercentage ) {
+				// a burst of 100 one-off keys
+				final int end = Math.min( TRACE_LENGTH, i + 100 );
+				while ( i < end ) {
+					trace[i++] = "select s from Scan s where s.id = " + scanKey++;
+				}
+			}
+			else {
+				trace[i++] = "select e from Entity e where e.id = " + zipf.next();
+			}
+		}
+		return trace;
+	}
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Counters {
+		public long hits;
+		public long misses;
+		int position;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			hits = 0;
+			misses = 0;
+			position = (int) ( Thread.currentThread().threadId() * 7919 ) & ( TRACE_LENGTH - 1 );
+		}
+	}
+
+	@Benchmark
+	public String computeIfAbsent(Counters counters) {
+		final String key = trace[counters.position];
+		counters.position = ( counters.position + 1 ) & ( TRACE_LENGTH - 1 );
+		final String cached = cache.get( key );
+		if ( cached != null ) {
+			counters.hits++;
+			return cached;
+		}
+		counters.misses++;
+		return cache.computeIfAbsent( key, k -> k );
+	}
+
+	/**
+	 * Generates integers in {@code [0, n)} following a Zipf distribution.
+	 */
+	private static final class ZipfGenerator {
+		private final double[] cumulative;
+		private final Random random;
+
+		ZipfGenerator(int n, double skew, Random random) {
+			this.random = random;
+			cumulative = new double[n];
+			double sum = 0;
+			for ( int i = 0; i < n; i++ ) {
+				sum += 1.0 / Math.pow( i + 1, skew );
+				cumulative[i] = sum;
+			}
+			for ( int i = 0; i < n; i++ ) {
+				cumulative[i] /= sum;
+			}
+		}
+
+		int next() {
+			final int index = Arrays.binarySearch( cumulative, random.nextDouble() );
+			return index >= 0 ? index : Math.min( -index - 1, cumulative.length - 1 );
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmarks for reading large result sets through
+ * {@link org.hibernate.sql.results.internal.StandardRowReader} and
+ * {@link org.hibernate.sql.results.jdbc.internal.JdbcValuesResultSetImpl}.
+ *
+ * Reads a 1M row H2 table as entities, as DTOs, as maps and as {@code Object[]}.
+ * DTO and map projections reuse a single raw row buffer for the whole result.
+ *
+ * Run with (the gc profiler reports the allocation rate per operation):
+ * ./gradlew :hibernate-core:jmh -Pjmh.include=".*RowReadingBenchmark.*" --args="-prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1)
+public class RowReadingBenchmark {
+
+	@Entity(name = "Item")
+	@Table(name = "item")
+	public static class Item {
+		@Id
+		private Long id;
+
+		private String name;
+
+		private long amount;
+
+		private int quantity;
+	}
+
+	public record ItemSummary(Long id, String name, long amount, int quantity) {
+	}
+
+	@Param({"1000000"})
+	int rowCount;
+
+	SessionFactory sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final var registry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.DIALECT, "org.hibernate.dialect.H2Dialect" )
+				.applySetting( AvailableSettings.URL, "jdbc:h2:mem:rowreadingbench;DB_CLOSE_DELAY=-1" )
+				.applySetting( AvailableSettings.USER, "sa" )
+				.applySetting( AvailableSettings.PASS, "" )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( AvailableSettings.SHOW_SQL, "false" )
+				.applySetting( AvailableSettings.STATEMENT_FETCH_SIZE, "1000" )
+				.build();
+		sessionFactory = new MetadataSources( registry )
+				.addAnnotatedClass( Item.class )
+				.buildMetadata()
+				.buildSessionFactory();
+
+		sessionFactory.inTransaction( session -> session.createNativeMutationQuery(
+						"insert into item (id, name, amount, quantity) "
+								+ "select x, 'item ' || x, x * 1000, mod(x, 100) from system_range(1, :rows)" )
+				.setParameter( "rows", rowCount )
+				.executeUpdate() );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+		}
+	}
+
+	@Benchmark
+	public void readEntities(Blackhole blackhole) {
+		try ( StatelessSession session = sessionFactory.openStatelessSession() ) {
+			session.createSelectionQuery( "from Item", Item.class )
+					.getResultStream()
+					.forEach( blackhole::consume );
+		}
+	}
+
+	@Benchmark
+	public void readDtos(Blackhole blackhole) {
+		try ( StatelessSession session = sessionFactory.openStatelessSession() ) {
+			session.createSelectionQuery( "select id, name, amount, quantity from Item", ItemSummary.class )
+					.getResultStream()
+					.forEach( blackhole::consume );
+		}
+	}
+
+	@Benchmark
+	@SuppressWarnings("rawtypes")
+	public void readMaps(Blackhole blackhole) {
+		try ( StatelessSession session = sessionFactory.openStatelessSession() ) {
+			session.createSelectionQuery( "select id as id, name as name, amount as amount from Item", Map.class )
+					.getResultStream()
+					.forEach( blackhole::consume );
+		}
+	}
+
+	@Benchmark
+	public void readArrays(Blackhole blackhole) {
+		try ( StatelessSession session = sessionFactory.openStatelessSession() ) {
+			session.createSelectionQuery( "select id, name, amount, quantity from Item", Object[].class )
+					.getResultStream()
+					.forEach( blackhole::consume );
+		}
+	}
+}
@@ -102,6 +102,11 @@ public interface StatelessSession extends SharedSessionContract, EntityAgent {
 	 * Insert multiple records in the same order as the entity
 	 * instances representing the new records occur in the given
 	 * list.
+	 * <p>
+	 * If {@value org.hibernate.cfg.BatchSettings#BULK_INSERT} is enabled,
+	 * the records are loaded using a fast path native to the database, if
+	 * the {@linkplain org.hibernate.dialect.Dialect#getBulkInsertStrategy
+	 * dialect} has one, or by multi-row inserts.
 	 *
 	 * @param entities a list of transient instances to be inserted
 	 *
@@ -136,6 +141,11 @@ public interface StatelessSession extends SharedSessionContract, EntityAgent {
 	 * Update multiple records in the same order as the entity
 	 * instances representing the records occur in the given
 	 * list.
+	 * <p>
+	 * If {@value org.hibernate.cfg.BatchSettings#ARRAY_PARAMETER_MUTATIONS}
+	 * is enabled, and the {@linkplain org.hibernate.dialect.Dialect#supportsUnnestInMutations
+	 * dialect} supports it, the records are updated by a single set-based
+	 * {@code update ... from unnest(...)} statement per table.
 	 *
 	 * @param entities a list of detached instances to be updated
 	 *
@@ -168,6 +178,11 @@ public interface StatelessSession extends SharedSessionContract, EntityAgent {
 	 * Delete multiple records in the same order as the entity
 	 * instances representing the records occur in the given
 	 * list.
+	 * <p>
+	 * If {@value org.hibernate.cfg.BatchSettings#ARRAY_PARAMETER_MUTATIONS}
+	 * is enabled, and the dialect supports array parameters, the records are
+	 * deleted by a single {@code delete ... where id = any (?)} statement per
+	 * table, or its equivalent for the database.
 	 *
 	 * @param entities a list of detached instances to be deleted
 	 *
@@ -31,17 +31,7 @@
 	 * Constructs a {@link DelayedPostInsertIdentifier}
 	 */
 	public DelayedPostInsertIdentifier() {
-		long value = SEQUENCE.incrementAndGet();
-		if ( value < 0 ) {
-			synchronized (SEQUENCE) {
-				value = SEQUENCE.incrementAndGet();
-				if ( value < 0 ) {
-					SEQUENCE.set( 0 );
-					value = 0;
-				}
-			}
-		}
-		identifier = value;
+		identifier = SEQUENCE.updateAndGet( value -> value < Long.MAX_VALUE ? value + 1 : 0 );
 	}
 
 	@Override
@@ -26,6 +26,7 @@
 import org.hibernate.action.queue.internal.graph.StandardGraphBuilder;
 import org.hibernate.action.queue.spi.plan.FlushOperation;
 import org.hibernate.action.queue.internal.plan.FlushPlan;
+import org.hibernate.action.queue.internal.plan.FlushPlanTemplate;
 import org.hibernate.action.queue.internal.plan.FlushPlanner;
 import org.hibernate.action.queue.internal.plan.PlanStep;
 import org.hibernate.action.queue.internal.plan.FlushOperationGroup;
@@ -34,6 +35,7 @@
 import org.hibernate.action.queue.internal.support.OperationGroupKey;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.internal.util.cache.InternalCache;
 import org.hibernate.persister.entity.EntityPersister;
 
 import java.io.IOException;
@@ -93,6 +95,8 @@ public class FlushCoordinator {
 
 	private final transient Decomposer decomposer;
 	private final transient FlushPlanner flushPlanner;
+	// SessionFactory-scoped; null when plan caching is disabled
+	private final transient InternalCache<FlushPlanTemplate.Key, FlushPlanTemplate> planTemplateCache;
 	private transient DeferrableConstraintMode deferrableConstraintMode = DeferrableConstraintMode.DEFAULT;
 
 	// Track entities that became managed during the current flush
@@ -110,7 +114,17 @@ public FlushCoordinator(
 			PlanningOptions planningOptions,
 			Map<String, EntityPersister> entityPersistersByTable,
 			SessionImplementor session) {
+		this( constraintModel, planningOptions, entityPersistersByTable, null, session );
+	}
+
+	public FlushCoordinator(
+			ConstraintModel constraintModel,
+			PlanningOptions planningOptions,
+			Map<String, EntityPersister> entityPersistersByTable,
+			InternalCache<FlushPlanTemplate.Key, FlushPlanTemplate> planTemplateCache,
+			SessionImplementor session) {
 		this.constraintModel = constraintModel;
+		this.planTemplateCache = planTemplateCache;
 		this.planningOptions = planningOptions;
 		this.session = session;
 
@@ -235,8 +249,7 @@ private void executeFlushInternal(
 		else {
 			// Complex scenario - use full graph-based planning
 			ActionLogging.ACTION_LOGGER.trace( "Building graph - statement dependencies found" );
-			var graph = graphBuilder.build( operationGroups, deferrableConstraintMode );
-			plan = flushPlanner.plan( graph, deferrableConstraintMode );
+			plan = planGroups( operationGroups );
 		}
 
 		// Execute the plan - post-execution callbacks will run inline as operations complete
@@ -249,6 +262,53 @@ private void executeFlushInternal(
 		decomposer.validateNoUnresolvedInserts();
 	}
 
+	/// Build the graph for the given groups and plan it, reusing a previously
+	/// computed [plan template][FlushPlanTemplate] when an identically shaped
+	/// flush has already been planned.
+	private FlushPlan planGroups(List<FlushOperationGroup> operationGroups) {
+		if ( planTemplateCache == null || !isPlanCacheable( operationGroups ) ) {
+			final var graph = graphBuilder.build( operationGroups, deferrableConstraintMode );
+			return flushPlanner.plan( graph, deferrableConstraintMode );
+		}
+
+		final List<FlushOperationGroup> sortedGroups = FlushPlanTemplate.sortGroups( operationGroups );
+		final var key = FlushPlanTemplate.Key.from( sortedGroups, deferrableConstraintMode );
+		final FlushPlanTemplate template = planTemplateCache.get( key );
+		if ( template != null ) {
+			ActionLogging.ACTION_LOGGER.trace( "Reusing cached flush plan template" );
+			return template.instantiate( sortedGroups );
+		}
+
+		final var graph = graphBuilder.build( operationGroups, deferrableConstraintMode );
+		final FlushPlan plan = flushPlanner.plan( graph, deferrableConstraintMode );
+		planTemplateCache.put( key, FlushPlanTemplate.capture( plan, sortedGroups ) );
+		return plan;
+	}
+
+	/// Whether the dependency graph for these groups is fully determined by their
+	/// statement shapes and the constraint model.  That is not the case when
+	/// unique-slot ordering inspects the actual values being written, which happens
+	/// when a table with unique constraints is involved in a flush which also
+	/// releases unique slots (DELETE or UPDATE).
+	private boolean isPlanCacheable(List<FlushOperationGroup> groups) {
+		if ( !planningOptions.orderByUniqueKeySlots() ) {
+			return true;
+		}
+
+		boolean releasesSlots = false;
+		boolean hasUniqueConstraints = false;
+		for ( FlushOperationGroup group : groups ) {
+			final MutationKind kind = group.kind();
+			if ( kind == MutationKind.DELETE || kind == MutationKind.UPDATE || kind == MutationKind.UPDATE_ORDER ) {
+				releasesSlots = true;
+			}
+			if ( !constraintModel.getUniqueConstraintsForTable( group.tableExpression() ).isEmpty() ) {
+				hasUniqueConstraints = true;
+			}
+		}
+		return !( releasesSlots && hasUniqueConstraints );
+	}
+
 	/// Check if we can skip graph building and use a simple direct execution plan.
 	///
 	/// Graph building has overhead - we can skip it when there are no dependencies:
@@ -648,8 +708,7 @@ private void resolveUnresolvedInserts() {
 			if (!resolvedOperations.isEmpty()) {
 				// Group resolved operations and recursively flush
 				final var resolvedGroups = groupOperations(resolvedOperations);
-				final var graph = graphBuilder.build(resolvedGroups, deferrableConstraintMode);
-				final var plan = flushPlanner.plan(graph, deferrableConstraintMode);
+				final var plan = planGroups(resolvedGroups);
 				executePlan(plan);
 
 				// After recursive execution, try again (might have resolved more dependencies)
@@ -695,6 +754,7 @@ public FlushCoordinator(
 			SessionImplementor session) {
 		this.constraintModel = actionQueueFactory.getConstraintModel();
 		planningOptions = actionQueueFactory.getPlanningOptions();
+		planTemplateCache = actionQueueFactory.getPlanTemplateCache();
 		this.decomposer = decomposer;
 		this.session = session;
 
@@ -25,6 +25,7 @@
 import org.hibernate.action.queue.internal.audit.GraphAuditMutationCollector;
 import org.hibernate.action.queue.internal.constraint.ConstraintModel;
 import org.hibernate.action.queue.internal.constraint.DeferrableConstraintMode;
+import org.hibernate.action.queue.internal.plan.FlushPlanTemplate;
 import org.hibernate.action.queue.internal.support.GraphBasedActionQueueFactory;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.engine.internal.TransactionCompletionCallbacksImpl;
@@ -32,6 +33,7 @@
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.TransactionCompletionCallbacksImplementor;
 import org.hibernate.event.spi.EventSource;
+import org.hibernate.internal.util.cache.InternalCache;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.persister.entity.EntityPersister;
 
@@ -88,11 +90,29 @@ public GraphBasedActionQueue(
 			Map<String, EntityPersister> entityPersistersByTable,
 			boolean deferIdentityInserts,
 			SessionImplementor session) {
+		this( constraintModel, planningOptions, entityPersistersByTable, null, deferIdentityInserts, session );
+	}
+
+	/// Construct a GraphBasedActionQueue for the given session.
+	///
+	/// @param constraintModel Details about foreign-key and unique constraints defined in the model.
+	/// @param planningOptions Options for graph building and planning.
+	/// @param planTemplateCache SessionFactory-scoped cache of flush plan templates, or `null` if disabled.
+	/// @param deferIdentityInserts Whether non-delayed IDENTITY inserts should be planned instead of executed immediately.
+	/// @param session The session
+	public GraphBasedActionQueue(
+			ConstraintModel constraintModel,
+			PlanningOptions planningOptions,
+			Map<String, EntityPersister> entityPersistersByTable,
+			InternalCache<FlushPlanTemplate.Key, FlushPlanTemplate> planTemplateCache,
+			boolean deferIdentityInserts,
+			SessionImplementor session) {
 		this.session = session;
 		this.flushCoordinator = new FlushCoordinator(
 				constraintModel,
 				planningOptions,
 				entityPersistersByTable,
+				planTemplateCache,
 				session
 		);
 		this.auditMutationCollector = new GraphAuditMutationCollector();
@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.action.queue.internal.plan;
+
+import org.hibernate.action.queue.internal.constraint.DeferrableConstraintMode;
+import org.hibernate.action.queue.internal.cyclebreak.BindingPatch;
+import org.hibernate.action.queue.spi.StatementShapeKey;
+import org.hibernate.action.queue.spi.plan.FlushOperation;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Comparator.comparingInt;
+import static org.hibernate.internal.util.collections.CollectionHelper.arrayList;
+
+/// The outcome of planning a flush, detached from the concrete operations it was
+/// computed for.  Allows replaying a [FlushPlan] for a later flush producing the
+/// same [FlushOperationGroup] shapes, skipping graph building, cycle detection and
+/// topological sorting entirely.
+///
+/// Groups are identified by their position after sorting by ordinal, which is the
+/// same order [org.hibernate.action.queue.internal.graph.StandardGraphBuilder] uses
+/// to assign stable ids.  A template records which groups make up each step, and
+/// the [BindingPatch] (if any) installed on each group by the [CycleBreaker].
+///
+/// Only flushes whose graph is fully determined by the statement shapes (and the
+/// constraint model) may be cached - see [Key].
+public class FlushPlanTemplate {
+	private final int[][] stepGroupIndexes;
+	private final BindingPatch[] bindingPatches;
+
+	private FlushPlanTemplate(int[][] stepGroupIndexes, BindingPatch[] bindingPatches) {
+		this.stepGroupIndexes = stepGroupIndexes;
+		this.bindingPatches = bindingPatches;
+	}
+
+	/// Sort the groups into the order used for [Key] and template group indexes.
+	public static List<FlushOperationGroup> sortGroups(List<FlushOperationGroup> groups) {
+		final ArrayList<FlushOperationGroup> sortedGroups = new ArrayList<>( groups );
+		sortedGroups.sort( comparingInt( FlushOperationGroup::ordinal ) );
+		return sortedGroups;
+	}
+
+	/// Capture the template for a freshly computed plan.
+	///
+	/// @param plan The plan computed for `sortedGroups`
+	/// @param sortedGroups The planned groups, as returned by [#sortGroups]
+	public static FlushPlanTemplate capture(FlushPlan plan, List<FlushOperationGroup> sortedGroups) {
+		final Map<FlushOperation, Integer> groupIndexByOperation = new IdentityHashMap<>();
+		final BindingPatch[] bindingPatches = new BindingPatch[sortedGroups.size()];
+		for ( int i = 0; i < sortedGroups.size(); i++ ) {
+			final List<FlushOperation> operations = sortedGroups.get( i ).operations();
+			for ( FlushOperation operation : operations ) {
+				groupIndexByOperation.put( operation, i );
+			}
+			if ( !operations.isEmpty() ) {
+				bindingPatches[i] = operations.get( 0 ).getBindingPatch();
+			}
+		}
+
+		final List<PlanStep> steps = plan.steps();
+		final int[][] stepGroupIndexes = new int[steps.size()][];
+		for ( int s = 0; s < steps.size(); s++ ) {
+			// planners never split a group across steps,
+			// so each step is a run of complete groups
+			final ArrayList<Integer> indexes = new ArrayList<>();
+			int previous = -1;
+			for ( FlushOperation operation : steps.get( s ).operations() ) {
+				final int groupIndex = groupIndexByOperation.get( operation );
+				if ( groupIndex != previous ) {
+					indexes.add( groupIndex );
+					previous = groupIndex;
+				}
+			}
+			stepGroupIndexes[s] = indexes.stream().mapToInt( Integer::intValue ).toArray();
+		}
+
+		return new FlushPlanTemplate( stepGroupIndexes, bindingPatches );
+	}
+
+	/// Build a plan for the given groups by replaying this template.
+	///
+	/// @param sortedGroups Groups matching the [Key] this template was cached under,
+	/// as returned by [#sortGroups]
+	public FlushPlan instantiate(List<FlushOperationGroup> sortedGroups) {
+		for ( int i = 0; i < bindingPatches.length; i++ ) {
+			final BindingPatch bindingPatch = bindingPatches[i];
+			if ( bindingPatch != null ) {
+				for ( FlushOperation operation : sortedGroups.get( i ).operations() ) {
+					operation.setBindingPatch( bindingPatch );
+				}
+			}
+		}
+
+		final ArrayList<PlanStep> steps = arrayList( stepGroupIndexes.length );
+		for ( int[] groupIndexes : stepGroupIndexes ) {
+			if ( groupIndexes.length == 1 ) {
+				steps.add( new SimplePlanStep( sortedGroups.get( groupIndexes[0] ).operations() ) );
+			}
+			else {
+				final ArrayList<FlushOperation> operations = new ArrayList<>();
+				for ( int groupIndex : groupIndexes ) {
+					operations.addAll( sortedGroups.get( groupIndex ).operations() );
+				}
+				steps.add( new SimplePlanStep( operations ) );
+			}
+		}
+		return new FlushPlan( steps );
+	}
+
+	/// Identifies flushes which plan identically: the same statement shapes, in the
+	/// same relative ordinal order, planned under the same deferrable-constraint mode.
+	///
+	/// The constraint model and planning options are fixed per SessionFactory, and
+	/// template caches are scoped to the SessionFactory.
+	public record Key(List<GroupShape> groupShapes, DeferrableConstraintMode deferrableConstraintMode) {
+		public static Key from(List<FlushOperationGroup> sortedGroups, DeferrableConstraintMode deferrableConstraintMode) {
+			final ArrayList<GroupShape> groupShapes = arrayList( sortedGroups.size() );
+			int ordinalRank = 0;
+			int previousOrdinal = 0;
+			for ( int i = 0; i < sortedGroups.size(); i++ ) {
+				final FlushOperationGroup group = sortedGroups.get( i );
+				// graph building compares group ordinals (for self-referencing tables),
+				// so ties between ordinals need to be part of the key
+				if ( i > 0 && group.ordinal() != previousOrdinal ) {
+					ordinalRank++;
+				}
+				previousOrdinal = group.ordinal();
+				groupShapes.add( new GroupShape( group.shapeKey(), group.needsIdPrePhase(), ordinalRank ) );
+			}
+			return new Key( List.copyOf( groupShapes ), deferrableConstraintMode );
+		}
+	}
+
+	public record GroupShape(StatementShapeKey shapeKey, boolean needsIdPrePhase, int ordinalRank) {
+	}
+}
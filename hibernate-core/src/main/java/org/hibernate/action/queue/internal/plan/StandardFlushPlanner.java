@@ -6,6 +6,7 @@
 
 import org.hibernate.action.queue.spi.plan.FlushOperation;
 
+import org.hibernate.action.queue.spi.MutationKind;
 import org.hibernate.action.queue.spi.PlanningOptions;
 import org.hibernate.action.queue.spi.StatementShapeKey;
 import org.hibernate.action.queue.internal.constraint.DeferrableConstraintMode;
@@ -13,7 +14,10 @@
 import org.hibernate.action.queue.internal.graph.GroupNode;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 /// Standard FlushPlanner
 /// @author Steve Ebersole
@@ -29,7 +33,10 @@ public FlushPlan plan(Graph graph, DeferrableConstraintMode deferrableConstraint
 		// Fast path: if graph has no edges, operations are independent
 		// Skip cycle detection and topological sort - just use natural order
 		if (graph.isEmpty()) {
-			return new FlushPlan(buildSteps(graph.nodes()));
+			return planningOptions.scheduleByDependencyLevel()
+					// all the groups belong to a single level
+					? new FlushPlan(buildLevelSteps(List.of(graph.nodes())))
+					: new FlushPlan(buildSteps(graph.nodes()));
 		}
 
 		// detect cycles and choose edges to break.
@@ -41,6 +48,13 @@ public FlushPlan plan(Graph graph, DeferrableConstraintMode deferrableConstraint
 
 		// ---------------------------------------------------------------
 		// The graph should now be acyclic.
+		if ( planningOptions.scheduleByDependencyLevel() ) {
+			// Partition into levels of mutually independent groups and coalesce
+			// same-shape groups within each level into a single step
+			final List<List<GroupNode>> levels = new TopographicalSorter().sortIntoLevels(graph);
+			return new FlushPlan(buildLevelSteps(levels));
+		}
+
 		// Topologically sort it, ignoring any broken edges.
 		final List<GroupNode> topoOrder = new TopographicalSorter().sort(graph);
 
@@ -83,6 +97,40 @@ else if (sameShape(curKey, key)) {
 		return steps;
 	}
 
+	/// Build steps level by level.  Groups within a level do not depend on each other,
+	/// so all operations of the same shape can be executed as a single step (and
+	/// therefore share JDBC batches) regardless of which branch of the graph they
+	/// came from.  Shapes within a level keep the order of their first occurrence.
+	private List<PlanStep> buildLevelSteps(List<List<GroupNode>> levels) {
+		final ArrayList<PlanStep> steps = new ArrayList<>();
+		final Map<Object, List<FlushOperation>> buckets = new LinkedHashMap<>();
+
+		for (List<GroupNode> level : levels) {
+			for (GroupNode n : level) {
+				final StatementShapeKey key = n.group().shapeKey();
+				// groups without a shape are never coalesced
+				final Object bucketKey = key == null ? n : ShapeBucketKey.from( key );
+				buckets.computeIfAbsent( bucketKey, k -> new ArrayList<>() )
+						.addAll( n.group().operations() );
+			}
+			for (List<FlushOperation> bucket : buckets.values()) {
+				if (!bucket.isEmpty()) {
+					steps.add(new SimplePlanStep(bucket));
+				}
+			}
+			buckets.clear();
+		}
+
+		return steps;
+	}
+
+	/// Same notion of "shape" as [#sameShape], usable as a hash key.
+	private record ShapeBucketKey(String tableExpression, MutationKind kind, int shapeHash) {
+		static ShapeBucketKey from(StatementShapeKey key) {
+			return new ShapeBucketKey( key.tableExpression().toLowerCase( Locale.ROOT ), key.kind(), key.shapeHash() );
+		}
+	}
+
 	private boolean sameShape(StatementShapeKey a, StatementShapeKey b) {
 		return a != null && b != null
 			&& a.tableExpression().equalsIgnoreCase(b.tableExpression())
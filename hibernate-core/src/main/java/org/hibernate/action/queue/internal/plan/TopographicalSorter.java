@@ -66,6 +66,58 @@ public List<GroupNode> sort(Graph graph) {
 		return order;
 	}
 
+	/// Variant of [#sort] which partitions the graph into dependency levels.
+	///
+	/// Every node is placed in the level following the deepest of its (unbroken)
+	/// predecessors, so nodes within a single level never depend on one another.
+	/// Nodes within each level are ordered by stable id.
+	public List<List<GroupNode>> sortIntoLevels(Graph graph) {
+		final int[] indegree = new int[graph.nodes().size()];
+		for ( GroupNode u : graph.nodes() ) {
+			for ( GraphEdge e : graph.outgoing().getOrDefault( u, List.of() ) ) {
+				if ( e.isBroken() ) {
+					continue;
+				}
+				indegree[nodeIndex( e.getTo() )]++;
+			}
+		}
+
+		ArrayList<GroupNode> level = new ArrayList<>();
+		for ( GroupNode node : graph.nodes() ) {
+			if ( indegree[nodeIndex( node )] == 0 ) {
+				level.add( node );
+			}
+		}
+
+		final ArrayList<List<GroupNode>> levels = new ArrayList<>();
+		int sortedCount = 0;
+		while ( !level.isEmpty() ) {
+			level.sort( Comparator.comparingLong( GroupNode::stableId ) );
+			levels.add( level );
+			sortedCount += level.size();
+
+			final ArrayList<GroupNode> nextLevel = new ArrayList<>();
+			for ( GroupNode u : level ) {
+				for ( GraphEdge e : graph.outgoing().getOrDefault( u, List.of() ) ) {
+					if ( e.isBroken() ) {
+						continue;
+					}
+					final GroupNode to = e.getTo();
+					if ( --indegree[nodeIndex( to )] == 0 ) {
+						nextLevel.add( to );
+					}
+				}
+			}
+			level = nextLevel;
+		}
+
+		if ( sortedCount != graph.nodes().size() ) {
+			throw new IllegalStateException( "Graph still cyclic after breaks (bug)." );
+		}
+
+		return levels;
+	}
+
 	private static int nodeIndex(GroupNode node) {
 		return Math.toIntExact( node.stableId() - 1 );
 	}
@@ -11,9 +11,12 @@
 import org.hibernate.action.queue.spi.QueueType;
 import org.hibernate.action.queue.internal.constraint.ConstraintModel;
 import org.hibernate.action.queue.internal.constraint.UniqueSlotExtractor;
+import org.hibernate.action.queue.internal.plan.FlushPlanTemplate;
 import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.internal.util.cache.InternalCache;
+import org.hibernate.internal.util.cache.InternalCacheFactory;
 import org.hibernate.persister.entity.EntityPersister;
 
 import java.io.IOException;
@@ -26,7 +29,10 @@
 import static org.hibernate.cfg.FlushSettings.GRAPH_DEFER_IDENTITY_INSERTS;
 import static org.hibernate.cfg.FlushSettings.ORDER_BY_FOREIGN_KEY;
 import static org.hibernate.cfg.FlushSettings.ORDER_BY_UNIQUE_KEY;
+import static org.hibernate.cfg.FlushSettings.PLAN_CACHE_MAX_SIZE;
+import static org.hibernate.cfg.FlushSettings.SCHEDULE_BY_DEPENDENCY_LEVEL;
 import static org.hibernate.engine.config.spi.StandardConverters.BOOLEAN;
+import static org.hibernate.engine.config.spi.StandardConverters.INTEGER;
 
 /// ActionQueueFactory for building GraphBasedActionQueue instances.
 ///
@@ -36,6 +42,7 @@ public class GraphBasedActionQueueFactory implements ActionQueueFactory, Seriali
 	private final ConstraintModel constraintModel;
 	private final Map<String, EntityPersister> entityPersistersByTable;
 	private final boolean deferIdentityInserts;
+	private final transient InternalCache<FlushPlanTemplate.Key, FlushPlanTemplate> planTemplateCache;
 
 	public GraphBasedActionQueueFactory(SessionFactoryImplementor factory) {
 		planningOptions = factory.getGraphPlanningOptions();
@@ -43,9 +50,13 @@ public GraphBasedActionQueueFactory(SessionFactoryImplementor factory) {
 		entityPersistersByTable = planningOptions.orderByUniqueKeySlots()
 				? UniqueSlotExtractor.buildPersisterMap( factory )
 				: Map.of();
-		deferIdentityInserts = factory.getServiceRegistry()
-				.requireService( ConfigurationService.class )
-				.getSetting( GRAPH_DEFER_IDENTITY_INSERTS, BOOLEAN, false );
+		final var configurationService = factory.getServiceRegistry().requireService( ConfigurationService.class );
+		deferIdentityInserts = configurationService.getSetting( GRAPH_DEFER_IDENTITY_INSERTS, BOOLEAN, false );
+		final int planCacheSize = configurationService.getSetting( PLAN_CACHE_MAX_SIZE, INTEGER, 0 );
+		planTemplateCache = planCacheSize > 0
+				? factory.getServiceRegistry().requireService( InternalCacheFactory.class )
+						.createInternalCache( planCacheSize )
+				: null;
 	}
 
 	public PlanningOptions getPlanningOptions() {
@@ -64,6 +75,13 @@ public boolean deferIdentityInserts() {
 		return deferIdentityInserts;
 	}
 
+	/// Cache of flush plan templates, or `null` if plan caching is disabled.
+	///
+	/// @see org.hibernate.cfg.FlushSettings#PLAN_CACHE_MAX_SIZE
+	public InternalCache<FlushPlanTemplate.Key, FlushPlanTemplate> getPlanTemplateCache() {
+		return planTemplateCache;
+	}
+
 	@Override
 	public QueueType getConfiguredQueueType() {
 		return QueueType.GRAPH;
@@ -75,6 +93,7 @@ public ActionQueue buildActionQueue(SessionImplementor session) {
 				constraintModel,
 				planningOptions,
 				entityPersistersByTable,
+				planTemplateCache,
 				deferIdentityInserts,
 				session
 		);
@@ -94,12 +113,15 @@ public static PlanningOptions buildPlanningOptions(ConfigurationService configur
 		var avoidBreakingDeferrable = configurationService.getSetting( DEFERRABLE_AVOID_BREAK, BOOLEAN, true );
 		var ignoreDeferrableEdges = configurationService.getSetting( DEFERRABLE_EDGES_IGNORE, BOOLEAN, true );
 
+		var scheduleByLevel = configurationService.getSetting( SCHEDULE_BY_DEPENDENCY_LEVEL, BOOLEAN, false );
+
 		return new PlanningOptions(
 				orderByFk,
 				orderByUnique,
 				avoidBreakingDeferrable,
 				ignoreDeferrableEdges,
-				PlanningOptions.UniqueCycleStrategy.IGNORE_UNIQUE_EDGES_IN_CYCLES
+				PlanningOptions.UniqueCycleStrategy.IGNORE_UNIQUE_EDGES_IN_CYCLES,
+				scheduleByLevel
 		);
 	}
 }
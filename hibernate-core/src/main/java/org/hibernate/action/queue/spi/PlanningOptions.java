@@ -18,7 +18,24 @@ public record PlanningOptions(
 	boolean orderByUniqueKeySlots,
 	boolean avoidBreakingDeferrable,
 	boolean ignoreDeferrableForOrdering,
-	UniqueCycleStrategy uniqueCycleStrategy) implements Serializable {
+	UniqueCycleStrategy uniqueCycleStrategy,
+	boolean scheduleByDependencyLevel) implements Serializable {
+
+	public PlanningOptions(
+			boolean orderByForeignKeys,
+			boolean orderByUniqueKeySlots,
+			boolean avoidBreakingDeferrable,
+			boolean ignoreDeferrableForOrdering,
+			UniqueCycleStrategy uniqueCycleStrategy) {
+		this(
+				orderByForeignKeys,
+				orderByUniqueKeySlots,
+				avoidBreakingDeferrable,
+				ignoreDeferrableForOrdering,
+				uniqueCycleStrategy,
+				false
+		);
+	}
 
 	public enum UniqueCycleStrategy {
 		FAIL,
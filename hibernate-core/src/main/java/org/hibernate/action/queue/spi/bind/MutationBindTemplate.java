@@ -13,6 +13,8 @@
 import java.util.HashMap;
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /// Ordered binding slots for a mutation operation.
 ///
@@ -28,6 +30,7 @@
 /// @author Steve Ebersole
 public final class MutationBindTemplate {
 	private static final Map<PreparableMutationOperation, MutationBindTemplate> TEMPLATE_CACHE = new WeakHashMap<>();
+	private static final Lock TEMPLATE_CACHE_LOCK = new ReentrantLock();
 
 	private final BindSlot[] slots;
 	private final Map<ParameterUsage, Map<String, BindSlot>> slotsByUsage;
@@ -40,9 +43,13 @@ public static MutationBindTemplate forOperation(PreparableMutationOperation oper
 		if ( !hasColumnValueParameters( operation ) ) {
 			return null;
 		}
-		synchronized ( TEMPLATE_CACHE ) {
+		TEMPLATE_CACHE_LOCK.lock();
+		try {
 			return TEMPLATE_CACHE.computeIfAbsent( operation, MutationBindTemplate::new );
 		}
+		finally {
+			TEMPLATE_CACHE_LOCK.unlock();
+		}
 	}
 
 	private static boolean hasColumnValueParameters(PreparableMutationOperation operation) {
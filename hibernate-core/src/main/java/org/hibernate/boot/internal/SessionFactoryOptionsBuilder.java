@@ -182,8 +182,10 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean subselectFetchEnabled;
 	private boolean orderUpdatesEnabled;
 	private boolean orderInsertsEnabled;
+	private boolean bulkInsertEnabled;
 	private boolean collectionsInDefaultFetchGroupEnabled = true;
 	private final boolean unownedAssociationTransientCheck;
+	private final boolean compactPersistenceContextStorage;
 	private final boolean passProcedureParameterNames;
 	private final boolean preferJdbcDatetimeTypes;
 
@@ -234,12 +236,15 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean minimalPutsEnabled;
 	private boolean structuredCacheEntriesEnabled;
 	private boolean directReferenceCacheEntriesEnabled;
+	private boolean cacheEntryOptimizerEnabled;
+	private boolean binaryCacheEntriesEnabled;
 	private boolean autoEvictCollectionCache;
 
 	// JDBC Handling
 	private boolean getGeneratedKeysEnabled;
 	private int jdbcBatchSize;
 	private Integer jdbcFetchSize;
+	private final int jdbcStatementCacheSize;
 	private boolean scrollableResultSetsEnabled;
 	private boolean commentsEnabled;
 	private boolean connectionProviderDisablesAutoCommit;
@@ -425,6 +430,7 @@ public BootstrapContext getBootstrapContext() {
 
 		orderUpdatesEnabled = getBoolean( ORDER_UPDATES, settings );
 		orderInsertsEnabled = getBoolean( ORDER_INSERTS, settings );
+		bulkInsertEnabled = getBoolean( BULK_INSERT, settings );
 
 		callbacksEnabled = getBoolean( JPA_CALLBACKS_ENABLED, settings, true );
 
@@ -495,6 +501,10 @@ public BootstrapContext getBootstrapContext() {
 					configurationService.getSetting( USE_STRUCTURED_CACHE, BOOLEAN, false );
 			directReferenceCacheEntriesEnabled =
 					configurationService.getSetting( USE_DIRECT_REFERENCE_CACHE_ENTRIES, BOOLEAN, false );
+			cacheEntryOptimizerEnabled =
+					configurationService.getSetting( USE_CACHE_ENTRY_OPTIMIZER, BOOLEAN, false );
+			binaryCacheEntriesEnabled =
+					configurationService.getSetting( USE_BINARY_CACHE_ENTRIES, BOOLEAN, false );
 			autoEvictCollectionCache =
 					configurationService.getSetting( AUTO_EVICT_COLLECTION_CACHE, BOOLEAN, false );
 		}
@@ -507,6 +517,8 @@ public BootstrapContext getBootstrapContext() {
 			minimalPutsEnabled = false;
 			structuredCacheEntriesEnabled = false;
 			directReferenceCacheEntriesEnabled = false;
+			cacheEntryOptimizerEnabled = false;
+			binaryCacheEntriesEnabled = false;
 			autoEvictCollectionCache = false;
 		}
 
@@ -521,6 +533,7 @@ public BootstrapContext getBootstrapContext() {
 				getBoolean( USE_GET_GENERATED_KEYS, settings, meta.supportsGetGeneratedKeys() );
 
 		jdbcFetchSize = getInteger( STATEMENT_FETCH_SIZE, settings );
+		jdbcStatementCacheSize = getInt( STATEMENT_CACHE_SIZE, settings, 0 );
 
 		connectionHandlingMode = interpretConnectionHandlingMode( settings, serviceRegistry );
 
@@ -567,6 +580,8 @@ public BootstrapContext getBootstrapContext() {
 		unownedAssociationTransientCheck =
 				getBoolean( UNOWNED_ASSOCIATION_TRANSIENT_CHECK, settings, isJpaBootstrap() );
 
+		compactPersistenceContextStorage = getBoolean( PERSISTENCE_CONTEXT_COMPACT_STORAGE, settings );
+
 		passProcedureParameterNames = getBoolean( QUERY_PASS_PROCEDURE_PARAMETER_NAMES, settings );
 
 		preferJdbcDatetimeTypes = getBoolean( NATIVE_PREFER_JDBC_DATETIME_TYPES, settings );
@@ -1284,6 +1299,11 @@ public boolean isOrderInsertsEnabled() {
 		return orderInsertsEnabled;
 	}
 
+	@Override
+	public boolean isBulkInsertEnabled() {
+		return bulkInsertEnabled;
+	}
+
 	@Override
 	public boolean isMultiTenancyEnabled() {
 		return multiTenancyEnabled;
@@ -1357,6 +1377,16 @@ public boolean isDirectReferenceCacheEntriesEnabled() {
 		return directReferenceCacheEntriesEnabled;
 	}
 
+	@Override
+	public boolean isCacheEntryOptimizerEnabled() {
+		return cacheEntryOptimizerEnabled;
+	}
+
+	@Override
+	public boolean isBinaryCacheEntriesEnabled() {
+		return binaryCacheEntriesEnabled;
+	}
+
 	@Override
 	public boolean isAutoEvictCollectionCache() {
 		return autoEvictCollectionCache;
@@ -1382,6 +1412,11 @@ public Integer getJdbcFetchSize() {
 		return jdbcFetchSize;
 	}
 
+	@Override
+	public int getJdbcStatementCacheSize() {
+		return jdbcStatementCacheSize;
+	}
+
 	@Override
 	@Nonnull
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
@@ -1528,6 +1563,11 @@ public boolean isUnownedAssociationTransientCheck() {
 		return unownedAssociationTransientCheck;
 	}
 
+	@Override
+	public boolean isCompactPersistenceContextStorageEnabled() {
+		return compactPersistenceContextStorage;
+	}
+
 	@Override
 	public int getPreferredSqlTypeCodeForBoolean() {
 		return preferredSqlTypeCodeForBoolean;
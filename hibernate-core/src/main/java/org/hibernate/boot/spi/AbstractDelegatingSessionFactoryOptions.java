@@ -225,6 +225,11 @@ public boolean isOrderInsertsEnabled() {
 		return delegate.isOrderInsertsEnabled();
 	}
 
+	@Override
+	public boolean isBulkInsertEnabled() {
+		return delegate.isBulkInsertEnabled();
+	}
+
 	@Override
 	public boolean isMultiTenancyEnabled() {
 		return delegate.isMultiTenancyEnabled();
@@ -309,6 +314,16 @@ public boolean isDirectReferenceCacheEntriesEnabled() {
 		return delegate.isDirectReferenceCacheEntriesEnabled();
 	}
 
+	@Override
+	public boolean isCacheEntryOptimizerEnabled() {
+		return delegate.isCacheEntryOptimizerEnabled();
+	}
+
+	@Override
+	public boolean isBinaryCacheEntriesEnabled() {
+		return delegate.isBinaryCacheEntriesEnabled();
+	}
+
 	@Override
 	public boolean isAutoEvictCollectionCache() {
 		return delegate.isAutoEvictCollectionCache();
@@ -334,6 +349,11 @@ public Integer getJdbcFetchSize() {
 		return delegate.getJdbcFetchSize();
 	}
 
+	@Override
+	public int getJdbcStatementCacheSize() {
+		return delegate.getJdbcStatementCacheSize();
+	}
+
 	@Override
 	@Nonnull
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
@@ -505,6 +525,11 @@ public boolean isUnownedAssociationTransientCheck() {
 		return delegate.isUnownedAssociationTransientCheck();
 	}
 
+	@Override
+	public boolean isCompactPersistenceContextStorageEnabled() {
+		return delegate.isCompactPersistenceContextStorageEnabled();
+	}
+
 	@Override
 	public boolean isUseOfJdbcNamedParametersEnabled() {
 		return delegate().isUseOfJdbcNamedParametersEnabled();
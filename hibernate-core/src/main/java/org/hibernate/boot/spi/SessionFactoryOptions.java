@@ -293,6 +293,14 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 	 */
 	boolean isOrderInsertsEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.BatchSettings#BULK_INSERT
+	 */
+	@Incubating
+	default boolean isBulkInsertEnabled() {
+		return false;
+	}
+
 	/**
 	 * Is there a
 	 * {@linkplain org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider
@@ -410,6 +418,22 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 	 */
 	boolean isDirectReferenceCacheEntriesEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.CacheSettings#USE_CACHE_ENTRY_OPTIMIZER
+	 */
+	@Incubating
+	default boolean isCacheEntryOptimizerEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.CacheSettings#USE_BINARY_CACHE_ENTRIES
+	 */
+	@Incubating
+	default boolean isBinaryCacheEntriesEnabled() {
+		return false;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.CacheSettings#AUTO_EVICT_COLLECTION_CACHE
 	 */
@@ -440,6 +464,14 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 	@Nullable
 	Integer getJdbcFetchSize();
 
+	/**
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 */
+	@Incubating
+	default int getJdbcStatementCacheSize() {
+		return 0;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.JdbcSettings#CONNECTION_HANDLING
 	 *
@@ -647,6 +679,14 @@ default boolean isCollectionsInDefaultFetchGroupEnabled() {
 	 */
 	boolean isUnownedAssociationTransientCheck();
 
+	/**
+	 * @see org.hibernate.cfg.PersistenceSettings#PERSISTENCE_CONTEXT_COMPACT_STORAGE
+	 */
+	@Incubating
+	default boolean isCompactPersistenceContextStorageEnabled() {
+		return false;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.MappingSettings#PREFERRED_BOOLEAN_JDBC_TYPE
 	 */
@@ -0,0 +1,28 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+import org.hibernate.bytecode.spi.CacheEntryOptimizer;
+import org.hibernate.type.Type;
+
+/**
+ * The superclass of the generated {@link CacheEntryOptimizer}s, which holds the
+ * property types. The generated subclasses disassemble and assemble each property
+ * with a separate call site, which remains monomorphic, and copy the values which
+ * are {@linkplain org.hibernate.cache.spi.entry.CacheEntryHelper#isDisassembledAsIs
+ * their own disassembled state} without calling their type at all.
+ *
+ * @see DisassembleState
+ * @see AssembleState
+ *
+ * @since 8.0
+ */
+public abstract class AbstractCacheEntryOptimizer implements CacheEntryOptimizer {
+	protected final Type[] types;
+
+	public AbstractCacheEntryOptimizer(Type[] types) {
+		this.types = types;
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+import java.io.Serializable;
+import java.util.List;
+
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import net.bytebuddy.jar.asm.Opcodes;
+
+import static java.util.Collections.emptyList;
+import static org.hibernate.bytecode.internal.bytebuddy.DisassembleState.DESCRIPTOR_SharedSessionContractImplementor;
+import static org.hibernate.bytecode.internal.bytebuddy.DisassembleState.DESCRIPTOR_Type_Array;
+import static org.hibernate.bytecode.internal.bytebuddy.DisassembleState.DESCRIPTOR_isPlaceholder;
+import static org.hibernate.bytecode.internal.bytebuddy.DisassembleState.INTERNAL_NAME_AbstractCacheEntryOptimizer;
+import static org.hibernate.bytecode.internal.bytebuddy.DisassembleState.INTERNAL_NAME_CacheEntryHelper;
+import static org.hibernate.bytecode.internal.bytebuddy.DisassembleState.INTERNAL_NAME_Type;
+import static org.hibernate.bytecode.internal.bytebuddy.DisassembleState.TYPE_Object;
+import static org.hibernate.bytecode.internal.bytebuddy.DisassembleState.TYPE_SharedSessionContractImplementor;
+
+/**
+ * Generates {@link org.hibernate.bytecode.spi.CacheEntryOptimizer#assemble},
+ * unrolling {@code CacheEntryHelper.assemble()} for the properties of one entity.
+ */
+final class AssembleState implements ByteCodeAppender {
+	private static final String INTERNAL_NAME_Serializable = Serializable.class.getName().replace( '.', '/' );
+	private static final String DESCRIPTOR_assemble =
+			"(Ljava/io/Serializable;" + DESCRIPTOR_SharedSessionContractImplementor + "Ljava/lang/Object;)Ljava/lang/Object;";
+	private static final TypeDescription TYPE_Object_Array = TypeDescription.ForLoadedType.of( Object[].class );
+	private static final TypeDescription TYPE_Serializable_Array = TypeDescription.ForLoadedType.of( Serializable[].class );
+
+	private final boolean[] disassembledAsIs;
+
+	AssembleState(boolean[] disassembledAsIs) {
+		this.disassembledAsIs = disassembledAsIs;
+	}
+
+	@Override
+	public Size apply(
+			MethodVisitor methodVisitor,
+			Implementation.Context implementationContext,
+			MethodDescription instrumentedMethod) {
+		// locals: 0 this, 1 disassembled state, 2 session, 3 owner, 4 assembled state, 5 current value
+		methodVisitor.visitLdcInsn( disassembledAsIs.length );
+		methodVisitor.visitTypeInsn( Opcodes.ANEWARRAY, "java/lang/Object" );
+		methodVisitor.visitVarInsn( Opcodes.ASTORE, 4 );
+		for ( int index = 0; index < disassembledAsIs.length; index++ ) {
+			if ( disassembledAsIs[index] ) {
+				// the value is its own disassembled state, and so are the placeholders
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 4 );
+				methodVisitor.visitLdcInsn( index );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+				methodVisitor.visitLdcInsn( index );
+				methodVisitor.visitInsn( Opcodes.AALOAD );
+				methodVisitor.visitInsn( Opcodes.AASTORE );
+			}
+			else {
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+				methodVisitor.visitLdcInsn( index );
+				methodVisitor.visitInsn( Opcodes.AALOAD );
+				methodVisitor.visitVarInsn( Opcodes.ASTORE, 5 );
+				// placeholders are not assembled
+				final var storeLabel = new Label();
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 5 );
+				methodVisitor.visitMethodInsn(
+						Opcodes.INVOKESTATIC,
+						INTERNAL_NAME_CacheEntryHelper,
+						"isPlaceholder",
+						DESCRIPTOR_isPlaceholder,
+						false
+				);
+				methodVisitor.visitJumpInsn( Opcodes.IFNE, storeLabel );
+				// a separate call site for each property
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 0 );
+				methodVisitor.visitFieldInsn(
+						Opcodes.GETFIELD,
+						INTERNAL_NAME_AbstractCacheEntryOptimizer,
+						"types",
+						DESCRIPTOR_Type_Array
+				);
+				methodVisitor.visitLdcInsn( index );
+				methodVisitor.visitInsn( Opcodes.AALOAD );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 5 );
+				methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, INTERNAL_NAME_Serializable );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 2 );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 3 );
+				methodVisitor.visitMethodInsn(
+						Opcodes.INVOKEINTERFACE,
+						INTERNAL_NAME_Type,
+						"assemble",
+						DESCRIPTOR_assemble,
+						true
+				);
+				methodVisitor.visitVarInsn( Opcodes.ASTORE, 5 );
+				methodVisitor.visitLabel( storeLabel );
+				implementationContext.getFrameGeneration().full(
+						methodVisitor,
+						emptyList(),
+						List.of(
+								implementationContext.getInstrumentedType(),
+								TYPE_Serializable_Array,
+								TYPE_SharedSessionContractImplementor,
+								TYPE_Object,
+								TYPE_Object_Array,
+								TYPE_Object
+						)
+				);
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 4 );
+				methodVisitor.visitLdcInsn( index );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 5 );
+				methodVisitor.visitInsn( Opcodes.AASTORE );
+			}
+		}
+		methodVisitor.visitVarInsn( Opcodes.ALOAD, 4 );
+		methodVisitor.visitInsn( Opcodes.ARETURN );
+		return new Size( 6, instrumentedMethod.getStackSize() + 2 );
+	}
+}
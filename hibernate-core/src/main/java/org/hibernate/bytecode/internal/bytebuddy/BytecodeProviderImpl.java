@@ -31,6 +31,7 @@
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.CacheEntryOptimizer;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.internal.util.ReflectHelper;
@@ -43,6 +44,7 @@
 import org.hibernate.property.access.spi.SetterFieldImpl;
 import org.hibernate.property.access.spi.SetterMethodImpl;
 import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
+import org.hibernate.type.Type;
 
 import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.NamingStrategy;
@@ -56,6 +58,8 @@
 import static java.lang.reflect.Modifier.isAbstract;
 import static java.lang.reflect.Modifier.isPrivate;
 import static java.lang.reflect.Modifier.isPublic;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hibernate.cache.spi.entry.CacheEntryHelper.isDisassembledAsIs;
 import static org.hibernate.internal.CoreMessageLogger.CORE_LOGGER;
 
 public class BytecodeProviderImpl implements BytecodeProvider {
@@ -63,6 +67,7 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 	private static final String INSTANTIATOR_PROXY_NAMING_SUFFIX = "$HibernateInstantiator";
 	private static final String OPTIMIZER_PROXY_NAMING_SUFFIX = "HibernateAccessOptimizer";
 	private static final String OPTIMIZER_PROXY_BRIDGE_NAMING_SUFFIX = "$HibernateAccessOptimizerBridge";
+	private static final String CACHE_ENTRY_OPTIMIZER_NAMING_SUFFIX = "HibernateCacheEntryOptimizer";
 
 	public static final Member EMBEDDED_MEMBER = new Member() {
 		@Override
@@ -228,6 +233,35 @@ private Class<?> getBulkAccessor(@Nonnull Class<?> clazz, Class<?> superClass, S
 		}
 	}
 
+	@Override
+	public @Nullable CacheEntryOptimizer getCacheEntryOptimizer(
+			@Nonnull Class<?> clazz,
+			@Nonnull Type[] types,
+			@Nullable boolean[] nonCacheable) {
+		final var disassembledAsIs = new boolean[types.length];
+		for ( int i = 0; i < types.length; i++ ) {
+			disassembledAsIs[i] = isDisassembledAsIs( types[i] );
+		}
+		final var optimizerClass = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
+				.with( new NamingStrategy.SuffixingRandom(
+						CACHE_ENTRY_OPTIMIZER_NAMING_SUFFIX,
+						new NamingStrategy.Suffixing.BaseNameResolver.ForFixedValue( clazz.getName() )
+				) )
+				.subclass( AbstractCacheEntryOptimizer.class )
+				.method( named( "disassemble" ) )
+				.intercept( new Implementation.Simple( new DisassembleState( disassembledAsIs, nonCacheable ) ) )
+				.method( named( "assemble" ) )
+				.intercept( new Implementation.Simple( new AssembleState( disassembledAsIs ) ) )
+		);
+		try {
+			return (CacheEntryOptimizer)
+					optimizerClass.getDeclaredConstructor( Type[].class ).newInstance( (Object) types );
+		}
+		catch (Exception exception) {
+			throw new HibernateException( exception );
+		}
+	}
+
 	@Nullable
 	private Class<?> getFastClass(@Nonnull Class<?> clazz) {
 		if ( !clazz.isInterface() && !isAbstract( clazz.getModifiers() ) ) {
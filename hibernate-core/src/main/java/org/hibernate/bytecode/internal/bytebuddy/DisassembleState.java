@@ -0,0 +1,148 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.spi.entry.CacheEntryHelper;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.type.Type;
+
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import net.bytebuddy.jar.asm.Opcodes;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Generates {@link org.hibernate.bytecode.spi.CacheEntryOptimizer#disassemble},
+ * unrolling {@code CacheEntryHelper.disassemble()} for the properties of one entity.
+ */
+final class DisassembleState implements ByteCodeAppender {
+	static final String INTERNAL_NAME_AbstractCacheEntryOptimizer =
+			AbstractCacheEntryOptimizer.class.getName().replace( '.', '/' );
+	static final String INTERNAL_NAME_Type = Type.class.getName().replace( '.', '/' );
+	static final String INTERNAL_NAME_CacheEntryHelper = CacheEntryHelper.class.getName().replace( '.', '/' );
+	static final String DESCRIPTOR_Type_Array = "[L" + INTERNAL_NAME_Type + ";";
+	static final String DESCRIPTOR_isPlaceholder = "(Ljava/lang/Object;)Z";
+	static final String DESCRIPTOR_SharedSessionContractImplementor =
+			"L" + SharedSessionContractImplementor.class.getName().replace( '.', '/' ) + ";";
+	static final TypeDescription TYPE_SharedSessionContractImplementor =
+			TypeDescription.ForLoadedType.of( SharedSessionContractImplementor.class );
+	static final TypeDescription TYPE_Object = TypeDescription.ForLoadedType.of( Object.class );
+
+	private static final String INTERNAL_NAME_Serializable = Serializable.class.getName().replace( '.', '/' );
+	private static final String INTERNAL_NAME_LazyPropertyInitializer =
+			LazyPropertyInitializer.class.getName().replace( '.', '/' );
+	private static final String DESCRIPTOR_disassemble =
+			"(Ljava/lang/Object;" + DESCRIPTOR_SharedSessionContractImplementor + "Ljava/lang/Object;)Ljava/io/Serializable;";
+	private static final TypeDescription TYPE_Object_Array = TypeDescription.ForLoadedType.of( Object[].class );
+	private static final TypeDescription TYPE_Serializable_Array = TypeDescription.ForLoadedType.of( Serializable[].class );
+
+	private final boolean[] disassembledAsIs;
+	private final boolean[] nonCacheable;
+
+	DisassembleState(boolean[] disassembledAsIs, boolean[] nonCacheable) {
+		this.disassembledAsIs = disassembledAsIs;
+		this.nonCacheable = nonCacheable;
+	}
+
+	@Override
+	public Size apply(
+			MethodVisitor methodVisitor,
+			Implementation.Context implementationContext,
+			MethodDescription instrumentedMethod) {
+		// locals: 0 this, 1 state, 2 session, 3 owner, 4 disassembled state, 5 current value
+		methodVisitor.visitLdcInsn( disassembledAsIs.length );
+		methodVisitor.visitTypeInsn( Opcodes.ANEWARRAY, INTERNAL_NAME_Serializable );
+		methodVisitor.visitVarInsn( Opcodes.ASTORE, 4 );
+		for ( int index = 0; index < disassembledAsIs.length; index++ ) {
+			if ( nonCacheable != null && nonCacheable[index] ) {
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 4 );
+				methodVisitor.visitLdcInsn( index );
+				methodVisitor.visitFieldInsn(
+						Opcodes.GETSTATIC,
+						INTERNAL_NAME_LazyPropertyInitializer,
+						"UNFETCHED_PROPERTY",
+						"Ljava/io/Serializable;"
+				);
+				methodVisitor.visitInsn( Opcodes.AASTORE );
+			}
+			else if ( disassembledAsIs[index] ) {
+				// the value is its own disassembled state, and so are the placeholders
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 4 );
+				methodVisitor.visitLdcInsn( index );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+				methodVisitor.visitLdcInsn( index );
+				methodVisitor.visitInsn( Opcodes.AALOAD );
+				methodVisitor.visitInsn( Opcodes.AASTORE );
+			}
+			else {
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+				methodVisitor.visitLdcInsn( index );
+				methodVisitor.visitInsn( Opcodes.AALOAD );
+				methodVisitor.visitVarInsn( Opcodes.ASTORE, 5 );
+				// placeholders are not disassembled
+				final var storeLabel = new Label();
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 5 );
+				methodVisitor.visitMethodInsn(
+						Opcodes.INVOKESTATIC,
+						INTERNAL_NAME_CacheEntryHelper,
+						"isPlaceholder",
+						DESCRIPTOR_isPlaceholder,
+						false
+				);
+				methodVisitor.visitJumpInsn( Opcodes.IFNE, storeLabel );
+				// a separate call site for each property
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 0 );
+				methodVisitor.visitFieldInsn(
+						Opcodes.GETFIELD,
+						INTERNAL_NAME_AbstractCacheEntryOptimizer,
+						"types",
+						DESCRIPTOR_Type_Array
+				);
+				methodVisitor.visitLdcInsn( index );
+				methodVisitor.visitInsn( Opcodes.AALOAD );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 5 );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 2 );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 3 );
+				methodVisitor.visitMethodInsn(
+						Opcodes.INVOKEINTERFACE,
+						INTERNAL_NAME_Type,
+						"disassemble",
+						DESCRIPTOR_disassemble,
+						true
+				);
+				methodVisitor.visitVarInsn( Opcodes.ASTORE, 5 );
+				methodVisitor.visitLabel( storeLabel );
+				implementationContext.getFrameGeneration().full(
+						methodVisitor,
+						emptyList(),
+						List.of(
+								implementationContext.getInstrumentedType(),
+								TYPE_Object_Array,
+								TYPE_SharedSessionContractImplementor,
+								TYPE_Object,
+								TYPE_Serializable_Array,
+								TYPE_Object
+						)
+				);
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 4 );
+				methodVisitor.visitLdcInsn( index );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 5 );
+				methodVisitor.visitInsn( Opcodes.AASTORE );
+			}
+		}
+		methodVisitor.visitVarInsn( Opcodes.ALOAD, 4 );
+		methodVisitor.visitInsn( Opcodes.ARETURN );
+		return new Size( 6, instrumentedMethod.getStackSize() + 2 );
+	}
+}
@@ -7,11 +7,13 @@
 import java.util.Map;
 
 import jakarta.annotation.Nonnull;
+import org.hibernate.Incubating;
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.property.access.spi.PropertyAccess;
 import org.hibernate.service.JavaServiceLoadable;
 import org.hibernate.service.Service;
+import org.hibernate.type.Type;
 
 import jakarta.annotation.Nullable;
 
@@ -21,6 +23,7 @@
  * Bytecode requirements break down into the following areas<ol>
  *     <li>proxy generation (both for runtime-lazy-loading and basic proxy generation) {@link #getProxyFactoryFactory()}</li>
  *     <li>bean reflection optimization {@link #getReflectionOptimizer}</li>
+ *     <li>second-level cache entry optimization {@link #getCacheEntryOptimizer}</li>
  * </ol>
  *
  * @author Steve Ebersole
@@ -62,6 +65,26 @@ public interface BytecodeProvider extends Service {
 	@Nullable
 	ReflectionOptimizer getReflectionOptimizer(@Nonnull Class<?> clazz, @Nonnull Map<String, PropertyAccess> propertyAccessMap);
 
+	/**
+	 * Retrieve the CacheEntryOptimizer delegate for this provider
+	 * capable of disassembling and assembling the state of the given
+	 * class for the second-level cache.
+	 *
+	 * @param clazz The class whose state is disassembled and assembled.
+	 * @param types The types of all properties.
+	 * @param nonCacheable Indicates which properties are not included in the disassembled state, if any.
+	 * @return The cache entry optimization delegate.
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	default @Nullable CacheEntryOptimizer getCacheEntryOptimizer(
+			@Nonnull Class<?> clazz,
+			@Nonnull Type[] types,
+			@Nullable boolean[] nonCacheable) {
+		return null;
+	}
+
 	/**
 	 * Returns a byte code enhancer that implements the enhancements described in the supplied enhancement context.
 	 *
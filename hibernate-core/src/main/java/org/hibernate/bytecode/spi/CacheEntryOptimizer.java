@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.bytecode.spi;
+
+import java.io.Serializable;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Represents optimized disassembly and assembly of the state of the instances
+ * of a particular entity class, as stored in the second-level cache.
+ * <p>
+ * Behaves exactly like applying {@link org.hibernate.type.Type#disassemble} and
+ * {@link org.hibernate.type.Type#assemble} to each property value, but avoids
+ * dispatching through a single call site for all the property types.
+ *
+ * @see BytecodeProvider#getCacheEntryOptimizer
+ *
+ * @since 8.0
+ */
+@Incubating
+public interface CacheEntryOptimizer {
+	/**
+	 * Disassemble the given property values.
+	 *
+	 * @param state The property values
+	 * @param session The originating session
+	 * @param owner The entity "owning" the values
+	 *
+	 * @return The disassembled state
+	 */
+	Serializable[] disassemble(Object[] state, SharedSessionContractImplementor session, Object owner);
+
+	/**
+	 * Assemble the given disassembled property values.
+	 *
+	 * @param disassembledState The disassembled state
+	 * @param session The originating session
+	 * @param owner The entity "owning" the values
+	 *
+	 * @return The assembled property values
+	 */
+	Object[] assemble(Serializable[] disassembledState, SharedSessionContractImplementor session, Object owner);
+}
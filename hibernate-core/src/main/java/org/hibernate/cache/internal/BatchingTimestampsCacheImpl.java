@@ -0,0 +1,492 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.monitor.spi.EventMonitor;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+import static org.hibernate.event.monitor.spi.EventMonitor.CacheActionDescription.TIMESTAMP_INVALIDATE;
+import static org.hibernate.event.monitor.spi.EventMonitor.CacheActionDescription.TIMESTAMP_PRE_INVALIDATE;
+
+/**
+ * Implementation of {@link TimestampsCache} which reduces the traffic to the
+ * timestamps region when a few query spaces are written to at a high rate.
+ * <ul>
+ * <li>An invalidation of a query space which was already written to the region
+ *     less than the batching window ago is not written immediately. Instead, the
+ *     invalidations of the space are coalesced, and only the latest one is written
+ *     once the window has elapsed, by the next operation of this cache or by a
+ *     background task, whichever comes first. In the meantime the region holds the
+ *     pre-invalidation of the space, so that other nodes consider it out of date,
+ *     rather than up to date. An invalidation is therefore never deferred when the
+ *     region might not hold its pre-invalidation, that is, when another transaction
+ *     pre-invalidated the space concurrently, or when an invalidation was written
+ *     since the pre-invalidation.
+ * <li>The last update timestamps of all query spaces of a cached query which are
+ *     not known locally are read from the region with a single access.
+ * <li>The last update timestamp of each query space, as written or read by this
+ *     node, is kept locally and trusted during the batching window.
+ * </ul>
+ * <p>
+ * Pre-invalidations are always written immediately, since they must be visible
+ * before the transaction commits. The writes to the region of a given query space
+ * are serialized, so that a coalesced invalidation never overwrites a later
+ * pre-invalidation.
+ *
+ * @see org.hibernate.cfg.CacheSettings#TIMESTAMPS_CACHE_BATCHING_WINDOW
+ *
+ * @since 8.0
+ */
+public class BatchingTimestampsCacheImpl implements TimestampsCache {
+
+	private final SessionFactoryImplementor sessionFactory;
+	private final TimestampsRegion timestampsRegion;
+	private final long batchingWindow;
+
+	private final ConcurrentMap<String, SpaceState> spaceStates = new ConcurrentHashMap<>();
+
+	private final ScheduledExecutorService executorService;
+
+	/**
+	 * @param sessionFactory the session factory, used to write the coalesced
+	 *        invalidations from the background task
+	 * @param timestampsRegion the timestamps region
+	 * @param batchingWindow the batching window, in milliseconds
+	 */
+	public BatchingTimestampsCacheImpl(
+			SessionFactoryImplementor sessionFactory,
+			TimestampsRegion timestampsRegion,
+			long batchingWindow) {
+		this.sessionFactory = sessionFactory;
+		this.timestampsRegion = timestampsRegion;
+		this.batchingWindow = MILLISECONDS.toNanos( batchingWindow );
+		executorService = newSingleThreadScheduledExecutor( runnable -> {
+			final Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "Hibernate Timestamps Cache Flush Thread" );
+			return thread;
+		} );
+		executorService.scheduleWithFixedDelay(
+				this::flushDueInvalidations,
+				batchingWindow,
+				batchingWindow,
+				MILLISECONDS
+		);
+	}
+
+	@Override
+	@Nonnull
+	public TimestampsRegion getRegion() {
+		return timestampsRegion;
+	}
+
+	@Override
+	public void preInvalidate(
+			@Nonnull String[] spaces,
+			@Nonnull SharedSessionContractImplementor session) {
+		final var regionFactory = session.getFactory().getCache().getRegionFactory();
+		final Long timestamp = regionFactory.nextTimestamp() + regionFactory.getTimeout();
+
+		final boolean traceEnabled = L2CACHE_LOGGER.isTraceEnabled();
+		final long now = System.nanoTime();
+		for ( String space : spaces ) {
+			if ( traceEnabled ) {
+				L2CACHE_LOGGER.preInvalidatingSpace( space, timestamp );
+			}
+			final var spaceState = getSpaceState( space );
+			spaceState.lock.lock();
+			try {
+				spaceState.preInvalidated( timestamp, now );
+				putIntoRegion( space, timestamp, TIMESTAMP_PRE_INVALIDATE, session );
+			}
+			finally {
+				spaceState.lock.unlock();
+			}
+		}
+		writeDueInvalidations( session, batchingWindow );
+	}
+
+	@Override
+	public void invalidate(
+			@Nonnull String[] spaces,
+			@Nonnull SharedSessionContractImplementor session) {
+		final Long timestamp = session.getFactory().getCache().getRegionFactory().nextTimestamp();
+
+		final boolean traceEnabled = L2CACHE_LOGGER.isTraceEnabled();
+		final long now = System.nanoTime();
+		for ( String space : spaces ) {
+			if ( traceEnabled ) {
+				L2CACHE_LOGGER.invalidatingSpace( space, timestamp );
+			}
+			final var spaceState = getSpaceState( space );
+			spaceState.lock.lock();
+			try {
+				if ( spaceState.invalidated( timestamp, now, batchingWindow ) ) {
+					putIntoRegion( space, timestamp, TIMESTAMP_INVALIDATE, session );
+				}
+			}
+			finally {
+				spaceState.lock.unlock();
+			}
+		}
+		writeDueInvalidations( session, batchingWindow );
+	}
+
+	/**
+	 * Write the coalesced invalidations whose given window has elapsed.
+	 */
+	private void writeDueInvalidations(SharedSessionContractImplementor session, long window) {
+		final long now = System.nanoTime();
+		for ( var entry : spaceStates.entrySet() ) {
+			final var spaceState = entry.getValue();
+			if ( spaceState.hasPendingInvalidation() ) {
+				spaceState.lock.lock();
+				try {
+					final Long timestamp = spaceState.takeDueInvalidation( now, window );
+					if ( timestamp != null ) {
+						putIntoRegion( entry.getKey(), timestamp, TIMESTAMP_INVALIDATE, session );
+					}
+				}
+				finally {
+					spaceState.lock.unlock();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Write the coalesced invalidations whose batching window has elapsed when this
+	 * cache is not used, from a temporary session, since the region may need one.
+	 */
+	private void flushDueInvalidations() {
+		final long now = System.nanoTime();
+		for ( var spaceState : spaceStates.values() ) {
+			if ( spaceState.hasDueInvalidation( now, batchingWindow ) ) {
+				try ( var session = sessionFactory.openTemporarySession() ) {
+					writeDueInvalidations( session, batchingWindow );
+				}
+				catch (RuntimeException e) {
+					// the invalidations are left to the next operation of this cache,
+					// and the task must not throw, or it would not be run again
+					L2CACHE_LOGGER.debug( "Could not write the coalesced invalidations", e );
+				}
+				return;
+			}
+		}
+	}
+
+	private void putIntoRegion(
+			String space,
+			Long timestamp,
+			EventMonitor.CacheActionDescription description,
+			SharedSessionContractImplementor session) {
+		final var statistics = session.getFactory().getStatistics();
+		final var eventListenerManager = session.getEventListenerManager();
+		final var eventMonitor = session.getEventMonitor();
+		final var cachePutEvent = eventMonitor.beginCachePutEvent();
+		try {
+			eventListenerManager.cachePutStart();
+			timestampsRegion.putIntoCache( space, timestamp, session );
+		}
+		finally {
+			eventMonitor.completeCachePutEvent(
+					cachePutEvent,
+					session,
+					timestampsRegion,
+					true,
+					description
+			);
+			eventListenerManager.cachePutEnd();
+		}
+
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.updateTimestampsCachePut();
+		}
+	}
+
+	@Override
+	public boolean isUpToDate(
+			@Nonnull String[] spaces,
+			@Nonnull Long timestamp,
+			@Nonnull SharedSessionContractImplementor session) {
+		return isUpToDate( asList( spaces ), timestamp, session );
+	}
+
+	@Override
+	public boolean isUpToDate(
+			@Nonnull Collection<String> spaces,
+			@Nonnull Long timestamp,
+			@Nonnull SharedSessionContractImplementor session) {
+		writeDueInvalidations( session, batchingWindow );
+
+		final long now = System.nanoTime();
+		// first check the query spaces whose last update timestamp is known locally,
+		// since there is no need to access the region if one of them is out of date
+		Set<String> unknownSpaces = null;
+		for ( String space : spaces ) {
+			final var lastUpdate = getSpaceState( space ).knownLastUpdate( now, batchingWindow );
+			if ( lastUpdate == null ) {
+				if ( unknownSpaces == null ) {
+					unknownSpaces = new HashSet<>();
+				}
+				unknownSpaces.add( space );
+			}
+			else if ( isSpaceOutOfDate( lastUpdate, timestamp, session ) ) {
+				return false;
+			}
+		}
+
+		if ( unknownSpaces != null ) {
+			for ( var lastUpdate : getLastUpdateTimestampsForSpaces( unknownSpaces, now, session ) ) {
+				if ( isSpaceOutOfDate( lastUpdate, timestamp, session ) ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static boolean isSpaceOutOfDate(
+			LastUpdate spaceLastUpdate,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
+		final var statistics = session.getFactory().getStatistics();
+		final Long lastUpdate = spaceLastUpdate.timestamp();
+		if ( lastUpdate == null ) {
+			// the last update timestamp for the given space was evicted from the
+			// cache or there have been no writes to it since startup
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.updateTimestampsCacheMiss();
+			}
+			return false;
+		}
+		else {
+			L2CACHE_LOGGER.lastUpdateTimestampForSpace( spaceLastUpdate.space(), lastUpdate, timestamp );
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.updateTimestampsCacheHit();
+			}
+			return lastUpdate >= timestamp;
+		}
+	}
+
+	private List<LastUpdate> getLastUpdateTimestampsForSpaces(
+			Set<String> spaces,
+			long now,
+			SharedSessionContractImplementor session) {
+		boolean found = false;
+		final var eventMonitor = session.getEventMonitor();
+		final var eventListenerManager = session.getEventListenerManager();
+		final var cacheGetEvent = eventMonitor.beginCacheGetEvent();
+		try {
+			eventListenerManager.cacheGetStart();
+			final var timestamps = timestampsRegion.getAllFromCache( spaces, session );
+			found = !timestamps.isEmpty();
+			final List<LastUpdate> lastUpdates = new ArrayList<>( spaces.size() );
+			for ( String space : spaces ) {
+				final Long timestamp = (Long) timestamps.get( space );
+				getSpaceState( space ).read( timestamp, now );
+				lastUpdates.add( new LastUpdate( space, timestamp ) );
+			}
+			return lastUpdates;
+		}
+		finally {
+			eventMonitor.completeCacheGetEvent( cacheGetEvent, session, timestampsRegion, found );
+			eventListenerManager.cacheGetEnd( found );
+		}
+	}
+
+	private SpaceState getSpaceState(String space) {
+		return spaceStates.computeIfAbsent( space, SpaceState::new );
+	}
+
+	@Override
+	public void clear() throws CacheException {
+		spaceStates.clear();
+		getRegion().clear();
+	}
+
+	/**
+	 * Write all the coalesced invalidations now, from a temporary session, without
+	 * waiting for their batching window to elapse.
+	 */
+	public void flushPendingInvalidations() {
+		try ( var session = sessionFactory.openTemporarySession() ) {
+			writeDueInvalidations( session, 0 );
+		}
+	}
+
+	/**
+	 * Stop the background task. The coalesced invalidations which were not written
+	 * yet are lost, but the region holds later pre-invalidations of their spaces.
+	 */
+	public void close() {
+		executorService.shutdownNow();
+	}
+
+	private record LastUpdate(String space, @Nullable Long timestamp) {
+	}
+
+	/**
+	 * The state of a query space as seen by this node. The writes to the region of the
+	 * space, and the changes of its state, are done while holding the lock.
+	 */
+	private static class SpaceState {
+		private final String space;
+		private final ReentrantLock lock = new ReentrantLock();
+
+		// the last update timestamp of the space, as last written or read by this node
+		private @Nullable Long lastUpdate;
+		private long lastUpdateObservedAt;
+		private boolean lastUpdateObserved;
+
+		// the last time an invalidation of the space was written to the region
+		private long invalidationWrittenAt;
+		private boolean invalidationWritten;
+
+		// the pre-invalidation written to the region, unless an invalidation was written since
+		private @Nullable Long writtenPreInvalidation;
+		// the number of pre-invalidations not followed by their invalidation yet
+		private int preInvalidationsInFlight;
+
+		// the latest invalidation which was not written to the region yet,
+		// read without the lock to skip the spaces with nothing pending
+		private volatile @Nullable Long pendingInvalidation;
+
+		SpaceState(String space) {
+			this.space = space;
+		}
+
+		void preInvalidated(Long timestamp, long now) {
+			// the region now holds a later timestamp than any pending
+			// invalidation, which will be superseded by the invalidation
+			// following this pre-invalidation
+			pendingInvalidation = null;
+			writtenPreInvalidation = timestamp;
+			preInvalidationsInFlight++;
+			observed( timestamp, now );
+		}
+
+		/**
+		 * @return {@code true} if the invalidation should be written to the region now
+		 */
+		boolean invalidated(Long timestamp, long now, long batchingWindow) {
+			observed( timestamp, now );
+			// the region holds the pre-invalidation of this transaction only if no other
+			// transaction pre-invalidated the space concurrently, and no invalidation was
+			// written since
+			final boolean holdsPreInvalidation =
+					preInvalidationsInFlight == 1
+							&& writtenPreInvalidation != null
+							&& writtenPreInvalidation >= timestamp;
+			if ( preInvalidationsInFlight > 0 ) {
+				preInvalidationsInFlight--;
+			}
+			if ( holdsPreInvalidation && invalidationWritten && now - invalidationWrittenAt < batchingWindow ) {
+				final Long pending = pendingInvalidation;
+				if ( pending == null || pending < timestamp ) {
+					pendingInvalidation = timestamp;
+				}
+				return false;
+			}
+			else {
+				invalidationWritten( now );
+				return true;
+			}
+		}
+
+		boolean hasPendingInvalidation() {
+			return pendingInvalidation != null;
+		}
+
+		boolean hasDueInvalidation(long now, long batchingWindow) {
+			if ( pendingInvalidation == null ) {
+				return false;
+			}
+			lock.lock();
+			try {
+				return pendingInvalidation != null && now - invalidationWrittenAt >= batchingWindow;
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		@Nullable
+		Long takeDueInvalidation(long now, long batchingWindow) {
+			final Long timestamp = pendingInvalidation;
+			if ( timestamp != null && now - invalidationWrittenAt >= batchingWindow ) {
+				invalidationWritten( now );
+				return timestamp;
+			}
+			else {
+				return null;
+			}
+		}
+
+		private void invalidationWritten(long now) {
+			pendingInvalidation = null;
+			writtenPreInvalidation = null;
+			invalidationWritten = true;
+			invalidationWrittenAt = now;
+		}
+
+		void read(@Nullable Long timestamp, long readAt) {
+			lock.lock();
+			try {
+				// ignore the value read if the space was written meanwhile
+				if ( !lastUpdateObserved || lastUpdateObservedAt - readAt <= 0 ) {
+					observed( timestamp, readAt );
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * @return the last update timestamp of the space if it was observed within
+		 *         the batching window, or {@code null} if the region must be read
+		 */
+		@Nullable
+		LastUpdate knownLastUpdate(long now, long batchingWindow) {
+			lock.lock();
+			try {
+				return lastUpdateObserved && now - lastUpdateObservedAt < batchingWindow
+						? new LastUpdate( space, lastUpdate )
+						: null;
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void observed(@Nullable Long timestamp, long now) {
+			lastUpdate = timestamp;
+			lastUpdateObservedAt = now;
+			lastUpdateObserved = true;
+		}
+	}
+}
@@ -83,6 +83,10 @@ public EnabledCaching(SessionFactoryImplementor sessionFactory) {
 			timestampsCache = new TimestampsCacheDisabledImpl();
 			defaultQueryResultsCache = null;
 		}
+		final var warmUp = SecondLevelCacheWarmUp.create( sessionFactory.getProperties() );
+		if ( warmUp != null ) {
+			sessionFactory.addObserver( warmUp );
+		}
 	}
 
 	private QueryResultsCache buildQueryResultsCache(SessionFactoryImplementor sessionFactory) {
@@ -523,6 +527,9 @@ else if ( type.isAssignableFrom( RegionFactory.class ) ) {
 
 	@Override
 	public void close() {
+		if ( timestampsCache instanceof BatchingTimestampsCacheImpl batchingTimestampsCache ) {
+			batchingTimestampsCache.close();
+		}
 		for ( var region : regionsByName.values() ) {
 			region.destroy();
 		}
@@ -0,0 +1,442 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.CacheMode;
+import org.hibernate.FindMultipleOption;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.descriptor.java.JavaType;
+
+import static java.lang.Boolean.TRUE;
+import static java.lang.Math.min;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+import static org.hibernate.cfg.CacheSettings.WARM_UP_BATCH_SIZE;
+import static org.hibernate.cfg.CacheSettings.WARM_UP_ENTITIES;
+import static org.hibernate.cfg.CacheSettings.WARM_UP_MAX_ENTRIES;
+import static org.hibernate.cfg.CacheSettings.WARM_UP_SNAPSHOT;
+import static org.hibernate.cfg.CacheSettings.WARM_UP_THREADS;
+import static org.hibernate.internal.util.StringHelper.splitAtCommas;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
+
+/**
+ * Warms up the second-level cache regions of the entities listed by
+ * {@value org.hibernate.cfg.CacheSettings#WARM_UP_ENTITIES} in the background
+ * once the {@code SessionFactory} is created, by loading their instances in
+ * batches, possibly in parallel, with {@link CacheMode#REFRESH}.
+ * <p>
+ * If {@value org.hibernate.cfg.CacheSettings#WARM_UP_SNAPSHOT} is set, the
+ * identifiers of the most recently loaded instances are recorded as they are
+ * loaded, and those still held by the cache are written to the snapshot when
+ * the {@code SessionFactory} is closed, together with the tenant they belong
+ * to. Only these instances are loaded by the next warm-up. A multi-tenant
+ * {@code SessionFactory} is only warmed up from such a snapshot.
+ *
+ * @since 8.0
+ */
+public class SecondLevelCacheWarmUp implements SessionFactoryObserver, PostLoadEventListener {
+	private final String[] entityNames;
+	private final int maxEntries;
+	private final int batchSize;
+	private final int threads;
+	private final @Nullable Path snapshot;
+
+	// the identifiers recently loaded, by entity name
+	private final Map<String, RecentIdentifiers> recentIdentifiers = new ConcurrentHashMap<>();
+	private volatile boolean closed;
+	private volatile @Nullable FutureTask<Void> warmUpTask;
+
+	private SecondLevelCacheWarmUp(String[] entityNames, Map<String, Object> settings) {
+		this.entityNames = entityNames;
+		this.maxEntries = getInt( WARM_UP_MAX_ENTRIES, settings, 10_000 );
+		this.batchSize = getInt( WARM_UP_BATCH_SIZE, settings, 100 );
+		this.threads = getInt( WARM_UP_THREADS, settings, 1 );
+		final String snapshotPath = getString( WARM_UP_SNAPSHOT, settings );
+		this.snapshot = snapshotPath == null ? null : Path.of( snapshotPath );
+	}
+
+	/**
+	 * @return the warm-up, or {@code null} if no entities are to be warmed up
+	 */
+	@Nullable
+	public static SecondLevelCacheWarmUp create(@Nonnull Map<String, Object> settings) {
+		final String[] entityNames = splitAtCommas( getString( WARM_UP_ENTITIES, settings ) );
+		return entityNames.length == 0 ? null : new SecondLevelCacheWarmUp( entityNames, settings );
+	}
+
+	@Override
+	public void sessionFactoryCreated(SessionFactory factory) {
+		final var sessionFactory = (SessionFactoryImplementor) factory;
+		final List<EntityPersister> persisters = getCachedEntityDescriptors( sessionFactory );
+		if ( snapshot != null ) {
+			for ( var persister : persisters ) {
+				if ( identifierJavaType( persister ) != null ) {
+					recentIdentifiers.put( persister.getEntityName(), new RecentIdentifiers( maxEntries ) );
+				}
+			}
+			sessionFactory.getEventListenerRegistry().appendListeners( EventType.POST_LOAD, this );
+		}
+		final var task = new FutureTask<Void>( () -> warmUp( persisters, sessionFactory ), null );
+		warmUpTask = task;
+		newWarmUpThread( task ).start();
+	}
+
+	private static Thread newWarmUpThread(Runnable runnable) {
+		// never keep the JVM alive just to warm up the cache
+		final var thread = new Thread( runnable );
+		thread.setDaemon( true );
+		thread.setName( "Hibernate Second-Level Cache Warm-Up Thread" );
+		return thread;
+	}
+
+	@Override
+	public void sessionFactoryClosing(SessionFactory factory) {
+		closed = true;
+		final var task = warmUpTask;
+		if ( task != null ) {
+			task.cancel( true );
+		}
+		if ( snapshot != null ) {
+			writeSnapshot( snapshot, (SessionFactoryImplementor) factory );
+		}
+	}
+
+	/**
+	 * Wait for the warm-up started when the {@code SessionFactory} was created.
+	 *
+	 * @return {@code true} if the warm-up is over, or {@code false} if the
+	 *         timeout elapsed first, or if the warm-up was not started
+	 */
+	public boolean awaitCompletion(long timeout, @Nonnull TimeUnit unit) throws InterruptedException {
+		final var task = warmUpTask;
+		if ( task == null ) {
+			return false;
+		}
+		try {
+			task.get( timeout, unit );
+			return true;
+		}
+		catch (TimeoutException e) {
+			return false;
+		}
+		catch (ExecutionException | CancellationException e) {
+			// the failures are logged by the warm-up
+			return true;
+		}
+	}
+
+	/**
+	 * Record the identifier of an instance loaded by the application, either from the
+	 * database or from the cache. The instances loaded by the warm-up itself, with
+	 * {@link CacheMode#REFRESH}, are not recorded, since they might not be used.
+	 */
+	@Override
+	public void onPostLoad(PostLoadEvent event) {
+		if ( !closed ) {
+			final var persister = event.getPersister();
+			var recent = recentIdentifiers.get( persister.getEntityName() );
+			if ( recent == null ) {
+				recent = recentIdentifiers.get( persister.getRootEntityName() );
+			}
+			final var session = event.getSession();
+			if ( recent != null && session.getCacheMode() != CacheMode.REFRESH ) {
+				recent.add( new RecordedIdentifier( event.getId(), session.getTenantIdentifierValue() ) );
+			}
+		}
+	}
+
+	private List<EntityPersister> getCachedEntityDescriptors(SessionFactoryImplementor sessionFactory) {
+		final List<EntityPersister> persisters = new ArrayList<>( entityNames.length );
+		for ( String entityName : entityNames ) {
+			final var persister = getCachedEntityDescriptor( entityName.trim(), sessionFactory );
+			if ( persister != null ) {
+				persisters.add( persister );
+			}
+		}
+		return persisters;
+	}
+
+	@Nullable
+	private static EntityPersister getCachedEntityDescriptor(
+			String entityName,
+			SessionFactoryImplementor sessionFactory) {
+		final var mappingMetamodel = sessionFactory.getMappingMetamodel();
+		final var persister = mappingMetamodel.findEntityDescriptor( mappingMetamodel.getImportedName( entityName ) );
+		if ( persister == null || !persister.canWriteToCache() ) {
+			L2CACHE_LOGGER.warmUpEntityNotCached( entityName );
+			return null;
+		}
+		else {
+			return persister;
+		}
+	}
+
+	private void warmUp(List<EntityPersister> persisters, SessionFactoryImplementor sessionFactory) {
+		final var snapshotIdentifiers = readSnapshot( sessionFactory );
+		final ExecutorService executor = threads > 1
+				? Executors.newFixedThreadPool( threads, SecondLevelCacheWarmUp::newWarmUpThread )
+				: null;
+		try {
+			for ( var persister : persisters ) {
+				if ( closed || Thread.currentThread().isInterrupted() ) {
+					return;
+				}
+				warmUp( persister, snapshotIdentifiers.get( persister.getEntityName() ), executor, sessionFactory );
+			}
+		}
+		finally {
+			if ( executor != null ) {
+				executor.shutdownNow();
+			}
+		}
+	}
+
+	private void warmUp(
+			EntityPersister persister,
+			@Nullable List<RecordedIdentifier> snapshotIdentifiers,
+			@Nullable ExecutorService executor,
+			SessionFactoryImplementor sessionFactory) {
+		if ( snapshotIdentifiers == null && sessionFactory.getSessionFactoryOptions().isMultiTenancyEnabled() ) {
+			// there is no tenant to select the identifiers for,
+			// only a snapshot records the tenant of each instance
+			L2CACHE_LOGGER.warmUpRequiresSnapshot( persister.getEntityName() );
+			return;
+		}
+		final long start = System.nanoTime();
+		try {
+			final Map<Object, List<Object>> identifiersByTenant = new LinkedHashMap<>();
+			if ( snapshotIdentifiers == null ) {
+				identifiersByTenant.put( null, selectIdentifiers( persister, sessionFactory ) );
+			}
+			else {
+				for ( var recorded : snapshotIdentifiers ) {
+					identifiersByTenant.computeIfAbsent( recorded.tenantIdentifier(), tenant -> new ArrayList<>() )
+							.add( recorded.identifier() );
+				}
+			}
+			int count = 0;
+			final List<Future<?>> batches = new ArrayList<>();
+			for ( var entry : identifiersByTenant.entrySet() ) {
+				final Object tenantIdentifier = entry.getKey();
+				final List<Object> identifiers = entry.getValue();
+				for ( int i = 0; i < identifiers.size(); i += batchSize ) {
+					final var batch = identifiers.subList( i, min( i + batchSize, identifiers.size() ) );
+					if ( executor == null ) {
+						load( persister, batch, tenantIdentifier, sessionFactory );
+					}
+					else {
+						batches.add( executor.submit( () -> load( persister, batch, tenantIdentifier, sessionFactory ) ) );
+					}
+				}
+				count += identifiers.size();
+			}
+			for ( var batch : batches ) {
+				batch.get();
+			}
+			L2CACHE_LOGGER.warmedUpEntity(
+					count,
+					persister.getEntityName(),
+					NANOSECONDS.toMillis( System.nanoTime() - start )
+			);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			L2CACHE_LOGGER.unableToWarmUpEntity( persister.getEntityName(), e );
+		}
+		catch (ExecutionException e) {
+			L2CACHE_LOGGER.unableToWarmUpEntity( persister.getEntityName(), e.getCause() );
+		}
+		catch (RuntimeException e) {
+			L2CACHE_LOGGER.unableToWarmUpEntity( persister.getEntityName(), e );
+		}
+	}
+
+	private List<Object> selectIdentifiers(EntityPersister persister, SessionFactoryImplementor sessionFactory) {
+		try ( var session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery( "select id(e) from " + persister.getEntityName() + " e", Object.class )
+					.setMaxResults( maxEntries )
+					.getResultList();
+		}
+	}
+
+	private void load(
+			EntityPersister persister,
+			List<?> identifiers,
+			@Nullable Object tenantIdentifier,
+			SessionFactoryImplementor sessionFactory) {
+		final var sessionBuilder = sessionFactory.withOptions();
+		if ( tenantIdentifier != null ) {
+			sessionBuilder.tenantIdentifier( tenantIdentifier );
+		}
+		try ( var session = sessionBuilder.openSession() ) {
+			// put the instances into the cache, even if they are already there
+			session.setCacheMode( CacheMode.REFRESH );
+			session.setDefaultReadOnly( true );
+			session.findMultiple(
+					persister.getMappedClass(),
+					identifiers,
+					FindMultipleOption.OrderingMode.UNORDERED,
+					new FindMultipleOption.BatchSize( batchSize )
+			);
+		}
+	}
+
+	/**
+	 * Reads the identifiers recorded by {@link #writeSnapshot}, by entity name.
+	 */
+	private Map<String, List<RecordedIdentifier>> readSnapshot(SessionFactoryImplementor sessionFactory) {
+		final Map<String, List<RecordedIdentifier>> identifiers = new HashMap<>();
+		if ( snapshot != null && Files.exists( snapshot ) ) {
+			final var mappingMetamodel = sessionFactory.getMappingMetamodel();
+			final var tenantIdentifierJavaType = sessionFactory.getTenantIdentifierJavaType();
+			try {
+				for ( String line : Files.readAllLines( snapshot ) ) {
+					final String[] fields = line.split( "\t", 3 );
+					if ( fields.length > 1 ) {
+						final String entityName = fields[0];
+						final var persister = mappingMetamodel.findEntityDescriptor( entityName );
+						final var identifierJavaType = persister == null ? null : identifierJavaType( persister );
+						if ( identifierJavaType != null ) {
+							identifiers.computeIfAbsent( entityName, name -> new ArrayList<>() )
+									.add( new RecordedIdentifier(
+											identifierJavaType.fromString( fields[1] ),
+											fields.length > 2 ? tenantIdentifierJavaType.fromString( fields[2] ) : null
+									) );
+						}
+					}
+				}
+			}
+			catch (IOException | RuntimeException e) {
+				L2CACHE_LOGGER.unableToAccessWarmUpSnapshot( snapshot.toString(), e );
+				identifiers.clear();
+			}
+		}
+		return identifiers;
+	}
+
+	/**
+	 * Records the identifiers of the recently loaded instances of the warmed up
+	 * entities which are still held by the cache, one per line, following the
+	 * entity name and a tab, and followed by a tab and the tenant identifier,
+	 * if any.
+	 */
+	private void writeSnapshot(Path snapshot, SessionFactoryImplementor sessionFactory) {
+		final var tenantIdentifierJavaType = sessionFactory.getTenantIdentifierJavaType();
+		try ( var writer = Files.newBufferedWriter( snapshot ) ) {
+			for ( var persister : getCachedEntityDescriptors( sessionFactory ) ) {
+				final String entityName = persister.getEntityName();
+				final var recent = recentIdentifiers.get( entityName );
+				final var identifierJavaType = identifierJavaType( persister );
+				if ( recent != null && identifierJavaType != null ) {
+					final var cacheAccess = persister.getCacheAccessStrategy();
+					for ( var recorded : recent.identifiers() ) {
+						final String tenantIdentifier =
+								recorded.tenantIdentifier() == null
+										? null
+										: tenantIdentifierJavaType.toString( recorded.tenantIdentifier() );
+						final Object cacheKey =
+								cacheAccess.generateCacheKey( recorded.identifier(), persister, sessionFactory, tenantIdentifier );
+						if ( cacheAccess.contains( cacheKey ) ) {
+							writer.append( entityName ).append( '\t' )
+									.append( identifierJavaType.toString( recorded.identifier() ) );
+							if ( tenantIdentifier != null ) {
+								writer.append( '\t' ).append( tenantIdentifier );
+							}
+							writer.append( '\n' );
+						}
+					}
+				}
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			L2CACHE_LOGGER.unableToAccessWarmUpSnapshot( snapshot.toString(), e );
+		}
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private static JavaType<Object> identifierJavaType(EntityPersister persister) {
+		// only basic identifiers have a simple string representation
+		return persister.getIdentifierMapping() instanceof BasicEntityIdentifierMapping identifierMapping
+				? (JavaType<Object>) identifierMapping.getJavaType()
+				: null;
+	}
+
+	private record RecordedIdentifier(Object identifier, @Nullable Object tenantIdentifier) {
+	}
+
+	/**
+	 * The identifiers most recently loaded, evicting the least recently loaded one
+	 * beyond the maximum number of entries.
+	 */
+	private static class RecentIdentifiers {
+		private final Lock lock = new ReentrantLock();
+		// guarded by lock
+		private final LinkedHashMap<RecordedIdentifier, Boolean> identifiers;
+
+		private RecentIdentifiers(int maxEntries) {
+			identifiers = new LinkedHashMap<>( 16, 0.75f, true ) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<RecordedIdentifier, Boolean> eldest) {
+					return size() > maxEntries;
+				}
+			};
+		}
+
+		private void add(RecordedIdentifier identifier) {
+			// never block the thread loading the instance, since
+			// a hot instance will be loaded again soon enough
+			if ( lock.tryLock() ) {
+				try {
+					identifiers.put( identifier, TRUE );
+				}
+				finally {
+					lock.unlock();
+				}
+			}
+		}
+
+		private List<RecordedIdentifier> identifiers() {
+			lock.lock();
+			try {
+				return new ArrayList<>( identifiers.keySet() );
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+	}
+}
@@ -11,9 +11,13 @@
 import org.hibernate.cache.spi.TimestampsCacheFactory;
 import org.hibernate.cache.spi.TimestampsRegion;
 
+import static org.hibernate.cfg.CacheSettings.TIMESTAMPS_CACHE_BATCHING_WINDOW;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
+
 /**
- * Standard Hibernate implementation of the QueryCacheFactory interface.  Returns instances of
- * {@link QueryResultsCacheImpl}.
+ * Standard Hibernate implementation of the TimestampsCacheFactory interface.  Returns instances of
+ * {@link TimestampsCacheEnabledImpl}, or of {@link BatchingTimestampsCacheImpl} if
+ * {@value org.hibernate.cfg.CacheSettings#TIMESTAMPS_CACHE_BATCHING_WINDOW} is set.
  */
 public class StandardTimestampsCacheFactory implements TimestampsCacheFactory {
 	/**
@@ -26,6 +30,10 @@ public class StandardTimestampsCacheFactory implements TimestampsCacheFactory {
 	public TimestampsCache buildTimestampsCache(
 			@Nonnull CacheImplementor cacheManager,
 			@Nonnull TimestampsRegion timestampsRegion) {
-		return new TimestampsCacheEnabledImpl( timestampsRegion );
+		final var sessionFactory = cacheManager.getSessionFactory();
+		final long batchingWindow = getLong( TIMESTAMPS_CACHE_BATCHING_WINDOW, sessionFactory.getProperties(), 0 );
+		return batchingWindow > 0
+				? new BatchingTimestampsCacheImpl( sessionFactory, timestampsRegion, batchingWindow )
+				: new TimestampsCacheEnabledImpl( timestampsRegion );
 	}
 }
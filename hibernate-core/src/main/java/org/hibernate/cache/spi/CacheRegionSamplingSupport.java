@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi;
+
+import jakarta.annotation.Nullable;
+
+import org.hibernate.Incubating;
+import org.hibernate.stat.spi.CacheRegionSampler;
+
+/**
+ * Optional contract for a {@link Region} which may sample the accesses to its
+ * items, to report its hot keys, and the sizes and load times of its items.
+ *
+ * @see org.hibernate.cfg.StatisticsSettings#CACHE_SAMPLING
+ *
+ * @since 8.0
+ */
+@Incubating
+public interface CacheRegionSamplingSupport {
+	/**
+	 * The sampler of the region, or {@code null} if sampling is disabled
+	 */
+	@Nullable
+	CacheRegionSampler getCacheRegionSampler();
+}
@@ -4,6 +4,10 @@
  */
 package org.hibernate.cache.spi;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
@@ -25,6 +29,30 @@ public interface DirectAccessRegion extends Region {
 	@Nullable
 	Object getFromCache(@Nonnull Object key, @Nonnull SharedSessionContractImplementor session);
 
+	/**
+	 * Get the values of several keys, ideally with a single access to
+	 * the underlying cache
+	 *
+	 * @return the values which were found, by key
+	 *
+	 * @implNote the method default is to call {@link #getFromCache} for each key
+	 *
+	 * @since 8.0
+	 */
+	@Nonnull
+	default Map<Object, Object> getAllFromCache(
+			@Nonnull Set<?> keys,
+			@Nonnull SharedSessionContractImplementor session) {
+		final Map<Object, Object> values = new HashMap<>( keys.size() );
+		for ( Object key : keys ) {
+			final Object value = getFromCache( key, session );
+			if ( value != null ) {
+				values.put( key, value );
+			}
+		}
+		return values;
+	}
+
 	/**
 	 * Put a value by key
 	 */
@@ -0,0 +1,36 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi;
+
+import org.hibernate.Incubating;
+
+/**
+ * Optional contract for a {@link Region} which may keep items in a near cache,
+ * on the heap, in front of the cache provider.
+ *
+ * @see org.hibernate.cfg.CacheSettings#NEAR_CACHE_MAX_ENTRIES
+ *
+ * @since 8.0
+ */
+@Incubating
+public interface NearCacheStatisticsSupport {
+	boolean isNearCacheEnabled();
+
+	/**
+	 * The number of look-ups served by the near cache since the region was built
+	 */
+	long getNearCacheHitCount();
+
+	/**
+	 * The number of look-ups forwarded by the near cache to the cache provider
+	 * since the region was built
+	 */
+	long getNearCacheMissCount();
+
+	/**
+	 * The number of items currently held by the near cache
+	 */
+	long getNearCacheElementCount();
+}
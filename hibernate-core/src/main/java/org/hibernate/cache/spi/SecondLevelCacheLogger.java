@@ -10,6 +10,7 @@
 
 import org.jboss.logging.BasicLogger;
 import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
@@ -389,4 +390,39 @@ void checkingReadWriteLockWriteability(
 			long unlockTimestamp,
 			long txTimestamp,
 			Object newVersion);
+
+	@LogMessage(level = WARN)
+	@Message(
+			value = "Second-level cache warm-up requested for entity [%s], which is not cached",
+			id = NAMESPACE + 50
+	)
+	void warmUpEntityNotCached(String entityName);
+
+	@LogMessage(level = INFO)
+	@Message(
+			value = "Warmed up second-level cache with %s instances of entity [%s] in %s ms",
+			id = NAMESPACE + 51
+	)
+	void warmedUpEntity(int count, String entityName, long millis);
+
+	@LogMessage(level = WARN)
+	@Message(
+			value = "Unable to warm up second-level cache with instances of entity [%s]",
+			id = NAMESPACE + 52
+	)
+	void unableToWarmUpEntity(String entityName, @Cause Throwable cause);
+
+	@LogMessage(level = WARN)
+	@Message(
+			value = "Unable to access second-level cache warm-up snapshot [%s]",
+			id = NAMESPACE + 53
+	)
+	void unableToAccessWarmUpSnapshot(String path, @Cause Throwable cause);
+
+	@LogMessage(level = WARN)
+	@Message(
+			value = "Second-level cache warm-up of entity [%s] skipped, since a multi-tenant SessionFactory is only warmed up from a snapshot",
+			id = NAMESPACE + 54
+	)
+	void warmUpRequiresSnapshot(String entityName);
 }
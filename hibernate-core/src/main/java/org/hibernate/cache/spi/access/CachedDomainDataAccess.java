@@ -61,6 +61,32 @@ public interface CachedDomainDataAccess {
 	@Nullable
 	Object get(@Nonnull SharedSessionContractImplementor session, @Nonnull Object key);
 
+	/**
+	 * Attempt to retrieve several objects from the cache, ideally with a
+	 * single access to the underlying cache. Usually used when resolving
+	 * a batch of entities from the second-level cache.
+	 *
+	 * @param session Current session.
+	 * @param keys The keys of the items to be retrieved.
+	 *
+	 * @return the cached data, at the position of its key, with {@code null}
+	 * for keys which are not cached
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @implNote The default implementation calls {@link #get} for each key.
+	 *
+	 * @since 8.0
+	 */
+	@Nonnull
+	default Object[] getAll(@Nonnull SharedSessionContractImplementor session, @Nonnull Object[] keys) {
+		final Object[] items = new Object[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			items[i] = get( session, keys[i] );
+		}
+		return items;
+	}
+
 	/**
 	 * Attempt to cache an object, after loading it from the database.
 	 *
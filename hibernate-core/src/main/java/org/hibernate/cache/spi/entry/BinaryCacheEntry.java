@@ -0,0 +1,420 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi.entry;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import org.hibernate.Incubating;
+import org.hibernate.cache.CacheException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer.UNFETCHED_PROPERTY;
+import static org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl.UNKNOWN;
+
+/**
+ * Compact binary CacheEntry format for entities. The entry is stored into the
+ * second-level cache as a {@code byte[]}, which is much smaller, and much faster
+ * to copy into a remote cache, than the Java serialization of the disassembled
+ * state.
+ * <p>
+ * The layout is driven by the mapping of the entity: the values of the attributes
+ * are written in the order of {@link EntityPersister#getPropertyNames()}, without
+ * names, and the entity name is written as an index into the sorted names of the
+ * entities of the hierarchy. Each value is prefixed by a one-byte tag, followed by
+ * a compact encoding of the common basic types, using variable-length integers.
+ * Values of other types fall back to Java serialization.
+ * <p>
+ * All nodes sharing the cache must use the same mapping.
+ *
+ * @see org.hibernate.cfg.CacheSettings#USE_BINARY_CACHE_ENTRIES
+ *
+ * @since 8.0
+ */
+@Incubating
+public class BinaryCacheEntry implements CacheEntryStructure {
+	private static final byte FORMAT = 1;
+
+	private static final byte NULL = 0;
+	private static final byte TRUE = 1;
+	private static final byte FALSE = 2;
+	private static final byte INTEGER = 3;
+	private static final byte LONG = 4;
+	private static final byte SHORT = 5;
+	private static final byte BYTE = 6;
+	private static final byte CHARACTER = 7;
+	private static final byte FLOAT = 8;
+	private static final byte DOUBLE = 9;
+	private static final byte STRING = 10;
+	private static final byte BYTES = 11;
+	private static final byte ARRAY = 12;
+	private static final byte BIG_DECIMAL = 13;
+	private static final byte BIG_INTEGER = 14;
+	private static final byte UUID_VALUE = 15;
+	private static final byte LOCAL_DATE = 16;
+	private static final byte LOCAL_TIME = 17;
+	private static final byte LOCAL_DATE_TIME = 18;
+	private static final byte INSTANT = 19;
+	private static final byte UNFETCHED = 20;
+	private static final byte UNKNOWN_BACKREF = 21;
+	private static final byte SERIALIZED = 22;
+
+	private final EntityPersister persister;
+	// the names of the entities of the hierarchy, built lazily,
+	// since the hierarchy is not known when the persister is built
+	private volatile String[] entityNames;
+
+	/**
+	 * Constructs a BinaryCacheEntry strategy
+	 *
+	 * @param persister The persister whose data needs to be structured.
+	 */
+	public BinaryCacheEntry(@Nonnull EntityPersister persister) {
+		this.persister = persister;
+	}
+
+	private String[] entityNames() {
+		var names = entityNames;
+		if ( names == null ) {
+			final var root = persister.getRootEntityDescriptor();
+			final var sorted = new TreeSet<>( root.getSubclassEntityNames() );
+			sorted.add( root.getEntityName() );
+			names = sorted.toArray( new String[0] );
+			entityNames = names;
+		}
+		return names;
+	}
+
+	@Override
+	@Nonnull
+	public Object structure(@Nonnull Object item) {
+		final var entry = (CacheEntry) item;
+		final Serializable[] state = entry.getDisassembledState();
+		final var output = new Output( 16 + state.length * 8 );
+		output.write( FORMAT );
+		final int index = Arrays.binarySearch( entityNames(), entry.getSubclass() );
+		if ( index >= 0 ) {
+			output.writeVarInt( index + 1 );
+		}
+		else {
+			output.writeVarInt( 0 );
+			output.writeString( entry.getSubclass() );
+		}
+		output.writeValue( entry.getVersion() );
+		output.writeVarInt( state.length );
+		for ( Serializable value : state ) {
+			output.writeValue( value );
+		}
+		return output.toByteArray();
+	}
+
+	@Override
+	@Nonnull
+	public Object destructure(@Nonnull Object structured, @Nonnull SessionFactoryImplementor factory) {
+		final var input = new Input( (byte[]) structured );
+		final byte format = input.read();
+		if ( format != FORMAT ) {
+			throw new CacheException( "Unknown format of binary cache entry: " + format );
+		}
+		final int index = input.readVarInt();
+		final String subclass = index == 0 ? input.readString() : entityNames()[index - 1];
+		final Object version = input.readValue();
+		final var state = new Serializable[input.readVarInt()];
+		for ( int i = 0; i < state.length; i++ ) {
+			state[i] = (Serializable) input.readValue();
+		}
+		return new StandardCacheEntryImpl( state, subclass, version );
+	}
+
+	private static final class Output {
+		private byte[] bytes;
+		private int position;
+
+		private Output(int capacity) {
+			bytes = new byte[capacity];
+		}
+
+		private void ensureCapacity(int length) {
+			if ( position + length > bytes.length ) {
+				bytes = Arrays.copyOf( bytes, Math.max( bytes.length << 1, position + length ) );
+			}
+		}
+
+		private void write(byte value) {
+			ensureCapacity( 1 );
+			bytes[position++] = value;
+		}
+
+		private void write(byte[] value) {
+			ensureCapacity( value.length );
+			System.arraycopy( value, 0, bytes, position, value.length );
+			position += value.length;
+		}
+
+		private void writeVarLong(long value) {
+			ensureCapacity( 10 );
+			while ( ( value & ~0x7FL ) != 0 ) {
+				bytes[position++] = (byte) ( ( value & 0x7F ) | 0x80 );
+				value >>>= 7;
+			}
+			bytes[position++] = (byte) value;
+		}
+
+		private void writeVarInt(int value) {
+			writeVarLong( value & 0xFFFFFFFFL );
+		}
+
+		private void writeZigZag(long value) {
+			writeVarLong( ( value << 1 ) ^ ( value >> 63 ) );
+		}
+
+		private void writeFixedInt(int value) {
+			ensureCapacity( 4 );
+			for ( int shift = 24; shift >= 0; shift -= 8 ) {
+				bytes[position++] = (byte) ( value >>> shift );
+			}
+		}
+
+		private void writeFixedLong(long value) {
+			ensureCapacity( 8 );
+			for ( int shift = 56; shift >= 0; shift -= 8 ) {
+				bytes[position++] = (byte) ( value >>> shift );
+			}
+		}
+
+		private void writeBytes(byte[] value) {
+			writeVarInt( value.length );
+			write( value );
+		}
+
+		private void writeString(String value) {
+			writeBytes( value.getBytes( UTF_8 ) );
+		}
+
+		private void writeValue(@Nullable Object value) {
+			if ( value == null ) {
+				write( NULL );
+			}
+			else if ( value instanceof String string ) {
+				write( STRING );
+				writeString( string );
+			}
+			else if ( value instanceof Integer integer ) {
+				write( INTEGER );
+				writeZigZag( integer );
+			}
+			else if ( value instanceof Long longValue ) {
+				write( LONG );
+				writeZigZag( longValue );
+			}
+			else if ( value instanceof Boolean bool ) {
+				write( bool ? TRUE : FALSE );
+			}
+			else if ( value instanceof Short shortValue ) {
+				write( SHORT );
+				writeZigZag( shortValue );
+			}
+			else if ( value instanceof Byte byteValue ) {
+				write( BYTE );
+				write( byteValue );
+			}
+			else if ( value instanceof Character character ) {
+				write( CHARACTER );
+				writeVarInt( character );
+			}
+			else if ( value instanceof Float floatValue ) {
+				write( FLOAT );
+				writeFixedInt( Float.floatToRawIntBits( floatValue ) );
+			}
+			else if ( value instanceof Double doubleValue ) {
+				write( DOUBLE );
+				writeFixedLong( Double.doubleToRawLongBits( doubleValue ) );
+			}
+			else if ( value instanceof byte[] byteArray ) {
+				write( BYTES );
+				writeBytes( byteArray );
+			}
+			else if ( value instanceof Object[] array ) {
+				// the disassembled state of an embeddable
+				write( ARRAY );
+				writeVarInt( array.length );
+				for ( Object element : array ) {
+					writeValue( element );
+				}
+			}
+			else if ( value instanceof BigDecimal bigDecimal ) {
+				write( BIG_DECIMAL );
+				writeZigZag( bigDecimal.scale() );
+				writeBytes( bigDecimal.unscaledValue().toByteArray() );
+			}
+			else if ( value instanceof BigInteger bigInteger ) {
+				write( BIG_INTEGER );
+				writeBytes( bigInteger.toByteArray() );
+			}
+			else if ( value instanceof UUID uuid ) {
+				write( UUID_VALUE );
+				writeFixedLong( uuid.getMostSignificantBits() );
+				writeFixedLong( uuid.getLeastSignificantBits() );
+			}
+			else if ( value instanceof LocalDate localDate ) {
+				write( LOCAL_DATE );
+				writeZigZag( localDate.toEpochDay() );
+			}
+			else if ( value instanceof LocalTime localTime ) {
+				write( LOCAL_TIME );
+				writeVarLong( localTime.toNanoOfDay() );
+			}
+			else if ( value instanceof LocalDateTime localDateTime ) {
+				write( LOCAL_DATE_TIME );
+				writeZigZag( localDateTime.toLocalDate().toEpochDay() );
+				writeVarLong( localDateTime.toLocalTime().toNanoOfDay() );
+			}
+			else if ( value instanceof Instant instant ) {
+				write( INSTANT );
+				writeZigZag( instant.getEpochSecond() );
+				writeVarInt( instant.getNano() );
+			}
+			else if ( value == UNFETCHED_PROPERTY ) {
+				write( UNFETCHED );
+			}
+			else if ( value == UNKNOWN ) {
+				write( UNKNOWN_BACKREF );
+			}
+			else {
+				write( SERIALIZED );
+				writeBytes( SerializationHelper.serialize( (Serializable) value ) );
+			}
+		}
+
+		private byte[] toByteArray() {
+			return Arrays.copyOf( bytes, position );
+		}
+	}
+
+	private static final class Input {
+		private final byte[] bytes;
+		private int position;
+
+		private Input(byte[] bytes) {
+			this.bytes = bytes;
+		}
+
+		private byte read() {
+			return bytes[position++];
+		}
+
+		private long readVarLong() {
+			long value = 0;
+			int shift = 0;
+			byte current;
+			do {
+				current = bytes[position++];
+				value |= (long) ( current & 0x7F ) << shift;
+				shift += 7;
+			}
+			while ( ( current & 0x80 ) != 0 );
+			return value;
+		}
+
+		private int readVarInt() {
+			return (int) readVarLong();
+		}
+
+		private long readZigZag() {
+			final long value = readVarLong();
+			return ( value >>> 1 ) ^ -( value & 1 );
+		}
+
+		private int readFixedInt() {
+			int value = 0;
+			for ( int i = 0; i < 4; i++ ) {
+				value = ( value << 8 ) | ( bytes[position++] & 0xFF );
+			}
+			return value;
+		}
+
+		private long readFixedLong() {
+			long value = 0;
+			for ( int i = 0; i < 8; i++ ) {
+				value = ( value << 8 ) | ( bytes[position++] & 0xFF );
+			}
+			return value;
+		}
+
+		private byte[] readBytes() {
+			final int length = readVarInt();
+			final byte[] value = Arrays.copyOfRange( bytes, position, position + length );
+			position += length;
+			return value;
+		}
+
+		private String readString() {
+			final int length = readVarInt();
+			final String value = new String( bytes, position, length, UTF_8 );
+			position += length;
+			return value;
+		}
+
+		@Nullable
+		private Object readValue() {
+			final byte tag = read();
+			return switch ( tag ) {
+				case NULL -> null;
+				case TRUE -> Boolean.TRUE;
+				case FALSE -> Boolean.FALSE;
+				case INTEGER -> (int) readZigZag();
+				case LONG -> readZigZag();
+				case SHORT -> (short) readZigZag();
+				case BYTE -> read();
+				case CHARACTER -> (char) readVarInt();
+				case FLOAT -> Float.intBitsToFloat( readFixedInt() );
+				case DOUBLE -> Double.longBitsToDouble( readFixedLong() );
+				case STRING -> readString();
+				case BYTES -> readBytes();
+				case ARRAY -> {
+					final var array = new Object[readVarInt()];
+					for ( int i = 0; i < array.length; i++ ) {
+						array[i] = readValue();
+					}
+					yield array;
+				}
+				case BIG_DECIMAL -> {
+					final int scale = (int) readZigZag();
+					yield new BigDecimal( new BigInteger( readBytes() ), scale );
+				}
+				case BIG_INTEGER -> new BigInteger( readBytes() );
+				case UUID_VALUE -> new UUID( readFixedLong(), readFixedLong() );
+				case LOCAL_DATE -> LocalDate.ofEpochDay( readZigZag() );
+				case LOCAL_TIME -> LocalTime.ofNanoOfDay( readVarLong() );
+				case LOCAL_DATE_TIME -> {
+					final var date = LocalDate.ofEpochDay( readZigZag() );
+					yield LocalDateTime.of( date, LocalTime.ofNanoOfDay( readVarLong() ) );
+				}
+				case INSTANT -> {
+					final long seconds = readZigZag();
+					yield Instant.ofEpochSecond( seconds, readVarInt() );
+				}
+				case UNFETCHED -> UNFETCHED_PROPERTY;
+				case UNKNOWN_BACKREF -> UNKNOWN;
+				case SERIALIZED -> SerializationHelper.deserialize( readBytes() );
+				default -> throw new CacheException( "Unknown value tag in binary cache entry: " + tag );
+			};
+		}
+	}
+}
@@ -12,6 +12,8 @@
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
 import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.java.ImmutableMutabilityPlan;
+import org.hibernate.type.internal.BasicTypeImpl;
 
 /**
  * Operations for assembly and disassembly of an array of property values.
@@ -77,11 +79,28 @@ static Object[] assemble(
 		return assembled;
 	}
 
-	private static boolean isPlaceholder(Object value) {
+	/**
+	 * Is the given value a placeholder, which is neither disassembled nor assembled?
+	 */
+	public static boolean isPlaceholder(Object value) {
 		return value == LazyPropertyInitializer.UNFETCHED_PROPERTY
 			|| value == PropertyAccessStrategyBackRefImpl.UNKNOWN;
 	}
 
+	/**
+	 * Are the values of the given type their own disassembled state, that is,
+	 * do {@link Type#disassemble} and {@link Type#assemble} return their argument?
+	 * This is the case for the basic types of immutable Java types, without a
+	 * converter, which are most of the attributes of most entities.
+	 *
+	 * @since 8.0
+	 */
+	public static boolean isDisassembledAsIs(Type type) {
+		return type.getClass() == BasicTypeImpl.class
+			&& ( (BasicTypeImpl<?>) type ).getJavaTypeDescriptor().getMutabilityPlan().getClass()
+					== ImmutableMutabilityPlan.class;
+	}
+
 	public static Object buildStructuredCacheEntry(
 			Object entity,
 			Object version,
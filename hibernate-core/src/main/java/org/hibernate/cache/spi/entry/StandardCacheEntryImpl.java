@@ -47,13 +47,16 @@ public StandardCacheEntryImpl(
 			@Nonnull final SharedSessionContractImplementor session,
 			@Nullable final Object owner) throws HibernateException {
 		// disassembled state gets put in a new array (we write to cache by value!)
-		this.disassembledState = CacheEntryHelper.disassemble(
-				state,
-				persister.getPropertyTypes(),
-				persister.isLazyPropertiesCacheable() ? null : persister.getPropertyLaziness(),
-				session,
-				owner
-		);
+		final var optimizer = persister.getCacheEntryOptimizer();
+		this.disassembledState = optimizer == null
+				? CacheEntryHelper.disassemble(
+						state,
+						persister.getPropertyTypes(),
+						persister.isLazyPropertiesCacheable() ? null : persister.getPropertyLaziness(),
+						session,
+						owner
+				)
+				: optimizer.disassemble( state, session, owner );
 		this.subclass = persister.getEntityName();
 		this.version = version;
 	}
@@ -136,11 +139,10 @@ public Object[] assemble(
 		}
 
 		// assembled state gets put in a new array (we read from cache by value!)
-		final Object[] state = CacheEntryHelper.assemble(
-				disassembledState,
-				persister.getPropertyTypes(),
-				session, instance
-		);
+		final var optimizer = persister.getCacheEntryOptimizer();
+		final Object[] state = optimizer == null
+				? CacheEntryHelper.assemble( disassembledState, persister.getPropertyTypes(), session, instance )
+				: optimizer.assemble( disassembledState, session, instance );
 
 		//persister.setIdentifier(instance, id); //before calling interceptor, for consistency with normal load
 
@@ -4,6 +4,8 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.HashSet;
+
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
@@ -14,6 +16,7 @@
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 
+import static java.util.Arrays.asList;
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
 
 /**
@@ -23,12 +26,66 @@ public abstract class AbstractCachedDomainDataAccess implements CachedDomainData
 
 	private final DomainDataRegion region;
 	private final DomainDataStorageAccess storageAccess;
+	private final @Nullable SingleFlightLoads singleFlightLoads;
 
 	protected AbstractCachedDomainDataAccess(
 			@Nonnull DomainDataRegion region,
 			@Nonnull DomainDataStorageAccess storageAccess) {
+		this( region, storageAccess, null );
+	}
+
+	/**
+	 * @param singleFlightLoads the single-flight loads coordinating the loads
+	 *                          which follow cache misses, if enabled
+	 *
+	 * @since 8.0
+	 */
+	protected AbstractCachedDomainDataAccess(
+			@Nonnull DomainDataRegion region,
+			@Nonnull DomainDataStorageAccess storageAccess,
+			@Nullable SingleFlightLoads singleFlightLoads) {
 		this.region = region;
 		this.storageAccess = storageAccess;
+		this.singleFlightLoads = singleFlightLoads;
+	}
+
+	/**
+	 * The {@linkplain DomainDataRegionTemplate#getSingleFlightLoads() single-flight loads}
+	 * of the given region, if enabled.
+	 *
+	 * @since 8.0
+	 */
+	@Nullable
+	protected static SingleFlightLoads getSingleFlightLoads(@Nonnull DomainDataRegion region) {
+		return region instanceof DomainDataRegionTemplate template ? template.getSingleFlightLoads() : null;
+	}
+
+	/**
+	 * Called after a cache miss, waits for the load of the item by another session
+	 * if single-flight loading is enabled.
+	 *
+	 * @return the value put by the other session, {@link SingleFlightLoads#NOT_PUT}
+	 *         if the cache should be read again, or {@code null} if this session
+	 *         should load the item
+	 *
+	 * @see SingleFlightLoads#awaitLoad
+	 */
+	@Nullable
+	protected Object awaitLoad(@Nonnull SharedSessionContractImplementor session, @Nonnull Object key) {
+		return singleFlightLoads == null ? null : singleFlightLoads.awaitLoad( key, session );
+	}
+
+	/**
+	 * Called after a put from load, releases the sessions waiting for the item.
+	 *
+	 * @param value the value put into the cache, or {@code null} if it was not put
+	 *
+	 * @see SingleFlightLoads#loaded
+	 */
+	protected void loaded(@Nonnull Object key, @Nullable Object value) {
+		if ( singleFlightLoads != null ) {
+			singleFlightLoads.loaded( key, value );
+		}
 	}
 
 	@Override
@@ -60,7 +117,12 @@ public Object get(@Nonnull SharedSessionContractImplementor session, @Nonnull Ob
 		if ( traceEnabled ) {
 			L2CACHE_LOGGER.gettingCachedData( region.getName(), getAccessType(), key );
 		}
-		final Object item = getStorageAccess().getFromCache( key, session );
+		Object item = getStorageAccess().getFromCache( key, session );
+		if ( item == null ) {
+			// another session might be loading the item
+			final Object loaded = awaitLoad( session, key );
+			item = loaded == SingleFlightLoads.NOT_PUT ? getStorageAccess().getFromCache( key, session ) : loaded;
+		}
 		if ( traceEnabled ) {
 			if ( item == null ) {
 				L2CACHE_LOGGER.cacheMiss( region.getName(), key );
@@ -72,6 +134,29 @@ public Object get(@Nonnull SharedSessionContractImplementor session, @Nonnull Ob
 		return item;
 	}
 
+	@Override
+	@Nonnull
+	public Object[] getAll(@Nonnull SharedSessionContractImplementor session, @Nonnull Object[] keys) {
+		final boolean traceEnabled = L2CACHE_LOGGER.isTraceEnabled();
+		final var cachedItems = getStorageAccess().getAllFromCache( new HashSet<>( asList( keys ) ), session );
+		final Object[] items = new Object[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			final Object key = keys[i];
+			final Object item = cachedItems.get( key );
+			if ( traceEnabled ) {
+				L2CACHE_LOGGER.gettingCachedData( region.getName(), getAccessType(), key );
+				if ( item == null ) {
+					L2CACHE_LOGGER.cacheMiss( region.getName(), key );
+				}
+				else {
+					L2CACHE_LOGGER.cacheHit( region.getName(), key );
+				}
+			}
+			items[i] = item;
+		}
+		return items;
+	}
+
 	@Override
 	public boolean putFromLoad(
 			@Nonnull SharedSessionContractImplementor session,
@@ -81,7 +166,14 @@ public boolean putFromLoad(
 		if ( L2CACHE_LOGGER.isTraceEnabled() ) {
 			L2CACHE_LOGGER.cachingDataFromLoad( region.getName(), getAccessType(), key, value );
 		}
-		getStorageAccess().putFromLoad( key, value, session );
+		boolean put = false;
+		try {
+			getStorageAccess().putFromLoad( key, value, session );
+			put = true;
+		}
+		finally {
+			loaded( key, put ? value : null );
+		}
 		return true;
 	}
 
@@ -96,6 +188,7 @@ public boolean putFromLoad(
 			if ( L2CACHE_LOGGER.isTraceEnabled() ) {
 				L2CACHE_LOGGER.cachePutFromLoadSkippedDueToMinimalPut( region.getName(), getAccessType(), key );
 			}
+			loaded( key, null );
 			return false;
 		}
 		else {
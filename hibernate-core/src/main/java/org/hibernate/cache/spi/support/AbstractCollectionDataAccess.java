@@ -33,6 +33,18 @@ public AbstractCollectionDataAccess(
 		this.keysFactory = keysFactory;
 	}
 
+	/**
+	 * @since 8.0
+	 */
+	protected AbstractCollectionDataAccess(
+			@Nonnull DomainDataRegion region,
+			@Nonnull CacheKeysFactory keysFactory,
+			@Nonnull DomainDataStorageAccess storageAccess,
+			@Nullable SingleFlightLoads singleFlightLoads) {
+		super( region, storageAccess, singleFlightLoads );
+		this.keysFactory = keysFactory;
+	}
+
 	@Override
 	@Nonnull
 	public Object generateCacheKey(
@@ -31,6 +31,18 @@ public AbstractEntityDataAccess(
 		this.cacheKeysFactory = cacheKeysFactory;
 	}
 
+	/**
+	 * @since 8.0
+	 */
+	protected AbstractEntityDataAccess(
+			@Nonnull DomainDataRegion region,
+			@Nonnull CacheKeysFactory cacheKeysFactory,
+			@Nonnull DomainDataStorageAccess storageAccess,
+			@Nullable SingleFlightLoads singleFlightLoads) {
+		super( region, storageAccess, singleFlightLoads );
+		this.cacheKeysFactory = cacheKeysFactory;
+	}
+
 	@Override
 	@Nonnull
 	public Object generateCacheKey(
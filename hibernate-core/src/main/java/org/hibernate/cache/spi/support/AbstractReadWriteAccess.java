@@ -10,7 +10,9 @@
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
@@ -21,6 +23,7 @@
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 
+import static java.util.Arrays.asList;
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
 
 /**
@@ -40,6 +43,16 @@ protected AbstractReadWriteAccess(
 		super( domainDataRegion, storageAccess );
 	}
 
+	/**
+	 * @since 8.0
+	 */
+	protected AbstractReadWriteAccess(
+			@Nonnull DomainDataRegion domainDataRegion,
+			@Nonnull DomainDataStorageAccess storageAccess,
+			@Nullable SingleFlightLoads singleFlightLoads) {
+		super( domainDataRegion, storageAccess, singleFlightLoads );
+	}
+
 	@Nullable
 	protected abstract Comparator<Object> getVersionComparator();
 
@@ -67,38 +80,101 @@ protected Lock writeLock() {
 	@Override
 	@Nullable
 	public Object get(@Nonnull SharedSessionContractImplementor session, @Nonnull Object key) {
-			final boolean traceEnabled = L2CACHE_LOGGER.isTraceEnabled();
-			if ( traceEnabled ) {
-				L2CACHE_LOGGER.gettingCachedData( getRegion().getName(), getAccessType(), key );
+		final boolean traceEnabled = L2CACHE_LOGGER.isTraceEnabled();
+		if ( traceEnabled ) {
+			L2CACHE_LOGGER.gettingCachedData( getRegion().getName(), getAccessType(), key );
+		}
+		var item = getFromCache( session, key );
+		if ( item == null ) {
+			// another session might be loading the item
+			// (we wait without holding the read lock)
+			final Object loaded = awaitLoad( session, key );
+			if ( loaded == SingleFlightLoads.NOT_PUT ) {
+				item = getFromCache( session, key );
 			}
-			try {
-				readLock.lock();
-				final var item = (Lockable) getStorageAccess().getFromCache( key, session );
-				if ( item == null ) {
-					if ( traceEnabled ) {
-						L2CACHE_LOGGER.cacheMiss( getRegion().getName(), key );
-					}
-					return null;
+			else if ( loaded != null ) {
+				// the item put by the other session is not readable if that session
+				// started after this one, but its value was read from the database
+				// after the miss of this session, so it is safe to use
+				if ( traceEnabled ) {
+					L2CACHE_LOGGER.cacheHit( getRegion().getName(), key );
 				}
+				return loaded;
+			}
+		}
+		if ( item == null ) {
+			if ( traceEnabled ) {
+				L2CACHE_LOGGER.cacheMiss( getRegion().getName(), key );
+			}
+			return null;
+		}
+		else if ( isReadable( session, item ) ) {
+			if ( traceEnabled ) {
+				L2CACHE_LOGGER.cacheHit( getRegion().getName(), key );
+			}
+			return item.getValue();
+		}
+		else {
+			if ( traceEnabled ) {
+				L2CACHE_LOGGER.cacheHitUnreadable( getRegion().getName(), key );
+			}
+			return null;
+		}
+	}
 
-				if ( isReadable( session, item ) ) {
-					if ( traceEnabled ) {
-						L2CACHE_LOGGER.cacheHit( getRegion().getName(), key );
-					}
-					return item.getValue();
-				}
-				else {
-					if ( traceEnabled ) {
-						L2CACHE_LOGGER.cacheHitUnreadable( getRegion().getName(), key );
-					}
-					return null;
-				}
+	@Nullable
+	private Lockable getFromCache(@Nonnull SharedSessionContractImplementor session, @Nonnull Object key) {
+		try {
+			readLock.lock();
+			return (Lockable) getStorageAccess().getFromCache( key, session );
 		}
 		finally {
 			readLock.unlock();
 		}
 	}
 
+	/**
+	 * Returns <code>null</code> for the items which are not readable, as {@link #get} does.
+	 */
+	@Override
+	@Nonnull
+	public Object[] getAll(@Nonnull SharedSessionContractImplementor session, @Nonnull Object[] keys) {
+		final boolean traceEnabled = L2CACHE_LOGGER.isTraceEnabled();
+		final Map<Object, Object> cachedItems;
+		try {
+			readLock.lock();
+			cachedItems = getStorageAccess().getAllFromCache( new HashSet<>( asList( keys ) ), session );
+		}
+		finally {
+			readLock.unlock();
+		}
+		final Object[] items = new Object[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			final Object key = keys[i];
+			if ( traceEnabled ) {
+				L2CACHE_LOGGER.gettingCachedData( getRegion().getName(), getAccessType(), key );
+			}
+			final var item = (Lockable) cachedItems.get( key );
+			if ( item == null ) {
+				if ( traceEnabled ) {
+					L2CACHE_LOGGER.cacheMiss( getRegion().getName(), key );
+				}
+			}
+			else if ( isReadable( session, item ) ) {
+				if ( traceEnabled ) {
+					L2CACHE_LOGGER.cacheHit( getRegion().getName(), key );
+				}
+				items[i] = item.getValue();
+			}
+			else {
+				if ( traceEnabled ) {
+					L2CACHE_LOGGER.cacheHitUnreadable( getRegion().getName(), key );
+				}
+			}
+		}
+		return items;
+	}
+
 	private static boolean isReadable(@Nonnull SharedSessionContractImplementor session, @Nonnull Lockable item) {
 		return item.isReadable( session.getCacheTransactionSynchronization().getCachingTimestamp() );
 	}
@@ -128,6 +204,7 @@ private boolean doPutFromLoad(
 			@Nonnull Object value,
 			@Nullable Object version,
 			boolean minimalPutOverride) {
+		boolean put = false;
 		try {
 			final boolean traceEnabled = L2CACHE_LOGGER.isTraceEnabled();
 			if ( traceEnabled ) {
@@ -157,6 +234,7 @@ private boolean doPutFromLoad(
 											.getCachingTimestamp() ),
 							session
 					);
+					put = true;
 					return true;
 				}
 			}
@@ -174,6 +252,7 @@ private boolean doPutFromLoad(
 		}
 		finally {
 			writeLock.unlock();
+			loaded( key, put ? value : null );
 		}
 	}
 
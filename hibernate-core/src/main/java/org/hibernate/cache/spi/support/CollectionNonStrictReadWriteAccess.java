@@ -26,7 +26,7 @@ public CollectionNonStrictReadWriteAccess(
 			@Nonnull CacheKeysFactory keysFactory,
 			@Nonnull DomainDataStorageAccess storageAccess,
 			@Nonnull CollectionDataCachingConfig config) {
-		super( region, keysFactory, storageAccess, config );
+		super( region, keysFactory, storageAccess, getSingleFlightLoads( region ) );
 	}
 
 	@Override
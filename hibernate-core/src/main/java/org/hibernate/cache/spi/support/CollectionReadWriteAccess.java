@@ -33,7 +33,7 @@ public CollectionReadWriteAccess(
 			@Nonnull CacheKeysFactory keysFactory,
 			@Nonnull DomainDataStorageAccess storageAccess,
 			@Nonnull CollectionDataCachingConfig config) {
-		super( region, storageAccess );
+		super( region, storageAccess, getSingleFlightLoads( region ) );
 		this.keysFactory = keysFactory;
 		this.versionComparator = config.getOwnerVersionComparator();
 	}
@@ -4,6 +4,9 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Map;
+import java.util.Set;
+
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
@@ -42,6 +45,14 @@ public Object getFromCache(@Nonnull Object key, @Nonnull SharedSessionContractIm
 		return getStorageAccess().getFromCache( key, session );
 	}
 
+	@Override
+	@Nonnull
+	public Map<Object, Object> getAllFromCache(
+			@Nonnull Set<?> keys,
+			@Nonnull SharedSessionContractImplementor session) {
+		return getStorageAccess().getAllFromCache( keys, session );
+	}
+
 	@Override
 	public void putIntoCache(
 			@Nonnull Object key,
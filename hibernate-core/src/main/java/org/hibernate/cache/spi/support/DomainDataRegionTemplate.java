@@ -13,14 +13,24 @@
 import org.hibernate.cache.cfg.spi.EntityDataCachingConfig;
 import org.hibernate.cache.cfg.spi.NaturalIdDataCachingConfig;
 import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.CacheRegionSamplingSupport;
+import org.hibernate.cache.spi.NearCacheStatisticsSupport;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
-
+import org.hibernate.internal.util.cache.InternalCacheFactory;
+import org.hibernate.stat.spi.CacheRegionSampler;
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+import static org.hibernate.cfg.CacheSettings.NEAR_CACHE_MAX_ENTRIES;
+import static org.hibernate.cfg.CacheSettings.NEAR_CACHE_TTL;
+import static org.hibernate.cfg.CacheSettings.SINGLE_FLIGHT_LOAD_TIMEOUT;
+import static org.hibernate.cfg.StatisticsSettings.CACHE_SAMPLING;
+import static org.hibernate.cfg.StatisticsSettings.CACHE_SAMPLING_TOP_KEYS;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
 
 /**
  * Abstract implementation of {@link  org.hibernate.cache.spi.DomainDataRegion} based
@@ -35,13 +45,31 @@
  * 			DomainDataStorageAccess reference
  * 		* Custom RegionFactory implementation that creates its custom DomainDataRegionTemplate
  *
+ * If {@value org.hibernate.cfg.CacheSettings#NEAR_CACHE_MAX_ENTRIES} is set, read-only
+ * and nonstrict read-write access goes through a {@link NearCacheStorageAccess} wrapping
+ * the DomainDataStorageAccess.
+ *
+ * If {@value org.hibernate.cfg.CacheSettings#SINGLE_FLIGHT_LOAD_TIMEOUT} is set, read-write
+ * and nonstrict read-write access of entities and collections coordinates the loads which
+ * follow cache misses through the {@link SingleFlightLoads} of the region.
+ *
+ * If {@value org.hibernate.cfg.StatisticsSettings#CACHE_SAMPLING} is set, all access
+ * goes through a {@link SamplingStorageAccess} reporting to the {@link CacheRegionSampler}
+ * of the region.
+ *
  * todo (5.3) : move this javadoc into DomainDataRegion and/or package javadoc
  *
  * @author Steve Ebersole
  */
-public class DomainDataRegionTemplate extends AbstractDomainDataRegion {
+public class DomainDataRegionTemplate extends AbstractDomainDataRegion
+		implements NearCacheStatisticsSupport, CacheRegionSamplingSupport {
 
 	private final DomainDataStorageAccess storageAccess;
+	private final @Nullable NearCacheStorageAccess nearCacheStorageAccess;
+	private final @Nullable SingleFlightLoads singleFlightLoads;
+	private final @Nullable CacheRegionSampler sampler;
+	private final @Nullable DomainDataStorageAccess sampledStorageAccess;
+	private final @Nullable DomainDataStorageAccess sampledNearCacheStorageAccess;
 
 	public DomainDataRegionTemplate(
 			@Nonnull DomainDataRegionConfig regionConfig,
@@ -51,6 +79,14 @@ public DomainDataRegionTemplate(
 			@Nonnull DomainDataRegionBuildingContext buildingContext) {
 		super( regionConfig, regionFactory, defaultKeysFactory, buildingContext );
 		this.storageAccess = storageAccess;
+		this.nearCacheStorageAccess = createNearCacheStorageAccess( storageAccess, buildingContext );
+		this.singleFlightLoads = createSingleFlightLoads( buildingContext );
+		this.sampler = createSampler( buildingContext );
+		this.sampledStorageAccess = sampler == null ? null : new SamplingStorageAccess( storageAccess, sampler );
+		this.sampledNearCacheStorageAccess =
+				sampler == null || nearCacheStorageAccess == null
+						? null
+						: new SamplingStorageAccess( nearCacheStorageAccess, sampler );
 		// now the super-type calls will have access to the `DomainDataStorageAccess` reference
 		completeInstantiation( regionConfig, buildingContext );
 	}
@@ -60,7 +96,94 @@ public DomainDataRegionTemplate(
 	 */
 	@Nonnull
 	public DomainDataStorageAccess getCacheStorageAccess() {
-		return storageAccess;
+		return sampledStorageAccess == null ? storageAccess : sampledStorageAccess;
+	}
+
+	@Nullable
+	private static CacheRegionSampler createSampler(@Nonnull DomainDataRegionBuildingContext buildingContext) {
+		final var properties = buildingContext.getSessionFactory().getProperties();
+		final int period = getInt( CACHE_SAMPLING, properties, 0 );
+		return period > 0
+				? new CacheRegionSampler( period, getInt( CACHE_SAMPLING_TOP_KEYS, properties, 10 ) )
+				: null;
+	}
+
+	@Override
+	@Nullable
+	public CacheRegionSampler getCacheRegionSampler() {
+		return sampler;
+	}
+
+	@Nullable
+	private static NearCacheStorageAccess createNearCacheStorageAccess(
+			@Nonnull DomainDataStorageAccess storageAccess,
+			@Nonnull DomainDataRegionBuildingContext buildingContext) {
+		final var properties = buildingContext.getSessionFactory().getProperties();
+		final int maxEntries = getInt( NEAR_CACHE_MAX_ENTRIES, properties, 0 );
+		return maxEntries > 0
+				? new NearCacheStorageAccess( storageAccess,
+						buildingContext.getSessionFactory().getServiceRegistry()
+								.requireService( InternalCacheFactory.class ),
+						maxEntries, getLong( NEAR_CACHE_TTL, properties, 10_000 ) )
+				: null;
+	}
+
+	@Nullable
+	private static SingleFlightLoads createSingleFlightLoads(@Nonnull DomainDataRegionBuildingContext buildingContext) {
+		final long timeout = getLong(
+				SINGLE_FLIGHT_LOAD_TIMEOUT,
+				buildingContext.getSessionFactory().getProperties(),
+				0
+		);
+		return timeout > 0 ? new SingleFlightLoads( timeout ) : null;
+	}
+
+	/**
+	 * The single-flight loads used by read-write and nonstrict read-write access
+	 * of entities and collections, or {@code null} if not enabled.
+	 *
+	 * @since 8.0
+	 */
+	@Nullable
+	public SingleFlightLoads getSingleFlightLoads() {
+		return singleFlightLoads;
+	}
+
+	/**
+	 * The storage access used by read-only and nonstrict read-write access, that is,
+	 * the {@linkplain NearCacheStorageAccess near cache} if enabled, or the
+	 * {@linkplain #getCacheStorageAccess() storage access of the cache provider}.
+	 *
+	 * @since 8.0
+	 */
+	@Nonnull
+	protected DomainDataStorageAccess getNearCacheStorageAccess() {
+		if ( nearCacheStorageAccess == null ) {
+			return getCacheStorageAccess();
+		}
+		else {
+			return sampledNearCacheStorageAccess == null ? nearCacheStorageAccess : sampledNearCacheStorageAccess;
+		}
+	}
+
+	@Override
+	public boolean isNearCacheEnabled() {
+		return nearCacheStorageAccess != null;
+	}
+
+	@Override
+	public long getNearCacheHitCount() {
+		return nearCacheStorageAccess == null ? 0 : nearCacheStorageAccess.getHitCount();
+	}
+
+	@Override
+	public long getNearCacheMissCount() {
+		return nearCacheStorageAccess == null ? 0 : nearCacheStorageAccess.getMissCount();
+	}
+
+	@Override
+	public long getNearCacheElementCount() {
+		return nearCacheStorageAccess == null ? 0 : nearCacheStorageAccess.getElementCount();
 	}
 
 
@@ -87,7 +210,7 @@ protected EntityDataAccess generateReadOnlyEntityAccess(@Nonnull EntityDataCachi
 		return new EntityReadOnlyAccess(
 				this,
 				getEffectiveKeysFactory(),
-				getCacheStorageAccess(),
+				getNearCacheStorageAccess(),
 				accessConfig
 		);
 	}
@@ -107,7 +230,7 @@ protected EntityDataAccess generateNonStrictReadWriteEntityAccess(@Nonnull Entit
 		return new EntityNonStrictReadWriteAccess(
 				this,
 				getEffectiveKeysFactory(),
-				getCacheStorageAccess(),
+				getNearCacheStorageAccess(),
 				accessConfig
 		);
 	}
@@ -145,7 +268,7 @@ protected NaturalIdDataAccess generateReadOnlyNaturalIdAccess(@Nonnull NaturalId
 		return new NaturalIdReadOnlyAccess(
 				this,
 				getEffectiveKeysFactory(),
-				getCacheStorageAccess(),
+				getNearCacheStorageAccess(),
 				accessConfig
 		);
 	}
@@ -165,7 +288,7 @@ protected NaturalIdDataAccess generateNonStrictReadWriteNaturalIdAccess(@Nonnull
 		return new NaturalIdNonStrictReadWriteAccess(
 				this,
 				getEffectiveKeysFactory(),
-				getCacheStorageAccess(),
+				getNearCacheStorageAccess(),
 				accessConfig
 		);
 	}
@@ -198,7 +321,7 @@ private CollectionDataAccess generateReadOnlyCollectionAccess(@Nonnull Collectio
 		return new CollectionReadOnlyAccess(
 				this,
 				getEffectiveKeysFactory(),
-				getCacheStorageAccess(),
+				getNearCacheStorageAccess(),
 				accessConfig
 		);
 	}
@@ -218,7 +341,7 @@ private CollectionDataAccess generateNonStrictReadWriteCollectionAccess(@Nonnull
 		return new CollectionNonStrictReadWriteAccess(
 				this,
 				getEffectiveKeysFactory(),
-				getCacheStorageAccess(),
+				getNearCacheStorageAccess(),
 				accessConfig
 		);
 	}
@@ -4,6 +4,8 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Map;
+
 import jakarta.annotation.Nonnull;
 
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -27,4 +29,20 @@ default void putFromLoad(
 			@Nonnull SharedSessionContractImplementor session) {
 		putIntoCache( key, value, session );
 	}
+
+	/**
+	 * Specialized form of putting several items into the cache
+	 * in cases where the puts are coming from a load (read) from
+	 * the database, ideally with a single access to the underlying
+	 * cache.
+	 *
+	 * @implNote the method default is to call {@link #putFromLoad} for each entry
+	 *
+	 * @since 8.0
+	 */
+	default void putAllFromLoad(
+			@Nonnull Map<?, ?> items,
+			@Nonnull SharedSessionContractImplementor session) {
+		items.forEach( (key, value) -> putFromLoad( key, value, session ) );
+	}
 }
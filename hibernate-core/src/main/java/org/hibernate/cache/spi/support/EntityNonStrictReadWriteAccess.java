@@ -27,7 +27,7 @@ public EntityNonStrictReadWriteAccess(
 			@Nonnull CacheKeysFactory keysFactory,
 			@Nonnull DomainDataStorageAccess storageAccess,
 			@Nonnull EntityDataCachingConfig entityAccessConfig) {
-		super( domainDataRegion, keysFactory, storageAccess );
+		super( domainDataRegion, keysFactory, storageAccess, getSingleFlightLoads( domainDataRegion ) );
 	}
 
 	@Override
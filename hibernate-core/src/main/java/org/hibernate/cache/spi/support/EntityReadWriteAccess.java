@@ -33,7 +33,7 @@ public EntityReadWriteAccess(
 			@Nonnull CacheKeysFactory keysFactory,
 			@Nonnull DomainDataStorageAccess storageAccess,
 			@Nonnull EntityDataCachingConfig entityAccessConfig) {
-		super( domainDataRegion, storageAccess );
+		super( domainDataRegion, storageAccess, getSingleFlightLoads( domainDataRegion ) );
 		this.keysFactory = keysFactory;
 		final var versionComparatorAccess =
 				entityAccessConfig.getVersionComparatorAccess();
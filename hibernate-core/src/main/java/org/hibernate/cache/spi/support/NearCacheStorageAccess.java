@@ -0,0 +1,222 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.cache.InternalCache;
+import org.hibernate.internal.util.cache.InternalCacheFactory;
+
+/**
+ * A {@link DomainDataStorageAccess} keeping a bounded number of items on the
+ * heap, in front of the storage access of the cache provider, which remains
+ * authoritative.
+ * <p>
+ * Items are written through to the underlying storage, and removals and
+ * evictions are applied to both tiers. Changes made by other nodes of a
+ * cluster are not observed by the local tier, so its items expire after a
+ * configurable time to live. This makes the near cache suitable only for
+ * access strategies which tolerate reading slightly stale items, that is,
+ * {@linkplain org.hibernate.cache.spi.access.AccessType#READ_ONLY read-only}
+ * and {@linkplain org.hibernate.cache.spi.access.AccessType#NONSTRICT_READ_WRITE
+ * nonstrict read-write} access.
+ * <p>
+ * The items are held by an {@linkplain InternalCache internal cache}, which
+ * evicts items according to the configured
+ * {@linkplain org.hibernate.cfg.QuerySettings#INTERNAL_CACHE_EVICTION eviction
+ * policy} when the maximum number of items is reached. Expired items are
+ * removed when they are next looked up.
+ *
+ * @see org.hibernate.cfg.CacheSettings#NEAR_CACHE_MAX_ENTRIES
+ * @see org.hibernate.cfg.CacheSettings#NEAR_CACHE_TTL
+ *
+ * @since 8.0
+ */
+public class NearCacheStorageAccess implements DomainDataStorageAccess {
+	private final DomainDataStorageAccess remoteStorageAccess;
+	private final long timeToLiveNanos;
+
+	private final InternalCache<Object, NearCacheItem> items;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+
+	private record NearCacheItem(Object value, long expiry) {
+	}
+
+	public NearCacheStorageAccess(
+			@Nonnull DomainDataStorageAccess remoteStorageAccess,
+			@Nonnull InternalCacheFactory cacheFactory,
+			int maxEntries,
+			long timeToLiveMillis) {
+		this.remoteStorageAccess = remoteStorageAccess;
+		this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos( timeToLiveMillis );
+		this.items = cacheFactory.createInternalCache( maxEntries );
+	}
+
+	/**
+	 * The storage access of the cache provider
+	 */
+	@Nonnull
+	public DomainDataStorageAccess getRemoteStorageAccess() {
+		return remoteStorageAccess;
+	}
+
+	/**
+	 * The number of look-ups served by the near cache
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * The number of look-ups forwarded to the storage access of the cache provider
+	 */
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	/**
+	 * An estimate of the number of items currently held by the near cache,
+	 * including expired items
+	 */
+	public long getElementCount() {
+		return items.heldElementsEstimate();
+	}
+
+	@Nullable
+	private Object getLocally(@Nonnull Object key) {
+		final var item = items.get( key );
+		if ( item == null ) {
+			return null;
+		}
+		else if ( item.expiry - System.nanoTime() < 0 ) {
+			// unless it was replaced meanwhile
+			items.remove( key, item );
+			return null;
+		}
+		else {
+			return item.value;
+		}
+	}
+
+	private void putLocally(@Nonnull Object key, @Nonnull Object value) {
+		items.put( key, new NearCacheItem( value, System.nanoTime() + timeToLiveNanos ) );
+	}
+
+	@Override
+	@Nullable
+	public Object getFromCache(@Nonnull Object key, @Nonnull SharedSessionContractImplementor session) {
+		final Object localValue = getLocally( key );
+		if ( localValue != null ) {
+			hitCount.increment();
+			return localValue;
+		}
+		else {
+			missCount.increment();
+			final Object value = remoteStorageAccess.getFromCache( key, session );
+			if ( value != null ) {
+				putLocally( key, value );
+			}
+			return value;
+		}
+	}
+
+	@Override
+	@Nonnull
+	public Map<Object, Object> getAllFromCache(
+			@Nonnull Set<?> keys,
+			@Nonnull SharedSessionContractImplementor session) {
+		final Map<Object, Object> values = new HashMap<>( keys.size() );
+		final Set<Object> remoteKeys = new HashSet<>();
+		for ( Object key : keys ) {
+			final Object localValue = getLocally( key );
+			if ( localValue != null ) {
+				hitCount.increment();
+				values.put( key, localValue );
+			}
+			else {
+				missCount.increment();
+				remoteKeys.add( key );
+			}
+		}
+		if ( !remoteKeys.isEmpty() ) {
+			final var remoteValues = remoteStorageAccess.getAllFromCache( remoteKeys, session );
+			remoteValues.forEach( this::putLocally );
+			values.putAll( remoteValues );
+		}
+		return values;
+	}
+
+	@Override
+	public void putIntoCache(
+			@Nonnull Object key,
+			@Nonnull Object value,
+			@Nonnull SharedSessionContractImplementor session) {
+		remoteStorageAccess.putIntoCache( key, value, session );
+		putLocally( key, value );
+	}
+
+	@Override
+	public void putFromLoad(
+			@Nonnull Object key,
+			@Nonnull Object value,
+			@Nonnull SharedSessionContractImplementor session) {
+		remoteStorageAccess.putFromLoad( key, value, session );
+		putLocally( key, value );
+	}
+
+	@Override
+	public void putAllFromLoad(
+			@Nonnull Map<?, ?> loadedItems,
+			@Nonnull SharedSessionContractImplementor session) {
+		remoteStorageAccess.putAllFromLoad( loadedItems, session );
+		loadedItems.forEach( this::putLocally );
+	}
+
+	@Override
+	public void removeFromCache(@Nonnull Object key, @Nonnull SharedSessionContractImplementor session) {
+		items.remove( key );
+		remoteStorageAccess.removeFromCache( key, session );
+	}
+
+	@Override
+	public void clearCache(@Nonnull SharedSessionContractImplementor session) {
+		items.clear();
+		remoteStorageAccess.clearCache( session );
+	}
+
+	@Override
+	public boolean contains(@Nonnull Object key) {
+		return getLocally( key ) != null || remoteStorageAccess.contains( key );
+	}
+
+	@Override
+	public void evictData() {
+		items.clear();
+		remoteStorageAccess.evictData();
+	}
+
+	@Override
+	public void evictData(@Nonnull Object key) {
+		items.remove( key );
+		remoteStorageAccess.evictData( key );
+	}
+
+	@Override
+	public void release() {
+		items.clear();
+		remoteStorageAccess.release();
+	}
+}
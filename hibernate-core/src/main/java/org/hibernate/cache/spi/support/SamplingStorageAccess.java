@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.spi.CacheRegionSampler;
+
+/**
+ * A {@link DomainDataStorageAccess} reporting the look-ups and puts to a
+ * {@link CacheRegionSampler}, and delegating them to another storage access.
+ *
+ * @see org.hibernate.cfg.StatisticsSettings#CACHE_SAMPLING
+ *
+ * @since 8.0
+ */
+public class SamplingStorageAccess implements DomainDataStorageAccess {
+	private final DomainDataStorageAccess delegate;
+	private final CacheRegionSampler sampler;
+
+	public SamplingStorageAccess(@Nonnull DomainDataStorageAccess delegate, @Nonnull CacheRegionSampler sampler) {
+		this.delegate = delegate;
+		this.sampler = sampler;
+	}
+
+	/**
+	 * The storage access to which the operations are delegated
+	 */
+	@Nonnull
+	public DomainDataStorageAccess getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	@Nullable
+	public Object getFromCache(@Nonnull Object key, @Nonnull SharedSessionContractImplementor session) {
+		final Object value = delegate.getFromCache( key, session );
+		sampler.accessed( key, value != null );
+		return value;
+	}
+
+	@Override
+	@Nonnull
+	public Map<Object, Object> getAllFromCache(
+			@Nonnull Set<?> keys,
+			@Nonnull SharedSessionContractImplementor session) {
+		final var values = delegate.getAllFromCache( keys, session );
+		for ( Object key : keys ) {
+			sampler.accessed( key, values.containsKey( key ) );
+		}
+		return values;
+	}
+
+	@Override
+	public void putIntoCache(
+			@Nonnull Object key,
+			@Nonnull Object value,
+			@Nonnull SharedSessionContractImplementor session) {
+		delegate.putIntoCache( key, value, session );
+		sampler.put( key, value );
+	}
+
+	@Override
+	public void putFromLoad(
+			@Nonnull Object key,
+			@Nonnull Object value,
+			@Nonnull SharedSessionContractImplementor session) {
+		delegate.putFromLoad( key, value, session );
+		sampler.put( key, value );
+	}
+
+	@Override
+	public void putAllFromLoad(
+			@Nonnull Map<?, ?> items,
+			@Nonnull SharedSessionContractImplementor session) {
+		delegate.putAllFromLoad( items, session );
+		items.forEach( sampler::put );
+	}
+
+	@Override
+	public void removeFromCache(@Nonnull Object key, @Nonnull SharedSessionContractImplementor session) {
+		delegate.removeFromCache( key, session );
+	}
+
+	@Override
+	public void clearCache(@Nonnull SharedSessionContractImplementor session) {
+		delegate.clearCache( session );
+	}
+
+	@Override
+	public boolean contains(@Nonnull Object key) {
+		return delegate.contains( key );
+	}
+
+	@Override
+	public void evictData() {
+		delegate.evictData();
+	}
+
+	@Override
+	public void evictData(@Nonnull Object key) {
+		delegate.evictData( key );
+	}
+
+	@Override
+	public void release() {
+		delegate.release();
+	}
+}
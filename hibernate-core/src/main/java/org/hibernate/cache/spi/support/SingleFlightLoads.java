@@ -0,0 +1,170 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import org.hibernate.Incubating;
+import org.hibernate.Internal;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Keeps track of the items of a region which are being loaded from the database after a
+ * cache miss, so that only one session at a time loads a given item, while the other
+ * sessions missing the same item wait until it is {@linkplain #loaded put into the cache}
+ * and then take the value put by the loading session. This avoids a spike of identical
+ * database reads when a hot item is evicted, or when the cache is still cold after a
+ * deployment.
+ * <p>
+ * The waiting sessions do not read the value from the cache, since a {@code READ_WRITE}
+ * item is not readable by a transaction which started before the one putting it. The
+ * value was read from the database after the cache miss of every waiting session, so it
+ * is never older than what they would have loaded themselves.
+ * <p>
+ * A session waits at most for the timeout after the load started. If the load completes
+ * without putting the item, for example because it does not exist in the database, the
+ * waiting sessions load it themselves once the timeout has elapsed. Such a load is
+ * forgotten when a session next registers a load after its timeout has elapsed, so that
+ * it is not kept for ever when the item is never loaded again.
+ *
+ * @see org.hibernate.cfg.CacheSettings#SINGLE_FLIGHT_LOAD_TIMEOUT
+ *
+ * @since 8.0
+ */
+@Incubating
+public class SingleFlightLoads {
+	/**
+	 * Returned by {@link #awaitLoad} when the other session completed its load without
+	 * putting the item into the cache, which should be read again, since it might hold
+	 * a more recent version of the item.
+	 */
+	public static final Object NOT_PUT = new Object();
+
+	private final ConcurrentMap<Object, Load> loads = new ConcurrentHashMap<>();
+	private final long timeout;
+	private final AtomicLong nextPurge;
+
+	/**
+	 * @param timeout the maximum time a session waits for the load of an item, in milliseconds
+	 */
+	public SingleFlightLoads(long timeout) {
+		this.timeout = MILLISECONDS.toNanos( timeout );
+		this.nextPurge = new AtomicLong( System.nanoTime() + this.timeout );
+	}
+
+	/**
+	 * Called after a cache miss. Either registers the given session as the one loading
+	 * the item, or waits for the load of the item by another session.
+	 *
+	 * @return the value put into the cache by another session, {@link #NOT_PUT} if
+	 *         another session loaded the item without putting it, or {@code null}
+	 *         if the given session should load it
+	 */
+	@Nullable
+	public Object awaitLoad(@Nonnull Object key, @Nonnull SharedSessionContractImplementor session) {
+		while ( true ) {
+			final long now = System.nanoTime();
+			final var load = loads.get( key );
+			if ( load != null && now - load.startedAt < timeout ) {
+				// the session loading the item might miss it again before putting it
+				return load.session.equals( session.getSessionIdentifier() )
+						? null
+						: load.await( load.startedAt + timeout - now );
+			}
+			else if ( !session.getCacheMode().isPutEnabled() ) {
+				// the session would not put the item into the cache,
+				// so the other sessions must not wait for it
+				return null;
+			}
+			else {
+				purgeExpiredLoads( now );
+				if ( load == null
+						? loads.putIfAbsent( key, new Load( session, now ) ) == null
+						: loads.replace( key, load, new Load( session, now ) ) ) {
+					return null;
+				}
+				// else another session registered itself meanwhile,
+				// or the expired load was just purged
+			}
+		}
+	}
+
+	/**
+	 * Called after an item was put into the cache, or was not because the cache
+	 * already held a more recent version of it, releasing the waiting sessions.
+	 *
+	 * @param value the value put into the cache, or {@code null} if it was not put
+	 */
+	public void loaded(@Nonnull Object key, @Nullable Object value) {
+		if ( !loads.isEmpty() ) {
+			final var load = loads.remove( key );
+			if ( load != null ) {
+				load.value = value == null ? NOT_PUT : value;
+				load.latch.countDown();
+			}
+		}
+	}
+
+	/**
+	 * The number of sessions waiting for the load of the given item by another session.
+	 */
+	@Internal
+	public int getWaitingSessionCount(@Nonnull Object key) {
+		final var load = loads.get( key );
+		return load == null ? 0 : load.waiting.get();
+	}
+
+	/**
+	 * Removes the loads whose timeout has elapsed, at most once per timeout,
+	 * since the loads completing without putting their item are never removed
+	 * by {@link #loaded}.
+	 */
+	private void purgeExpiredLoads(long now) {
+		final long purgeAt = nextPurge.get();
+		if ( now - purgeAt >= 0 && nextPurge.compareAndSet( purgeAt, now + timeout ) ) {
+			loads.values().removeIf( load -> now - load.startedAt >= timeout );
+		}
+	}
+
+	private static class Load {
+		private final UUID session;
+		private final long startedAt;
+		private final CountDownLatch latch = new CountDownLatch( 1 );
+		private final AtomicInteger waiting = new AtomicInteger();
+		// set before the latch is released
+		private Object value;
+
+		private Load(SharedSessionContractImplementor session, long startedAt) {
+			this.session = session.getSessionIdentifier();
+			this.startedAt = startedAt;
+		}
+
+		@Nullable
+		private Object await(long nanos) {
+			waiting.incrementAndGet();
+			try {
+				return latch.await( nanos, NANOSECONDS ) ? value : null;
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return null;
+			}
+			finally {
+				waiting.decrementAndGet();
+			}
+		}
+	}
+}
@@ -4,6 +4,10 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
@@ -25,6 +29,30 @@ public interface StorageAccess {
 	@Nullable
 	Object getFromCache(@Nonnull Object key, @Nonnull SharedSessionContractImplementor session);
 
+	/**
+	 * Get several items from the cache, ideally with a single access to the
+	 * underlying cache.
+	 *
+	 * @return the items which were found, by key
+	 *
+	 * @implNote the method default is to call {@link #getFromCache} for each key
+	 *
+	 * @since 8.0
+	 */
+	@Nonnull
+	default Map<Object, Object> getAllFromCache(
+			@Nonnull Set<?> keys,
+			@Nonnull SharedSessionContractImplementor session) {
+		final Map<Object, Object> items = new HashMap<>( keys.size() );
+		for ( Object key : keys ) {
+			final Object item = getFromCache( key, session );
+			if ( item != null ) {
+				items.put( key, item );
+			}
+		}
+		return items;
+	}
+
 	/**
 	 * Put an item into the cache
 	 */
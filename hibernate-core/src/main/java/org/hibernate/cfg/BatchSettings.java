@@ -6,6 +6,7 @@
 
 import java.sql.PreparedStatement;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 
 /**
@@ -65,6 +66,76 @@ public interface BatchSettings {
 	 */
 	String ORDER_INSERTS = "hibernate.order_inserts";
 
+	/**
+	 * When enabled, batched entity inserts are executed as a single
+	 * {@code insert ... values (...), (...), ...} statement per table for each
+	 * batch, instead of relying on {@link PreparedStatement#executeBatch}, which
+	 * many JDBC drivers execute as one statement per row unless a driver-specific
+	 * rewrite option is set. Batches are split if the
+	 * {@linkplain org.hibernate.dialect.Dialect#getParameterCountLimit parameter
+	 * count limit} of the database requires it.
+	 * <p>
+	 * Has no effect unless batching is enabled by {@link #STATEMENT_BATCH_SIZE},
+	 * nor for databases which do not
+	 * {@linkplain org.hibernate.dialect.Dialect#supportsValuesListForInsert
+	 * support} multi-row inserts, nor for custom SQL inserts.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	String MULTI_ROW_INSERTS = "hibernate.jdbc.batch_multi_row_inserts";
+
+	/**
+	 * When enabled, {@link org.hibernate.StatelessSession#insertMultiple} loads
+	 * the rows of each table using the
+	 * {@linkplain org.hibernate.dialect.Dialect#getBulkInsertStrategy bulk insert
+	 * strategy} of the dialect, for example, {@code COPY ... FROM STDIN} on
+	 * PostgreSQL. For databases without such a strategy, or for rows the strategy
+	 * cannot encode, the rows are inserted as described by {@link #MULTI_ROW_INSERTS},
+	 * or, if the inserts cannot be rewritten, by batched inserts.
+	 * <p>
+	 * Entities whose inserts need the retrieval of generated values, for example,
+	 * of an {@linkplain jakarta.persistence.GenerationType#IDENTITY identity}
+	 * column, are inserted one at a time.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	String BULK_INSERT = "hibernate.jdbc.bulk_insert";
+
+	/**
+	 * When enabled, {@link org.hibernate.StatelessSession#updateMultiple} and
+	 * {@link org.hibernate.StatelessSession#deleteMultiple} execute a single
+	 * statement per table for each batch, binding the values of each column as
+	 * an array:
+	 * <ul>
+	 * <li>deletes by id are rendered as {@code delete ... where id = any (?)},
+	 *     or the equivalent for the database, if the dialect
+	 *     {@linkplain org.hibernate.dialect.Dialect#useArrayForMultiValuedParameters
+	 *     uses arrays} for multivalued parameters, and
+	 * <li>other updates and deletes, including those of versioned entities, are
+	 *     rendered as set-based {@code update ... from unnest(...)} or
+	 *     {@code delete ... using unnest(...)}, if the dialect
+	 *     {@linkplain org.hibernate.dialect.Dialect#supportsUnnestInMutations
+	 *     supports} it.
+	 * </ul>
+	 * Version checks are enforced by comparing the number of affected rows with
+	 * the number of entities. Other statements are executed as batched statements.
+	 * <p>
+	 * Has no effect unless batching is enabled by {@link #STATEMENT_BATCH_SIZE},
+	 * nor for custom SQL updates or deletes.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	String ARRAY_PARAMETER_MUTATIONS = "hibernate.jdbc.array_parameter_mutations";
+
 	/**
 	 * @deprecated Use {@link #BUILDER} instead
 	 */
@@ -185,6 +185,37 @@ public interface CacheSettings {
 	 */
 	String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
 
+	/**
+	 * Enables the use of a compact binary format for second-level cache entries of
+	 * entities. The entries are stored as {@code byte[]}, which is much smaller, and
+	 * faster to copy, than the Java serialization of the default format, and is
+	 * therefore useful with a remote or distributed cache. Takes precedence over
+	 * {@value #USE_STRUCTURED_CACHE}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.cache.spi.entry.BinaryCacheEntry
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	String USE_BINARY_CACHE_ENTRIES = "hibernate.cache.use_binary_entries";
+
+	/**
+	 * Enables the generation, by the {@linkplain org.hibernate.bytecode.spi.BytecodeProvider
+	 * bytecode provider}, of specialized code for disassembling and assembling the state of
+	 * each cached entity, which avoids the megamorphic dispatch to the property types when
+	 * second-level cache entries are written and read.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.bytecode.spi.CacheEntryOptimizer
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	String USE_CACHE_ENTRY_OPTIMIZER = "hibernate.cache.use_entry_optimizer";
+
 	/**
 	 * Enables the automatic eviction of a bidirectional association's collection
 	 * cache when an element in the {@link jakarta.persistence.ManyToOne} collection
@@ -210,6 +241,152 @@ public interface CacheSettings {
 	 */
 	String USE_DIRECT_REFERENCE_CACHE_ENTRIES = "hibernate.cache.use_reference_entries";
 
+	/**
+	 * The maximum number of items kept on the heap by the near cache of each
+	 * second-level cache region, in front of the cache provider. A near cache
+	 * avoids remote round trips for hot items of a distributed cache, but is
+	 * only used for {@linkplain org.hibernate.cache.spi.access.AccessType#READ_ONLY
+	 * read-only} and {@linkplain org.hibernate.cache.spi.access.AccessType#NONSTRICT_READ_WRITE
+	 * nonstrict read-write} data, since it does not observe changes made by other
+	 * nodes until its items expire.
+	 * <p>
+	 * Only regions based on {@link org.hibernate.cache.spi.support.DomainDataRegionTemplate}
+	 * support a near cache.
+	 *
+	 * @settingDefault {@code 0}, no near cache
+	 *
+	 * @see #NEAR_CACHE_TTL
+	 * @see org.hibernate.cache.spi.support.NearCacheStorageAccess
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	String NEAR_CACHE_MAX_ENTRIES = "hibernate.cache.near_cache.max_entries";
+
+	/**
+	 * The time to live, in milliseconds, of items held by the near cache, that
+	 * is, the maximum time during which changes made by other nodes might not be
+	 * observed.
+	 *
+	 * @settingDefault {@code 10000}
+	 *
+	 * @see #NEAR_CACHE_MAX_ENTRIES
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	String NEAR_CACHE_TTL = "hibernate.cache.near_cache.ttl";
+
+	/**
+	 * When set to a positive value, the maximum time, in milliseconds, a session waits
+	 * for another session which is loading the same entity or collection from the
+	 * database after a second-level cache miss, instead of loading it too. Applies to
+	 * {@linkplain org.hibernate.cache.spi.access.AccessType#READ_WRITE read-write} and
+	 * {@linkplain org.hibernate.cache.spi.access.AccessType#NONSTRICT_READ_WRITE nonstrict
+	 * read-write} data.
+	 * <p>
+	 * Only regions based on {@link org.hibernate.cache.spi.support.DomainDataRegionTemplate}
+	 * support single-flight loading.
+	 *
+	 * @settingDefault {@code 0}, every session missing an item loads it
+	 *
+	 * @see org.hibernate.cache.spi.support.SingleFlightLoads
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	String SINGLE_FLIGHT_LOAD_TIMEOUT = "hibernate.cache.single_flight_load_timeout";
+
+	/**
+	 * A comma-separated list of the names of cached entities whose second-level cache
+	 * regions are warmed up in the background once the {@code SessionFactory} is created,
+	 * so that the application does not run with a cold cache for long. The entities are
+	 * loaded in batches of {@value #WARM_UP_BATCH_SIZE}, up to {@value #WARM_UP_MAX_ENTRIES}
+	 * instances of each entity.
+	 * <p>
+	 * When multi-tenancy is enabled, the entities are only warmed up from the
+	 * {@linkplain #WARM_UP_SNAPSHOT snapshot}, which records the tenant of each instance.
+	 *
+	 * @see #WARM_UP_SNAPSHOT
+	 * @see org.hibernate.cache.internal.SecondLevelCacheWarmUp
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	String WARM_UP_ENTITIES = "hibernate.cache.warm_up.entities";
+
+	/**
+	 * The maximum number of instances of each entity loaded by the
+	 * {@linkplain #WARM_UP_ENTITIES second-level cache warm-up}.
+	 *
+	 * @settingDefault {@code 10000}
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	String WARM_UP_MAX_ENTRIES = "hibernate.cache.warm_up.max_entries";
+
+	/**
+	 * The number of instances loaded at once by the
+	 * {@linkplain #WARM_UP_ENTITIES second-level cache warm-up}.
+	 *
+	 * @settingDefault {@code 100}
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	String WARM_UP_BATCH_SIZE = "hibernate.cache.warm_up.batch_size";
+
+	/**
+	 * The number of threads loading batches in parallel during the
+	 * {@linkplain #WARM_UP_ENTITIES second-level cache warm-up}.
+	 *
+	 * @settingDefault {@code 1}
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	String WARM_UP_THREADS = "hibernate.cache.warm_up.threads";
+
+	/**
+	 * The path of a file recording the identifiers of the instances of the
+	 * {@linkplain #WARM_UP_ENTITIES warmed up entities} most recently loaded by the
+	 * application, up to {@value #WARM_UP_MAX_ENTRIES} of each entity, which are still
+	 * held by the second-level cache when the {@code SessionFactory} is closed. When
+	 * the file exists, only these instances are loaded by the next warm-up, each with
+	 * the tenant it was loaded by, instead of the first {@value #WARM_UP_MAX_ENTRIES}
+	 * instances of each entity.
+	 * <p>
+	 * Only entities with a basic identifier are recorded.
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	String WARM_UP_SNAPSHOT = "hibernate.cache.warm_up.snapshot";
+
+	/**
+	 * A time window, in milliseconds, within which the
+	 * {@linkplain org.hibernate.cache.spi.TimestampsCache timestamps cache}
+	 * coalesces the invalidations of a query space, and trusts its own view of the
+	 * last update timestamp of a query space instead of reading it from the cache.
+	 * <p>
+	 * When enabled, the last update timestamps of all query spaces of a cached query
+	 * are read with a single access to the cache, and an invalidation of a query space
+	 * which was already invalidated within the window is only written to the cache once
+	 * the window has elapsed, along with any later invalidation of the same space.
+	 * Changes made by other nodes might not be observed during the window. Local changes
+	 * are always observed immediately.
+	 *
+	 * @settingDefault {@code 0}, every invalidation is written and every check of a
+	 *                 cached query reads the timestamps from the cache
+	 *
+	 * @see org.hibernate.cache.internal.BatchingTimestampsCacheImpl
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	String TIMESTAMPS_CACHE_BATCHING_WINDOW = "hibernate.cache.timestamps.batching_window";
+
 	/**
 	 * Specifies the {@link org.hibernate.cache.spi.CacheKeysFactory} to use, either:
 	 * <ul>
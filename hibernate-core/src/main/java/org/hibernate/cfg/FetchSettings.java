@@ -4,6 +4,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.annotations.BatchSize;
 
 /**
@@ -31,6 +32,27 @@ public interface FetchSettings {
 	 */
 	String DEFAULT_BATCH_FETCH_SIZE = "hibernate.default_batch_fetch_size";
 
+	/**
+	 * When enabled, the number of keys fetched by a batch is adapted to the
+	 * observed batches: it grows, up to sixteen times the configured size,
+	 * while batches are filled completely and the time spent per key does not
+	 * get worse, and it shrinks back when batches are mostly empty. The batch
+	 * size currently chosen for an entity or collection is reported by
+	 * {@link org.hibernate.stat.EntityStatistics#getBatchFetchSize()} and
+	 * {@link org.hibernate.stat.CollectionStatistics#getBatchFetchSize()}.
+	 * <p>
+	 * This setting only affects loaders passing the keys as a single
+	 * {@code ARRAY} parameter, that is, when the database supports SQL arrays,
+	 * since the SQL of these loaders does not depend on the number of keys.
+	 * The configured size is the lower bound.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	String BATCH_FETCH_ADAPTIVE = "hibernate.batch_fetch_adaptive";
+
 	/**
 	 * When enabled, Hibernate will use subselect fetching, when possible, to
 	 * fetch any collection.  Subselect fetching involves fetching the collection
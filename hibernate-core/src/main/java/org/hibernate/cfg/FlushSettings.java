@@ -98,6 +98,43 @@ public interface FlushSettings {
 	/// @since 8.0
 	String DEFERRABLE_AVOID_BREAK = "hibernate.flush.plan.deferrable.avoid_break";
 
+	/// Whether graph-based flush planning should schedule operations by dependency level.
+	///
+	/// When false (default), the planner emits steps in topological order, which keeps
+	/// operation groups close to the order of the originating actions.  Independent
+	/// groups sharing the same statement shape (for example, the same INSERT against
+	/// a table reached through several unrelated parent tables) may then end up in
+	/// separate steps, and so in separate JDBC batches.
+	///
+	/// When true, the graph is partitioned into levels where every operation group only
+	/// depends on groups in earlier levels.  Groups within a level are independent of
+	/// each other and are coalesced by statement shape, so the number of batches
+	/// executed is bounded by the length of the critical path through the graph
+	/// times the distinct shapes per level, rather than by the number of groups.
+	///
+	/// @see org.hibernate.action.queue.spi.PlanningOptions#scheduleByDependencyLevel()
+	///
+	/// @settingDefault false
+	///
+	/// @since 8.0
+	String SCHEDULE_BY_DEPENDENCY_LEVEL = "hibernate.flush.plan.level_scheduling";
+
+	/// The maximum number of flush plan templates cached per SessionFactory by the
+	/// graph-based action queue.
+	///
+	/// When a flush produces the same statement shapes as a previously planned flush
+	/// (which is typical for batch jobs repeatedly flushing the same mix of entity
+	/// types), the cached template is replayed with the new operations, skipping graph
+	/// building, cycle breaking and topological sorting.  Flushes whose ordering
+	/// depends on the actual unique-key values being written are never cached.
+	///
+	/// A value of `0` (default) disables plan caching.
+	///
+	/// @settingDefault `0`
+	///
+	/// @since 8.0
+	String PLAN_CACHE_MAX_SIZE = "hibernate.flush.plan.cache.max_size";
+
 	/// Whether the graph-based action queue should defer IDENTITY inserts into the
 	/// normal flush plan.
 	///
@@ -434,6 +434,25 @@ public interface JdbcSettings extends C3p0Settings, AgroalSettings, HikariCPSett
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * The maximum number of {@link java.sql.PreparedStatement}s cached by each
+	 * session, keyed by SQL and result set options, and reused when the same SQL
+	 * is prepared again, instead of being closed when released. Cached statements
+	 * are closed when the resources of the session are released, for example, at
+	 * the end of a transaction, or when the JDBC connection is released.
+	 * <p>
+	 * This is useful when neither the connection pool nor the JDBC driver caches
+	 * prepared statements. If {@code 0}, statements are not cached.
+	 *
+	 * @see org.hibernate.stat.Statistics#getPreparedStatementCacheHitCount()
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
+
 	/**
 	 * Controls how Hibernate should handle scrollable results:
 	 * <ul>
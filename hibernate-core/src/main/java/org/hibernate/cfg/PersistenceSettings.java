@@ -195,6 +195,22 @@ public interface PersistenceSettings {
 	 */
 	String SESSION_FACTORY_OBSERVER = "hibernate.session_factory_observer";
 
+	/**
+	 * When enabled, the persistence context stores its entity instances and entity
+	 * snapshots, keyed by {@link org.hibernate.engine.spi.EntityKey}, in open-addressing
+	 * hash tables which do not allocate a node object per entry. This significantly
+	 * reduces the footprint of sessions holding a very large number of managed entities.
+	 * Removed entries are only reclaimed when a table is rehashed.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.internal.util.collections.OpenAddressingHashMap
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	String PERSISTENCE_CONTEXT_COMPACT_STORAGE = "hibernate.persistence_context.compact_storage";
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Legacy JPA settings
@@ -306,6 +306,26 @@ public interface QuerySettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * Specifies the eviction policy of the internal caches created through the
+	 * {@link org.hibernate.internal.util.cache.InternalCacheFactory}, most notably
+	 * the {@linkplain org.hibernate.query.spi.QueryInterpretationCache query plan cache}.
+	 * Valid values are:
+	 * <ul>
+	 *     <li>{@code "lirs"} - segmented LIRS eviction (the default),</li>
+	 *     <li>{@code "tinylfu"} - W-TinyLFU: entries are admitted to the main space
+	 *     of the cache based on their estimated access frequency, which keeps the hot
+	 *     set of entries cached when bursts of one-off keys occur, and reads are
+	 *     lock-free.</li>
+	 * </ul>
+	 *
+	 * @settingDefault {@code "lirs"}
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	String INTERNAL_CACHE_EVICTION = "hibernate.internal_cache.eviction";
+
 	/**
 	 * For databases supporting name parameters this setting allows the use of named parameters in the procedure call.
 	 * <p>
@@ -4,6 +4,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.stat.spi.StatisticsFactory;
 
 /**
@@ -41,4 +42,35 @@ public interface StatisticsSettings {
 	 * @see org.hibernate.stat.Statistics#getQueries()
 	 */
 	String QUERY_STATISTICS_MAX_SIZE = "hibernate.statistics.query_max_size";
+
+	/**
+	 * When set to a positive number {@code N}, one in {@code N} accesses to each
+	 * second-level cache region is sampled, to report the hot keys of the region,
+	 * and percentiles of the estimated sizes and of the load times of its items.
+	 * <p>
+	 * Sampling happens even if statistics are not {@linkplain #GENERATE_STATISTICS
+	 * enabled}, but is only reported by the {@link org.hibernate.stat.Statistics}
+	 * if they are.
+	 *
+	 * @settingDefault {@code 0}, that is, no sampling
+	 *
+	 * @see org.hibernate.stat.CacheRegionStatistics#getHotKeys()
+	 * @see org.hibernate.stat.CacheRegionStatistics#getEntrySizePercentile(double)
+	 * @see org.hibernate.stat.CacheRegionStatistics#getLoadTimePercentile(double)
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	String CACHE_SAMPLING = "hibernate.statistics.cache_sampling";
+
+	/**
+	 * When {@linkplain #CACHE_SAMPLING sampling} the accesses to second-level cache
+	 * regions, the number of hot keys reported for each region.
+	 *
+	 * @settingDefault {@code 10}
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	String CACHE_SAMPLING_TOP_KEYS = "hibernate.statistics.cache_sampling_top_keys";
 }
@@ -27,6 +27,7 @@
 import org.hibernate.audit.internal.AuditColumnFunction;
 import org.hibernate.dialect.aggregate.AggregateSupport;
 import org.hibernate.dialect.aggregate.AggregateSupportImpl;
+import org.hibernate.dialect.bulk.BulkInsertStrategy;
 import org.hibernate.dialect.function.CastFunction;
 import org.hibernate.dialect.function.CastStrEmulation;
 import org.hibernate.dialect.function.CoalesceIfnullEmulation;
@@ -5228,6 +5229,36 @@ public boolean supportsValuesListForInsert() {
 		return true;
 	}
 
+	/**
+	 * Return the limit that the underlying database places on the number of rows
+	 * of a {@code values} list in an insert statement.  If the database defines no
+	 * such limit, simply return zero or a number smaller than zero.
+	 *
+	 * @return The limit, or a non-positive integer to indicate no limit.
+	 *
+	 * @see #supportsValuesListForInsert()
+	 *
+	 * @since 8.0
+	 */
+	public int getValuesListForInsertRowLimit() {
+		return 0;
+	}
+
+	/**
+	 * A fast path, native to the database, for loading many rows into a table,
+	 * used by {@link org.hibernate.StatelessSession#insertMultiple} when
+	 * {@value org.hibernate.cfg.BatchSettings#BULK_INSERT} is enabled.
+	 *
+	 * @return the strategy, or {@code null} if the rows are to be inserted by
+	 *         multi-row inserts
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	public @Nullable BulkInsertStrategy getBulkInsertStrategy() {
+		return null;
+	}
+
 	/**
 	 * Does this dialect support the {@code from} clause for update statements?
 	 *
@@ -5238,6 +5269,23 @@ public boolean supportsFromClauseInUpdate() {
 		return false;
 	}
 
+	/**
+	 * Does this dialect support joining the target table of an update or delete
+	 * statement with the rows of several array parameters, written
+	 * {@code update t t_ set c=u_.v2 from unnest(?,?) u_(v1,v2) where t_.id=u_.v1}
+	 * and {@code delete from t t_ using unnest(?) u_(v1) where t_.id=u_.v1}?
+	 *
+	 * @return {@code true} if set-based updates and deletes with array parameters
+	 *         are supported
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#ARRAY_PARAMETER_MUTATIONS
+	 *
+	 * @since 8.0
+	 */
+	public boolean supportsUnnestInMutations() {
+		return false;
+	}
+
 	/**
 	 * Append a literal string to the given {@link SqlAppender}.
 	 *
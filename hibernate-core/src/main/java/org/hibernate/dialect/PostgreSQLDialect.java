@@ -17,6 +17,7 @@
 import org.hibernate.boot.model.TypeContributions;
 import org.hibernate.dialect.aggregate.AggregateSupport;
 import org.hibernate.dialect.aggregate.PostgreSQLAggregateSupport;
+import org.hibernate.dialect.bulk.BulkInsertStrategy;
 import org.hibernate.dialect.function.CommonFunctionFactory;
 import org.hibernate.dialect.function.PostgreSQLMinMaxFunction;
 import org.hibernate.dialect.function.PostgreSQLTruncFunction;
@@ -188,6 +189,8 @@ protected void applyAggregateColumnCheck(StringBuilder buf, AggregateColumn aggr
 	protected final PostgreSQLDriverKind driverKind;
 	private final ParameterMarkerStrategy parameterRenderer;
 	private final boolean supportsMerge;
+	// resolved with the types depending on the driver
+	private @Nullable BulkInsertStrategy bulkInsertStrategy;
 
 	public PostgreSQLDialect() {
 		this( MINIMUM_VERSION );
@@ -865,6 +868,11 @@ public boolean supportsValuesList() {
 		return true;
 	}
 
+	@Override
+	public @Nullable BulkInsertStrategy getBulkInsertStrategy() {
+		return bulkInsertStrategy;
+	}
+
 	@Override
 	public boolean supportsPartitionBy() {
 		return true;
@@ -1512,6 +1520,10 @@ public void augmentRecognizedTableTypes(List<String> tableTypesList) {
 	public void contributeTypes(TypeContributions typeContributions, ServiceRegistry serviceRegistry) {
 		super.contributeTypes(typeContributions, serviceRegistry);
 		contributePostgreSQLTypes(typeContributions, serviceRegistry);
+		if ( driverKind == PostgreSQLDriverKind.PG_JDBC && PgJdbcHelper.isUsable( serviceRegistry ) ) {
+			// the CopyManager belongs to the PostgreSQL JDBC driver
+			bulkInsertStrategy = PgJdbcHelper.getCopyBulkInsertStrategy( serviceRegistry );
+		}
 	}
 
 	/// Allow for extension points to override this only
@@ -1673,6 +1685,11 @@ public boolean supportsFromClauseInUpdate() {
 		return true;
 	}
 
+	@Override
+	public boolean supportsUnnestInMutations() {
+		return true;
+	}
+
 	@Override
 	public boolean supportsBindingNullSqlTypeForSetNull() {
 		return true;
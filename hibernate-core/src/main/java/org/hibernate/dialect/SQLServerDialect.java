@@ -153,6 +153,12 @@ public class SQLServerDialect extends AbstractTransactSQLDialect {
 	 */
 	private static final int PARAM_LIST_SIZE_LIMIT = 2048;
 
+	/**
+	 * The maximum number of row value expressions of a table value constructor
+	 * in an insert statement.
+	 */
+	private static final int VALUES_LIST_ROW_LIMIT = 1000;
+
 	// See microsoft.sql.Types.GEOMETRY
 	private static final int GEOMETRY_TYPE_CODE = -157;
 	// See microsoft.sql.Types.GEOGRAPHY
@@ -739,6 +745,11 @@ public int getInExpressionCountLimit() {
 		return PARAM_LIST_SIZE_LIMIT;
 	}
 
+	@Override
+	public int getValuesListForInsertRowLimit() {
+		return VALUES_LIST_ROW_LIMIT;
+	}
+
 	@Override
 	public IdentityColumnSupport getIdentityColumnSupport() {
 		return SQLServerIdentityColumnSupport.INSTANCE;
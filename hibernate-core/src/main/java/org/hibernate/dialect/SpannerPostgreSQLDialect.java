@@ -844,6 +844,11 @@ public boolean supportsFromClauseInUpdate() {
 		return false;
 	}
 
+	@Override
+	public boolean supportsUnnestInMutations() {
+		return false;
+	}
+
 	@Override
 	public int getMaxVarcharLength() {
 		return 2_621_440;
@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.dialect.bulk;
+
+import java.util.List;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+
+/**
+ * A fast path, native to the database, for loading many rows into a table,
+ * used by {@link org.hibernate.StatelessSession#insertMultiple} when
+ * {@value org.hibernate.cfg.BatchSettings#BULK_INSERT} is enabled.
+ * <p>
+ * A strategy may decline to insert the rows, for example because one of the
+ * values cannot be encoded, or because the connection does not belong to the
+ * expected JDBC driver. The rows are then inserted by multi-row inserts, or
+ * by batched inserts.
+ *
+ * @see org.hibernate.dialect.Dialect#getBulkInsertStrategy()
+ *
+ * @since 8.0
+ */
+@Incubating
+public interface BulkInsertStrategy {
+	/**
+	 * Insert the given rows into the given table.
+	 *
+	 * @param tableName the name of the table
+	 * @param columnNames the names of the columns, in the order of the values of each row
+	 * @param jdbcMappings the mappings of the columns, used to encode the values
+	 * @param rows the JDBC values of the rows
+	 * @param session the session owning the connection
+	 *
+	 * @return {@code true} if the rows were inserted, or {@code false} if this
+	 *         strategy cannot insert them, in which case no row was inserted
+	 */
+	boolean insertRows(
+			String tableName,
+			String[] columnNames,
+			JdbcMapping[] jdbcMappings,
+			List<Object[]> rows,
+			SharedSessionContractImplementor session);
+}
@@ -0,0 +1,231 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.dialect.bulk;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Calendar;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.annotation.Nullable;
+
+import org.hibernate.HibernateException;
+import org.hibernate.StaleStateException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.jdbc.DateJdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.type.descriptor.jdbc.TimestampJdbcType;
+
+import org.postgresql.copy.CopyManager;
+import org.postgresql.core.BaseConnection;
+
+import static java.time.temporal.ChronoUnit.MICROS;
+import static org.hibernate.type.SqlTypes.BIT;
+import static org.hibernate.type.SqlTypes.BOOLEAN;
+import static org.hibernate.type.SqlTypes.TIMESTAMP_UTC;
+import static org.hibernate.type.SqlTypes.TIMESTAMP_WITH_TIMEZONE;
+import static org.hibernate.type.SqlTypes.isBinaryType;
+import static org.hibernate.type.SqlTypes.isCharacterOrClobType;
+import static org.hibernate.type.SqlTypes.isNumericType;
+import static org.hibernate.type.SqlTypes.isTemporalType;
+
+/**
+ * Loads rows into a PostgreSQL table with {@code COPY ... FROM STDIN}, through
+ * the {@link CopyManager} of the PostgreSQL JDBC driver. Like the other types
+ * depending on the driver, this strategy is loaded by name, through the
+ * {@link org.hibernate.dialect.type.PgJdbcHelper}, when the driver is usable.
+ * <p>
+ * The rows are encoded in the CSV format of {@code COPY}, where an unquoted empty
+ * value is {@code null}, and every other value is quoted. Only numeric, boolean,
+ * character, binary, and UUID values are encoded, using the string representation
+ * of their {@linkplain JdbcMapping#getJdbcJavaType JDBC Java type}, together with
+ * the temporal values whose text is the one their {@link JdbcType} would bind:
+ * <ul>
+ * <li>timestamps with time zone, which preserve the instant, and
+ * <li>dates and timestamps of the {@link DateJdbcType} and {@link TimestampJdbcType},
+ *     which bind them in the default time zone of the JVM, unless a
+ *     {@linkplain org.hibernate.cfg.JdbcSettings#JDBC_TIME_ZONE JDBC time zone}
+ *     or a {@link Calendar} is involved.
+ * </ul>
+ * Rows containing any other kind of value are left to multi-row inserts.
+ *
+ * @since 8.0
+ */
+public class PostgreSQLCopyBulkInsertStrategy implements BulkInsertStrategy {
+	private static final HexFormat HEX = HexFormat.of();
+
+	@Override
+	public boolean insertRows(
+			String tableName,
+			String[] columnNames,
+			JdbcMapping[] jdbcMappings,
+			List<Object[]> rows,
+			SharedSessionContractImplementor session) {
+		final String data = encode( jdbcMappings, rows, session );
+		if ( data == null ) {
+			return false;
+		}
+		final String sql =
+				"copy " + tableName + " (" + String.join( ",", columnNames ) + ") from stdin with (format csv)";
+		final var jdbcServices = session.getJdbcServices();
+		try {
+			final Connection connection =
+					session.getJdbcCoordinator().getLogicalConnection().getPhysicalConnection();
+			if ( !connection.isWrapperFor( BaseConnection.class ) ) {
+				return false;
+			}
+			jdbcServices.getSqlStatementLogger().logStatement( sql );
+			session.getJdbcSessionContext().getStatementObserver().performingSql( sql, -1 );
+			final long insertedRowCount =
+					new CopyManager( connection.unwrap( BaseConnection.class ) )
+							.copyIn( sql, new StringReader( data ) );
+			if ( insertedRowCount != rows.size() ) {
+				throw new StaleStateException(
+						"Unexpected row count (expected row count " + rows.size()
+								+ " but was " + insertedRowCount + ") [" + sql + "]"
+				);
+			}
+			return true;
+		}
+		catch (SQLException e) {
+			throw jdbcServices.getSqlExceptionHelper().convert( e, "Could not copy rows", sql );
+		}
+		catch (IOException e) {
+			throw new HibernateException( "Could not copy rows [" + sql + "]", e );
+		}
+	}
+
+	/**
+	 * Encode the rows in CSV format, or return {@code null} if a value cannot be encoded.
+	 */
+	private static @Nullable String encode(
+			JdbcMapping[] jdbcMappings,
+			List<Object[]> rows,
+			SharedSessionContractImplementor session) {
+		final var csv = new StringBuilder( rows.size() * jdbcMappings.length * 12 );
+		for ( Object[] row : rows ) {
+			for ( int i = 0; i < row.length; i++ ) {
+				if ( i > 0 ) {
+					csv.append( ',' );
+				}
+				if ( !appendValue( csv, row[i], jdbcMappings[i], session ) ) {
+					return null;
+				}
+			}
+			csv.append( '\n' );
+		}
+		return csv.toString();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static boolean appendValue(
+			StringBuilder csv,
+			Object value,
+			JdbcMapping jdbcMapping,
+			SharedSessionContractImplementor session) {
+		if ( value == null ) {
+			// an unquoted empty value
+			return true;
+		}
+		final int typeCode = jdbcMapping.getJdbcType().getDefaultSqlTypeCode();
+		final String string;
+		if ( isCharacterOrClobType( typeCode ) ) {
+			string = value instanceof String text
+					? text
+					: ( (JavaType<Object>) jdbcMapping.getJdbcJavaType() ).toString( value );
+		}
+		else if ( isNumericType( typeCode ) && value instanceof Number
+				|| ( typeCode == BOOLEAN || typeCode == BIT ) && value instanceof Boolean
+				|| value instanceof UUID ) {
+			// the string forms of these values are understood by PostgreSQL
+			string = value.toString();
+		}
+		else if ( isTemporalType( typeCode ) ) {
+			string = temporalValue( value, jdbcMapping, session );
+			if ( string == null ) {
+				return false;
+			}
+		}
+		else if ( isBinaryType( typeCode ) && value instanceof byte[] bytes ) {
+			// the hex format of bytea, in which a backslash is not special in CSV
+			csv.append( "\\x" );
+			HEX.formatHex( csv, bytes );
+			return true;
+		}
+		else {
+			return false;
+		}
+		csv.append( '"' );
+		for ( int i = 0; i < string.length(); i++ ) {
+			final char character = string.charAt( i );
+			if ( character == '"' ) {
+				csv.append( '"' );
+			}
+			csv.append( character );
+		}
+		csv.append( '"' );
+		return true;
+	}
+
+	/**
+	 * Format a temporal value as its {@link JdbcType} binds it, or return {@code null}
+	 * if the text could differ from what the JDBC driver sends.
+	 */
+	@SuppressWarnings("unchecked")
+	private static @Nullable String temporalValue(
+			Object value,
+			JdbcMapping jdbcMapping,
+			SharedSessionContractImplementor session) {
+		final var javaType = (JavaType<Object>) jdbcMapping.getJdbcJavaType();
+		final JdbcType jdbcType = jdbcMapping.getJdbcType();
+		final int typeCode = jdbcType.getDefaultSqlTypeCode();
+		try {
+			if ( typeCode == TIMESTAMP_UTC || typeCode == TIMESTAMP_WITH_TIMEZONE ) {
+				// the instant is preserved whatever the JDBC time zone
+				return roundToMicros( javaType.unwrap( value, OffsetDateTime.class, session ) ).toString();
+			}
+			else if ( value instanceof Calendar ) {
+				// bound in the time zone of the calendar
+				return null;
+			}
+			else if ( jdbcType.getClass() == DateJdbcType.class ) {
+				// a date ignores the JDBC time zone
+				return javaType.unwrap( value, Date.class, session ).toLocalDate().toString();
+			}
+			else if ( jdbcType.getClass() == TimestampJdbcType.class && session.getJdbcTimeZone() == null ) {
+				final Timestamp timestamp = javaType.unwrap( value, Timestamp.class, session );
+				return roundToMicros( timestamp.toLocalDateTime() ).toString();
+			}
+			else {
+				return null;
+			}
+		}
+		catch (RuntimeException e) {
+			// the value is left to the binder, which reports the failure
+			return null;
+		}
+	}
+
+	/**
+	 * Round the nanoseconds half up, as the PostgreSQL driver does before sending them.
+	 */
+	private static OffsetDateTime roundToMicros(OffsetDateTime dateTime) {
+		return dateTime.plusNanos( 500 ).truncatedTo( MICROS );
+	}
+
+	private static LocalDateTime roundToMicros(LocalDateTime dateTime) {
+		return dateTime.plusNanos( 500 ).truncatedTo( MICROS );
+	}
+}
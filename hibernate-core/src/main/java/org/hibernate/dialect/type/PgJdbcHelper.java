@@ -10,6 +10,7 @@
 import org.hibernate.HibernateError;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
+import org.hibernate.dialect.bulk.BulkInsertStrategy;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.type.descriptor.jdbc.JdbcType;
 import org.hibernate.type.descriptor.jdbc.JdbcTypeConstructor;
@@ -61,6 +62,21 @@ public static JdbcTypeConstructor getJsonbArrayJdbcType(ServiceRegistry serviceR
 		return createJdbcTypeConstructor( serviceRegistry, "org.hibernate.dialect.type.PostgreSQLJsonArrayPGObjectJsonbJdbcTypeConstructor" );
 	}
 
+	public static BulkInsertStrategy getCopyBulkInsertStrategy(ServiceRegistry serviceRegistry) {
+		final ClassLoaderService classLoaderService = serviceRegistry.requireService( ClassLoaderService.class );
+		try {
+			final Class<?> clazz = classLoaderService.classForName( "org.hibernate.dialect.bulk.PostgreSQLCopyBulkInsertStrategy" );
+			final Constructor<?> constructor = clazz.getConstructor();
+			return (BulkInsertStrategy) constructor.newInstance();
+		}
+		catch (NoSuchMethodException e) {
+			throw new HibernateError( "Class does not have an empty constructor", e );
+		}
+		catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+			throw new HibernateError( "Could not construct BulkInsertStrategy", e );
+		}
+	}
+
 	public static JdbcType createJdbcType(ServiceRegistry serviceRegistry, String className) {
 		final ClassLoaderService classLoaderService = serviceRegistry.requireService( ClassLoaderService.class );
 		try {
@@ -12,6 +12,8 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.EntityEntry;
@@ -43,6 +45,7 @@
 /// @author Steve Ebersole
 public final class BidirectionalAssociationSynchronizer {
 	private static final Map<SessionFactoryImplementor, AssociationPlan> ASSOCIATION_PLANS = new WeakHashMap<>();
+	private static final Lock ASSOCIATION_PLANS_LOCK = new ReentrantLock();
 
 	private BidirectionalAssociationSynchronizer() {
 	}
@@ -58,9 +61,13 @@ public static void synchronize(SessionImplementor session) {
 	}
 
 	private static AssociationPlan getAssociationPlan(SessionFactoryImplementor factory) {
-		synchronized ( ASSOCIATION_PLANS ) {
+		ASSOCIATION_PLANS_LOCK.lock();
+		try {
 			return ASSOCIATION_PLANS.computeIfAbsent( factory, AssociationPlan::from );
 		}
+		finally {
+			ASSOCIATION_PLANS_LOCK.unlock();
+		}
 	}
 
 	private static PluralAttributeMapping findPluralAttribute(EntityPersister persister, String attributeName) {
@@ -58,6 +58,106 @@ public static Object fromSharedCache(
 		return cachedValue;
 	}
 
+	/**
+	 * Get the entries with the given keys from the shared cache, with a single
+	 * access to the cache, which is reported as one cache get.
+	 *
+	 * @return the cached entries, at the position of their key, or {@code null}
+	 *
+	 * @since 8.0
+	 */
+	public static Object[] fromSharedCache(
+			SharedSessionContractImplementor session,
+			Object[] cacheKeys,
+			EntityPersister persister,
+			CachedDomainDataAccess cacheAccess) {
+		return fromSharedCache( session, cacheKeys, persister, false, cacheAccess );
+	}
+
+	/**
+	 * Get the entries with the given keys from the shared cache, with a single
+	 * access to the cache, which is reported as one cache get.
+	 *
+	 * @param isNaturalKey whether the keys are keys of the natural id cache
+	 * @return the cached entries, at the position of their key, or {@code null}
+	 *
+	 * @since 8.0
+	 */
+	public static Object[] fromSharedCache(
+			SharedSessionContractImplementor session,
+			Object[] cacheKeys,
+			EntityPersister persister,
+			boolean isNaturalKey,
+			CachedDomainDataAccess cacheAccess) {
+		final var eventListenerManager = session.getEventListenerManager();
+		Object[] cachedValues = null;
+		eventListenerManager.cacheGetStart();
+		final var eventMonitor = session.getEventMonitor();
+		final var cacheGetEvent = eventMonitor.beginCacheGetEvent();
+		try {
+			cachedValues = cacheAccess.getAll( session, cacheKeys );
+		}
+		finally {
+			final boolean hit = hasAny( cachedValues );
+			eventMonitor.completeCacheGetEvent(
+					cacheGetEvent,
+					session,
+					cacheAccess.getRegion(),
+					persister,
+					isNaturalKey,
+					hit
+			);
+			eventListenerManager.cacheGetEnd( hit );
+		}
+		return cachedValues;
+	}
+
+	/**
+	 * Get the entries with the given keys from the shared cache, with a single
+	 * access to the cache, which is reported as one cache get.
+	 *
+	 * @return the cached entries, at the position of their key, or {@code null}
+	 *
+	 * @since 8.0
+	 */
+	public static Object[] fromSharedCache(
+			SharedSessionContractImplementor session,
+			Object[] cacheKeys,
+			CollectionPersister persister,
+			CachedDomainDataAccess cacheAccess) {
+		final var eventListenerManager = session.getEventListenerManager();
+		Object[] cachedValues = null;
+		eventListenerManager.cacheGetStart();
+		final var eventMonitor = session.getEventMonitor();
+		final var cacheGetEvent = eventMonitor.beginCacheGetEvent();
+		try {
+			cachedValues = cacheAccess.getAll( session, cacheKeys );
+		}
+		finally {
+			final boolean hit = hasAny( cachedValues );
+			eventMonitor.completeCacheGetEvent(
+					cacheGetEvent,
+					session,
+					cacheAccess.getRegion(),
+					persister,
+					hit
+			);
+			eventListenerManager.cacheGetEnd( hit );
+		}
+		return cachedValues;
+	}
+
+	private static boolean hasAny(Object[] cachedValues) {
+		if ( cachedValues != null ) {
+			for ( Object cachedValue : cachedValues ) {
+				if ( cachedValue != null ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
 	public static Object fromSharedCache(
 			SharedSessionContractImplementor session,
 			Object cacheKey,
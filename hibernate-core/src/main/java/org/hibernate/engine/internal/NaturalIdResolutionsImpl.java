@@ -648,6 +648,72 @@ else if ( resolutionCache.containsInvalidNaturalIdReference( naturalId ) ) {
 		}
 	}
 
+	@Override
+	public Object[] findCachedIdsByNaturalIds(Object[] naturalIds, EntityMappingType entityDescriptor) {
+		final var persister = locatePersisterForKey( entityDescriptor.getEntityPersister() );
+		final var resolutionCache = resolutionsByEntity.get( persister );
+		final Object[] ids = new Object[naturalIds.length];
+		// the positions of the natural ids not resolved by the session cache
+		final int[] misses = new int[naturalIds.length];
+		final Resolution[] unresolved = new Resolution[naturalIds.length];
+		int missCount = 0;
+		for ( int i = 0; i < naturalIds.length; i++ ) {
+			final Object naturalId = naturalIds[i];
+			validateNaturalId( persister, naturalId );
+			final Resolution cachedNaturalId = new ResolutionImpl( persister, naturalId, persistenceContext );
+			final Object identifier =
+					resolutionCache == null ? null : resolutionCache.naturalIdToPkMap.get( cachedNaturalId );
+			if ( identifier != null ) {
+				if ( NATURAL_ID_LOGGER.isTraceEnabled() ) {
+					NATURAL_ID_LOGGER.resolvedNaturalIdInSessionCache( naturalId, identifier,
+							entityDescriptor.getEntityName() );
+				}
+				ids[i] = identifier;
+			}
+			else if ( resolutionCache != null && resolutionCache.containsInvalidNaturalIdReference( naturalId ) ) {
+				ids[i] = INVALID_NATURAL_ID_REFERENCE;
+			}
+			else {
+				misses[missCount] = i;
+				unresolved[missCount] = cachedNaturalId;
+				missCount++;
+			}
+		}
+
+		if ( missCount > 0 && persister.hasNaturalIdCache() ) {
+			// Try the second-level cache, with a single access for all the misses
+			final var cacheAccessStrategy = persister.getNaturalIdCacheAccessStrategy();
+			final var session = session();
+			final Object[] cacheKeys = new Object[missCount];
+			for ( int i = 0; i < missCount; i++ ) {
+				cacheKeys[i] = cacheAccessStrategy.generateCacheKey( naturalIds[misses[i]], persister, session );
+			}
+			final Object[] cachedIds = fromSharedCache( session, cacheKeys, persister, true, cacheAccessStrategy );
+			final var statistics = session.getFactory().getStatistics();
+			final boolean statisticsEnabled = statistics.isStatisticsEnabled();
+			final var rootEntityRole = StatsHelper.getRootEntityRole( persister );
+			final String regionName = cacheAccessStrategy.getRegion().getName();
+			for ( int i = 0; i < missCount; i++ ) {
+				final Object id = cachedIds == null ? null : cachedIds[i];
+				if ( id != null ) {
+					if ( statisticsEnabled ) {
+						statistics.naturalIdCacheHit( rootEntityRole, regionName );
+					}
+					if ( NATURAL_ID_LOGGER.isTraceEnabled() ) {
+						NATURAL_ID_LOGGER.foundNaturalIdInSecondLevelCache( naturalIds[misses[i]], id,
+								persister.getRootEntityName() );
+					}
+					storeInResolutionCache( resolutionsByEntity.get( persister ), persister, id, unresolved[i] );
+					ids[misses[i]] = id;
+				}
+				else if ( statisticsEnabled ) {
+					statistics.naturalIdCacheMiss( rootEntityRole, regionName );
+				}
+			}
+		}
+		return ids;
+	}
+
 	private void storeInResolutionCache(
 			EntityResolutions resolutionCache,
 			EntityPersister persister,
@@ -52,6 +52,7 @@
 import org.hibernate.event.spi.PostLoadEvent;
 import org.hibernate.event.spi.PostLoadEventListener;
 import org.hibernate.internal.util.collections.InstanceIdentityMap;
+import org.hibernate.internal.util.collections.OpenAddressingHashMap;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
@@ -111,13 +112,14 @@ public Object readResolve() {
 
 	private final SharedSessionContractImplementor session;
 	private EntityEntryContext entityEntryContext;
+	private final boolean compactStorage;
 
 	// Everything else below should be carefully initialized only on first need.
 	// This optimization is very effective as null checks are free, while allocation
 	// costs are very often the dominating cost of an application using ORM.
 
 	// Loaded entity instances, by EntityKey
-	private HashMap<EntityKey, EntityHolderImpl> entitiesByKey;
+	private Map<EntityKey, EntityHolderImpl> entitiesByKey;
 
 	// New entity holder cached instance
 	private EntityHolderImpl newEntityHolder;
@@ -127,7 +129,7 @@ public Object readResolve() {
 
 	// Snapshots of the current database state for entities
 	// that have *not* been loaded
-	private HashMap<EntityKey, Object> entitySnapshotsByKey;
+	private Map<EntityKey, Object> entitySnapshotsByKey;
 
 	// Identity map of array holder ArrayHolder instances, by the array instance
 	private IdentityHashMap<Object, PersistentCollection<?>> arrayHolders;
@@ -182,11 +184,22 @@ public Object readResolve() {
 	StatefulPersistenceContext(SharedSessionContractImplementor session) {
 		this.session = session;
 		this.entityEntryContext = new EntityEntryContext( this );
+		this.compactStorage = session.getFactory().getSessionFactoryOptions()
+				.isCompactPersistenceContextStorageEnabled();
+	}
+
+	/**
+	 * Create a map keyed by {@link EntityKey}, using compact storage if enabled.
+	 *
+	 * @see org.hibernate.cfg.PersistenceSettings#PERSISTENCE_CONTEXT_COMPACT_STORAGE
+	 */
+	private <V> Map<EntityKey, V> entityKeyMapOfSize(int size) {
+		return compactStorage ? new OpenAddressingHashMap<>( size ) : mapOfSize( size );
 	}
 
 	private Map<EntityKey, EntityHolderImpl> getOrInitializeEntitiesByKey() {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = mapOfSize( INIT_COLL_SIZE );
+			entitiesByKey = entityKeyMapOfSize( INIT_COLL_SIZE );
 		}
 		return entitiesByKey;
 	}
@@ -1274,7 +1287,7 @@ public Map<EntityKey, Object> getEntitySnapshotsByKey() {
 	@Override
 	public Map<EntityKey, Object> getOrInitializeEntitySnapshotsByKey() {
 		if ( entitySnapshotsByKey == null ) {
-			entitySnapshotsByKey = mapOfSize( INIT_COLL_SIZE );
+			entitySnapshotsByKey = entityKeyMapOfSize( INIT_COLL_SIZE );
 		}
 		return entitySnapshotsByKey;
 	}
@@ -1943,7 +1956,7 @@ public static StatefulPersistenceContext deserialize(ObjectInputStream ois, Sess
 				if ( traceEnabled ) {
 					PERSISTENCE_CONTEXT_LOGGER.startingDeserializationOfEntries( count, "entitySnapshotsByKey" );
 				}
-				context.entitySnapshotsByKey = mapOfSize( Math.max( count, INIT_COLL_SIZE ) );
+				context.entitySnapshotsByKey = context.entityKeyMapOfSize( Math.max( count, INIT_COLL_SIZE ) );
 				for ( int i = 0; i < count; i++ ) {
 					context.entitySnapshotsByKey.put( EntityKey.deserialize( ois, factory ), ois.readObject() );
 				}
@@ -1956,7 +1969,7 @@ public static StatefulPersistenceContext deserialize(ObjectInputStream ois, Sess
 				if ( traceEnabled ) {
 					PERSISTENCE_CONTEXT_LOGGER.startingDeserializationOfEntries( count, "entitiesByKey" );
 				}
-				context.entitiesByKey = mapOfSize( Math.max( count, INIT_COLL_SIZE ) );
+				context.entitiesByKey = context.entityKeyMapOfSize( Math.max( count, INIT_COLL_SIZE ) );
 				final var metamodel = factory.getMappingMetamodel();
 				for ( int i = 0; i < count; i++ ) {
 					final var entityKey = EntityKey.deserialize( ois, factory );
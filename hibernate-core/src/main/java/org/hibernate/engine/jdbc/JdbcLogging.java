@@ -146,6 +146,18 @@ public interface JdbcLogging extends BasicLogger {
 	@Message(value = "Setting JDBC query timeout: %s", id = 100127)
 	void settingQueryTimeout(int timeout);
 
+	@LogMessage(level = TRACE)
+	@Message(value = "Reusing cached prepared statement: %s", id = 100128)
+	void reusingCachedStatement(String sql);
+
+	@LogMessage(level = DEBUG)
+	@Message(value = "Unable to reset prepared statement for reuse: %s", id = 100129)
+	void unableToResetCachedStatement(String message);
+
+	@LogMessage(level = DEBUG)
+	@Message(value = "Unable to close cached prepared statement: %s", id = 100130)
+	void unableToCloseCachedStatement(String message);
+
 	@LogMessage(level = WARN)
 	@Message(value = "Called joinTransaction() on a non-JTA EntityManager (ignoring)", id = 100030)
 	void callingJoinTransactionOnNonJtaEntityManager();
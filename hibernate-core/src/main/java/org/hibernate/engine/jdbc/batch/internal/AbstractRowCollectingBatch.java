@@ -0,0 +1,396 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+
+import jakarta.annotation.Nullable;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.action.queue.spi.bind.DelayedValueAccess;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.batch.spi.GroupedBatch;
+import org.hibernate.engine.jdbc.batch.spi.StaleStateMapper;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jdbc.Expectation;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_MESSAGE_LOGGER;
+import static org.hibernate.sql.model.ModelMutationLogging.MODEL_MUTATION_LOGGER;
+
+/**
+ * Base implementation of {@link GroupedBatch} which, instead of relying on
+ * {@link PreparedStatement#addBatch()}, collects the bindings of the rows of
+ * each table, and then executes statements rewritten to handle many rows at once.
+ * <p>
+ * When such a statement does not affect the expected number of rows, and the
+ * rows have a {@link StaleStateMapper}, the statement is rolled back to a
+ * savepoint, and the rows are executed again one by one with the single-row
+ * statement, so that the failure is reported, or suppressed, by the mapper of
+ * the stale row, as by {@link BatchImpl}.
+ *
+ * @param <T> the rows collected for a table
+ *
+ * @since 8.0
+ */
+abstract class AbstractRowCollectingBatch<T extends AbstractRowCollectingBatch.TableRows> implements GroupedBatch {
+	private static final Binding[] NO_BINDINGS = new Binding[0];
+
+	private final BatchKey key;
+	private final int batchSizeToUse;
+	private final PreparedStatementGroup statementGroup;
+	protected final List<T> tables;
+
+	protected final JdbcCoordinator jdbcCoordinator;
+	protected final SharedSessionContractImplementor session;
+	private final SqlStatementLogger sqlStatementLogger;
+	private final SqlExceptionHelper sqlExceptionHelper;
+
+	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
+
+	private int batchPosition;
+	private boolean batchExecuted;
+
+	protected AbstractRowCollectingBatch(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			List<T> tables,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator) {
+		this.key = key;
+		this.statementGroup = statementGroup;
+		this.tables = tables;
+		this.batchSizeToUse = batchSizeToUse;
+		this.jdbcCoordinator = jdbcCoordinator;
+		this.session = (SharedSessionContractImplementor) jdbcCoordinator.getJdbcSessionOwner();
+
+		final var jdbcServices = session.getJdbcServices();
+		sqlStatementLogger = jdbcServices.getSqlStatementLogger();
+		sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+
+		if ( BATCH_MESSAGE_LOGGER.isTraceEnabled() ) {
+			BATCH_MESSAGE_LOGGER.createBatch( batchSizeToUse, key.toLoggableString() );
+		}
+	}
+
+	/**
+	 * Execute the statements for the rows collected for the given table.
+	 */
+	protected abstract void executeTable(T table);
+
+	@Override
+	public final BatchKey getKey() {
+		return key;
+	}
+
+	@Override
+	public PreparedStatementGroup getStatementGroup() {
+		return statementGroup;
+	}
+
+	@Override
+	public void addObserver(BatchObserver observer) {
+		observers.add( observer );
+	}
+
+	@Override
+	public void addToBatch(
+			JdbcValueBindings jdbcValueBindings,
+			TableInclusionChecker inclusionChecker,
+			StaleStateMapper staleStateMapper) {
+		collectRow( jdbcValueBindings, inclusionChecker, staleStateMapper );
+	}
+
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		collectRow( jdbcValueBindings, inclusionChecker, null );
+	}
+
+	private void collectRow(
+			JdbcValueBindings jdbcValueBindings,
+			TableInclusionChecker inclusionChecker,
+			@Nullable StaleStateMapper staleStateMapper) {
+		if ( BATCH_MESSAGE_LOGGER.isTraceEnabled() ) {
+			BATCH_MESSAGE_LOGGER.addToBatch( batchPosition + 1, batchSizeToUse, key.toLoggableString() );
+		}
+
+		try {
+			for ( var table : tables ) {
+				final var tableDetails = table.statementDetails.getMutatingTableDetails();
+				if ( inclusionChecker == null || inclusionChecker.include( tableDetails ) ) {
+					MODEL_MUTATION_LOGGER.addBatchForTable( tableDetails.getTableName(), batchPosition + 1 );
+					final var bindingGroup = jdbcValueBindings.getBindingGroup( tableDetails.getTableName() );
+					// the bindings are cleared, but not reused, by afterStatement()
+					table.rows.add( bindingGroup == null
+							? NO_BINDINGS
+							: bindingGroup.getBindings().toArray( NO_BINDINGS ) );
+					table.staleStateMappers.add( staleStateMapper );
+					jdbcValueBindings.afterStatement( tableDetails );
+				}
+			}
+		}
+		catch (RuntimeException e) {
+			abortBatch( e );
+			throw e;
+		}
+
+		batchPosition++;
+		if ( batchPosition == batchSizeToUse ) {
+			notifyObserversImplicitExecution();
+			performExecution();
+		}
+	}
+
+	private void notifyObserversExplicitExecution() {
+		for ( var observer : observers ) {
+			observer.batchExplicitlyExecuted();
+		}
+	}
+
+	private void notifyObserversImplicitExecution() {
+		for ( var observer : observers ) {
+			observer.batchImplicitlyExecuted();
+		}
+	}
+
+	private void abortBatch(Exception cause) {
+		try {
+			jdbcCoordinator.abortBatch();
+		}
+		catch (RuntimeException e) {
+			cause.addSuppressed( e );
+		}
+	}
+
+	@Override
+	public void execute() {
+		notifyObserversExplicitExecution();
+		try {
+			if ( batchPosition == 0 ) {
+				if ( !batchExecuted && BATCH_MESSAGE_LOGGER.isTraceEnabled() ) {
+					BATCH_MESSAGE_LOGGER.emptyBatch( key.toLoggableString() );
+				}
+			}
+			else {
+				performExecution();
+			}
+		}
+		finally {
+			clearRows();
+		}
+	}
+
+	private void performExecution() {
+		if ( BATCH_MESSAGE_LOGGER.isTraceEnabled() ) {
+			BATCH_MESSAGE_LOGGER.executeBatch( batchPosition, batchSizeToUse, key.toLoggableString() );
+		}
+
+		try {
+			for ( var table : tables ) {
+				if ( !table.rows.isEmpty() ) {
+					executeTable( table );
+				}
+			}
+			batchExecuted = true;
+		}
+		catch (RuntimeException e) {
+			abortBatch( e );
+			throw BatchImpl.convertBatchException( e, key, jdbcCoordinator );
+		}
+		finally {
+			clearRows();
+		}
+	}
+
+	/**
+	 * Execute the given statement, which affects the collected rows of the given table
+	 * from {@code start} inclusive to {@code end} exclusive, binding its parameters
+	 * with the given binder.
+	 */
+	protected void executeStatement(T table, int start, int end, String sql, ParameterBinder binder) {
+		final boolean checkRowCount = table.statementDetails.getExpectation() instanceof Expectation.RowCount;
+		if ( end - start > 1 && checkRowCount && hasStaleStateMapper( table, start, end ) ) {
+			final Savepoint savepoint = setSavepoint();
+			if ( savepoint == null ) {
+				executeRowByRow( table, start, end );
+			}
+			else if ( executeUpdate( sql, binder ) == end - start ) {
+				releaseSavepoint( savepoint );
+			}
+			else {
+				// find the stale row
+				rollback( savepoint, sql );
+				executeRowByRow( table, start, end );
+			}
+		}
+		else {
+			final int rowCount = executeUpdate( sql, binder );
+			if ( rowCount != end - start && checkRowCount ) {
+				final var exception = new StaleStateException(
+						"Unexpected row count (expected row count " + ( end - start )
+								+ " but was " + rowCount + ") [" + sql + "]"
+				);
+				final var staleStateMapper = end - start == 1 ? table.staleStateMappers.get( start ) : null;
+				if ( staleStateMapper == null ) {
+					throw exception;
+				}
+				final var mappedException = staleStateMapper.map( exception );
+				if ( mappedException != null ) {
+					throw mappedException;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Execute the collected rows of the given table from {@code start} inclusive to
+	 * {@code end} exclusive one by one, with the single-row statement of the table.
+	 */
+	protected void executeRowByRow(T table, int start, int end) {
+		final String sql = table.statementDetails.getSqlString();
+		for ( int row = start; row < end; row++ ) {
+			final Binding[] bindings = table.rows.get( row );
+			executeStatement( table, row, row + 1, sql, statement -> {
+				for ( var binding : bindings ) {
+					bind( statement, binding, binding.getPosition(), sql );
+				}
+			} );
+		}
+	}
+
+	private int executeUpdate(String sql, ParameterBinder binder) {
+		final PreparedStatement statement =
+				jdbcCoordinator.getMutationStatementPreparer().prepareStatement( sql, false );
+		try {
+			binder.bind( statement );
+			sqlStatementLogger.logStatement( sql );
+			session.getJdbcSessionContext().getStatementObserver().performingSql( sql, -1 );
+			return jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
+		}
+		catch (SQLException e) {
+			throw sqlExceptionHelper.convert( e, "Unable to bind parameters", sql );
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
+	private static boolean hasStaleStateMapper(TableRows table, int start, int end) {
+		for ( int row = start; row < end; row++ ) {
+			if ( table.staleStateMappers.get( row ) != null ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * A savepoint to roll back to if a statement turns out to affect a stale row,
+	 * or {@code null} if the connection is in auto-commit mode, or does not support
+	 * savepoints.
+	 */
+	private @Nullable Savepoint setSavepoint() {
+		try {
+			final var connection = jdbcCoordinator.getLogicalConnection().getPhysicalConnection();
+			return connection.getAutoCommit() ? null : connection.setSavepoint();
+		}
+		catch (SQLException | UnsupportedOperationException e) {
+			return null;
+		}
+	}
+
+	private void releaseSavepoint(Savepoint savepoint) {
+		try {
+			jdbcCoordinator.getLogicalConnection().getPhysicalConnection().releaseSavepoint( savepoint );
+		}
+		catch (SQLException | UnsupportedOperationException e) {
+			// it is released when the transaction completes
+		}
+	}
+
+	private void rollback(Savepoint savepoint, String sql) {
+		try {
+			jdbcCoordinator.getLogicalConnection().getPhysicalConnection().rollback( savepoint );
+		}
+		catch (SQLException e) {
+			throw sqlExceptionHelper.convert( e, "Unable to roll back to savepoint", sql );
+		}
+	}
+
+	@FunctionalInterface
+	protected interface ParameterBinder {
+		void bind(PreparedStatement statement) throws SQLException;
+	}
+
+	protected void bind(PreparedStatement statement, Binding binding, int position, String sql) {
+		try {
+			binding.getValueBinder().bind( statement, value( binding ), position, session );
+		}
+		catch (SQLException e) {
+			throw sqlExceptionHelper.convert(
+					e,
+					String.format( Locale.ROOT, "Unable to bind parameter #%s - %s", position, binding.getValue() ),
+					sql
+			);
+		}
+	}
+
+	protected static Object value(Binding binding) {
+		final Object value = binding.getValue();
+		return value instanceof DelayedValueAccess handle ? handle.get() : value;
+	}
+
+	private void clearRows() {
+		for ( var table : tables ) {
+			table.rows.clear();
+			table.staleStateMappers.clear();
+		}
+		batchPosition = 0;
+	}
+
+	@Override
+	public void release() {
+		clearRows();
+		statementGroup.release();
+		observers.clear();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "(" + key.toLoggableString() + ")";
+	}
+
+	/**
+	 * The statement of a table, and the bindings and stale state mappers of the rows
+	 * collected for the table.
+	 */
+	protected static class TableRows {
+		protected final PreparedStatementDetails statementDetails;
+		protected final List<Binding[]> rows;
+		// the mapper of each row, or null
+		protected final List<StaleStateMapper> staleStateMappers;
+
+		protected TableRows(PreparedStatementDetails statementDetails, int batchSize) {
+			this.statementDetails = statementDetails;
+			this.rows = new ArrayList<>( batchSize );
+			this.staleStateMappers = new ArrayList<>( batchSize );
+		}
+	}
+}
@@ -0,0 +1,377 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.lang.reflect.Array;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import jakarta.annotation.Nullable;
+
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.GroupedBatch;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.build.AllowReflection;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.sql.ast.tree.delete.DeleteStatement;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.from.NamedTableReference;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
+import org.hibernate.sql.exec.internal.JdbcParameterImpl;
+
+import static java.util.Objects.requireNonNull;
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.resolveArrayJdbcMapping;
+import static org.hibernate.sql.ast.internal.ParameterMarkerStrategyStandard.isStandardRenderer;
+import static org.hibernate.sql.exec.spi.JdbcParameterBindings.NO_BINDINGS;
+
+/**
+ * Implementation of {@link GroupedBatch} for the updates and deletes of
+ * {@link org.hibernate.StatelessSession#updateMultiple} and
+ * {@link org.hibernate.StatelessSession#deleteMultiple} which, instead of relying
+ * on {@link PreparedStatement#addBatch()}, collects the bindings of the rows, and
+ * then executes a single statement per table, with one array parameter per column:
+ * <ul>
+ * <li>a delete by a single key column is rendered with an
+ *     {@linkplain InArrayPredicate array predicate}, for example,
+ *     {@code delete from t where id = any (?)}, if the dialect
+ *     {@linkplain org.hibernate.dialect.Dialect#useArrayForMultiValuedParameters
+ *     uses arrays} for multivalued parameters, and
+ * <li>any other update or delete, including those checking a version, is joined
+ *     with the unnested arrays, if the dialect
+ *     {@linkplain org.hibernate.dialect.Dialect#supportsUnnestInMutations supports}
+ *     it, for example, {@code update t t_ set c=u_.v1 from unnest(?,?,?) u_(v1,v2,v3)
+ *     where t_.id=u_.v2 and t_.version=u_.v3}.
+ * </ul>
+ * Each statement must affect one row per collected row, which is how version checks
+ * are enforced. Otherwise, the rows are executed again one by one, to report which
+ * one is stale. If the values of a column cannot be bound as an array, the rows are
+ * updated or deleted one by one.
+ *
+ * @see org.hibernate.cfg.BatchSettings#ARRAY_PARAMETER_MUTATIONS
+ *
+ * @since 8.0
+ */
+public class ArrayParameterMutationBatch extends AbstractRowCollectingBatch<ArrayParameterMutationBatch.TableRows> {
+
+	private ArrayParameterMutationBatch(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			List<TableRows> tables,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator) {
+		super( key, statementGroup, tables, batchSizeToUse, jdbcCoordinator );
+	}
+
+	/**
+	 * Create a batch rendering set-based updates or deletes for the given statements,
+	 * or return {@code null} if the database supports neither form, if native parameter
+	 * markers are used, or if one of the statements cannot be rewritten, for example
+	 * because it is custom SQL, or an insert.
+	 */
+	@Nullable
+	public static ArrayParameterMutationBatch create(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator) {
+		requireNonNull( key, "Batch key cannot be null" );
+		requireNonNull( jdbcCoordinator, "JDBC coordinator cannot be null" );
+		final var jdbcServices = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices();
+		final var dialect = jdbcServices.getDialect();
+		final boolean arrayPredicate = dialect.useArrayForMultiValuedParameters();
+		final boolean unnest = dialect.supportsUnnestInMutations();
+		if ( !arrayPredicate && !unnest
+				// the statements are rewritten with plain markers
+				|| !isStandardRenderer( jdbcServices.getParameterMarkerStrategy() ) ) {
+			return null;
+		}
+		final List<TableRows> tables = new ArrayList<>( statementGroup.getNumberOfStatements() );
+		statementGroup.forEachStatement( (tableName, statementDetails) -> {
+			final var tableRows = TableRows.parse( statementDetails, batchSizeToUse );
+			if ( tableRows != null
+					&& ( unnest || arrayPredicate && tableRows.isDeleteBySingleColumn() ) ) {
+				tables.add( tableRows );
+			}
+		} );
+		return tables.size() == statementGroup.getNumberOfStatements()
+				? new ArrayParameterMutationBatch( key, statementGroup, tables, batchSizeToUse, jdbcCoordinator )
+				: null;
+	}
+
+	@Override
+	protected void executeTable(TableRows table) {
+		final int parameterCount = table.parameterCount();
+		final JdbcMapping[] jdbcMappings = new JdbcMapping[parameterCount];
+		final JdbcMapping[] arrayMappings = new JdbcMapping[parameterCount];
+		final Object[][] arrays = new Object[parameterCount][];
+		for ( var binding : table.rows.get( 0 ) ) {
+			final int index = binding.getPosition() - 1;
+			final var jdbcMapping = binding.getValueDescriptor().getJdbcMapping();
+			final var arrayMapping = index < 0 || index >= parameterCount || arrayMappings[index] != null
+					? null
+					: arrayMapping( jdbcMapping );
+			if ( arrayMapping == null ) {
+				executeRowByRow( table, 0, table.rows.size() );
+				return;
+			}
+			jdbcMappings[index] = jdbcMapping;
+			arrayMappings[index] = arrayMapping;
+			arrays[index] = newArray( jdbcMapping, table.rows.size() );
+		}
+		for ( var arrayMapping : arrayMappings ) {
+			if ( arrayMapping == null ) {
+				// a parameter without binding
+				executeRowByRow( table, 0, table.rows.size() );
+				return;
+			}
+		}
+		for ( int row = 0; row < table.rows.size(); row++ ) {
+			final Binding[] bindings = table.rows.get( row );
+			if ( bindings.length != parameterCount ) {
+				executeRowByRow( table, 0, table.rows.size() );
+				return;
+			}
+			for ( var binding : bindings ) {
+				arrays[binding.getPosition() - 1][row] = value( binding );
+			}
+		}
+
+		final String sql = table.sql( jdbcMappings, arrayMappings, session.getFactory() );
+		executeStatement( table, 0, table.rows.size(), sql, statement -> {
+			for ( int i = 0; i < parameterCount; i++ ) {
+				arrayMappings[i].getJdbcValueBinder().bind( statement, arrays[i], i + 1, session );
+			}
+		} );
+	}
+
+	/**
+	 * The type of an array of JDBC values of the given mapping, or {@code null}
+	 * if there is no such type.
+	 */
+	private @Nullable JdbcMapping arrayMapping(JdbcMapping jdbcMapping) {
+		final var factory = session.getFactory();
+		// the collected values are already converted
+		final var elementType =
+				factory.getTypeConfiguration().getBasicTypeRegistry()
+						.resolve( jdbcMapping.getJdbcJavaType(), jdbcMapping.getJdbcType() );
+		try {
+			return resolveArrayJdbcMapping(
+					elementType,
+					elementType.getJavaTypeDescriptor().getJavaTypeClass(),
+					factory
+			);
+		}
+		catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	@AllowReflection
+	private static Object[] newArray(JdbcMapping jdbcMapping, int length) {
+		return (Object[]) Array.newInstance( jdbcMapping.getJdbcJavaType().getJavaTypeClass(), length );
+	}
+
+	/**
+	 * The single-row update or delete statement of a table, split into the columns
+	 * it assigns and the columns it restricts, each to a parameter, and the bindings
+	 * of the rows collected for the table.
+	 */
+	static class TableRows extends AbstractRowCollectingBatch.TableRows {
+		private static final String TARGET_ALIAS = "t_";
+		private static final String ARRAYS_ALIAS = "u_";
+
+		private final String tableName;
+		// empty for a delete
+		private final List<String> assignedColumns;
+		private final List<String> restrictedColumns;
+		private final boolean delete;
+		private String sql;
+
+		private TableRows(
+				PreparedStatementDetails statementDetails,
+				String tableName,
+				List<String> assignedColumns,
+				List<String> restrictedColumns,
+				boolean delete,
+				int batchSize) {
+			super( statementDetails, batchSize );
+			this.tableName = tableName;
+			this.assignedColumns = assignedColumns;
+			this.restrictedColumns = restrictedColumns;
+			this.delete = delete;
+		}
+
+		@Nullable
+		private static TableRows parse(PreparedStatementDetails statementDetails, int batchSize) {
+			final var expectation = statementDetails.getExpectation();
+			if ( !( expectation instanceof Expectation.RowCount || expectation instanceof Expectation.None ) ) {
+				return null;
+			}
+			String sql = statementDetails.getSqlString();
+			if ( sql.startsWith( "/*" ) ) {
+				// a comment, when hibernate.use_sql_comments is enabled
+				final int end = sql.indexOf( "*/" );
+				sql = end < 0 ? "" : sql.substring( end + 2 ).trim();
+			}
+			final String lowerCaseSql = sql.toLowerCase( Locale.ROOT );
+			if ( lowerCaseSql.startsWith( "update " ) ) {
+				final int setIndex = lowerCaseSql.indexOf( " set " );
+				final int whereIndex = lowerCaseSql.lastIndexOf( " where " );
+				if ( setIndex < 0 || whereIndex < setIndex ) {
+					return null;
+				}
+				final var assignedColumns = columns( sql.substring( setIndex + 5, whereIndex ), "," );
+				final var restrictedColumns = columns( sql.substring( whereIndex + 7 ), " and " );
+				final String tableName = sql.substring( 7, setIndex );
+				return assignedColumns == null || restrictedColumns == null || !isName( tableName )
+						? null
+						: new TableRows( statementDetails, tableName, assignedColumns, restrictedColumns, false, batchSize );
+			}
+			else if ( lowerCaseSql.startsWith( "delete from " ) ) {
+				final int whereIndex = lowerCaseSql.indexOf( " where " );
+				if ( whereIndex < 0 ) {
+					return null;
+				}
+				final var restrictedColumns = columns( sql.substring( whereIndex + 7 ), " and " );
+				final String tableName = sql.substring( 12, whereIndex );
+				return restrictedColumns == null || !isName( tableName )
+						? null
+						: new TableRows( statementDetails, tableName, List.of(), restrictedColumns, true, batchSize );
+			}
+			else {
+				return null;
+			}
+		}
+
+		/**
+		 * The columns of a list of {@code column=?} items, or {@code null} if one of
+		 * the items has a different form, for example because it is a custom write
+		 * expression, or a restriction which is not a parameter.
+		 */
+		private static @Nullable List<String> columns(String items, String separator) {
+			final List<String> columns = new ArrayList<>();
+			int start = 0;
+			while ( true ) {
+				final int end = items.indexOf( separator, start );
+				final String item = ( end < 0 ? items.substring( start ) : items.substring( start, end ) ).trim();
+				if ( !item.endsWith( "=?" ) ) {
+					return null;
+				}
+				final String column = item.substring( 0, item.length() - 2 );
+				if ( !isName( column ) ) {
+					return null;
+				}
+				columns.add( column );
+				if ( end < 0 ) {
+					return columns;
+				}
+				start = end + separator.length();
+			}
+		}
+
+		private static boolean isName(String name) {
+			if ( name.isEmpty() ) {
+				return false;
+			}
+			for ( int i = 0; i < name.length(); i++ ) {
+				final char character = name.charAt( i );
+				if ( Character.isWhitespace( character ) || "?=(),'".indexOf( character ) >= 0 ) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private boolean isDeleteBySingleColumn() {
+			return delete && restrictedColumns.size() == 1;
+		}
+
+		private int parameterCount() {
+			return assignedColumns.size() + restrictedColumns.size();
+		}
+
+		private String sql(JdbcMapping[] jdbcMappings, JdbcMapping[] arrayMappings, SessionFactoryImplementor factory) {
+			if ( sql == null ) {
+				final var dialect = factory.getJdbcServices().getDialect();
+				sql = isDeleteBySingleColumn() && dialect.useArrayForMultiValuedParameters()
+						? arrayPredicateSql( jdbcMappings[0], arrayMappings[0], factory )
+						: unnestSql();
+			}
+			return sql;
+		}
+
+		/**
+		 * {@code delete from t where id = any (?)}, or its equivalent for the dialect
+		 */
+		private String arrayPredicateSql(
+				JdbcMapping jdbcMapping,
+				JdbcMapping arrayMapping,
+				SessionFactoryImplementor factory) {
+			final var tableReference = new NamedTableReference( tableName, DeleteStatement.DEFAULT_ALIAS );
+			final var restriction = new InArrayPredicate(
+					new ColumnReference( tableReference, restrictedColumns.get( 0 ), jdbcMapping ),
+					new JdbcParameterImpl( arrayMapping )
+			);
+			return factory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
+					.buildMutationTranslator( factory, new DeleteStatement( tableReference, restriction ) )
+					.translate( NO_BINDINGS, QueryOptions.NONE )
+					.getSqlString();
+		}
+
+		/**
+		 * {@code update t t_ set c=u_.v1 from unnest(?,?) u_(v1,v2) where t_.id=u_.v2}, or
+		 * {@code delete from t t_ using unnest(?) u_(v1) where t_.id=u_.v1}
+		 */
+		private String unnestSql() {
+			final int parameterCount = parameterCount();
+			final var sql = new StringBuilder( 64 + 24 * parameterCount );
+			if ( delete ) {
+				sql.append( "delete from " ).append( tableName ).append( ' ' ).append( TARGET_ALIAS )
+						.append( " using " );
+			}
+			else {
+				sql.append( "update " ).append( tableName ).append( ' ' ).append( TARGET_ALIAS ).append( " set " );
+				for ( int i = 0; i < assignedColumns.size(); i++ ) {
+					if ( i > 0 ) {
+						sql.append( ',' );
+					}
+					sql.append( assignedColumns.get( i ) ).append( '=' ).append( ARRAYS_ALIAS ).append( ".v" ).append( i + 1 );
+				}
+				sql.append( " from " );
+			}
+			sql.append( "unnest(" );
+			for ( int i = 0; i < parameterCount; i++ ) {
+				if ( i > 0 ) {
+					sql.append( ',' );
+				}
+				sql.append( '?' );
+			}
+			sql.append( ") " ).append( ARRAYS_ALIAS ).append( '(' );
+			for ( int i = 0; i < parameterCount; i++ ) {
+				if ( i > 0 ) {
+					sql.append( ',' );
+				}
+				sql.append( 'v' ).append( i + 1 );
+			}
+			sql.append( ") where " );
+			for ( int i = 0; i < restrictedColumns.size(); i++ ) {
+				if ( i > 0 ) {
+					sql.append( " and " );
+				}
+				sql.append( TARGET_ALIAS ).append( '.' ).append( restrictedColumns.get( i ) )
+						.append( '=' ).append( ARRAYS_ALIAS ).append( ".v" ).append( assignedColumns.size() + i + 1 );
+			}
+			return sql.toString();
+		}
+	}
+}
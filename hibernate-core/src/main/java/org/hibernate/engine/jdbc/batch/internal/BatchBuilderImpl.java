@@ -7,6 +7,7 @@
 import java.util.function.Supplier;
 
 import org.hibernate.Internal;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
@@ -16,6 +17,7 @@
 import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.StatelessSessionImplementor;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.sql.model.PreparableMutationOperation;
 import org.hibernate.sql.model.TableMapping;
@@ -31,6 +33,7 @@
  */
 public class BatchBuilderImpl implements BatchBuilder {
 	private final int globalBatchSize;
+	private final boolean multiRowInserts;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -39,11 +42,26 @@ public class BatchBuilderImpl implements BatchBuilder {
 	 * on {@link #buildGroupedBatch}
 	 */
 	public BatchBuilderImpl(int globalBatchSize) {
+		this( globalBatchSize, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildGroupedBatch}
+	 * @param multiRowInserts Whether entity inserts should be batched
+	 * as {@linkplain MultiRowInsertBatch multi-row inserts}
+	 *
+	 * @since 8.0
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean multiRowInserts) {
 		if ( globalBatchSize > 1 ) {
 			BATCH_MESSAGE_LOGGER.batchingEnabled( globalBatchSize );
 		}
 		BATCH_MESSAGE_LOGGER.usingStandardBatchBuilder();
 		this.globalBatchSize = globalBatchSize;
+		this.multiRowInserts = multiRowInserts;
 	}
 
 	public int getJdbcBatchSize() {
@@ -64,7 +82,43 @@ public GroupedBatch buildGroupedBatch(
 			JdbcCoordinator jdbcCoordinator) {
 		final int batchSize = batchSize( explicitBatchSize );
 		assert batchSize > 1;
-		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
+		final var statementGroup = statementGroupSupplier.get();
+		if ( key instanceof EntityInsertBatchKey ) {
+			final boolean bulkInsert = isBulkInserting( jdbcCoordinator );
+			if ( multiRowInserts || bulkInsert ) {
+				final var batch = MultiRowInsertBatch.create(
+						key,
+						statementGroup,
+						batchSize,
+						jdbcCoordinator,
+						bulkInsert ? getDialect( jdbcCoordinator ).getBulkInsertStrategy() : null
+				);
+				if ( batch != null ) {
+					return batch;
+				}
+			}
+		}
+		else if ( isUsingArrayParameters( jdbcCoordinator ) ) {
+			final var batch = ArrayParameterMutationBatch.create( key, statementGroup, batchSize, jdbcCoordinator );
+			if ( batch != null ) {
+				return batch;
+			}
+		}
+		return new BatchImpl( key, statementGroup, batchSize, jdbcCoordinator );
+	}
+
+	private static boolean isBulkInserting(JdbcCoordinator jdbcCoordinator) {
+		return jdbcCoordinator.getJdbcSessionOwner() instanceof StatelessSessionImplementor statelessSession
+			&& statelessSession.isBulkInserting();
+	}
+
+	private static boolean isUsingArrayParameters(JdbcCoordinator jdbcCoordinator) {
+		return jdbcCoordinator.getJdbcSessionOwner() instanceof StatelessSessionImplementor statelessSession
+			&& statelessSession.isUsingArrayParameters();
+	}
+
+	private static Dialect getDialect(JdbcCoordinator jdbcCoordinator) {
+		return jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices().getDialect();
 	}
 
 	@Override
@@ -15,7 +15,9 @@
 
 import static org.hibernate.cfg.BatchSettings.BATCH_STRATEGY;
 import static org.hibernate.cfg.BatchSettings.BUILDER;
+import static org.hibernate.cfg.BatchSettings.MULTI_ROW_INSERTS;
 import static org.hibernate.cfg.BatchSettings.STATEMENT_BATCH_SIZE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 
 /**
@@ -49,7 +51,10 @@ public BatchBuilder initiateService(@Nonnull Map<String, Object> configurationVa
 			final var discovered = discover( classLoaderService );
 			return discovered != null
 					? discovered
-					: new BatchBuilderImpl( getInt( STATEMENT_BATCH_SIZE, configurationValues, 1 ) );
+					: new BatchBuilderImpl(
+							getInt( STATEMENT_BATCH_SIZE, configurationValues, 1 ),
+							getBoolean( MULTI_ROW_INSERTS, configurationValues )
+					);
 		}
 		else if ( builder instanceof BatchBuilder batchBuilder ) {
 			return batchBuilder;
@@ -286,7 +286,11 @@ protected void performExecution() {
 					}
 					catch (SQLException e) {
 						abortBatch( e );
-						throw convertBatchException( sqlExceptionHelper.convert( e, "could not execute batch", sql ) );
+						throw convertBatchException(
+								sqlExceptionHelper.convert( e, "could not execute batch", sql ),
+								key,
+								jdbcCoordinator
+						);
 					}
 					catch (RuntimeException re) {
 						abortBatch( re );
@@ -303,7 +307,10 @@ protected void performExecution() {
 		}
 	}
 
-	private RuntimeException convertBatchException(RuntimeException exception) {
+	static RuntimeException convertBatchException(
+			RuntimeException exception,
+			BatchKey key,
+			JdbcCoordinator jdbcCoordinator) {
 		return jdbcCoordinator.getJdbcSessionOwner() instanceof SharedSessionContractImplementor session
 			&& session.getFactory().getSessionFactoryOptions().isJpaBootstrap()
 			&& key instanceof EntityInsertBatchKey
@@ -0,0 +1,237 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.annotation.Nullable;
+
+import org.hibernate.dialect.bulk.BulkInsertStrategy;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.GroupedBatch;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Objects.requireNonNull;
+import static org.hibernate.sql.ast.internal.ParameterMarkerStrategyStandard.isStandardRenderer;
+
+/**
+ * Implementation of {@link GroupedBatch} for entity inserts which, instead of relying
+ * on {@link PreparedStatement#addBatch()}, collects the bindings of the rows, and then
+ * executes a single {@code insert ... values (...), (...), ...} statement per table for
+ * up to the batch size of rows, or fewer if the {@linkplain
+ * org.hibernate.dialect.Dialect#getParameterCountLimit() parameter count limit} or the
+ * {@linkplain org.hibernate.dialect.Dialect#getValuesListForInsertRowLimit() row limit}
+ * of the database requires it. This costs one round-trip per chunk of rows, whether the
+ * JDBC driver rewrites batches or not.
+ * <p>
+ * Inserts needing the retrieval of generated values are never batched, so the rows
+ * of such a batch never need to read back generated keys.
+ * <p>
+ * If a {@link BulkInsertStrategy} is given, the rows of each table are first offered
+ * to it, and only the rows it declines are executed as multi-row inserts.
+ *
+ * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS
+ * @see org.hibernate.cfg.BatchSettings#BULK_INSERT
+ *
+ * @since 8.0
+ */
+public class MultiRowInsertBatch extends AbstractRowCollectingBatch<MultiRowInsertBatch.TableRows> {
+	private final int parameterCountLimit;
+	private final int rowLimit;
+	private final @Nullable BulkInsertStrategy bulkInsertStrategy;
+
+	private MultiRowInsertBatch(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			List<TableRows> tables,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			@Nullable BulkInsertStrategy bulkInsertStrategy) {
+		super( key, statementGroup, tables, batchSizeToUse, jdbcCoordinator );
+		this.bulkInsertStrategy = bulkInsertStrategy;
+		final var dialect = session.getJdbcServices().getDialect();
+		parameterCountLimit = dialect.getParameterCountLimit();
+		rowLimit = dialect.getValuesListForInsertRowLimit();
+	}
+
+	/**
+	 * Create a batch rendering multi-row inserts for the given statements, or return
+	 * {@code null} if the database does not support them, if native parameter markers
+	 * are used, or if one of the statements cannot be rewritten, for example because it
+	 * is custom SQL calling a procedure.
+	 */
+	@Nullable
+	public static MultiRowInsertBatch create(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator) {
+		return create( key, statementGroup, batchSizeToUse, jdbcCoordinator, null );
+	}
+
+	/**
+	 * Create a batch offering its rows to the given {@link BulkInsertStrategy} before
+	 * rendering multi-row inserts, or return {@code null} under the same conditions as
+	 * {@link #create(BatchKey, PreparedStatementGroup, int, JdbcCoordinator)}.
+	 *
+	 * @since 8.0
+	 */
+	@Nullable
+	public static MultiRowInsertBatch create(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			@Nullable BulkInsertStrategy bulkInsertStrategy) {
+		requireNonNull( key, "Batch key cannot be null" );
+		requireNonNull( jdbcCoordinator, "JDBC coordinator cannot be null" );
+		final var jdbcServices = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices();
+		if ( !jdbcServices.getDialect().supportsValuesListForInsert()
+				// native markers are numbered, so the tuple cannot simply be repeated
+				|| !isStandardRenderer( jdbcServices.getParameterMarkerStrategy() ) ) {
+			return null;
+		}
+		final List<TableRows> tables = new ArrayList<>( statementGroup.getNumberOfStatements() );
+		statementGroup.forEachStatement( (tableName, statementDetails) -> {
+			final var tableRows = TableRows.parse( statementDetails, batchSizeToUse );
+			if ( tableRows != null ) {
+				tables.add( tableRows );
+			}
+		} );
+		return tables.size() == statementGroup.getNumberOfStatements()
+				? new MultiRowInsertBatch( key, statementGroup, tables, batchSizeToUse, jdbcCoordinator, bulkInsertStrategy )
+				: null;
+	}
+
+	@Override
+	protected void executeTable(TableRows table) {
+		if ( bulkInsertStrategy == null || !bulkInsert( table, bulkInsertStrategy ) ) {
+			final int rowCount = table.rows.size();
+			final int chunkSize = table.chunkSize( parameterCountLimit, rowLimit );
+			for ( int start = 0; start < rowCount; start += chunkSize ) {
+				executeChunk( table, start, min( start + chunkSize, rowCount ) );
+			}
+		}
+	}
+
+	private void executeChunk(TableRows table, int start, int end) {
+		final String sql = table.insert.getMultiRowSqlString( end - start );
+		executeStatement( table, start, end, sql, statement -> {
+			int offset = 0;
+			for ( int row = start; row < end; row++ ) {
+				for ( var binding : table.rows.get( row ) ) {
+					bind( statement, binding, offset + binding.getPosition(), sql );
+				}
+				offset += table.parametersPerRow;
+			}
+		} );
+	}
+
+	/**
+	 * Offer the rows of the given table to the bulk insert strategy, which is only
+	 * possible if each value is bound to a column, in the order of the bindings.
+	 */
+	private boolean bulkInsert(TableRows table, BulkInsertStrategy bulkInsertStrategy) {
+		final int columnCount = table.parametersPerRow;
+		if ( !table.plainTuple || table.rows.isEmpty() || columnCount == 0 ) {
+			return false;
+		}
+		final String[] columnNames = new String[columnCount];
+		final JdbcMapping[] jdbcMappings = new JdbcMapping[columnCount];
+		for ( var binding : table.rows.get( 0 ) ) {
+			final int index = binding.getPosition() - 1;
+			if ( index < 0 || index >= columnCount
+					|| binding.getColumnName() == null || columnNames[index] != null ) {
+				return false;
+			}
+			columnNames[index] = binding.getColumnName();
+			jdbcMappings[index] = binding.getValueDescriptor().getJdbcMapping();
+		}
+		final List<Object[]> rows = new ArrayList<>( table.rows.size() );
+		for ( var bindings : table.rows ) {
+			if ( bindings.length != columnCount ) {
+				return false;
+			}
+			final Object[] row = new Object[columnCount];
+			for ( var binding : bindings ) {
+				row[binding.getPosition() - 1] = value( binding );
+			}
+			rows.add( row );
+		}
+		return bulkInsertStrategy.insertRows(
+				table.statementDetails.getMutatingTableDetails().getTableName(),
+				columnNames,
+				jdbcMappings,
+				rows,
+				session
+		);
+	}
+
+	/**
+	 * The single-row insert statement of a table, ending with its tuple of values,
+	 * and the bindings of the rows collected for the table.
+	 */
+	static class TableRows extends AbstractRowCollectingBatch.TableRows {
+		private final JdbcInsertMutation insert;
+		private final int parametersPerRow;
+		// whether the tuple is just parameters, and the statement is not custom SQL,
+		// so that each parameter is the value of the column of its binding
+		private final boolean plainTuple;
+
+		private TableRows(
+				PreparedStatementDetails statementDetails,
+				JdbcInsertMutation insert,
+				boolean plainTuple,
+				int batchSize) {
+			super( statementDetails, batchSize );
+			this.insert = insert;
+			this.parametersPerRow = insert.getParameterBinders().size();
+			this.plainTuple = plainTuple;
+		}
+
+		@Nullable
+		private static TableRows parse(PreparedStatementDetails statementDetails, int batchSize) {
+			final var expectation = statementDetails.getExpectation();
+			if ( !( expectation instanceof Expectation.RowCount || expectation instanceof Expectation.None ) ) {
+				return null;
+			}
+			if ( statementDetails.getMutationOperation() instanceof JdbcInsertMutation insert
+					&& insert.getSqlString().equals( statementDetails.getSqlString() ) ) {
+				// the tuple is only rendered for generated SQL, without returning clause
+				final String tuple = insert.getValuesTuple();
+				return tuple == null ? null : new TableRows( statementDetails, insert, isPlain( tuple ), batchSize );
+			}
+			else {
+				return null;
+			}
+		}
+
+		private static boolean isPlain(String tuple) {
+			for ( int i = 1; i < tuple.length() - 1; i++ ) {
+				final char character = tuple.charAt( i );
+				if ( character != '?' && character != ',' && !Character.isWhitespace( character ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private int chunkSize(int parameterCountLimit, int rowLimit) {
+			final int parameterChunkSize = parameterCountLimit > 0 && parametersPerRow > 0
+					? max( 1, parameterCountLimit / parametersPerRow )
+					: rows.size();
+			return rowLimit > 0 ? min( rowLimit, parameterChunkSize ) : parameterChunkSize;
+		}
+	}
+}
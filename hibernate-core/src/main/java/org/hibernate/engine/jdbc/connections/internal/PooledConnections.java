@@ -9,6 +9,8 @@
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static org.hibernate.internal.log.ConnectionInfoLogger.CONNECTION_INFO_LOGGER;
 
@@ -20,6 +22,8 @@ class PooledConnections {
 
 	private final ConcurrentLinkedQueue<Connection> allConnections = new ConcurrentLinkedQueue<>();
 	private final ConcurrentLinkedQueue<Connection> availableConnections = new ConcurrentLinkedQueue<>();
+	// not a monitor, since a virtual thread waiting for a new connection would pin its carrier
+	private final Lock growthLock = new ReentrantLock();
 
 	private final ConnectionCreator connectionCreator;
 	private final ConnectionValidator connectionValidator;
@@ -93,14 +97,11 @@ Connection poll() {
 		do {
 			conn = availableConnections.poll();
 			if ( conn == null ) {
-				synchronized (allConnections) {
-					if ( allConnections.size() < maxSize ) {
-						addConnections( 1 );
-						return poll();
-					}
+				conn = newConnection();
+				if ( conn == null ) {
+					throw new HibernateException(
+							"The internal connection pool has reached its maximum size and no connection is currently available" );
 				}
-				throw new HibernateException(
-						"The internal connection pool has reached its maximum size and no connection is currently available" );
 			}
 			conn = prepareConnection( conn );
 		}
@@ -108,6 +109,26 @@ Connection poll() {
 		return conn;
 	}
 
+	/**
+	 * Create a connection for the calling thread, unless the pool has reached its maximum size.
+	 */
+	private Connection newConnection() {
+		growthLock.lock();
+		try {
+			if ( allConnections.size() < maxSize ) {
+				final Connection connection = connectionCreator.createConnection();
+				allConnections.add( connection );
+				return connection;
+			}
+			else {
+				return null;
+			}
+		}
+		finally {
+			growthLock.unlock();
+		}
+	}
+
 	protected Connection prepareConnection(Connection conn) {
 		Exception t = null;
 		try {
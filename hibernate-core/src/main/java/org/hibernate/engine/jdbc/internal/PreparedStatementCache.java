@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.resource.jdbc.spi.StatementCache;
+
+import jakarta.annotation.Nullable;
+
+import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_LOGGER;
+
+/**
+ * A bounded LRU cache of the {@link PreparedStatement}s of a logical connection,
+ * keyed by SQL and result set options. A statement is taken out of the cache
+ * while it is in use, and is retained again when it is released, so that it is
+ * never shared. If a statement with the same key was retained in the meantime,
+ * the released statement is closed instead.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+ *
+ * @since 8.0
+ */
+class PreparedStatementCache implements StatementCache {
+
+	/**
+	 * The SQL and the options of a prepared statement.
+	 *
+	 * @param columnNames the names of the columns whose generated values are returned
+	 */
+	record Key(
+			String sql,
+			boolean callable,
+			int resultSetType,
+			int autoGeneratedKeys,
+			@Nullable List<String> columnNames) {
+	}
+
+	private final Map<Key, PreparedStatement> idleStatements;
+	private final IdentityHashMap<Statement, Key> statementsInUse = new IdentityHashMap<>();
+
+	PreparedStatementCache(int maxSize) {
+		idleStatements = new LinkedHashMap<>( 16, 0.75f, true ) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, PreparedStatement> eldest) {
+				if ( size() > maxSize ) {
+					close( eldest.getValue() );
+					return true;
+				}
+				else {
+					return false;
+				}
+			}
+		};
+	}
+
+	/**
+	 * Take the cached statement with the given key out of the cache,
+	 * or return {@code null} if there is no such statement.
+	 */
+	@Nullable PreparedStatement take(Key key) {
+		final var statement = idleStatements.remove( key );
+		if ( statement != null ) {
+			statementsInUse.put( statement, key );
+		}
+		return statement;
+	}
+
+	/**
+	 * Remember the given newly prepared statement, so that it
+	 * is retained when it is released.
+	 */
+	void prepared(Key key, PreparedStatement statement) {
+		statementsInUse.put( statement, key );
+	}
+
+	@Override
+	public boolean retain(Statement statement) {
+		final Key key = statementsInUse.remove( statement );
+		if ( key == null || idleStatements.containsKey( key ) || !reset( statement ) ) {
+			return false;
+		}
+		else {
+			idleStatements.put( key, (PreparedStatement) statement );
+			return true;
+		}
+	}
+
+	/**
+	 * Clear the state left in the statement by its previous use,
+	 * returning {@code false} if it cannot be reused.
+	 */
+	private static boolean reset(Statement statement) {
+		try {
+			final var preparedStatement = (PreparedStatement) statement;
+			// discard the rows of an aborted batch
+			preparedStatement.clearBatch();
+			preparedStatement.clearParameters();
+			preparedStatement.clearWarnings();
+			if ( preparedStatement.getMaxRows() != 0 ) {
+				preparedStatement.setMaxRows( 0 );
+			}
+			if ( preparedStatement.getQueryTimeout() != 0 ) {
+				preparedStatement.setQueryTimeout( 0 );
+			}
+			if ( preparedStatement.getFetchSize() != 0 ) {
+				preparedStatement.setFetchSize( 0 );
+			}
+			return true;
+		}
+		catch (SQLException e) {
+			JDBC_LOGGER.unableToResetCachedStatement( e.getMessage() );
+			return false;
+		}
+	}
+
+	@Override
+	public void releaseStatements() {
+		for ( var statement : idleStatements.values() ) {
+			close( statement );
+		}
+		idleStatements.clear();
+		// these are closed by the resource registry
+		statementsInUse.clear();
+	}
+
+	private static void close(Statement statement) {
+		try {
+			statement.close();
+		}
+		catch (SQLException e) {
+			JDBC_LOGGER.unableToCloseCachedStatement( e.getMessage() );
+		}
+	}
+}
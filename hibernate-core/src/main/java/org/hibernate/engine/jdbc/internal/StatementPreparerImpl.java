@@ -10,6 +10,7 @@
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.List;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.ScrollMode;
@@ -34,6 +35,7 @@
 class StatementPreparerImpl implements StatementPreparer {
 	private final JdbcCoordinatorImpl jdbcCoordinator;
 	private final JdbcServices jdbcServices;
+	private final @Nullable PreparedStatementCache statementCache;
 
 	/**
 	 * Construct a StatementPreparerImpl
@@ -43,6 +45,14 @@ class StatementPreparerImpl implements StatementPreparer {
 	StatementPreparerImpl(JdbcCoordinatorImpl jdbcCoordinator, JdbcServices jdbcServices) {
 		this.jdbcCoordinator = jdbcCoordinator;
 		this.jdbcServices = jdbcServices;
+		final int statementCacheSize = settings().getStatementCacheSize();
+		if ( statementCacheSize > 0 ) {
+			statementCache = new PreparedStatementCache( statementCacheSize );
+			logicalConnection().getResourceRegistry().setStatementCache( statementCache );
+		}
+		else {
+			statementCache = null;
+		}
 	}
 
 	protected final JdbcSessionContext settings() {
@@ -98,6 +108,12 @@ protected PreparedStatement doPrepare() throws SQLException {
 						? connection().prepareCall( sql )
 						: connection().prepareStatement( sql );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return new PreparedStatementCache.Key(
+						sql, isCallable, ResultSet.TYPE_FORWARD_ONLY, Statement.NO_GENERATED_KEYS, null );
+			}
 		};
 	}
 
@@ -117,6 +133,12 @@ public PreparedStatement prepareStatement(String sql, final int autoGeneratedKey
 			public PreparedStatement doPrepare() throws SQLException {
 				return connection().prepareStatement( sql, autoGeneratedKeys );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return new PreparedStatementCache.Key(
+						sql, false, ResultSet.TYPE_FORWARD_ONLY, autoGeneratedKeys, null );
+			}
 		}.prepareStatement();
 	}
 
@@ -128,6 +150,13 @@ public PreparedStatement prepareStatement(String sql, final String[] columnNames
 			public PreparedStatement doPrepare() throws SQLException {
 				return connection().prepareStatement( sql, columnNames );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return new PreparedStatementCache.Key(
+						sql, false, ResultSet.TYPE_FORWARD_ONLY, Statement.RETURN_GENERATED_KEYS,
+						List.of( columnNames ) );
+			}
 		}.prepareStatement();
 	}
 
@@ -154,6 +183,12 @@ public PreparedStatement doPrepare() throws SQLException {
 								? connection().prepareCall( sql, resultSetType, ResultSet.CONCUR_READ_ONLY )
 								: connection().prepareStatement( sql, resultSetType, ResultSet.CONCUR_READ_ONLY );
 					}
+
+					@Override
+					protected PreparedStatementCache.Key cacheKey() {
+						return new PreparedStatementCache.Key(
+								sql, isCallable, resultSetType, Statement.NO_GENERATED_KEYS, null );
+					}
 				}.prepareStatement();
 		jdbcCoordinator.registerLastQuery( preparedStatement );
 		return preparedStatement;
@@ -176,6 +211,23 @@ public PreparedStatement prepareStatement() {
 
 				final var jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
 				final var observer = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+				final PreparedStatementCache.Key cacheKey;
+				if ( statementCache != null ) {
+					cacheKey = cacheKey();
+					final var cachedStatement = statementCache.take( cacheKey );
+					if ( cachedStatement != null ) {
+						JDBC_LOGGER.reusingCachedStatement( sql );
+						observer.jdbcPreparedStatementCacheHit();
+						setStatementTimeout( cachedStatement );
+						postProcess( cachedStatement );
+						return cachedStatement;
+					}
+					observer.jdbcPreparedStatementCacheMiss();
+				}
+				else {
+					cacheKey = null;
+				}
+
 				final var eventMonitor = jdbcSessionOwner.getEventMonitor();
 				final var jdbcPreparedStatementCreation = eventMonitor.beginJdbcPreparedStatementCreationEvent();
 				final PreparedStatement preparedStatement;
@@ -188,6 +240,9 @@ public PreparedStatement prepareStatement() {
 					eventMonitor.completeJdbcPreparedStatementCreationEvent( jdbcPreparedStatementCreation, sql );
 					observer.jdbcPrepareStatementEnd();
 				}
+				if ( cacheKey != null ) {
+					statementCache.prepared( cacheKey, preparedStatement );
+				}
 				postProcess( preparedStatement );
 				return preparedStatement;
 			}
@@ -198,6 +253,11 @@ public PreparedStatement prepareStatement() {
 
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
+		/**
+		 * The key of the statement in the {@linkplain PreparedStatementCache statement cache}.
+		 */
+		protected abstract PreparedStatementCache.Key cacheKey();
+
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
 			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( preparedStatement, true );
 //			logicalConnection().notifyObserversStatementPrepared();
@@ -7,9 +7,12 @@
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 
+import jakarta.annotation.Nullable;
+
 import org.hibernate.Incubating;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.jdbc.Expectation;
+import org.hibernate.sql.model.PreparableMutationOperation;
 import org.hibernate.sql.model.TableMapping;
 
 /**
@@ -29,6 +32,16 @@ public interface PreparedStatementDetails {
 	 */
 	String getSqlString();
 
+	/**
+	 * The mutation operation whose SQL is used to mutate the table, if known
+	 *
+	 * @since 8.0
+	 */
+	@Nullable
+	default PreparableMutationOperation getMutationOperation() {
+		return null;
+	}
+
 	/**
 	 * The {@link PreparedStatement} generated from the SQL.  May return null.
 	 *
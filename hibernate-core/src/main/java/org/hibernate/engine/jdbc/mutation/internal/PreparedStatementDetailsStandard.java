@@ -22,6 +22,7 @@
  * @author Steve Ebersole
  */
 public class PreparedStatementDetailsStandard implements PreparedStatementDetails {
+	private final PreparableMutationOperation mutationOperation;
 	private final TableMapping mutatingTableDetails;
 	private final String sql;
 	private final Supplier<PreparedStatement> jdbcStatementCreator;
@@ -51,6 +52,7 @@ public PreparedStatementDetailsStandard(
 			Supplier<PreparedStatement> jdbcStatementCreator,
 			Expectation expectation,
 			JdbcServices jdbcServices) {
+		this.mutationOperation = tableMutation;
 		this.mutatingTableDetails = tableMutation.getTableDetails();
 		this.sql = sql;
 		this.jdbcStatementCreator = jdbcStatementCreator;
@@ -79,6 +81,11 @@ public String getSqlString() {
 		return sql;
 	}
 
+	@Override
+	public PreparableMutationOperation getMutationOperation() {
+		return mutationOperation;
+	}
+
 	@Override
 	public PreparedStatement getStatement() {
 		return statement;
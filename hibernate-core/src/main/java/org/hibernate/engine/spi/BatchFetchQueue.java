@@ -6,7 +6,9 @@
 
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -156,6 +158,46 @@ public void addBatchLoadableEntityKey(EntityKey key) {
 		}
 	}
 
+	/**
+	 * Add the given keys to the queue in a single pass, skipping keys which
+	 * are not batch loadable, and keys of entities which are initialized, or
+	 * being initialized, by the time this method is called.
+	 * <p>
+	 * Allows the processing of a result set to collect the keys from all its
+	 * rows, and to register them at once instead of once per row.
+	 *
+	 * @see #addBatchLoadableEntityKey(EntityKey)
+	 *
+	 * @since 8.0
+	 */
+	public void addBatchLoadableEntityKeys(List<EntityKey> keys) {
+		final var influencers = getLoadQueryInfluencers();
+		EntityPersister persister = null;
+		boolean batchLoadable = false;
+		LinkedHashSet<EntityKey> entityKeys = null;
+		for ( int i = 0; i < keys.size(); i++ ) {
+			final var key = keys.get( i );
+			if ( key.getPersister() != persister ) {
+				persister = key.getPersister();
+				batchLoadable = key.isBatchLoadable( influencers );
+				entityKeys = null;
+			}
+			if ( batchLoadable ) {
+				// the entity might have been loaded by a later row of the result
+				final var holder = context.getEntityHolder( key );
+				if ( holder == null || !holder.isEventuallyInitialized() ) {
+					if ( entityKeys == null ) {
+						if ( batchLoadableEntityKeys == null ) {
+							batchLoadableEntityKeys = mapOfSize( 12 );
+						}
+						entityKeys = batchLoadableEntityKeys.computeIfAbsent( key.getEntityName(),
+								k -> linkedSetOfSize( 8 ) );
+					}
+					entityKeys.add( key );
+				}
+			}
+		}
+	}
 
 	/**
 	 * After evicting or deleting or loading an entity, we don't
@@ -205,33 +247,17 @@ public <T> void collectBatchLoadableEntityIds(
 			if ( entityKeys != null ) {
 				final var session = context.getSession();
 				final var identifierMapping = entityDescriptor.getIdentifierMapping();
-				int batchPosition = 1;
-				int end = -1;
-				boolean checkForEnd = false;
+				final var batch = new BatchCollector<>( domainBatchSize, collector,
+						cacheLookup( entityDescriptor.getEntityPersister() ) );
 				for ( var entityKey : entityKeys ) {
-					if ( checkForEnd && batchPosition == end ) {
+					//noinspection unchecked
+					final T identifier = (T) entityKey.getIdentifier();
+					if ( batch.add( identifier, identifierMapping.areEqual( loadingId, identifier, session ) ) ) {
 						// the first id found after the given id
-						return; // end the loop
-					}
-					else {
-						final Object identifier = entityKey.getIdentifier();
-						if ( identifierMapping.areEqual( loadingId, identifier, session ) ) {
-							end = batchPosition;
-						}
-						else if ( !isCached( entityKey, entityDescriptor.getEntityPersister() ) ) {
-							//noinspection unchecked
-							collector.accept( batchPosition++, (T) identifier );
-						}
-					}
-
-					if ( batchPosition == domainBatchSize ) {
-						// end of array, start filling again from start
-						batchPosition = 1;
-						if ( end != -1 ) {
-							checkForEnd = true;
-						}
+						return;
 					}
 				}
+				batch.flush();
 			}
 		}
 	}
@@ -251,33 +277,21 @@ else if ( !isCached( entityKey, entityDescriptor.getEntityPersister() ) ) {
 		ids[0] = loadingId;
 
 		if ( batchLoadableEntityKeys != null ) {
-			int i = 1;
-			int end = -1;
-			boolean checkForEnd = false;
 			// TODO: this needn't exclude subclasses...
 			final var entityKeys = batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
 			if ( entityKeys != null ) {
 				final var entityPersister = entityDescriptor.getEntityPersister();
 				final var identifierType = entityPersister.getIdentifierType();
+				final var batch = new BatchCollector<>( maxBatchSize, (i, id) -> ids[i] = id,
+						cacheLookup( entityPersister ) );
 				for ( var entityKey : entityKeys ) {
-					if ( checkForEnd && i == end ) {
+					final Object identifier = entityKey.getIdentifier();
+					if ( batch.add( identifier, identifierType.isEqual( loadingId, identifier ) ) ) {
 						// the first id found after the given id
 						return ids;
 					}
-					else if ( identifierType.isEqual( loadingId, entityKey.getIdentifier() ) ) {
-						end = i;
-					}
-					else if ( !isCached( entityKey, entityPersister ) ) {
-						ids[i++] = entityKey.getIdentifier();
-					}
-
-					if ( i == maxBatchSize ) {
-						i = 1; // end of array, start filling again from start
-						if ( end != -1 ) {
-							checkForEnd = true;
-						}
-					}
 				}
+				batch.flush();
 			}
 			//we ran out of ids to try
 		}
@@ -338,12 +352,12 @@ public <T> void collectBatchLoadableCollectionKeys(
 		if ( batchLoadableCollections != null ) {
 			final var map = batchLoadableCollections.get( pluralAttributeMapping.getNavigableRole().getFullPath() );
 			if ( map != null ) {
-				int i = 1;
-				int end = -1;
-				boolean checkForEnd = false;
+				final var batch = new BatchCollector<>( batchSize, collector,
+						cacheLookup( pluralAttributeMapping.getCollectionDescriptor() ) );
 				for ( var me : map.entrySet() ) {
 					final var ce = me.getKey();
-					final Object loadedKey = ce.getLoadedKey();
+					//noinspection unchecked
+					final T loadedKey = (T) ce.getLoadedKey();
 					final var collection = me.getValue();
 
 					// the loadedKey of the collectionEntry might be null as it might have been reset to null
@@ -356,32 +370,18 @@ public <T> void collectBatchLoadableCollectionKeys(
 						if ( collection.wasInitialized() ) {
 							throw new AssertionFailure( "Encountered initialized collection in BatchFetchQueue" );
 						}
-						else if ( checkForEnd && i == end ) {
-							// the first key found after the given key
-							return;
-						}
 						else {
 							final boolean isEqual =
 									pluralAttributeMapping.getKeyDescriptor()
 											.areEqual( keyBeingLoaded, loadedKey, context.getSession() );
-							if ( isEqual ) {
-								end = i;
-							}
-							else if ( !isCached( loadedKey, pluralAttributeMapping.getCollectionDescriptor() ) ) {
-								//noinspection unchecked
-								collector.accept( i++, (T) loadedKey );
-							}
-
-							if ( i == batchSize ) {
-								//end of array, start filling again from start
-								i = 1;
-								if ( end != -1 ) {
-									checkForEnd = true;
-								}
+							if ( batch.add( loadedKey, isEqual ) ) {
+								// the first key found after the given key
+								return;
 							}
 						}
 					}
 				}
+				batch.flush();
 				//we ran out of keys to try
 			}
 		}
@@ -404,12 +404,10 @@ else if ( !isCached( loadedKey, pluralAttributeMapping.getCollectionDescriptor()
 		keys[0] = id;
 
 		if ( batchLoadableCollections != null ) {
-			int i = 1;
-			int end = -1;
-			boolean checkForEnd = false;
-
 			final var map = batchLoadableCollections.get( collectionPersister.getRole() );
 			if ( map != null ) {
+				final var batch = new BatchCollector<>( batchSize, (i, key) -> keys[i] = key,
+						cacheLookup( collectionPersister ) );
 				for ( var me : map.entrySet() ) {
 					final var collectionEntry = me.getKey();
 					final Object loadedKey = collectionEntry.getLoadedKey();
@@ -425,31 +423,18 @@ else if ( !isCached( loadedKey, pluralAttributeMapping.getCollectionDescriptor()
 						if ( collection.wasInitialized() ) {
 							throw new AssertionFailure( "Encountered initialized collection in BatchFetchQueue" );
 						}
-						else if ( checkForEnd && i == end ) {
-							return keys; //the first key found after the given key
-						}
 						else {
 							final boolean isEqual =
 									collectionPersister.getKeyType()
 											.isEqual( id, loadedKey, collectionPersister.getFactory() );
-							if ( isEqual ) {
-								end = i;
-								//checkForEnd = false;
-							}
-							else if ( !isCached( loadedKey, collectionPersister ) ) {
-								keys[i++] = loadedKey;
-								//count++;
-							}
-
-							if ( i == batchSize ) {
-								i = 1; //end of array, start filling again from start
-								if ( end != -1 ) {
-									checkForEnd = true;
-								}
+							if ( batch.add( loadedKey, isEqual ) ) {
+								//the first key found after the given key
+								return keys;
 							}
 						}
 					}
 				}
+				batch.flush();
 			}
 			//we ran out of keys to try
 		}
@@ -460,30 +445,156 @@ public SharedSessionContractImplementor getSession() {
 		return context.getSession();
 	}
 
-	private boolean isCached(Object collectionKey, CollectionPersister persister) {
+	/**
+	 * A function looking up the given collection keys in the second-level cache,
+	 * or {@code null} if the cache is not used.
+	 */
+	private @Nullable Function<Object[], Object[]> cacheLookup(CollectionPersister persister) {
 		final var session = getSession();
 		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() ) {
 			final var cache = castNonNull( persister.getCacheAccessStrategy() );
-			final Object cacheKey =
-					cache.generateCacheKey( collectionKey, persister,
-							session.getFactory(), session.getTenantIdentifier() );
-			return fromSharedCache( session, cacheKey, persister, cache ) != null;
+			final var factory = session.getFactory();
+			final String tenantIdentifier = session.getTenantIdentifier();
+			return collectionKeys -> {
+				final Object[] cacheKeys = new Object[collectionKeys.length];
+				for ( int i = 0; i < collectionKeys.length; i++ ) {
+					cacheKeys[i] = cache.generateCacheKey( collectionKeys[i], persister, factory, tenantIdentifier );
+				}
+				return fromSharedCache( session, cacheKeys, persister, cache );
+			};
 		}
 		else {
-			return false;
+			return null;
 		}
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
+	/**
+	 * A function looking up the given entity identifiers in the second-level cache,
+	 * or {@code null} if the cache is not used.
+	 */
+	private @Nullable Function<Object[], Object[]> cacheLookup(EntityPersister persister) {
 		final var session = getSession();
 		if ( session.getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
 			final var cache = castNonNull( persister.getCacheAccessStrategy() );
-			final Object key =
-					cache.generateCacheKey( entityKey.getIdentifier(), persister,
-							session.getFactory(), session.getTenantIdentifier() );
-			return fromSharedCache( session, key, persister, cache ) != null;
+			final var factory = session.getFactory();
+			final String tenantIdentifier = session.getTenantIdentifier();
+			return identifiers -> {
+				final Object[] cacheKeys = new Object[identifiers.length];
+				for ( int i = 0; i < identifiers.length; i++ ) {
+					cacheKeys[i] = cache.generateCacheKey( identifiers[i], persister, factory, tenantIdentifier );
+				}
+				return fromSharedCache( session, cacheKeys, persister, cache );
+			};
 		}
 		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Fills the positions {@code 1} to {@code batchSize - 1} of a batch with
+	 * the keys which follow the key being loaded in the queue, wrapping around
+	 * to overwrite the keys which precede it when there are not enough of them.
+	 * <p>
+	 * Keys which are found in the second-level cache are skipped. They are
+	 * looked up a whole batch of keys at a time, so that collecting a batch
+	 * costs a single access to the cache, rather than one per key.
+	 */
+	private static final class BatchCollector<T> {
+		private final int batchSize;
+		private final IndexedConsumer<T> collector;
+		private final @Nullable Function<Object[], Object[]> cacheLookup;
+
+		private final @Nullable Object[] pendingKeys;
+		private int pendingCount;
+		private int pendingKeyBeingLoaded = -1;
+
+		private int position = 1;
+		private int end = -1;
+		private boolean checkForEnd;
+
+		private BatchCollector(
+				int batchSize,
+				IndexedConsumer<T> collector,
+				@Nullable Function<Object[], Object[]> cacheLookup) {
+			this.batchSize = batchSize;
+			this.collector = collector;
+			this.cacheLookup = cacheLookup;
+			this.pendingKeys = cacheLookup == null ? null : new Object[batchSize];
+		}
+
+		/**
+		 * Add the next key of the queue.
+		 *
+		 * @return {@code true} if the batch is complete
+		 */
+		boolean add(T key, boolean isKeyBeingLoaded) {
+			if ( cacheLookup == null ) {
+				return accept( key, isKeyBeingLoaded, false );
+			}
+			else {
+				if ( isKeyBeingLoaded ) {
+					pendingKeyBeingLoaded = pendingCount;
+				}
+				pendingKeys[pendingCount++] = key;
+				return pendingCount == pendingKeys.length && flush();
+			}
+		}
+
+		/**
+		 * Add the keys which are waiting for their cache lookup.
+		 *
+		 * @return {@code true} if the batch is complete
+		 */
+		boolean flush() {
+			if ( pendingCount == 0 ) {
+				return false;
+			}
+			// the key being loaded is not looked up
+			final Object[] lookedUpKeys =
+					new Object[pendingKeyBeingLoaded < 0 ? pendingCount : pendingCount - 1];
+			for ( int i = 0, j = 0; i < pendingCount; i++ ) {
+				if ( i != pendingKeyBeingLoaded ) {
+					lookedUpKeys[j++] = pendingKeys[i];
+				}
+			}
+			final Object[] cachedEntries =
+					lookedUpKeys.length == 0 ? lookedUpKeys : castNonNull( cacheLookup ).apply( lookedUpKeys );
+			final int count = pendingCount;
+			final int keyBeingLoaded = pendingKeyBeingLoaded;
+			pendingCount = 0;
+			pendingKeyBeingLoaded = -1;
+			for ( int i = 0, j = 0; i < count; i++ ) {
+				//noinspection unchecked
+				final T key = (T) pendingKeys[i];
+				final boolean complete = i == keyBeingLoaded
+						? accept( key, true, false )
+						: accept( key, false, cachedEntries[j++] != null );
+				if ( complete ) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private boolean accept(T key, boolean isKeyBeingLoaded, boolean isCached) {
+			if ( checkForEnd && position == end ) {
+				return true;
+			}
+			else if ( isKeyBeingLoaded ) {
+				end = position;
+			}
+			else if ( !isCached ) {
+				collector.accept( position++, key );
+			}
+
+			if ( position == batchSize ) {
+				// end of array, start filling again from start
+				position = 1;
+				if ( end != -1 ) {
+					checkForEnd = true;
+				}
+			}
 			return false;
 		}
 	}
@@ -86,6 +86,24 @@ default void removeSharedResolution(Object id, Object naturalId, EntityMappingTy
 	 */
 	Object findCachedIdByNaturalId(Object naturalId, EntityMappingType entityDescriptor);
 
+	/**
+	 * Find the cached identifiers for the given natural-ids, first in the session,
+	 * and then in the second-level cache, with a single access to the cache for
+	 * all the natural-ids not resolved by the session.
+	 *
+	 * @return The cross-referenced primary keys, {@link #INVALID_NATURAL_ID_REFERENCE}
+	 *         or {@code null}, at the position of their natural-id
+	 *
+	 * @since 8.0
+	 */
+	default Object[] findCachedIdsByNaturalIds(Object[] naturalIds, EntityMappingType entityDescriptor) {
+		final Object[] ids = new Object[naturalIds.length];
+		for ( int i = 0; i < naturalIds.length; i++ ) {
+			ids[i] = findCachedIdByNaturalId( naturalIds[i], entityDescriptor );
+		}
+		return ids;
+	}
+
 	/**
 	 * Find all the locally cached primary key cross-reference entries for the given entity.
 	 *
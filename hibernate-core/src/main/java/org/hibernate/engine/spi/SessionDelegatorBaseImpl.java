@@ -1612,6 +1612,14 @@ public Object loadFromSecondLevelCache(
 		return delegate.loadFromSecondLevelCache( persister, entityKey, instanceToLoad, lockMode );
 	}
 
+	@Override
+	public Object[] loadFromSecondLevelCache(
+			@Nonnull EntityPersister persister,
+			@Nonnull EntityKey[] entityKeys,
+			@Nonnull LockMode lockMode) {
+		return delegate.loadFromSecondLevelCache( persister, entityKeys, lockMode );
+	}
+
 	@Override
 	@Nonnull
 	public SessionAssociationMarkers getSessionAssociationMarkers() {
@@ -675,6 +675,31 @@ Object loadFromSecondLevelCache(
 			@Nullable Object instanceToLoad,
 			@Nonnull LockMode lockMode);
 
+	/**
+	 * Attempts to load several entities from the second-level cache,
+	 * with a single access to the cache.
+	 *
+	 * @param persister The persister for the entities being requested for load
+	 * @param entityKeys The distinct entity keys
+	 * @param lockMode The lock mode
+	 *
+	 * @return The entities from the second-level cache, at the position
+	 *         of their key, or null.
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	default Object[] loadFromSecondLevelCache(
+			@Nonnull EntityPersister persister,
+			@Nonnull EntityKey[] entityKeys,
+			@Nonnull LockMode lockMode) {
+		final Object[] entities = new Object[entityKeys.length];
+		for ( int i = 0; i < entityKeys.length; i++ ) {
+			entities[i] = loadFromSecondLevelCache( persister, entityKeys[i], null, lockMode );
+		}
+		return entities;
+	}
+
 	/**
 	 * Wrap all state that lazy loading interceptors might need to
 	 * manage association with this session, or to handle lazy loading
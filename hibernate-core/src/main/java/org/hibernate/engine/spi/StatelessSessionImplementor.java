@@ -18,4 +18,29 @@ public interface StatelessSessionImplementor extends StatelessSession, SharedSes
 	default boolean isStateless() {
 		return true;
 	}
+
+	/**
+	 * Is {@link #insertMultiple} currently loading entities with the
+	 * {@linkplain org.hibernate.dialect.Dialect#getBulkInsertStrategy
+	 * bulk insert strategy} of the dialect?
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BULK_INSERT
+	 *
+	 * @since 8.0
+	 */
+	default boolean isBulkInserting() {
+		return false;
+	}
+
+	/**
+	 * Are {@link #updateMultiple} or {@link #deleteMultiple} currently
+	 * updating or deleting entities with array parameters?
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#ARRAY_PARAMETER_MUTATIONS
+	 *
+	 * @since 8.0
+	 */
+	default boolean isUsingArrayParameters() {
+		return false;
+	}
 }
@@ -5,6 +5,7 @@
 package org.hibernate.id;
 
 import java.net.InetAddress;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.internal.util.BytesHelper;
 
@@ -35,7 +36,7 @@ public abstract class AbstractUUIDGenerator implements IdentifierGenerator {
 		IP = ipadd;
 	}
 
-	private static short counter = (short) 0;
+	private static final AtomicInteger counter = new AtomicInteger();
 	private static final int JVM = (int) ( currentTimeMillis() >>> 8 );
 
 	public AbstractUUIDGenerator() {
@@ -55,12 +56,7 @@ protected int getJVM() {
 	 * a millisecond)
 	 */
 	protected short getCount() {
-		synchronized(AbstractUUIDGenerator.class) {
-			if ( counter < 0 ) {
-				counter=0;
-			}
-			return counter++;
-		}
+		return (short) counter.getAndUpdate( count -> count < Short.MAX_VALUE ? count + 1 : 0 );
 	}
 
 	/**
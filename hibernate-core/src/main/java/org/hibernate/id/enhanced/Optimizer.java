@@ -37,8 +37,12 @@ public interface Optimizer {
 	/**
 	 * Generate an identifier value accounting for this specific optimization.
 	 *
-	 * @implNote All known implementors are synchronized. Consider carefully
-	 *           if a new implementation could drop this requirement.
+	 * @implNote All known implementors are thread-safe, guarding their state
+	 *           with a {@link java.util.concurrent.locks.ReentrantLock} rather
+	 *           than a monitor, since the callback may access the database,
+	 *           and a virtual thread blocked in a monitor pins its carrier.
+	 *           Consider carefully if a new implementation could drop this
+	 *           requirement.
 	 *
 	 * @param callback Callback to access the underlying value source.
 	 * @return The generated identifier value.
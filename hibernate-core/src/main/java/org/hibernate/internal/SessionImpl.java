@@ -1029,6 +1029,27 @@ public Object loadFromSecondLevelCache(
 		return entity;
 	}
 
+	@Override
+	public Object[] loadFromSecondLevelCache(
+			@Nonnull EntityPersister persister,
+			@Nonnull EntityKey[] entityKeys,
+			@Nonnull LockMode lockMode) {
+		final Object[] entities =
+				CacheLoadHelper.loadFromSecondLevelCache( this, lockMode, persister, entityKeys );
+		for ( int i = 0; i < entities.length; i++ ) {
+			final Object entity = entities[i];
+			if ( entity != null ) {
+				final Object id = entityKeys[i].getIdentifierValue();
+				final var postLoadEvent = makePostLoadEvent( persister, id, entity );
+				eventListenerGroups.eventListenerGroup_POST_LOAD
+						.fireEventOnEachListener( postLoadEvent,
+								PostLoadEventListener::onPostLoad );
+				releasePostLoadEvent( postLoadEvent );
+			}
+		}
+		return entities;
+	}
+
 	/**
 	 * Helper to avoid creating many new instances of {@link PostLoadEvent}.
 	 * It's an allocation hot spot.
@@ -93,6 +93,7 @@
 
 import static java.lang.Boolean.parseBoolean;
 import static java.lang.Integer.parseInt;
+import static org.hibernate.cfg.BatchSettings.ARRAY_PARAMETER_MUTATIONS;
 import static org.hibernate.cfg.BatchSettings.STATEMENT_BATCH_SIZE;
 import static org.hibernate.cfg.CacheSettings.JAKARTA_SHARED_CACHE_RETRIEVE_MODE;
 import static org.hibernate.cfg.CacheSettings.JAKARTA_SHARED_CACHE_STORE_MODE;
@@ -113,6 +114,7 @@
 import static org.hibernate.internal.Proxies.obtainProxyFromFactory;
 import static org.hibernate.internal.SessionLogging.SESSION_LOGGER;
 import static org.hibernate.internal.util.NullnessUtil.castNonNull;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.jpa.HibernateHints.HINT_JDBC_BATCH_SIZE;
 import static org.hibernate.jpa.internal.util.CacheModeHelper.interpretCacheMode;
 import static org.hibernate.loader.internal.CacheLoadHelper.initializeCollectionFromCache;
@@ -165,6 +167,11 @@
 	@Nonnull
 	private final EventListenerGroups eventListenerGroups;
 
+	private final boolean bulkInsert;
+	private boolean bulkInserting;
+	private final boolean arrayParameterMutations;
+	private boolean usingArrayParameters;
+
 	public StatelessSessionImpl(SessionFactoryImpl factory, StatelessOptions options) {
 		super( factory, options );
 		connectionProvided = options.getConnection() != null;
@@ -193,6 +200,8 @@ public StatelessSessionImpl(SessionFactoryImpl factory, StatelessOptions options
 			influencers.enableFilter( enabledFilterOption );
 		}
 		eventListenerGroups = factory.getEventListenerGroups();
+		bulkInsert = factory.getSessionFactoryOptions().isBulkInsertEnabled();
+		arrayParameterMutations = getBoolean( ARRAY_PARAMETER_MUTATIONS, factory.getProperties() );
 		setUpMultitenancy( factory, influencers );
 		if ( getJdbcBatchSize() == null ) {
 			// A nonzero batch size forces the use of write-behind
@@ -345,6 +354,7 @@ public void insertMultiple(@Nonnull List<?> entities) {
 		checkOpen();
 		final Integer batchSize = getJdbcBatchSize();
 		setJdbcBatchSize( entities.size() );
+		bulkInserting = bulkInsert;
 		try {
 			for ( Object entity : entities ) {
 				doInsert( null, entity );
@@ -359,9 +369,15 @@ public void insertMultiple(@Nonnull List<?> entities) {
 		}
 		finally {
 			setJdbcBatchSize( batchSize );
+			bulkInserting = false;
 		}
 	}
 
+	@Override
+	public boolean isBulkInserting() {
+		return bulkInserting;
+	}
+
 	@Override
 	public Object insert(@Nullable String entityName, @Nonnull Object entity) {
 		checkOpen();
@@ -524,6 +540,7 @@ public void deleteMultiple(@Nonnull List<?> entities) {
 		checkOpen();
 		final Integer batchSize = getJdbcBatchSize();
 		setJdbcBatchSize( entities.size() );
+		usingArrayParameters = arrayParameterMutations;
 		try {
 			for ( Object entity : entities ) {
 				doDelete( null, entity );
@@ -538,6 +555,7 @@ public void deleteMultiple(@Nonnull List<?> entities) {
 		}
 		finally {
 			setJdbcBatchSize( batchSize );
+			usingArrayParameters = false;
 		}
 	}
 
@@ -623,6 +641,7 @@ public void updateMultiple(@Nonnull List<?> entities) {
 		checkOpen();
 		final Integer batchSize = getJdbcBatchSize();
 		setJdbcBatchSize( entities.size() );
+		usingArrayParameters = arrayParameterMutations;
 		try {
 			for ( Object entity : entities ) {
 				doUpdate( null, entity );
@@ -637,9 +656,15 @@ public void updateMultiple(@Nonnull List<?> entities) {
 		}
 		finally {
 			setJdbcBatchSize( batchSize );
+			usingArrayParameters = false;
 		}
 	}
 
+	@Override
+	public boolean isUsingArrayParameters() {
+		return usingArrayParameters;
+	}
+
 	@Override
 	public void update(@Nullable String entityName, @Nonnull Object entity) {
 		checkOpen();
@@ -1858,6 +1883,14 @@ public Object loadFromSecondLevelCache(
 		return CacheLoadHelper.loadFromSecondLevelCache( this, instanceToLoad, lockMode, persister, entityKey );
 	}
 
+	@Override
+	public Object[] loadFromSecondLevelCache(
+			@Nonnull EntityPersister persister,
+			@Nonnull EntityKey[] entityKeys,
+			@Nonnull LockMode lockMode) {
+		return CacheLoadHelper.loadFromSecondLevelCache( this, lockMode, persister, entityKeys );
+	}
+
 	@Override
 	@Nonnull
 	public TransactionCompletionCallbacksImplementor getTransactionCompletionCallbacksImplementor() {
@@ -4,8 +4,12 @@
  */
 package org.hibernate.internal.scrollable;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hibernate.HibernateException;
 import org.hibernate.ScrollableResults;
+import org.hibernate.engine.spi.EntityHolder;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValues;
@@ -26,7 +30,10 @@
 	private final RowProcessingStateStandardImpl rowProcessingState;
 	private final RowReader<R> rowReader;
 	private final SharedSessionContractImplementor persistenceContext;
+	private final boolean detachResults;
 
+	// the entities loaded for the current row, when detaching results
+	private List<Object> loadedEntities;
 	private boolean closed;
 
 	public AbstractScrollableResults(
@@ -42,6 +49,9 @@ public AbstractScrollableResults(
 		this.rowProcessingState = rowProcessingState;
 		this.rowReader = rowReader;
 		this.persistenceContext = persistenceContext;
+		this.detachResults =
+				persistenceContext.isEventSource()
+						&& jdbcValuesSourceProcessingState.getQueryOptions().isDetachResultsEnabled() == Boolean.TRUE;
 	}
 
 	@Override
@@ -82,6 +92,48 @@ protected void afterScrollOperation() {
 		getPersistenceContext().afterScrollOperation();
 	}
 
+	/**
+	 * Remember the entities loaded for the current row, so that they can be
+	 * {@linkplain #detachLoadedEntities() detached} once the row was consumed.
+	 * Must be called before the loading of the row is
+	 * {@linkplain JdbcValuesSourceProcessingState#finishUp() finished}.
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_DETACH_RESULTS
+	 */
+	protected void collectLoadedEntities() {
+		if ( detachResults ) {
+			final List<EntityHolder> holders = jdbcValuesSourceProcessingState.getLoadingEntityHolders();
+			if ( holders != null && !holders.isEmpty() ) {
+				if ( loadedEntities == null ) {
+					loadedEntities = new ArrayList<>( holders.size() );
+				}
+				for ( int i = 0; i < holders.size(); i++ ) {
+					final Object entity = holders.get( i ).getEntity();
+					if ( entity != null ) {
+						loadedEntities.add( entity );
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Detach the entities which were loaded for the previous row.
+	 */
+	protected void detachLoadedEntities() {
+		final var entities = loadedEntities;
+		if ( entities != null && !entities.isEmpty() ) {
+			final var session = persistenceContext.asEventSource();
+			for ( int i = 0; i < entities.size(); i++ ) {
+				final Object entity = entities.get( i );
+				if ( session.contains( entity ) ) {
+					session.detach( entity );
+				}
+			}
+			entities.clear();
+		}
+	}
+
 	@Override
 	public void setFetchSize(int fetchSize) {
 		getJdbcValues().setFetchSize( fetchSize );
@@ -90,6 +142,7 @@ public void setFetchSize(int fetchSize) {
 	@Override
 	public final void close() {
 		if ( !closed ) {
+			detachLoadedEntities();
 			rowReader.finishUp( rowProcessingState );
 			jdbcValues.finishUp( persistenceContext );
 			getPersistenceContext().getJdbcCoordinator().afterStatementExecution();
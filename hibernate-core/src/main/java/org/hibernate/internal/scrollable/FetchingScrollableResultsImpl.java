@@ -299,6 +299,7 @@ else if ( rowNumber < 0 && maxPosition == null ) {
 	}
 
 	private boolean prepareCurrentRow() {
+		detachLoadedEntities();
 		final var rowProcessingState = getRowProcessingState();
 		final var rowReader = getRowReader();
 
@@ -334,6 +335,7 @@ private boolean prepareCurrentRow() {
 				}
 
 			}
+			collectLoadedEntities();
 			getJdbcValuesSourceProcessingState().finishUp();
 		}
 		finally {
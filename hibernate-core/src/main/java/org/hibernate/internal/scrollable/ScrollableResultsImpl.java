@@ -121,6 +121,7 @@ public boolean setRowNumber(int rowNumber) {
 	}
 
 	private void prepareCurrentRow(boolean underlyingScrollSuccessful) {
+		detachLoadedEntities();
 		if ( underlyingScrollSuccessful ) {
 			final PersistenceContext persistenceContext = getPersistenceContext().getPersistenceContext();
 			final LoadContexts loadContexts = persistenceContext.getLoadContexts();
@@ -130,6 +131,7 @@ private void prepareCurrentRow(boolean underlyingScrollSuccessful) {
 				try {
 					currentRow = getRowReader().readRow( getRowProcessingState() );
 					getRowProcessingState().finishRowProcessing( true );
+					collectLoadedEntities();
 					getJdbcValuesSourceProcessingState().finishUp();
 				}
 				finally {
@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util.cache;
+
+/**
+ * A probabilistic estimate of the popularity of keys within a time window, used
+ * by {@link TinyLfuInternalCacheImplementation} to decide which entries to admit.
+ * <p>
+ * This is a Count-Min sketch of 4-bit counters: each key maps to four counters, and
+ * its estimated frequency is the smallest of them.  Once the number of recorded
+ * accesses reaches the sample size, all counters are halved, so that the sketch
+ * favors recent popularity.
+ * <p>
+ * Not thread-safe: the cache only accesses the sketch while holding its policy lock.
+ */
+final class FrequencySketch {
+	private static final long[] SEEDS = {
+			0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+	};
+	private static final long RESET_MASK = 0x7777777777777777L;
+	private static final int MAX_FREQUENCY = 15;
+
+	private final long[] table;
+	private final int sampleSize;
+	private int additions;
+
+	FrequencySketch(int maximumSize) {
+		final int size = Math.max( 8, Math.min( maximumSize, 1 << 30 ) );
+		// each long holds 16 counters
+		table = new long[Integer.highestOneBit( size - 1 ) << 1];
+		sampleSize = (int) Math.min( 10L * size, Integer.MAX_VALUE );
+	}
+
+	/**
+	 * The estimated number of occurrences of the key, up to 15.
+	 */
+	int frequency(Object key) {
+		final int hash = spread( key.hashCode() );
+		final int start = ( hash & 3 ) << 2;
+		int frequency = MAX_FREQUENCY;
+		for ( int i = 0; i < 4; i++ ) {
+			final int offset = ( start + i ) << 2;
+			final int count = (int) ( ( table[indexOf( hash, i )] >>> offset ) & 0xfL );
+			frequency = Math.min( frequency, count );
+		}
+		return frequency;
+	}
+
+	/**
+	 * Record an occurrence of the key.
+	 */
+	void increment(Object key) {
+		final int hash = spread( key.hashCode() );
+		final int start = ( hash & 3 ) << 2;
+		boolean added = false;
+		for ( int i = 0; i < 4; i++ ) {
+			added |= incrementAt( indexOf( hash, i ), ( start + i ) << 2 );
+		}
+		if ( added && ++additions == sampleSize ) {
+			reset();
+		}
+	}
+
+	private boolean incrementAt(int index, int offset) {
+		final long mask = 0xfL << offset;
+		if ( ( table[index] & mask ) != mask ) {
+			table[index] += 1L << offset;
+			return true;
+		}
+		return false;
+	}
+
+	private void reset() {
+		for ( int i = 0; i < table.length; i++ ) {
+			table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+		}
+		additions >>>= 1;
+	}
+
+	private int indexOf(int hash, int i) {
+		long h = ( hash + SEEDS[i] ) * SEEDS[i];
+		h += h >>> 32;
+		return ( (int) h ) & ( table.length - 1 );
+	}
+
+	private static int spread(int hash) {
+		int h = hash * 0x9e3779b9;
+		h ^= h >>> 16;
+		h *= 0x85ebca6b;
+		return h ^ ( h >>> 13 );
+	}
+}
@@ -36,6 +36,18 @@
 	 */
 	void put(K key, V value);
 
+	/**
+	 * Removes the value stored for the given key, if any.
+	 */
+	void remove(K key);
+
+	/**
+	 * Removes the value stored for the given key, only if it is the given value.
+	 *
+	 * @return {@code true} if the value was removed
+	 */
+	boolean remove(K key, V value);
+
 	/**
 	 * Attempts to clear the content of the cache. Note that in some cache implementations this
 	 * is not a trivial operation and should not be used on a performance critical path.
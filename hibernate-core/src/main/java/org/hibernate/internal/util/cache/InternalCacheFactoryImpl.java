@@ -6,8 +6,16 @@
 
 final class InternalCacheFactoryImpl implements InternalCacheFactory {
 
+	private final boolean tinyLfu;
+
+	InternalCacheFactoryImpl(boolean tinyLfu) {
+		this.tinyLfu = tinyLfu;
+	}
+
 	@Override
 	public <K, V> InternalCache<K, V> createInternalCache(int intendedApproximateSize) {
-		return new LegacyInternalCacheImplementation<>( intendedApproximateSize );
+		return tinyLfu
+				? new TinyLfuInternalCacheImplementation<>( intendedApproximateSize )
+				: new LegacyInternalCacheImplementation<>( intendedApproximateSize );
 	}
 }
@@ -6,10 +6,15 @@
 
 import jakarta.annotation.Nonnull;
 import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.internal.util.config.ConfigurationException;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 
+import java.util.Locale;
 import java.util.Map;
 
+import static org.hibernate.cfg.QuerySettings.INTERNAL_CACHE_EVICTION;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
+
 public class InternalCacheFactoryInitiator implements StandardServiceInitiator<InternalCacheFactory> {
 
 	/**
@@ -21,7 +26,15 @@ private InternalCacheFactoryInitiator() {}
 
 	@Override
 	public InternalCacheFactory initiateService(@Nonnull Map<String, Object> configurationValues, @Nonnull ServiceRegistryImplementor registry) {
-		return new InternalCacheFactoryImpl();
+		final String eviction = getString( INTERNAL_CACHE_EVICTION, configurationValues, "lirs" );
+		return switch ( eviction.trim().toLowerCase( Locale.ROOT ) ) {
+			case "lirs" -> new InternalCacheFactoryImpl( false );
+			case "tinylfu" -> new InternalCacheFactoryImpl( true );
+			default -> throw new ConfigurationException(
+					"Unknown internal cache eviction policy '" + eviction + "' specified for '"
+							+ INTERNAL_CACHE_EVICTION + "' (valid values are 'lirs' and 'tinylfu')"
+			);
+		};
 	}
 
 	@Nonnull
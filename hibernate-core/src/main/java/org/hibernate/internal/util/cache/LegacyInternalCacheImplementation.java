@@ -38,6 +38,16 @@ public void put(K key, V value) {
 		map.put( key, value );
 	}
 
+	@Override
+	public void remove(K key) {
+		map.remove( key );
+	}
+
+	@Override
+	public boolean remove(K key, V value) {
+		return map.remove( key, value );
+	}
+
 	@Override
 	public void clear() {
 		map.clear();
@@ -0,0 +1,395 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util.cache;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * An implementation of {@link InternalCache} using the W-TinyLFU eviction policy.
+ * <p>
+ * New entries enter a small LRU <em>window</em>.  Entries evicted from the window
+ * become candidates for the <em>main</em> space, a segmented LRU split into a
+ * probation and a protected segment.  A candidate is only admitted if the
+ * {@link FrequencySketch} estimates it to be accessed more often than the entry
+ * it would replace, so that a burst of keys which are only ever used once cannot
+ * flush the frequently used entries out of the cache.
+ * <p>
+ * Entries are held in a {@link ConcurrentHashMap}, and reads never block: accesses
+ * are recorded in a lossy buffer which is replayed against the policy when the
+ * policy lock happens to be available.  Writes update the policy under the lock.
+ *
+ * @param <K>
+ * @param <V>
+ *
+ * @see org.hibernate.cfg.QuerySettings#INTERNAL_CACHE_EVICTION
+ */
+final class TinyLfuInternalCacheImplementation<K, V> implements InternalCache<K, V> {
+	private static final int READ_BUFFER_SIZE = 128;
+	private static final int READ_BUFFER_DRAIN_MASK = 31;
+
+	private static final byte WINDOW = 0;
+	private static final byte PROBATION = 1;
+	private static final byte PROTECTED = 2;
+	private static final byte RETIRED = 3;
+
+	private final ConcurrentHashMap<K, Node<K, V>> data;
+	private final AtomicReferenceArray<Node<K, V>> readBuffer = new AtomicReferenceArray<>( READ_BUFFER_SIZE );
+
+	// the policy, guarded by the lock
+	private final ReentrantLock lock = new ReentrantLock();
+	private final FrequencySketch sketch;
+	private final AccessOrderQueue<K, V> window = new AccessOrderQueue<>();
+	private final AccessOrderQueue<K, V> probation = new AccessOrderQueue<>();
+	private final AccessOrderQueue<K, V> protectedSegment = new AccessOrderQueue<>();
+	private final int maximumSize;
+	private final int windowMaximum;
+	private final int protectedMaximum;
+	private int windowSize;
+	private int protectedSize;
+	private int size;
+
+	TinyLfuInternalCacheImplementation(int intendedApproximateSize) {
+		maximumSize = Math.max( 1, intendedApproximateSize );
+		windowMaximum = Math.max( 1, maximumSize / 100 );
+		protectedMaximum = (int) ( ( maximumSize - windowMaximum ) * 0.8 );
+		data = new ConcurrentHashMap<>( Math.min( maximumSize, 1024 ) );
+		sketch = new FrequencySketch( maximumSize );
+	}
+
+	@Override
+	public int heldElementsEstimate() {
+		return data.size();
+	}
+
+	@Override
+	public V get(K key) {
+		final Node<K, V> node = data.get( key );
+		if ( node == null ) {
+			return null;
+		}
+		afterRead( node );
+		return node.value;
+	}
+
+	@Override
+	public void put(K key, V value) {
+		final Node<K, V> node = new Node<>( key, value );
+		final Node<K, V> existing = data.putIfAbsent( key, node );
+		if ( existing == null ) {
+			afterAdd( node );
+		}
+		else {
+			existing.value = value;
+			afterRead( existing );
+		}
+	}
+
+	@Override
+	public void remove(K key) {
+		final Node<K, V> node = data.remove( key );
+		if ( node != null ) {
+			afterRemove( node );
+		}
+	}
+
+	@Override
+	public boolean remove(K key, V value) {
+		final Node<K, V> node = data.get( key );
+		if ( node != null && Objects.equals( node.value, value ) && data.remove( key, node ) ) {
+			afterRemove( node );
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	private void afterRemove(Node<K, V> node) {
+		lock.lock();
+		try {
+			if ( node.isLinked() ) {
+				evictEntry( node );
+			}
+			else {
+				// not yet added to the policy, and never will be
+				node.queue = RETIRED;
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void clear() {
+		lock.lock();
+		try {
+			retireAll( window );
+			retireAll( probation );
+			retireAll( protectedSegment );
+			windowSize = 0;
+			protectedSize = 0;
+			size = 0;
+			data.clear();
+			for ( int i = 0; i < READ_BUFFER_SIZE; i++ ) {
+				readBuffer.set( i, null );
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		final Node<K, V> existing = data.get( key );
+		if ( existing != null ) {
+			afterRead( existing );
+			return existing.value;
+		}
+
+		final Object[] added = new Object[1];
+		final Node<K, V> node = data.computeIfAbsent( key, k -> {
+			final V value = mappingFunction.apply( k );
+			if ( value == null ) {
+				return null;
+			}
+			final Node<K, V> newNode = new Node<>( k, value );
+			added[0] = newNode;
+			return newNode;
+		} );
+		if ( node == null ) {
+			return null;
+		}
+		if ( added[0] == node ) {
+			afterAdd( node );
+		}
+		else {
+			afterRead( node );
+		}
+		return node.value;
+	}
+
+	/**
+	 * Record the access without blocking: the buffer is lossy, and a slot may
+	 * be overwritten before it was drained, which only affects the accuracy of
+	 * the policy.
+	 */
+	private void afterRead(Node<K, V> node) {
+		final int random = ThreadLocalRandom.current().nextInt();
+		readBuffer.lazySet( random & ( READ_BUFFER_SIZE - 1 ), node );
+		if ( ( ( random >>> 16 ) & READ_BUFFER_DRAIN_MASK ) == 0 && lock.tryLock() ) {
+			try {
+				drainReadBuffer();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	private void afterAdd(Node<K, V> node) {
+		lock.lock();
+		try {
+			drainReadBuffer();
+			sketch.increment( node.key );
+			// the entry might have been cleared in the meantime
+			if ( node.queue == WINDOW && !node.isLinked() && data.get( node.key ) == node ) {
+				window.addLast( node );
+				windowSize++;
+				size++;
+				evict();
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private void drainReadBuffer() {
+		for ( int i = 0; i < READ_BUFFER_SIZE; i++ ) {
+			final Node<K, V> node = readBuffer.getAndSet( i, null );
+			if ( node != null ) {
+				onAccess( node );
+			}
+		}
+	}
+
+	private void onAccess(Node<K, V> node) {
+		if ( !node.isLinked() ) {
+			// retired, or not yet added to the policy
+			return;
+		}
+		sketch.increment( node.key );
+		switch ( node.queue ) {
+			case WINDOW -> window.moveToLast( node );
+			case PROBATION -> {
+				// promote to the protected segment, demoting its eldest entry if need be
+				probation.remove( node );
+				node.queue = PROTECTED;
+				protectedSegment.addLast( node );
+				protectedSize++;
+				if ( protectedSize > protectedMaximum ) {
+					final Node<K, V> demoted = protectedSegment.pollFirst();
+					protectedSize--;
+					demoted.queue = PROBATION;
+					probation.addLast( demoted );
+				}
+			}
+			case PROTECTED -> protectedSegment.moveToLast( node );
+			default -> {
+			}
+		}
+	}
+
+	private void evict() {
+		// entries overflowing the window become candidates for the main space,
+		// they are appended to the probation segment, after all potential victims
+		Node<K, V> candidate = null;
+		while ( windowSize > windowMaximum ) {
+			final Node<K, V> node = window.pollFirst();
+			windowSize--;
+			node.queue = PROBATION;
+			probation.addLast( node );
+			if ( candidate == null ) {
+				candidate = node;
+			}
+		}
+
+		while ( size > maximumSize ) {
+			Node<K, V> victim = probation.peekFirst();
+			if ( victim == null ) {
+				victim = protectedSegment.peekFirst();
+				if ( victim == null ) {
+					victim = window.peekFirst();
+				}
+			}
+			if ( candidate == null || candidate == victim ) {
+				if ( candidate == victim ) {
+					candidate = null;
+				}
+				evictEntry( victim );
+			}
+			else if ( sketch.frequency( candidate.key ) > sketch.frequency( victim.key ) ) {
+				evictEntry( victim );
+			}
+			else {
+				final Node<K, V> rejected = candidate;
+				candidate = candidate.next;
+				evictEntry( rejected );
+			}
+		}
+	}
+
+	private void evictEntry(Node<K, V> node) {
+		switch ( node.queue ) {
+			case WINDOW -> {
+				window.remove( node );
+				windowSize--;
+			}
+			case PROBATION -> probation.remove( node );
+			case PROTECTED -> {
+				protectedSegment.remove( node );
+				protectedSize--;
+			}
+			default -> {
+				return;
+			}
+		}
+		node.queue = RETIRED;
+		size--;
+		data.remove( node.key, node );
+	}
+
+	private void retireAll(AccessOrderQueue<K, V> queue) {
+		Node<K, V> node;
+		while ( ( node = queue.pollFirst() ) != null ) {
+			node.queue = RETIRED;
+		}
+	}
+
+	private static final class Node<K, V> {
+		final K key;
+		volatile V value;
+
+		// guarded by the policy lock
+		byte queue = WINDOW;
+		Node<K, V> previous;
+		Node<K, V> next;
+		boolean linked;
+
+		Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+
+		boolean isLinked() {
+			return linked;
+		}
+	}
+
+	/**
+	 * A doubly-linked list of nodes, from least to most recently accessed.
+	 */
+	private static final class AccessOrderQueue<K, V> {
+		private Node<K, V> first;
+		private Node<K, V> last;
+
+		Node<K, V> peekFirst() {
+			return first;
+		}
+
+		Node<K, V> pollFirst() {
+			final Node<K, V> node = first;
+			if ( node != null ) {
+				remove( node );
+			}
+			return node;
+		}
+
+		void addLast(Node<K, V> node) {
+			node.previous = last;
+			node.next = null;
+			if ( last == null ) {
+				first = node;
+			}
+			else {
+				last.next = node;
+			}
+			last = node;
+			node.linked = true;
+		}
+
+		void remove(Node<K, V> node) {
+			if ( node.previous == null ) {
+				first = node.next;
+			}
+			else {
+				node.previous.next = node.next;
+			}
+			if ( node.next == null ) {
+				last = node.previous;
+			}
+			else {
+				node.next.previous = node.previous;
+			}
+			node.previous = null;
+			node.next = null;
+			node.linked = false;
+		}
+
+		void moveToLast(Node<K, V> node) {
+			if ( node != last ) {
+				remove( node );
+				addLast( node );
+			}
+		}
+	}
+}
@@ -0,0 +1,391 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link Map} using open addressing with linear probing, storing keys and values
+ * next to each other in a single array.
+ * <p>
+ * Contrary to {@link java.util.HashMap}, no node object is allocated per mapping, which
+ * makes this implementation considerably more compact when holding a large number of
+ * entries, and improves locality of lookups. Removed mappings leave a tombstone which
+ * is reclaimed when the table is rehashed.
+ * <p>
+ * This map does not support {@code null} keys, and is not thread-safe. Iterators are
+ * fail-fast, and {@link Map.Entry} instances are only allocated when iterating the
+ * {@link #entrySet()}.
+ */
+public final class OpenAddressingHashMap<K, V> extends AbstractMap<K, V> {
+	private static final Object TOMBSTONE = new Object();
+	private static final int MIN_CAPACITY = 8;
+
+	// keys at even positions, values at the following odd position
+	private Object[] table;
+	private int size;
+	private int tombstones;
+	private int modCount;
+
+	public OpenAddressingHashMap() {
+		this( MIN_CAPACITY );
+	}
+
+	/**
+	 * @param expectedSize The number of mappings expected to be held without rehashing
+	 */
+	public OpenAddressingHashMap(int expectedSize) {
+		table = new Object[2 * capacityFor( expectedSize )];
+	}
+
+	private static int capacityFor(int expectedSize) {
+		// keep the load factor at or below 0.75
+		final int minimum = Math.max( MIN_CAPACITY, expectedSize + ( expectedSize / 3 ) + 1 );
+		return Integer.highestOneBit( minimum - 1 ) << 1;
+	}
+
+	private static int hash(Object key) {
+		final int h = key.hashCode();
+		return h ^ ( h >>> 16 );
+	}
+
+	/**
+	 * The key-slot (even position) holding the given key, or {@code -1}.
+	 */
+	private int findKeyIndex(Object key) {
+		if ( key == null ) {
+			return -1;
+		}
+		final Object[] tab = table;
+		final int mask = tab.length - 1;
+		int index = ( hash( key ) << 1 ) & mask;
+		while ( true ) {
+			final Object candidate = tab[index];
+			if ( candidate == null ) {
+				return -1;
+			}
+			if ( candidate == key || candidate != TOMBSTONE && candidate.equals( key ) ) {
+				return index;
+			}
+			index = ( index + 2 ) & mask;
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return findKeyIndex( key ) >= 0;
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		final Object[] tab = table;
+		for ( int i = 0; i < tab.length; i += 2 ) {
+			final Object key = tab[i];
+			if ( key != null && key != TOMBSTONE && Objects.equals( value, tab[i + 1] ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		final int index = findKeyIndex( key );
+		return index < 0 ? null : (V) table[index + 1];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(K key, V value) {
+		Objects.requireNonNull( key, "Null keys are not supported" );
+		final Object[] tab = table;
+		final int mask = tab.length - 1;
+		int index = ( hash( key ) << 1 ) & mask;
+		int firstTombstone = -1;
+		while ( true ) {
+			final Object candidate = tab[index];
+			if ( candidate == null ) {
+				break;
+			}
+			if ( candidate == TOMBSTONE ) {
+				if ( firstTombstone < 0 ) {
+					firstTombstone = index;
+				}
+			}
+			else if ( candidate == key || candidate.equals( key ) ) {
+				final V previous = (V) tab[index + 1];
+				tab[index + 1] = value;
+				return previous;
+			}
+			index = ( index + 2 ) & mask;
+		}
+
+		if ( firstTombstone >= 0 ) {
+			index = firstTombstone;
+			tombstones--;
+		}
+		tab[index] = key;
+		tab[index + 1] = value;
+		size++;
+		modCount++;
+		if ( 4 * ( size + tombstones ) > 3 * ( tab.length >> 1 ) ) {
+			rehash();
+		}
+		return null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(Object key) {
+		final int index = findKeyIndex( key );
+		if ( index < 0 ) {
+			return null;
+		}
+		final V previous = (V) table[index + 1];
+		removeAt( index );
+		return previous;
+	}
+
+	private void removeAt(int index) {
+		table[index] = TOMBSTONE;
+		table[index + 1] = null;
+		size--;
+		tombstones++;
+		modCount++;
+	}
+
+	private void rehash() {
+		final Object[] oldTable = table;
+		// grow only if the live mappings need it, otherwise just purge the tombstones
+		final int capacity = Math.max( oldTable.length >> 1, capacityFor( size ) );
+		final Object[] newTable = new Object[2 * capacity];
+		final int mask = newTable.length - 1;
+		for ( int i = 0; i < oldTable.length; i += 2 ) {
+			final Object key = oldTable[i];
+			if ( key != null && key != TOMBSTONE ) {
+				int index = ( hash( key ) << 1 ) & mask;
+				while ( newTable[index] != null ) {
+					index = ( index + 2 ) & mask;
+				}
+				newTable[index] = key;
+				newTable[index + 1] = oldTable[i + 1];
+			}
+		}
+		table = newTable;
+		tombstones = 0;
+	}
+
+	@Override
+	public void clear() {
+		if ( size > 0 || tombstones > 0 ) {
+			Arrays.fill( table, null );
+			size = 0;
+			tombstones = 0;
+			modCount++;
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		final int expectedModCount = modCount;
+		final Object[] tab = table;
+		for ( int i = 0; i < tab.length; i += 2 ) {
+			final Object key = tab[i];
+			if ( key != null && key != TOMBSTONE ) {
+				action.accept( (K) key, (V) tab[i + 1] );
+			}
+		}
+		if ( modCount != expectedModCount ) {
+			throw new ConcurrentModificationException();
+		}
+	}
+
+	@Override
+	public Set<K> keySet() {
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<K> iterator() {
+				return new SlotIterator<>() {
+					@Override
+					@SuppressWarnings("unchecked")
+					K element(int index) {
+						return (K) table[index];
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+
+			@Override
+			public boolean contains(Object o) {
+				return containsKey( o );
+			}
+		};
+	}
+
+	@Override
+	public Collection<V> values() {
+		return new AbstractCollection<>() {
+			@Override
+			public Iterator<V> iterator() {
+				return new SlotIterator<>() {
+					@Override
+					@SuppressWarnings("unchecked")
+					V element(int index) {
+						return (V) table[index + 1];
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<Entry<K, V>> iterator() {
+				return new SlotIterator<>() {
+					@Override
+					Entry<K, V> element(int index) {
+						return new SlotEntry( index );
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	private final class SlotEntry implements Entry<K, V> {
+		private final Object[] entryTable = table;
+		private final int index;
+
+		private SlotEntry(int index) {
+			this.index = index;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public K getKey() {
+			return (K) entryTable[index];
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V getValue() {
+			return (V) entryTable[index + 1];
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V setValue(V value) {
+			final V previous = (V) entryTable[index + 1];
+			entryTable[index + 1] = value;
+			return previous;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Entry<?, ?> e
+					&& Objects.equals( getKey(), e.getKey() )
+					&& Objects.equals( getValue(), e.getValue() );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode( getKey() ) ^ Objects.hashCode( getValue() );
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + "=" + getValue();
+		}
+	}
+
+	private abstract class SlotIterator<E> implements Iterator<E> {
+		private final Object[] iteratedTable = table;
+		private int expectedModCount = modCount;
+		private int nextIndex = advance( 0 );
+		private int lastIndex = -1;
+
+		abstract E element(int index);
+
+		private int advance(int from) {
+			for ( int i = from; i < iteratedTable.length; i += 2 ) {
+				final Object key = iteratedTable[i];
+				if ( key != null && key != TOMBSTONE ) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextIndex >= 0;
+		}
+
+		@Override
+		public E next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( nextIndex < 0 ) {
+				throw new NoSuchElementException();
+			}
+			lastIndex = nextIndex;
+			nextIndex = advance( nextIndex + 2 );
+			return element( lastIndex );
+		}
+
+		@Override
+		public void remove() {
+			if ( lastIndex < 0 ) {
+				throw new IllegalStateException();
+			}
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			// removal never rehashes, so the iterated table stays current
+			removeAt( lastIndex );
+			expectedModCount = modCount;
+			lastIndex = -1;
+		}
+	}
+}
@@ -323,6 +323,35 @@ public interface HibernateHints {
 	@Incubating
 	String HINT_LIMIT_IN_MEMORY = "org.hibernate.limitInMemory";
 
+	/**
+	 * Hint that entities read by {@linkplain org.hibernate.query.SelectionQuery#scroll()
+	 * scrolling} or {@linkplain org.hibernate.query.SelectionQuery#getResultStream()
+	 * streaming} the results of the query should not be retained by the persistence
+	 * context.
+	 * <p>
+	 * The entities loaded for a row are read-only, and are
+	 * {@linkplain org.hibernate.Session#detach(Object) detached} as soon as the next
+	 * row is read, or the results are closed, so that processing a large result needs
+	 * a constant amount of memory, without calls to {@link org.hibernate.Session#clear()}.
+	 * Entities which were already associated with the persistence context before the
+	 * row was read are left untouched.
+	 * <p>
+	 * Has no effect on {@link org.hibernate.query.SelectionQuery#list()}, or when the
+	 * query is executed by a {@link org.hibernate.StatelessSession}, which never
+	 * retains entities.
+	 *
+	 * @apiNote The detach operation only cascades to associated entities which are
+	 *          mapped with {@link jakarta.persistence.CascadeType#DETACH}. Associated
+	 *          entities fetched by a subsequent select remain associated with the
+	 *          persistence context, so associations should be fetched by join.
+	 *
+	 * @see org.hibernate.query.SelectionQuery#getResultPublisher()
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	String HINT_DETACH_RESULTS = "org.hibernate.detachResults";
+
 	/**
 	 * Hint to enable or disable the query plan caching.
 	 * <p>
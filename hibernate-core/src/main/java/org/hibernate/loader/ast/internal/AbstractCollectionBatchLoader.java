@@ -53,6 +53,13 @@ public int getDomainBatchSize() {
 		return domainBatchSize;
 	}
 
+	/**
+	 * The number of keys to fetch with the next batch.
+	 */
+	int getBatchSize() {
+		return domainBatchSize;
+	}
+
 	@Override
 	public PluralAttributeMapping getLoadable() {
 		return attributeMapping;
@@ -121,7 +128,7 @@ protected void finishInitializingKey(Object key, SharedSessionContractImplemento
 
 	@AllowReflection
 	Object[] resolveKeysToInitialize(Object keyBeingLoaded, SharedSessionContractImplementor session) {
-		final int length = getDomainBatchSize();
+		final int length = getBatchSize();
 		final Object[] keysToInitialize = new Object[length];
 		session.getPersistenceContextInternal().getBatchFetchQueue()
 				.collectBatchLoadableCollectionKeys(
@@ -21,11 +21,14 @@
 import org.hibernate.type.descriptor.java.JavaType;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 import static org.hibernate.event.spi.LoadEventListener.GET;
 import static org.hibernate.internal.util.collections.CollectionHelper.arrayList;
 import static org.hibernate.internal.util.collections.CollectionHelper.isEmpty;
+import static org.hibernate.internal.util.collections.CollectionHelper.mapOfSize;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
 import static org.hibernate.loader.internal.CacheLoadHelper.loadFromSessionCache;
 
@@ -124,25 +127,51 @@ private List<T> orderedMultiLoad(
 
 		final List<Object> results = arrayList( ids.length );
 
-		final List<Object> idsInBatch = new ArrayList<>();
-		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
-
 		final var lockOptions = lockOptions( loadOptions );
 
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id = coerce( idType, ids[i] );
 			final var entityKey = session.generateEntityKey( id, persister );
-			if ( !loadFromEnabledCaches( loadOptions, session, lockOptions, entityKey, results, i ) ) {
-				// if we did not hit any of the continues above,
+			if ( !loadFromEnabledSessionCache( loadOptions, session, lockOptions, entityKey, results ) ) {
+				// Save the EntityKey instance for use later
+				results.add( entityKey );
+			}
+		}
+
+		if ( loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+			// look for the remaining entities in the second-level cache, all at once
+			final List<EntityKey> unresolvedKeys = new ArrayList<>();
+			for ( Object result : results ) {
+				if ( result instanceof EntityKey entityKey ) {
+					unresolvedKeys.add( entityKey );
+				}
+			}
+			if ( !unresolvedKeys.isEmpty() ) {
+				final var cachedEntities = loadFromSecondLevelCache( unresolvedKeys, lockOptions, session );
+				for ( int i = 0; i < results.size(); i++ ) {
+					if ( results.get( i ) instanceof EntityKey entityKey ) {
+						final Object entity = cachedEntities.get( entityKey );
+						if ( entity != null ) {
+							results.set( i, entity );
+						}
+					}
+				}
+			}
+		}
+
+		final List<Object> idsInBatch = new ArrayList<>();
+		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
+
+		for ( int i = 0; i < results.size(); i++ ) {
+			if ( results.get( i ) instanceof EntityKey entityKey ) {
+				// if the entity was not found in any of the caches,
 				// then we need to batch load the entity state.
-				idsInBatch.add( id );
+				idsInBatch.add( entityKey.getIdentifier() );
 				if ( idsInBatch.size() >= maxBatchSize ) {
 					// we've hit the allotted max-batch-size, perform an "intermediate load"
 					loadEntitiesById( idsInBatch, lockOptions, loadOptions, session );
 					idsInBatch.clear();
 				}
-				// Save the EntityKey instance for use later
-				results.add( i, entityKey );
 				elementPositionsLoadedByBatch.add( i );
 			}
 		}
@@ -202,24 +231,12 @@ protected abstract void loadEntitiesById(
 			MultiIdLoadOptions loadOptions,
 			SharedSessionContractImplementor session);
 
-	private boolean loadFromEnabledCaches(
+	private boolean loadFromEnabledSessionCache(
 			MultiIdLoadOptions loadOptions,
 			SharedSessionContractImplementor session,
 			LockOptions lockOptions,
 			EntityKey entityKey,
-			List<Object> result,
-			int i) {
-		return (loadOptions.getSessionCheckMode() == FindMultipleOption.SessionCheckMode.ENABLED
-				|| loadOptions.isSecondLevelCacheCheckingEnabled() )
-			&& isLoadFromCaches( loadOptions, entityKey, lockOptions, result, i, session );
-	}
-
-	private boolean isLoadFromCaches(
-			MultiIdLoadOptions loadOptions,
-			EntityKey entityKey,
-			LockOptions lockOptions,
-			List<Object> results, int i,
-			SharedSessionContractImplementor session) {
+			List<Object> results) {
 		if ( loadOptions.getSessionCheckMode() == FindMultipleOption.SessionCheckMode.ENABLED ) {
 			final var removalsMode = loadOptions.getRemovalsMode();
 			if ( removalsMode == FindMultipleOption.RemovalsMode.EXCLUDE ) {
@@ -236,21 +253,10 @@ private boolean isLoadFromCaches(
 							|| entry.isManaged()
 								? entity
 								: null;
-				results.add( i, result );
+				results.add( result );
 				return true;
 			}
 		}
-
-		if ( loadOptions.isSecondLevelCacheCheckingEnabled() ) {
-			// look for it in the second-level cache
-			final Object entity =
-					loadFromSecondLevelCache( entityKey, lockOptions, session );
-			if ( entity != null ) {
-				results.add( i, entity );
-				return true;
-			}
-		}
-
 		return false;
 	}
 
@@ -341,20 +347,47 @@ private <R> List<Object> unresolvedIds(
 		final var loadable = getLoadable();
 		final var persister = loadable.getEntityPersister();
 		final var idType = loadable.getIdentifierMapping().getJavaType();
+		final boolean secondLevelCacheCheckingEnabled = loadOptions.isSecondLevelCacheCheckingEnabled();
 		List<Object> unresolvedIds = null;
+		List<EntityKey> unresolvedKeys = null;
+		List<Integer> unresolvedPositions = null;
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id = coerce( idType, ids[i] );
-			unresolvedIds =
-					loadFromCaches(
-							loadOptions,
-							lockOptions,
-							resolutionConsumer,
-							id,
-							session.generateEntityKey( id, persister ),
-							unresolvedIds,
-							i,
-							session
-					);
+			final var entityKey = session.generateEntityKey( id, persister );
+			if ( !resolveFromSessionCache( loadOptions, lockOptions, resolutionConsumer, entityKey, i, session ) ) {
+				if ( secondLevelCacheCheckingEnabled ) {
+					if ( unresolvedKeys == null ) {
+						unresolvedKeys = new ArrayList<>();
+						unresolvedPositions = new ArrayList<>();
+					}
+					unresolvedKeys.add( entityKey );
+					unresolvedPositions.add( i );
+				}
+				else {
+					if ( unresolvedIds == null ) {
+						unresolvedIds = new ArrayList<>();
+					}
+					unresolvedIds.add( id );
+				}
+			}
+		}
+		if ( unresolvedKeys != null ) {
+			// look for the remaining entities in the second-level cache, all at once
+			final var cachedEntities = loadFromSecondLevelCache( unresolvedKeys, lockOptions, session );
+			for ( int i = 0; i < unresolvedKeys.size(); i++ ) {
+				final var entityKey = unresolvedKeys.get( i );
+				final Object cachedEntity = cachedEntities.get( entityKey );
+				if ( cachedEntity != null ) {
+					//noinspection unchecked
+					resolutionConsumer.consume( unresolvedPositions.get( i ), entityKey, (R) cachedEntity );
+				}
+				else {
+					if ( unresolvedIds == null ) {
+						unresolvedIds = new ArrayList<>();
+					}
+					unresolvedIds.add( entityKey.getIdentifier() );
+				}
+			}
 		}
 		return unresolvedIds;
 	}
@@ -366,58 +399,59 @@ private <R> List<Object> unresolvedIds(
 		void consume(int position, EntityKey entityKey, T resolvedRef);
 	}
 
-	private <R> List<Object> loadFromCaches(
+	/**
+	 * @return {@code true} if the entity was resolved from the session
+	 */
+	private <R> boolean resolveFromSessionCache(
 			MultiIdLoadOptions loadOptions,
 			LockOptions lockOptions,
 			ResolutionConsumer<R> resolutionConsumer,
-			Object id,
 			EntityKey entityKey,
-			List<Object> unresolvedIds, int i,
+			int i,
 			SharedSessionContractImplementor session) {
 
 		// look for it in the Session first
 		final var entry = loadFromSessionCache( entityKey, lockOptions, GET, session );
-		final Object sessionEntity;
 		if ( loadOptions.getSessionCheckMode() == FindMultipleOption.SessionCheckMode.ENABLED ) {
-			sessionEntity = entry.entity();
-			if ( sessionEntity != null && !entry.isManaged() ) {
-				switch ( loadOptions.getRemovalsMode() ) {
-					case REPLACE :
-						resolutionConsumer.consume( i, entityKey, null );
-						return unresolvedIds;
-					case EXCLUDE:
-						return unresolvedIds;
+			final Object sessionEntity = entry.entity();
+			if ( sessionEntity != null ) {
+				if ( !entry.isManaged() ) {
+					switch ( loadOptions.getRemovalsMode() ) {
+						case REPLACE :
+							resolutionConsumer.consume( i, entityKey, null );
+							return true;
+						case EXCLUDE:
+							return true;
+					}
 				}
+				//noinspection unchecked
+				resolutionConsumer.consume( i, entityKey, (R) sessionEntity );
+				return true;
 			}
 		}
-		else {
-			sessionEntity = null;
-		}
-
-		final Object cachedEntity =
-				sessionEntity == null
-					&& loadOptions.isSecondLevelCacheCheckingEnabled()
-						? loadFromSecondLevelCache( entityKey, lockOptions, session )
-						: sessionEntity;
-
-		if ( cachedEntity != null ) {
-			//noinspection unchecked
-			resolutionConsumer.consume( i, entityKey, (R) cachedEntity );
-		}
-		else {
-			if ( unresolvedIds == null ) {
-				unresolvedIds = new ArrayList<>();
-			}
-			unresolvedIds.add( id );
-		}
-		return unresolvedIds;
+		return false;
 	}
 
-	private Object loadFromSecondLevelCache(
-			EntityKey entityKey,
+	/**
+	 * Look up the entities with the given keys in the second-level cache,
+	 * with a single access to the cache.
+	 *
+	 * @return the entities which were found in the cache, by key
+	 */
+	private Map<EntityKey, Object> loadFromSecondLevelCache(
+			List<EntityKey> entityKeys,
 			LockOptions lockOptions,
 			SharedSessionContractImplementor session) {
-		return session.loadFromSecondLevelCache( getLoadable().getEntityPersister(),
-				entityKey, null, lockOptions.getLockMode() );
+		final var distinctKeys = new LinkedHashSet<>( entityKeys ).toArray( new EntityKey[0] );
+		final Object[] entities =
+				session.loadFromSecondLevelCache( getLoadable().getEntityPersister(),
+						distinctKeys, lockOptions.getLockMode() );
+		final Map<EntityKey, Object> entitiesByKey = mapOfSize( distinctKeys.length );
+		for ( int i = 0; i < distinctKeys.length; i++ ) {
+			if ( entities[i] != null ) {
+				entitiesByKey.put( distinctKeys[i], entities[i] );
+			}
+		}
+		return entitiesByKey;
 	}
 }
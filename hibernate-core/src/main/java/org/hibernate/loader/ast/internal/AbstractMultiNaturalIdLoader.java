@@ -8,8 +8,9 @@
 import org.hibernate.FindMultipleOption;
 import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.EntityKey;
-import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.loader.ast.spi.MultiNaturalIdLoadOptions;
 import org.hibernate.loader.ast.spi.MultiNaturalIdLoader;
 import org.hibernate.metamodel.mapping.EntityMappingType;
@@ -18,6 +19,7 @@
 import java.util.function.Consumer;
 
 import static java.util.Collections.emptyList;
+import static org.hibernate.engine.spi.NaturalIdResolutions.INVALID_NATURAL_ID_REFERENCE;
 import static org.hibernate.internal.util.collections.CollectionHelper.arrayList;
 import static org.hibernate.internal.util.collections.CollectionHelper.isEmpty;
 import static org.hibernate.loader.ast.internal.LoaderHelper.upgradeLock;
@@ -109,9 +111,13 @@ private <K> List<E> sortResults(
 			MultiNaturalIdLoadOptions loadOptions,
 			SharedSessionContractImplementor session) {
 		final var context = session.getPersistenceContextInternal();
+		final var persister = getEntityDescriptor().getEntityPersister();
+		final Object[] ids =
+				context.getNaturalIdResolutions().findCachedIdsByNaturalIds( naturalIds, getEntityDescriptor() );
 		final List<E> results = arrayList( naturalIds.length );
-		for ( K naturalId : naturalIds ) {
-			final Object entity = entityForNaturalId( context, naturalId );
+		for ( Object id : ids ) {
+			// id can be null if a non-existent natural id is requested, or a mutable natural id was changed and then deleted
+			final Object entity = id == null ? null : context.getEntity( new EntityKey( id, persister ) );
 			final Object result;
 			if ( entity == null
 				// the entity is locally deleted, and the options ask that we not return such entities
@@ -128,13 +134,6 @@ private <K> List<E> sortResults(
 		return results;
 	}
 
-	private Object entityForNaturalId(PersistenceContext context, Object naturalId) {
-		final var descriptor = getEntityDescriptor();
-		final Object id = context.getNaturalIdResolutions().findCachedIdByNaturalId( naturalId, descriptor );
-		// id can be null if a non-existent natural id is requested, or a mutable natural id was changed and then deleted
-		return id == null ? null : context.getEntity( new EntityKey( id, descriptor.getEntityPersister() ) );
-	}
-
 	private <K> Object[] checkPersistenceContextForCachedResults(
 			K[] naturalIds,
 			MultiNaturalIdLoadOptions loadOptions,
@@ -148,8 +147,17 @@ private <K> Object[] checkPersistenceContextForCachedResults(
 		}
 		final List<K> unresolvedIds = arrayList( naturalIds.length );
 		final var context = session.getPersistenceContextInternal();
-		for ( K naturalId : naturalIds ) {
-			final Object entity = entityForNaturalId( context, naturalId );
+		final var persister = getEntityDescriptor().getEntityPersister();
+		// resolve all the natural ids at once, first in the session, then in the second-level cache
+		final Object[] resolvedIds =
+				context.getNaturalIdResolutions().findCachedIdsByNaturalIds( naturalIds, getEntityDescriptor() );
+		final List<Object> idsToLoad = arrayList( naturalIds.length );
+		for ( int i = 0; i < naturalIds.length; i++ ) {
+			final Object id = resolvedIds[i];
+			final Object entity =
+					id == null || id == INVALID_NATURAL_ID_REFERENCE
+							? null
+							: context.getEntity( new EntityKey( id, persister ) );
 			if ( entity != null ) {
 				// Entity is already in the persistence context
 				final var entry = context.getEntry( entity );
@@ -163,17 +171,74 @@ private <K> Object[] checkPersistenceContextForCachedResults(
 					}
 				}
 			}
+			else if ( id != null && id != INVALID_NATURAL_ID_REFERENCE ) {
+				// the natural id was resolved by the second-level cache,
+				// so the entity can be loaded by id, possibly from the cache
+				idsToLoad.add( id );
+			}
 			else {
-				// entity either doesn't exist or hasn't been loaded in the PC yet, in both cases we add
+				// entity either doesn't exist or its natural id is not resolved yet, in both cases we add
 				// the natural id to the ids that still need to be recovered; in case the id corresponds
 				// to a nonexistent instance, nothing will be in the results for it, which is OK in an
 				// unordered multiload
-				unresolvedIds.add( naturalId );
+				unresolvedIds.add( naturalIds[i] );
+			}
+		}
+		if ( !idsToLoad.isEmpty() ) {
+			final var loaded =
+					persister.multiLoad( idsToLoad.toArray(), session,
+							new ResolvedIdsLoadOptions( loadOptions, lockOptions ) );
+			for ( Object entity : loaded ) {
+				if ( entity != null ) {
+					results.accept( (E) entity );
+				}
 			}
 		}
 		return unresolvedIds.toArray();
 	}
 
+	/**
+	 * Options for loading the entities whose natural ids were resolved
+	 * by the second-level cache, derived from the natural id load options.
+	 */
+	private record ResolvedIdsLoadOptions(MultiNaturalIdLoadOptions loadOptions, LockOptions lockOptions)
+			implements MultiIdLoadOptions {
+		@Override
+		public FindMultipleOption.SessionCheckMode getSessionCheckMode() {
+			return FindMultipleOption.SessionCheckMode.ENABLED;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			return true;
+		}
+
+		@Override
+		public Boolean getReadOnly(SessionImplementor session) {
+			return null;
+		}
+
+		@Override
+		public FindMultipleOption.RemovalsMode getRemovalsMode() {
+			return loadOptions.getRemovalsMode();
+		}
+
+		@Override
+		public FindMultipleOption.OrderingMode getOrderingMode() {
+			return FindMultipleOption.OrderingMode.UNORDERED;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return lockOptions;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return loadOptions.getBatchSize();
+		}
+	}
+
 	@Override
 	public EntityMappingType getLoadable() {
 		return getEntityDescriptor();
@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+/**
+ * The number of keys fetched by a batch loader passing the keys as a single
+ * {@code ARRAY} parameter, adapted to the observed batches.
+ * <p>
+ * When a batch was filled completely, more keys were probably waiting in the
+ * batch fetch queue, and the size is doubled, to save round trips, unless the
+ * time per key of the larger batch turned out to be worse than before, in
+ * which case the size goes back to the previous value, which then becomes the
+ * upper bound. When a batch was less than half full, the size shrinks back to
+ * the number of keys which were actually found, but never below the configured
+ * batch size.
+ * <p>
+ * Accesses are not synchronized: concurrent batches may occasionally overwrite
+ * each other's observations, which only affects the accuracy of the heuristic.
+ *
+ * @see org.hibernate.cfg.FetchSettings#BATCH_FETCH_ADAPTIVE
+ */
+final class AdaptiveBatchSize {
+	/**
+	 * Upper bound of the batch size, as a multiple of the configured size.
+	 */
+	private static final int MAX_GROWTH = 16;
+
+	private final int minimum;
+	private volatile int size;
+	private volatile int maximum;
+	private volatile long nanosPerKeyBeforeGrowth = -1;
+
+	AdaptiveBatchSize(int configuredSize) {
+		minimum = configuredSize;
+		size = configuredSize;
+		maximum = (int) Math.min( (long) configuredSize * MAX_GROWTH, Integer.MAX_VALUE );
+	}
+
+	/**
+	 * The number of keys to fetch with the next batch.
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Record the outcome of a batch.
+	 *
+	 * @param keys the number of keys fetched by the batch
+	 * @param nanos the time it took to execute the batch
+	 *
+	 * @return the number of keys to fetch with the next batch
+	 */
+	int record(int keys, long nanos) {
+		final int current = size;
+		if ( keys <= 0 ) {
+			return current;
+		}
+		final long nanosPerKey = nanos / keys;
+		final long before = nanosPerKeyBeforeGrowth;
+		if ( before >= 0 ) {
+			nanosPerKeyBeforeGrowth = -1;
+			// only compare batches which were at least half full, since the
+			// fixed cost of a round trip dominates the time of small batches
+			if ( keys > current >> 1 && nanosPerKey > before + ( before >> 2 ) ) {
+				// the previous growth did not pay off
+				final int previous = Math.max( minimum, current >> 1 );
+				maximum = previous;
+				size = previous;
+				return previous;
+			}
+		}
+		int next = current;
+		if ( keys >= current ) {
+			if ( current < maximum ) {
+				next = (int) Math.min( (long) current << 1, maximum );
+				nanosPerKeyBeforeGrowth = nanosPerKey;
+			}
+		}
+		else if ( keys < current >> 1 ) {
+			next = Math.max( minimum, keys );
+		}
+		size = next;
+		return next;
+	}
+}
@@ -32,6 +32,8 @@
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 
+import jakarta.annotation.Nullable;
+
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.hasSingleId;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.trimIdBatch;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
@@ -46,6 +48,7 @@
 		extends AbstractCollectionBatchLoader
 		implements SqlArrayMultiKeyLoader {
 
+	private final @Nullable AdaptiveBatchSize adaptiveBatchSize;
 	private final SqlTypedMapping arraySqlTypedMapping;
 	private final JdbcParameter jdbcParameter;
 	private final SelectStatement sqlSelect;
@@ -56,7 +59,23 @@ public CollectionBatchLoaderArrayParam(
 			LoadQueryInfluencers loadQueryInfluencers,
 			PluralAttributeMapping attributeMapping,
 			SessionFactoryImplementor sessionFactory) {
+		this( domainBatchSize, false, loadQueryInfluencers, attributeMapping, sessionFactory );
+	}
+
+	/**
+	 * @param adaptive Whether the number of keys should be adapted to the observed batches,
+	 * starting from {@code domainBatchSize}
+	 *
+	 * @since 8.0
+	 */
+	public CollectionBatchLoaderArrayParam(
+			int domainBatchSize,
+			boolean adaptive,
+			LoadQueryInfluencers loadQueryInfluencers,
+			PluralAttributeMapping attributeMapping,
+			SessionFactoryImplementor sessionFactory) {
 		super( domainBatchSize, loadQueryInfluencers, attributeMapping, sessionFactory );
+		adaptiveBatchSize = adaptive ? new AdaptiveBatchSize( domainBatchSize ) : null;
 
 		if ( MULTI_KEY_LOAD_LOGGER.isTraceEnabled() ) {
 			MULTI_KEY_LOAD_LOGGER.enabledCollectionArray(
@@ -135,7 +154,7 @@ private PersistentCollection<?> loadWithConversion(
 					collectionInfoString( getLoadable(), keyBeingLoaded ) );
 		}
 
-		final int length = getDomainBatchSize();
+		final int length = getBatchSize();
 		final Object[] keysToInitialize = new Object[length];
 		final Object[] domainKeys = new Object[length];
 		session.getPersistenceContextInternal().getBatchFetchQueue()
@@ -176,6 +195,11 @@ private CollectionKey collectionKey(Object keyBeingLoaded, SharedSessionContract
 		return session.generateCollectionKey( getLoadable().getCollectionDescriptor(), keyBeingLoaded );
 	}
 
+	@Override
+	int getBatchSize() {
+		return adaptiveBatchSize == null ? getDomainBatchSize() : adaptiveBatchSize.size();
+	}
+
 	@Override
 	void initializeKeys(Object key, Object[] keysToInitialize, SharedSessionContractImplementor session) {
 		if ( MULTI_KEY_LOAD_LOGGER.isTraceEnabled() ) {
@@ -192,6 +216,7 @@ void initializeKeys(Object key, Object[] keysToInitialize, SharedSessionContract
 				new JdbcParameterBindingImpl( arraySqlTypedMapping.getJdbcMapping(), keysToInitialize )
 		);
 
+		final long start = adaptiveBatchSize == null ? 0 : System.nanoTime();
 		session.getJdbcServices().getJdbcSelectExecutor().list(
 				jdbcSelectOperation,
 				jdbcParameterBindings,
@@ -207,6 +232,13 @@ void initializeKeys(Object key, Object[] keysToInitialize, SharedSessionContract
 				RowTransformerStandardImpl.instance(),
 				ListResultsConsumer.UniqueSemantic.FILTER
 		);
+		if ( adaptiveBatchSize != null ) {
+			final int batchSize = adaptiveBatchSize.record( keysToInitialize.length, System.nanoTime() - start );
+			final var statistics = session.getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.collectionBatchFetchSize( getLoadable().getCollectionDescriptor().getRole(), batchSize );
+			}
+		}
 	}
 
 	@Override
@@ -24,6 +24,8 @@
 
 import java.util.Locale;
 
+import jakarta.annotation.Nullable;
+
 import static org.hibernate.loader.ast.internal.LoaderHelper.loadByArrayParameter;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.trimIdBatch;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
@@ -41,6 +43,7 @@
 		extends AbstractEntityBatchLoader<T>
 		implements SqlArrayMultiKeyLoader {
 	private final int domainBatchSize;
+	private final @Nullable AdaptiveBatchSize adaptiveBatchSize;
 
 	private final SqlTypedMapping arraySqlTypedMapping;
 	private final JdbcParameter jdbcParameter;
@@ -63,8 +66,27 @@ public EntityBatchLoaderArrayParam(
 			int domainBatchSize,
 			EntityMappingType entityDescriptor,
 			LoadQueryInfluencers loadQueryInfluencers) {
+		this( domainBatchSize, false, entityDescriptor, loadQueryInfluencers );
+	}
+
+	/**
+	 * Instantiates the loader
+	 *
+	 * @param domainBatchSize The number of domain model parts (up to), or the initial
+	 * number if {@code adaptive}
+	 * @param adaptive Whether the number of domain model parts should be adapted to the
+	 * observed batches
+	 *
+	 * @since 8.0
+	 */
+	public EntityBatchLoaderArrayParam(
+			int domainBatchSize,
+			boolean adaptive,
+			EntityMappingType entityDescriptor,
+			LoadQueryInfluencers loadQueryInfluencers) {
 		super( entityDescriptor, loadQueryInfluencers );
 		this.domainBatchSize = domainBatchSize;
+		this.adaptiveBatchSize = adaptive ? new AdaptiveBatchSize( domainBatchSize ) : null;
 
 		if ( MULTI_KEY_LOAD_LOGGER.isTraceEnabled() ) {
 			MULTI_KEY_LOAD_LOGGER.enabledEntityArray(
@@ -114,15 +136,16 @@ public int getDomainBatchSize() {
 	@AllowReflection
 	protected Object[] resolveIdsToInitialize(Object pkValue, SharedSessionContractImplementor session) {
 		//TODO: should this really be different to EntityBatchLoaderInPredicate impl?
-		final Object[] idsToLoad = new Object[domainBatchSize];
+		final int batchSize = adaptiveBatchSize == null ? domainBatchSize : adaptiveBatchSize.size();
+		final Object[] idsToLoad = new Object[batchSize];
 		session.getPersistenceContextInternal().getBatchFetchQueue()
 				.collectBatchLoadableEntityIds(
-						domainBatchSize,
+						batchSize,
 						(index, value) -> idsToLoad[index] = value,
 						pkValue,
 						getLoadable()
 				);
-		return trimIdBatch( domainBatchSize, idsToLoad );
+		return trimIdBatch( batchSize, idsToLoad );
 	}
 
 	@Override
@@ -140,6 +163,7 @@ protected void initializeEntities(
 
 		removeBatchLoadableEntityKeys( idsToInitialize, session );
 
+		final long start = adaptiveBatchSize == null ? 0 : System.nanoTime();
 		loadByArrayParameter(
 				idsToInitialize,
 				sqlAst,
@@ -153,6 +177,13 @@ protected void initializeEntities(
 				readOnly,
 				session
 		);
+		if ( adaptiveBatchSize != null ) {
+			final int batchSize = adaptiveBatchSize.record( idsToInitialize.length, System.nanoTime() - start );
+			final var statistics = session.getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.entityBatchFetchSize( getLoadable().getEntityName(), batchSize );
+			}
+		}
 	}
 
 	private void removeBatchLoadableEntityKeys(Object[] idsToInitialize, SharedSessionContractImplementor session) {
@@ -16,6 +16,8 @@
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.type.BasicType;
 
+import static org.hibernate.cfg.FetchSettings.BATCH_FETCH_ADAPTIVE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.supportsSqlArrayType;
 
 /**
@@ -24,8 +26,11 @@
  * @author Steve Ebersole
  */
 public class StandardBatchLoaderFactory implements BatchLoaderFactory {
+	private final boolean adaptiveBatchSize;
+
 	@SuppressWarnings("unused")
 	public StandardBatchLoaderFactory(Map<String, Object> configurationValues, ServiceRegistryImplementor registry) {
+		adaptiveBatchSize = getBoolean( BATCH_FETCH_ADAPTIVE, configurationValues, false );
 	}
 
 	@Override
@@ -40,7 +45,8 @@ public <T> EntityBatchLoader<T> createEntityBatchLoader(
 				&& supportsSqlArrayType( factory.getJdbcServices().getDialect() )
 				&& identifierType instanceof BasicType ) {
 			// we can use a single ARRAY parameter to send all the ids
-			return new EntityBatchLoaderArrayParam<>( domainBatchSize, entityDescriptor, influencers );
+			return new EntityBatchLoaderArrayParam<>( domainBatchSize, adaptiveBatchSize, entityDescriptor,
+					influencers );
 		}
 		else {
 			return new EntityBatchLoaderInPredicate<>( domainBatchSize, entityDescriptor, influencers );
@@ -56,7 +62,8 @@ public CollectionBatchLoader createCollectionBatchLoader(
 		if ( attributeMapping.getKeyDescriptor().getJdbcTypeCount() == 1
 				&& supportsSqlArrayType( factory.getJdbcServices().getDialect() ) ) {
 			// we can use a single ARRAY parameter to send all the ids
-			return new CollectionBatchLoaderArrayParam( domainBatchSize, influencers, attributeMapping, factory );
+			return new CollectionBatchLoaderArrayParam( domainBatchSize, adaptiveBatchSize, influencers,
+					attributeMapping, factory );
 		}
 		else {
 			return new CollectionBatchLoaderInPredicate( domainBatchSize, influencers, attributeMapping, factory );
@@ -140,6 +140,42 @@ public static Object loadFromSecondLevelCache(
 		}
 	}
 
+	/**
+	 * Attempts to load several entities from the second-level cache, with
+	 * a single access to the cache.
+	 *
+	 * @param source The source
+	 * @param lockMode The lock mode
+	 * @param persister The persister for the entities being requested for load
+	 * @param entityKeys The distinct entity keys
+	 *
+	 * @return The entities from the second-level cache, at the position of
+	 *         their key, or null.
+	 *
+	 * @since 8.0
+	 */
+	public static Object[] loadFromSecondLevelCache(
+			final SharedSessionContractImplementor source,
+			final LockMode lockMode,
+			final EntityPersister persister,
+			final EntityKey[] entityKeys) {
+		final Object[] entities = new Object[entityKeys.length];
+		final boolean useCache =
+				persister.canReadFromCache()
+						&& source.getCacheMode().isGetEnabled()
+						&& lockMode.lessThan( LockMode.READ );
+		if ( useCache && entityKeys.length > 0 ) {
+			final Object[] cacheEntries = getFromSharedCache( entityKeys, persister, source );
+			for ( int i = 0; i < entityKeys.length; i++ ) {
+				final Object cacheEntry = cacheEntries[i];
+				if ( cacheEntry != null ) {
+					entities[i] = processCachedEntry( null, persister, cacheEntry, source, entityKeys[i] );
+				}
+			}
+		}
+		return entities;
+	}
+
 	private static Object getFromSharedCache(
 			final Object entityId,
 			final EntityPersister persister,
@@ -148,18 +184,43 @@ private static Object getFromSharedCache(
 		final var factory = source.getFactory();
 		final Object cacheKey = cache.generateCacheKey( entityId, persister, factory, source.getTenantIdentifier() );
 		final Object cacheEntry = fromSharedCache( source, cacheKey, persister, persister.getCacheAccessStrategy() );
-		final var statistics = factory.getStatistics();
+		recordEntityCacheGet( persister, cacheEntry != null, source );
+		return cacheEntry;
+	}
+
+	private static Object[] getFromSharedCache(
+			final EntityKey[] entityKeys,
+			final EntityPersister persister,
+			final SharedSessionContractImplementor source) {
+		final var cache = persister.getCacheAccessStrategy();
+		final var factory = source.getFactory();
+		final String tenantIdentifier = source.getTenantIdentifier();
+		final Object[] cacheKeys = new Object[entityKeys.length];
+		for ( int i = 0; i < entityKeys.length; i++ ) {
+			cacheKeys[i] = cache.generateCacheKey( entityKeys[i].getIdentifier(), persister, factory, tenantIdentifier );
+		}
+		final Object[] cacheEntries = fromSharedCache( source, cacheKeys, persister, cache );
+		for ( Object cacheEntry : cacheEntries ) {
+			recordEntityCacheGet( persister, cacheEntry != null, source );
+		}
+		return cacheEntries;
+	}
+
+	private static void recordEntityCacheGet(
+			final EntityPersister persister,
+			final boolean hit,
+			final SharedSessionContractImplementor source) {
+		final var statistics = source.getFactory().getStatistics();
 		if ( statistics.isStatisticsEnabled() ) {
 			final var rootEntityRole = getRootEntityRole( persister );
-			final String regionName = cache.getRegion().getName();
-			if ( cacheEntry == null ) {
-				statistics.entityCacheMiss( rootEntityRole, regionName );
+			final String regionName = persister.getCacheAccessStrategy().getRegion().getName();
+			if ( hit ) {
+				statistics.entityCacheHit( rootEntityRole, regionName );
 			}
 			else {
-				statistics.entityCacheHit( rootEntityRole, regionName );
+				statistics.entityCacheMiss( rootEntityRole, regionName );
 			}
 		}
-		return cacheEntry;
 	}
 
 	private static Object processCachedEntry(
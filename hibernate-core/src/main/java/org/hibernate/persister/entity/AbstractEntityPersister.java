@@ -31,9 +31,12 @@
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeDescriptor;
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.CacheEntryOptimizer;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cache.spi.entry.BinaryCacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
@@ -405,11 +408,13 @@
 	private final @Nullable EntityDataAccess cacheAccessStrategy;
 	private final NaturalIdDataAccess naturalIdRegionAccessStrategy;
 	private final @Nonnull CacheEntryHelper cacheEntryHelper;
+	private final @Nullable CacheEntryOptimizer cacheEntryOptimizer;
 	private final boolean canReadFromCache;
 	private final boolean canWriteToCache;
 	private final boolean invalidateCache;
 	private final boolean isLazyPropertiesCacheable;
 	private final boolean useReferenceCacheEntries;
+	private final boolean useBinaryCacheEntries;
 	private final boolean useShallowQueryCacheLayout;
 	private final boolean storeDiscriminatorInShallowQueryCacheLayout;
 
@@ -764,12 +769,14 @@ else if ( selectable instanceof Column column ) {
 		}
 
 		useReferenceCacheEntries = shouldUseReferenceCacheEntries( factoryOptions );
+		useBinaryCacheEntries = factoryOptions.isBinaryCacheEntriesEnabled();
 		final var queryCacheLayout = persistentClass.getQueryCacheLayout();
 		useShallowQueryCacheLayout =
 				shouldUseShallowCacheLayout( queryCacheLayout, factoryOptions );
 		storeDiscriminatorInShallowQueryCacheLayout =
 				shouldStoreDiscriminatorInShallowQueryCacheLayout( queryCacheLayout, factoryOptions );
 		cacheEntryHelper = buildCacheEntryHelper( factoryOptions );
+		cacheEntryOptimizer = buildCacheEntryOptimizer( persistentClass, creationContext );
 		invalidateCache =
 				factoryOptions.isSecondLevelCacheEnabled()
 						&& canWriteToCache
@@ -1235,6 +1242,9 @@ protected CacheEntryHelper buildCacheEntryHelper(SessionFactoryOptions options)
 		else if ( canUseReferenceCacheEntries() ) {
 			return new ReferenceCacheEntryHelper( this );
 		}
+		else if ( useBinaryCacheEntries ) {
+			return new BinaryCacheEntryHelper( this );
+		}
 		else {
 			return options.isStructuredCacheEntriesEnabled()
 					? new StructuredCacheEntryHelper( this )
@@ -1242,6 +1252,31 @@ else if ( canUseReferenceCacheEntries() ) {
 		}
 	}
 
+	private @Nullable CacheEntryOptimizer buildCacheEntryOptimizer(
+			PersistentClass persistentClass,
+			RuntimeModelCreationContext creationContext) {
+		if ( cacheAccessStrategy == null
+				|| canUseReferenceCacheEntries()
+				|| !persistentClass.hasPojoRepresentation()
+				|| !creationContext.getSessionFactoryOptions().isCacheEntryOptimizerEnabled() ) {
+			return null;
+		}
+		else {
+			return creationContext.getBootstrapContext().getServiceRegistry()
+					.requireService( BytecodeProvider.class )
+					.getCacheEntryOptimizer(
+							persistentClass.getMappedClass(),
+							getPropertyTypes(),
+							isLazyPropertiesCacheable ? null : getPropertyLaziness()
+					);
+		}
+	}
+
+	@Override
+	public @Nullable CacheEntryOptimizer getCacheEntryOptimizer() {
+		return cacheEntryOptimizer;
+	}
+
 	@Override
 	public boolean canUseReferenceCacheEntries() {
 		return useReferenceCacheEntries;
@@ -5233,6 +5268,26 @@ public CacheEntry buildCacheEntry(Object entity, Object[] state, Object version,
 		}
 	}
 
+	private record BinaryCacheEntryHelper(EntityPersister persister, BinaryCacheEntry structure)
+			implements CacheEntryHelper {
+
+		private BinaryCacheEntryHelper(EntityPersister persister) {
+			this( persister, new BinaryCacheEntry( persister ) );
+		}
+
+		@Override
+		@Nonnull
+		public CacheEntryStructure getCacheEntryStructure() {
+			return structure;
+		}
+
+		@Override
+		@Nonnull
+		public CacheEntry buildCacheEntry(Object entity, Object[] state, Object version, SharedSessionContractImplementor session) {
+			return new StandardCacheEntryImpl( state, persister, version, session, entity );
+		}
+	}
+
 	private static class NoopCacheEntryHelper implements CacheEntryHelper {
 		public static final NoopCacheEntryHelper INSTANCE = new NoopCacheEntryHelper();
 
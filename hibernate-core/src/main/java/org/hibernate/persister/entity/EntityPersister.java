@@ -16,6 +16,7 @@
 import org.hibernate.annotations.OnDeleteAction;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
+import org.hibernate.bytecode.spi.CacheEntryOptimizer;
 import org.hibernate.cache.MutableCacheKeyBuilder;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
@@ -887,6 +888,19 @@ default boolean isPropertyAuditedExcluded(int attributeIndex) {
 	@Nonnull
 	CacheEntry buildCacheEntry(Object entity, Object[] state, Object version, SharedSessionContractImplementor session);
 
+	/**
+	 * Get the optimized disassembly and assembly of the state of this entity for
+	 * the second-level cache, if any.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#USE_CACHE_ENTRY_OPTIMIZER
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	default @Nullable CacheEntryOptimizer getCacheEntryOptimizer() {
+		return null;
+	}
+
 	/**
 	 * Does this class have a natural id cache
 	 */
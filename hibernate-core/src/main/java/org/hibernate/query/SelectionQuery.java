@@ -32,6 +32,7 @@
 import org.hibernate.SharedSessionContract;
 import org.hibernate.UnknownProfileException;
 import org.hibernate.graph.GraphSemantic;
+import org.hibernate.query.internal.ScrollableResultsPublisher;
 
 import java.time.Instant;
 import java.util.Calendar;
@@ -40,6 +41,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 
 /**
@@ -227,6 +229,32 @@ default Stream<R> stream() {
 		return list().stream();
 	}
 
+	/**
+	 * Return the query results as a {@link Flow.Publisher}, which reads
+	 * the results from the JDBC result set only as they are requested by
+	 * its subscriber. If the query contains multiple items in the selection
+	 * list, then by default each result is packaged in an array of type
+	 * {@code Object[]}.
+	 * <p>
+	 * The query is executed when the subscriber first requests results, and
+	 * the results are read on the thread calling
+	 * {@link Flow.Subscription#request(long)}, which must be a thread allowed
+	 * to use the session. The underlying {@link ScrollableResults} is closed
+	 * once all results were delivered, or the subscription is cancelled.
+	 * <p>
+	 * Combined with {@link org.hibernate.jpa.HibernateHints#HINT_DETACH_RESULTS},
+	 * large results may be exported with a constant amount of memory.
+	 *
+	 * @return The results as a {@link Flow.Publisher}
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	@Nonnull
+	default Flow.Publisher<R> getResultPublisher() {
+		return new ScrollableResultsPublisher<>( () -> scroll( ScrollMode.FORWARD_ONLY ) );
+	}
+
 	/**
 	 * Execute the query and return the single result of the query,
 	 * throwing an exception if the query returns no results.
@@ -79,6 +79,7 @@
 import static org.hibernate.jpa.HibernateHints.HINT_FLUSH_MODE;
 import static org.hibernate.jpa.HibernateHints.HINT_FOLLOW_ON_LOCKING;
 import static org.hibernate.jpa.HibernateHints.HINT_FOLLOW_ON_STRATEGY;
+import static org.hibernate.jpa.HibernateHints.HINT_DETACH_RESULTS;
 import static org.hibernate.jpa.HibernateHints.HINT_LIMIT_IN_MEMORY;
 import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_LOCK_MODE;
 import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
@@ -380,6 +381,7 @@ protected void collectHints(Map<String, Object> hints) {
 		putIfNotNull( hints, HINT_CACHE_MODE, queryOptions.getCacheMode() );
 		putIfNotNull( hints, HINT_QUERY_PLAN_CACHEABLE, queryOptions.getQueryPlanCachingEnabled() );
 		putIfNotNull( hints, HINT_LIMIT_IN_MEMORY, queryOptions.isLimitInMemoryEnabled() );
+		putIfNotNull( hints, HINT_DETACH_RESULTS, queryOptions.isDetachResultsEnabled() );
 
 		putIfNotNull( hints, HINT_SPEC_CACHE_RETRIEVE_MODE, queryOptions.getCacheRetrieveMode() );
 		putIfNotNull( hints, HINT_JAVAEE_CACHE_RETRIEVE_MODE, queryOptions.getCacheRetrieveMode() );
@@ -530,6 +532,9 @@ protected final boolean applyHint(String hintName, Object value) {
 				case HINT_LIMIT_IN_MEMORY:
 					queryOptions.setLimitInMemory( getBoolean( value ) );
 					return true;
+				case HINT_DETACH_RESULTS:
+					queryOptions.setDetachResults( getBoolean( value ) );
+					return true;
 				case HINT_CACHEABLE:
 					if ( isHistorical() ) {
 						throw new IllegalStateException( "Query result set caching disallowed for historical query" );
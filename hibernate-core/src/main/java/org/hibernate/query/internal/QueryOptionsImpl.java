@@ -54,6 +54,7 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 
 	private Boolean queryPlanCachingEnabled;
 	private Boolean limitInMemoryEnabled;
+	private Boolean detachResultsEnabled;
 
 	private final Limit limit;
 	private final LockOptions lockOptions;
@@ -89,6 +90,7 @@ public QueryOptionsImpl(@Nonnull QueryOptionsImpl original) {
 		this.refreshSession = original.refreshSession;
 		this.queryPlanCachingEnabled = original.queryPlanCachingEnabled;
 		this.limitInMemoryEnabled = original.limitInMemoryEnabled;
+		this.detachResultsEnabled = original.detachResultsEnabled;
 		this.limit = original.limit.makeCopy();
 		this.lockOptions = original.lockOptions.makeCopy();
 		this.tupleTransformer = original.tupleTransformer;
@@ -272,6 +274,12 @@ public Boolean isLimitInMemoryEnabled() {
 		return limitInMemoryEnabled;
 	}
 
+	@Override
+	@Nullable
+	public Boolean isDetachResultsEnabled() {
+		return detachResultsEnabled;
+	}
+
 	@Override
 	public void setQueryPlanCachingEnabled(@Nullable Boolean queryPlanCachingEnabled) {
 		this.queryPlanCachingEnabled = queryPlanCachingEnabled;
@@ -304,6 +312,11 @@ public void setLimitInMemory(boolean limitInMemory) {
 		this.limitInMemoryEnabled = limitInMemory;
 	}
 
+	@Override
+	public void setDetachResults(boolean detachResults) {
+		this.detachResultsEnabled = detachResults;
+	}
+
 	@Override
 	public void setReadOnly(boolean readOnly) {
 		this.readOnlyEnabled = readOnly;
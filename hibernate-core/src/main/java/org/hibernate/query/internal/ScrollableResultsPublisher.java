@@ -0,0 +1,166 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.internal;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.hibernate.Incubating;
+import org.hibernate.ScrollableResults;
+
+/**
+ * A {@link Flow.Publisher} of the results of a query, backed by
+ * {@link ScrollableResults}.
+ * <p>
+ * The query is executed when the subscriber first requests results, and
+ * rows are read from the JDBC result set only as they are requested, on
+ * the thread which calls {@link Flow.Subscription#request(long)}. The
+ * results are closed as soon as the last row was delivered, when the
+ * subscription is cancelled, or when the subscriber throws from
+ * {@link Flow.Subscriber#onNext(Object)}.
+ * <p>
+ * Since the rows are read by the session which created the query, the
+ * subscriber must request results from a thread which may use the session.
+ *
+ * @param <T> the type of the query results
+ *
+ * @since 8.0
+ */
+@Incubating
+public class ScrollableResultsPublisher<T> implements Flow.Publisher<T> {
+	private final Supplier<ScrollableResults<T>> resultsSupplier;
+
+	public ScrollableResultsPublisher(Supplier<ScrollableResults<T>> resultsSupplier) {
+		this.resultsSupplier = resultsSupplier;
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super T> subscriber) {
+		if ( subscriber == null ) {
+			throw new NullPointerException( "Subscriber must not be null" );
+		}
+		subscriber.onSubscribe( new ScrollableResultsSubscription<>( resultsSupplier, subscriber ) );
+	}
+
+	private static class ScrollableResultsSubscription<T> implements Flow.Subscription {
+		private final Supplier<ScrollableResults<T>> resultsSupplier;
+		private final Flow.Subscriber<? super T> subscriber;
+
+		// guarded by the lock, which is reentrant since the
+		// subscriber may request more results from onNext()
+		private final ReentrantLock lock = new ReentrantLock();
+		private ScrollableResults<T> results;
+		private long demand;
+		private boolean emitting;
+		private boolean cancelled;
+		private boolean done;
+
+		private ScrollableResultsSubscription(
+				Supplier<ScrollableResults<T>> resultsSupplier,
+				Flow.Subscriber<? super T> subscriber) {
+			this.resultsSupplier = resultsSupplier;
+			this.subscriber = subscriber;
+		}
+
+		@Override
+		public void request(long n) {
+			lock.lock();
+			try {
+				if ( done ) {
+					return;
+				}
+				if ( n <= 0 ) {
+					cancelled = true;
+					release();
+					subscriber.onError(
+							new IllegalArgumentException( "Requested number of results must be positive: " + n ) );
+					return;
+				}
+				demand += n;
+				if ( demand < 0 ) {
+					// effectively unbounded
+					demand = Long.MAX_VALUE;
+				}
+				drain();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public void cancel() {
+			lock.lock();
+			try {
+				cancelled = true;
+				if ( !emitting ) {
+					release();
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void drain() {
+			if ( emitting ) {
+				// called from onNext(), the outer loop will deliver the results
+				return;
+			}
+			emitting = true;
+			try {
+				while ( !done ) {
+					if ( cancelled ) {
+						release();
+					}
+					else if ( demand == 0 ) {
+						return;
+					}
+					else {
+						final T result;
+						try {
+							if ( results == null ) {
+								results = resultsSupplier.get();
+							}
+							if ( !results.next() ) {
+								release();
+								subscriber.onComplete();
+								return;
+							}
+							result = results.get();
+						}
+						catch (RuntimeException e) {
+							release();
+							subscriber.onError( e );
+							return;
+						}
+						demand--;
+						try {
+							subscriber.onNext( result );
+						}
+						catch (Throwable e) {
+							// the subscriber violated §2.13, consider the subscription cancelled
+							release();
+							subscriber.onError( e );
+							return;
+						}
+					}
+				}
+			}
+			finally {
+				emitting = false;
+			}
+		}
+
+		private void release() {
+			done = true;
+			if ( results != null ) {
+				results.close();
+				results = null;
+			}
+		}
+	}
+}
@@ -98,6 +98,12 @@ public Boolean isLimitInMemoryEnabled() {
 		return queryOptions.isLimitInMemoryEnabled();
 	}
 
+	@Override
+	@Nullable
+	public Boolean isDetachResultsEnabled() {
+		return queryOptions.isDetachResultsEnabled();
+	}
+
 	@Override
 	@Nullable
 	public CacheMode getCacheMode() {
@@ -75,6 +75,13 @@ default void setCacheMode(@Nullable CacheMode cacheMode) {
 	 */
 	void setLimitInMemory(boolean limitInMemory);
 
+	/**
+	 * Corollary to {@link #isDetachResultsEnabled()}
+	 *
+	 * @since 8.0
+	 */
+	void setDetachResults(boolean detachResults);
+
 	/**
 	 * Corollary to {@link #getTimeout()}
 	 */
@@ -133,6 +133,19 @@ default Boolean isLimitInMemoryEnabled() {
 		return null;
 	}
 
+	/**
+	 * Whether the entities read by scrolling or streaming the results
+	 * should be detached once the next row was read.
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_DETACH_RESULTS
+	 *
+	 * @since 8.0
+	 */
+	@Nullable
+	default Boolean isDetachResultsEnabled() {
+		return null;
+	}
+
 	/**
 	 * The explicitly enabled profiles for this query.
 	 */
@@ -4,6 +4,9 @@
  */
 package org.hibernate.query.sqm.internal;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
 import jakarta.annotation.Nullable;
 import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
@@ -23,6 +26,7 @@
 	private final F strategy;
 
 	private volatile MultiTableHandler handler;
+	private final Lock lock = new ReentrantLock();
 
 	public AbstractMultiTableMutationQueryPlan(S statement, DomainParameterXref domainParameterXref, F strategy) {
 		this.statement = statement;
@@ -53,7 +57,8 @@ protected Interpretation getInterpretation(DomainQueryExecutionContext context)
 		MultiTableHandler localCopy = handler;
 		final Interpretation builtInterpretation;
 		if ( localCopy == null ) {
-			synchronized (this) {
+			lock.lock();
+			try {
 				localCopy = handler;
 				if ( localCopy == null ) {
 					final var buildResult =
@@ -69,6 +74,9 @@ protected Interpretation getInterpretation(DomainQueryExecutionContext context)
 					builtInterpretation = updateInterpretation( localCopy, context );
 				}
 			}
+			finally {
+				lock.unlock();
+			}
 		}
 		else {
 			builtInterpretation = updateInterpretation( localCopy, context );
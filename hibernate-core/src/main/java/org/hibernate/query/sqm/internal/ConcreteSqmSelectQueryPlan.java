@@ -52,6 +52,8 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static java.util.Collections.emptyList;
 import static org.hibernate.internal.util.ReflectHelper.isClass;
@@ -76,6 +78,7 @@
 	private final SqmInterpreter<ScrollableResults<R>, ScrollMode> scrollInterpreter;
 
 	private volatile CacheableSqmInterpretation<SelectStatement, JdbcSelect> cacheableSqmInterpretation;
+	private final Lock lock = new ReentrantLock();
 
 	public ConcreteSqmSelectQueryPlan(
 			SqmSelectStatement<?> sqm,
@@ -428,15 +431,18 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 
 		// IMPORTANT NOTE: Intentional double-lock checking
 		// Another solution would be to use ReadWriteLock
-		// to protect access. But synchronized is simpler here.
+		// to protect access. But a plain lock is simpler here.
 		// We will verify during throughput testing whether
 		// this is an issue and consider changes then.
+		// (Not synchronized, since a virtual thread waiting
+		// for the translation would pin its carrier.)
 
 		var localCopy = cacheableSqmInterpretation;
 		JdbcParameterBindings jdbcParameterBindings = null;
 
 		if ( localCopy == null ) {
-			synchronized ( this ) {
+			lock.lock();
+			try {
 				localCopy = cacheableSqmInterpretation;
 				if ( localCopy == null ) {
 					final MutableObject<JdbcParameterBindings> mutableValue = new MutableObject<>();
@@ -461,6 +467,9 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 					}
 				}
 			}
+			finally {
+				lock.unlock();
+			}
 		}
 		else {
 			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
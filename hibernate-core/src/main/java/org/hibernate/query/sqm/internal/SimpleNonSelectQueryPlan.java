@@ -22,6 +22,8 @@
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static org.hibernate.query.sqm.internal.SqmJdbcExecutionContextAdapter.omittingLockingAndPaging;
 import static org.hibernate.query.sqm.internal.SqmUtil.generateJdbcParamsXref;
@@ -35,6 +37,7 @@ public class SimpleNonSelectQueryPlan implements NonSelectQueryPlan {
 	private final DomainParameterXref domainParameterXref;
 
 	private volatile CacheableSqmInterpretation<MutationStatement, JdbcOperationQueryMutation> interpretation;
+	private final Lock lock = new ReentrantLock();
 
 	public SimpleNonSelectQueryPlan(SqmDmlStatement<?> statement, DomainParameterXref domainParameterXref) {
 		this.statement = statement;
@@ -113,7 +116,8 @@ protected Interpretation getInterpretation(DomainQueryExecutionContext context)
 		CacheableSqmInterpretation<MutationStatement, JdbcOperationQueryMutation> localCopy = interpretation;
 
 		if ( localCopy == null ) {
-			synchronized ( this ) {
+			lock.lock();
+			try {
 				localCopy = interpretation;
 				if ( localCopy == null ) {
 					builtInterpretation = buildInterpretation( statement, domainParameterXref, context );
@@ -124,6 +128,9 @@ protected Interpretation getInterpretation(DomainQueryExecutionContext context)
 					builtInterpretation = updateInterpretation( localCopy, context );
 				}
 			}
+			finally {
+				lock.unlock();
+			}
 		}
 		else {
 			builtInterpretation = updateInterpretation( localCopy, context );
@@ -10,6 +10,11 @@
 import java.sql.ResultSet;
 import java.sql.Statement;
 
+import jakarta.annotation.Nullable;
+
+import org.hibernate.Incubating;
+import org.hibernate.resource.jdbc.spi.StatementCache;
+
 /**
  * A registry for tracking JDBC resources.
  *
@@ -72,4 +77,20 @@ public interface ResourceRegistry {
 
 	void cancelLastQuery();
 
+	/**
+	 * Register a cache which may retain the statements released by this registry
+	 * instead of them being closed. The cache is
+	 * {@linkplain StatementCache#releaseStatements() cleared} when the resources
+	 * of this registry are {@linkplain #releaseResources() released}.
+	 * <p>
+	 * By default, the cache is ignored, and released statements are always closed.
+	 *
+	 * @param statementCache The statement cache, or {@code null} to remove it.
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	default void setStatementCache(@Nullable StatementCache statementCache) {
+	}
+
 }
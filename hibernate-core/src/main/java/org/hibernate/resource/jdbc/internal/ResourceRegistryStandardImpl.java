@@ -15,6 +15,7 @@
 import org.hibernate.JDBCException;
 import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
+import org.hibernate.resource.jdbc.spi.StatementCache;
 
 import static org.hibernate.resource.jdbc.internal.ResourceRegistryLogger.RESOURCE_REGISTRY_LOGGER;
 
@@ -43,6 +44,7 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 
 	private ExtendedState ext;
 	private Statement lastQuery;
+	private StatementCache statementCache;
 
 	public ResourceRegistryStandardImpl() {
 		this( null );
@@ -85,7 +87,9 @@ public void release(Statement statement) {
 			RESOURCE_REGISTRY_LOGGER.unregisteredStatement();
 		}
 
-		close( statement );
+		if ( statementCache == null || !statementCache.retain( statement ) ) {
+			close( statement );
+		}
 
 		if ( lastQuery == statement ) {
 			lastQuery = null;
@@ -293,6 +297,11 @@ public void cancelLastQuery() {
 		}
 	}
 
+	@Override
+	public void setStatementCache(StatementCache statementCache) {
+		this.statementCache = statementCache;
+	}
+
 	@Override
 	public void releaseResources() {
 		RESOURCE_REGISTRY_LOGGER.releasingResources();
@@ -308,6 +317,10 @@ public void releaseResources() {
 			ext.releaseResources();
 		}
 
+		if ( statementCache != null ) {
+			statementCache.releaseStatements();
+		}
+
 		if ( jdbcEventHandler != null ) {
 			jdbcEventHandler.jdbcReleaseRegistryResourcesEnd();
 		}
@@ -96,6 +96,18 @@ public void jdbcPrepareStatementEnd() {
 		}
 	}
 
+	public void jdbcPreparedStatementCacheHit() {
+		if ( statistics != null && statistics.isStatisticsEnabled() ) {
+			statistics.preparedStatementCacheHit();
+		}
+	}
+
+	public void jdbcPreparedStatementCacheMiss() {
+		if ( statistics != null && statistics.isStatisticsEnabled() ) {
+			statistics.preparedStatementCacheMiss();
+		}
+	}
+
 	public void jdbcExecuteStatementStart() {
 		if ( sessionListener != null ) {
 			sessionListener.jdbcExecuteStatementStart();
@@ -0,0 +1,41 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.resource.jdbc.spi;
+
+import java.sql.Statement;
+
+import org.hibernate.Incubating;
+import org.hibernate.resource.jdbc.ResourceRegistry;
+
+/**
+ * A cache of statements prepared for a logical connection, which may
+ * retain the statements {@linkplain ResourceRegistry#release(Statement)
+ * released} by the {@link ResourceRegistry} instead of letting them be
+ * closed, so that they can be reused when the same SQL is prepared again.
+ *
+ * @see ResourceRegistry#setStatementCache(StatementCache)
+ * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+ *
+ * @since 8.0
+ */
+@Incubating
+public interface StatementCache {
+	/**
+	 * Called when a statement is released, after its result sets were closed.
+	 *
+	 * @param statement The released statement
+	 *
+	 * @return {@code true} if the statement is retained by this cache, in which
+	 * case it must not be closed; {@code false} if it should be closed.
+	 */
+	boolean retain(Statement statement);
+
+	/**
+	 * Close all statements retained by this cache, and forget the statements
+	 * which were not released yet. Called when the resources of the logical
+	 * connection are released, for example, before the physical connection is.
+	 */
+	void releaseStatements();
+}
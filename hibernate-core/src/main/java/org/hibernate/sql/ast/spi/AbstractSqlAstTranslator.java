@@ -200,6 +200,7 @@
 import org.hibernate.sql.model.internal.TableInsertStandard;
 import org.hibernate.sql.model.internal.TableUpdateCustomSql;
 import org.hibernate.sql.model.internal.TableUpdateStandard;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 import org.hibernate.sql.results.internal.SqlSelectionImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingProducer;
 import org.hibernate.type.BasicType;
@@ -305,6 +306,9 @@
 	private Map<JdbcParameter, JdbcParameterBinding> appliedParameterBindings = Collections.emptyMap();
 	private SqlAstNodeRenderingMode parameterRenderingMode = SqlAstNodeRenderingMode.DEFAULT;
 	private final ParameterMarkerStrategy parameterMarkerStrategy;
+	// the tuple of values of a rendered insert
+	private int valuesTupleStart = -1;
+	private int valuesTupleEnd = -1;
 
 	private final Stack<Clause> clauseStack = new StandardStack<>();
 	private final Stack<QueryPart> queryPartStack = new StandardStack<>();
@@ -8674,8 +8678,22 @@ protected enum LockStrategy {
 
 	private T translateTableMutation(TableMutation<?> mutation) {
 		mutation.accept( this );
+		final var operation = mutation.createMutationOperation( getSql(), parameterBinders );
+		if ( valuesTupleEnd == sqlBuffer.length() && operation instanceof JdbcInsertMutation insert ) {
+			// the SQL ends with the tuple of values, which can be repeated to insert several rows
+			//noinspection unchecked
+			return (T) new JdbcInsertMutation(
+					insert.getTableDetails(),
+					insert.getMutationTarget(),
+					insert.getSqlString(),
+					insert.isCallable(),
+					insert.getExpectation(),
+					insert.getParameterBinders(),
+					valuesTupleStart
+			);
+		}
 		//noinspection unchecked
-		return (T) mutation.createMutationOperation( getSql(), parameterBinders );
+		return (T) operation;
 	}
 
 	@Override
@@ -8718,7 +8736,9 @@ protected void renderInsertInto(TableInsertStandard tableInsert) {
 
 		getCurrentClauseStack().push( Clause.VALUES );
 		try {
-			sqlBuffer.append( ") values (" );
+			sqlBuffer.append( ") values " );
+			valuesTupleStart = sqlBuffer.length();
+			sqlBuffer.append( '(' );
 
 			tableInsert.forEachValueBinding( (columnPosition, columnValueBinding) -> {
 				if ( columnPosition > 0 ) {
@@ -8732,6 +8752,7 @@ protected void renderInsertInto(TableInsertStandard tableInsert) {
 		}
 
 		sqlBuffer.append( ")" );
+		valuesTupleEnd = sqlBuffer.length();
 	}
 
 	/**
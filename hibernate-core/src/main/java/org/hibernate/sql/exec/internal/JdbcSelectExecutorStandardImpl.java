@@ -394,6 +394,7 @@ private static AbstractJdbcValues resolveJdbcValues(
 						mappingProducer.resolve( valuesMetadata, loadQueryInfluencers, factory );
 				final var cacheHit = new JdbcValuesCacheHit( cachedResults, resolvedMapping );
 				if ( cacheHit.isCacheCompatible() ) {
+					cacheHit.loadShallowCachedEntities( session, executionContext.getQueryOptions() );
 					return cacheHit;
 				}
 				// Cached data incompatible with the resolved mapping, fall through to re-execute
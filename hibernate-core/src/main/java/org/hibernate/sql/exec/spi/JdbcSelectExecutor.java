@@ -211,6 +211,7 @@ class ScrollableExecutionContext extends BaseExecutionContext implements QueryOp
 			private final Integer fetchSize;
 			private final Limit limit;
 			private final Boolean limitInMemoryEnabled;
+			private final Boolean detachResultsEnabled;
 			// Preserved across the SqlOmittingQueryOptions wrap so that runtime
 			// JdbcParameter binders that the converter injected (offset/limit)
 			// can still see the application-set limit even though getLimit()
@@ -235,6 +236,7 @@ public ScrollableExecutionContext(
 					@Nullable Integer fetchSize,
 					Limit limit,
 					@Nullable Boolean limitInMemoryEnabled,
+					@Nullable Boolean detachResultsEnabled,
 					Limit originalLimit,
 					@Nonnull ExecutionContext context) {
 				super( context.getSession() );
@@ -254,6 +256,7 @@ public ScrollableExecutionContext(
 				this.fetchSize = fetchSize;
 				this.limit = limit;
 				this.limitInMemoryEnabled = limitInMemoryEnabled;
+				this.detachResultsEnabled = detachResultsEnabled;
 				this.originalLimit = originalLimit;
 				this.context = context;
 			}
@@ -371,6 +374,12 @@ public Boolean isLimitInMemoryEnabled() {
 				return limitInMemoryEnabled;
 			}
 
+			@Override
+			@Nullable
+			public Boolean isDetachResultsEnabled() {
+				return detachResultsEnabled;
+			}
+
 			@Override
 			@Nonnull
 			public Limit peekOriginalLimit() {
@@ -407,12 +416,15 @@ public Set<String> getDisabledFetchProfiles() {
 
 		final var options = context.getQueryOptions();
 		final Boolean optionsReadOnly = options.isReadOnly();
+		final Boolean detachResults = options.isDetachResultsEnabled();
 		return new ScrollableExecutionContext(
 				options.getTimeout(),
 				options.getQueryFlushMode(),
-				optionsReadOnly == null
-						? context.getSession().getPersistenceContext().isDefaultReadOnly()
-						: optionsReadOnly,
+				// entities which are detached right away don't need a snapshot
+				detachResults == Boolean.TRUE ? Boolean.TRUE
+						: optionsReadOnly == null
+								? context.getSession().getPersistenceContext().isDefaultReadOnly()
+								: optionsReadOnly,
 				options.getAppliedGraph(),
 				options.getTupleTransformer(),
 				options.getResultListTransformer(),
@@ -426,6 +438,7 @@ public Set<String> getDisabledFetchProfiles() {
 				options.getFetchSize(),
 				options.getLimit(),
 				options.isLimitInMemoryEnabled(),
+				detachResults,
 				options.peekOriginalLimit(),
 				context
 		);
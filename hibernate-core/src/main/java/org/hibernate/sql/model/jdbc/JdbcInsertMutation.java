@@ -6,6 +6,9 @@
 
 import java.util.List;
 
+import jakarta.annotation.Nullable;
+
+import org.hibernate.Incubating;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.model.MutationTarget;
@@ -18,6 +21,8 @@
  * @author Steve Ebersole
  */
 public class JdbcInsertMutation extends AbstractJdbcMutation {
+	private final int valuesTupleStart;
+
 	public JdbcInsertMutation(
 			TableMapping tableDetails,
 			MutationTarget<?,?> mutationTarget,
@@ -25,7 +30,62 @@ public JdbcInsertMutation(
 			boolean callable,
 			Expectation expectation,
 			List<? extends JdbcParameterBinder> parameterBinders) {
+		this( tableDetails, mutationTarget, sql, callable, expectation, parameterBinders, -1 );
+	}
+
+	/**
+	 * @param valuesTupleStart The position of the tuple of values ending the SQL,
+	 * or {@code -1} if the SQL does not end with such a tuple
+	 *
+	 * @since 8.0
+	 */
+	public JdbcInsertMutation(
+			TableMapping tableDetails,
+			MutationTarget<?,?> mutationTarget,
+			String sql,
+			boolean callable,
+			Expectation expectation,
+			List<? extends JdbcParameterBinder> parameterBinders,
+			int valuesTupleStart) {
 		super( tableDetails, mutationTarget, sql, callable, expectation, parameterBinders );
+		this.valuesTupleStart = valuesTupleStart;
+	}
+
+	/**
+	 * The tuple of values ending the SQL, holding all the parameters of the insert,
+	 * or {@code null} if the SQL does not end with such a tuple, for example because
+	 * it is custom SQL, or returns generated values.
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	public @Nullable String getValuesTuple() {
+		return valuesTupleStart < 0 ? null : getSqlString().substring( valuesTupleStart );
+	}
+
+	/**
+	 * The SQL inserting the given number of rows with a single {@code values} list,
+	 * by repeating the {@linkplain #getValuesTuple() tuple of values}.
+	 *
+	 * @throws IllegalStateException if the SQL does not end with a tuple of values
+	 *
+	 * @see org.hibernate.dialect.Dialect#supportsValuesListForInsert()
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	public String getMultiRowSqlString(int rowCount) {
+		if ( valuesTupleStart < 0 ) {
+			throw new IllegalStateException( "Insert does not end with a tuple of values: " + getSqlString() );
+		}
+		final String sql = getSqlString();
+		final int tupleLength = sql.length() - valuesTupleStart;
+		final var multiRowSql = new StringBuilder( sql.length() + ( tupleLength + 1 ) * ( rowCount - 1 ) );
+		multiRowSql.append( sql );
+		for ( int i = 1; i < rowCount; i++ ) {
+			multiRowSql.append( ',' ).append( sql, valuesTupleStart, sql.length() );
+		}
+		return multiRowSql.toString();
 	}
 
 	@Override
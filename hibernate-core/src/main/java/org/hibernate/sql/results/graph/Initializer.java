@@ -192,6 +192,19 @@ default void initializeInstanceFromParent(Object parentInstance, RowProcessingSt
 //		finishUpRow( getData( rowProcessingState ) );
 //	}
 
+	/**
+	 * Lifecycle method called once all rows were processed, before
+	 * {@link #endLoading(InitializerData)} is called for any initializer.
+	 * <p>
+	 * Allows publishing state collected across all rows which other
+	 * initializers might need while ending the loading.
+	 *
+	 * @since 8.0
+	 */
+	default void beforeEndLoading(Data data) {
+		// by default - nothing to do
+	}
+
 	/**
 	 * Lifecycle method called at the very end of the result values processing
 	 */
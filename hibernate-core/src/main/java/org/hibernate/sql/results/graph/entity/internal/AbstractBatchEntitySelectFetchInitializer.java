@@ -4,6 +4,8 @@
  */
 package org.hibernate.sql.results.graph.entity.internal;
 
+import java.util.ArrayList;
+
 import org.hibernate.FetchMethod;
 import org.hibernate.Hibernate;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
@@ -37,6 +39,12 @@
 
 	public static abstract class AbstractBatchEntitySelectFetchInitializerData extends EntitySelectFetchInitializerData {
 		final boolean batchDisabled;
+		// a scrolled result only ends loading when it is closed,
+		// so its keys must be registered as the rows are read
+		final boolean registerKeysPerRow;
+
+		// keys registered with the batch fetch queue once all rows were processed
+		private @Nullable ArrayList<EntityKey> pendingBatchLoadableKeys;
 
 		// per-row state
 		protected @Nullable EntityKey entityKey;
@@ -46,6 +54,7 @@ public AbstractBatchEntitySelectFetchInitializerData(
 				RowProcessingState rowProcessingState) {
 			super( initializer, rowProcessingState );
 			batchDisabled = isBatchDisabled( initializer, rowProcessingState );
+			registerKeysPerRow = rowProcessingState.isScrollResult();
 		}
 
 		private static boolean isBatchDisabled(
@@ -279,16 +288,52 @@ protected Object getExistingInitializedInstance(Data data) {
 	}
 
 	protected void registerToBatchFetchQueue(Data data) {
-		assert data.entityKey != null;
-		final var session = data.getRowProcessingState().getSession();
-		withFetchOptions(
-				session,
-				() -> {
-					session.getPersistenceContextInternal().getBatchFetchQueue()
-							.addBatchLoadableEntityKey( data.entityKey );
-					return null;
-				}
-		);
+		final var entityKey = data.entityKey;
+		assert entityKey != null;
+		if ( data.registerKeysPerRow ) {
+			final var session = data.getRowProcessingState().getSession();
+			withFetchOptions(
+					session,
+					() -> {
+						session.getPersistenceContextInternal().getBatchFetchQueue()
+								.addBatchLoadableEntityKey( entityKey );
+						return null;
+					}
+			);
+		}
+		else {
+			// the keys are added to the batch fetch queue in one go in
+			// beforeEndLoading(), since the batches are only loaded then
+			var pendingKeys = data.pendingBatchLoadableKeys;
+			if ( pendingKeys == null ) {
+				pendingKeys = data.pendingBatchLoadableKeys = new ArrayList<>();
+			}
+			pendingKeys.add( entityKey );
+		}
+	}
+
+	@Override
+	public void beforeEndLoading(Data data) {
+		final var pendingKeys = data.pendingBatchLoadableKeys;
+		if ( pendingKeys != null ) {
+			data.pendingBatchLoadableKeys = null;
+			final var session = data.getRowProcessingState().getSession();
+			withFetchOptions(
+					session,
+					() -> {
+						session.getPersistenceContextInternal().getBatchFetchQueue()
+								.addBatchLoadableEntityKeys( pendingKeys );
+						return null;
+					}
+			);
+		}
+	}
+
+	@Override
+	public void endLoading(Data data) {
+		// in case the row reader did not call beforeEndLoading()
+		beforeEndLoading( data );
+		super.endLoading( data );
 	}
 
 	@Override
@@ -73,4 +73,9 @@ public T transformRow(Object[] row) {
 	public int determineNumberOfResultElements(int rawElementCount) {
 		return 1;
 	}
+
+	@Override
+	public boolean allowsRowReuse() {
+		return true;
+	}
 }
@@ -29,4 +29,9 @@ public static <X> RowTransformerListImpl<X> instance() {
 	public List<Object> transformRow(Object[] row) {
 		return List.of( row );
 	}
+
+	@Override
+	public boolean allowsRowReuse() {
+		return true;
+	}
 }
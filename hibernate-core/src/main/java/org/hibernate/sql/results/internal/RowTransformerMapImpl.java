@@ -41,4 +41,9 @@ public Map<String,Object> transformRow(Object[] row) {
 	public int determineNumberOfResultElements(int rawElementCount) {
 		return 1;
 	}
+
+	@Override
+	public boolean allowsRowReuse() {
+		return true;
+	}
 }
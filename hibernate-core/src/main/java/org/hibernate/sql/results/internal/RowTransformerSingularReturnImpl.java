@@ -37,4 +37,9 @@ public R transformRow(Object[] row) {
 	public int determineNumberOfResultElements(int rawElementCount) {
 		return 1;
 	}
+
+	@Override
+	public boolean allowsRowReuse() {
+		return true;
+	}
 }
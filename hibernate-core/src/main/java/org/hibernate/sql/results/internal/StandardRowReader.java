@@ -38,6 +38,8 @@
 
 	private final ComponentType componentType;
 	private final Class<?> resultElementClass;
+	// a single buffer for the raw rows, if the row transformer doesn't keep them
+	private final @Nullable Object[] reusableResultRow;
 
 	public StandardRowReader(
 			JdbcValuesMappingResolution jdbcValuesMappingResolution,
@@ -90,6 +92,11 @@ public StandardRowReader(
 			this.resultElementClass = domainResultJavaType.getComponentType();
 			this.componentType = ComponentType.determineComponentType( domainResultJavaType );
 		}
+		this.reusableResultRow =
+				componentType == ComponentType.OBJECT && this.rowTransformer != null
+						&& this.rowTransformer.allowsRowReuse()
+						? newResultRow()
+						: null;
 	}
 
 	@Override
@@ -140,7 +147,6 @@ public T readRow(RowProcessingState rowProcessingState) {
 		return result;
 	}
 
-	@AllowReflection
 	@SuppressWarnings("unchecked")
 	private T getResult(RowProcessingState rowProcessingState) {
 		if ( componentType != ComponentType.OBJECT ) {
@@ -150,7 +156,7 @@ else if ( resultAssemblers.length == 1 && rowTransformer == null ) {
 			return (T) resultAssemblers[0].assemble( rowProcessingState );
 		}
 		else {
-			final var resultRow = (Object[]) Array.newInstance( resultElementClass, resultAssemblers.length );
+			final var resultRow = reusableResultRow == null ? newResultRow() : reusableResultRow;
 			for ( int i = 0; i < resultAssemblers.length; i++ ) {
 				resultRow[i] = resultAssemblers[i].assemble( rowProcessingState );
 			}
@@ -160,6 +166,13 @@ else if ( resultAssemblers.length == 1 && rowTransformer == null ) {
 		}
 	}
 
+	@AllowReflection
+	private Object[] newResultRow() {
+		return resultElementClass == Object.class
+				? new Object[resultAssemblers.length]
+				: (Object[]) Array.newInstance( resultElementClass, resultAssemblers.length );
+	}
+
 	private Object readPrimitiveRow(RowProcessingState rowProcessingState) {
 		// The following is ugly, but unfortunately necessary to not hurt performance.
 		// This implementation was micro-benchmarked and discussed with Francesco Nigro,
@@ -258,6 +271,9 @@ public void startLoading(RowProcessingState processingState) {
 
 	@Override
 	public void finishUp(RowProcessingState rowProcessingState) {
+		for ( int i = 0; i < initializers.length; i++ ) {
+			initializers[i].beforeEndLoading( initializersData[i] );
+		}
 		for ( int i = 0; i < initializers.length; i++ ) {
 			initializers[i].endLoading( initializersData[i] );
 		}
@@ -4,9 +4,19 @@
  */
 package org.hibernate.sql.results.jdbc.internal;
 
+import java.util.BitSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 
+import org.hibernate.FindMultipleOption;
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
+import org.hibernate.metamodel.mapping.BasicValuedModelPart;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.sql.results.graph.basic.BasicFetch;
+import org.hibernate.sql.results.graph.entity.AbstractEntityResultGraphNode;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 
@@ -223,6 +233,108 @@ public Object getCurrentRowValue(int valueIndex) {
 		}
 	}
 
+	/**
+	 * Load the entities of all {@linkplain org.hibernate.annotations.CacheLayout#SHALLOW
+	 * shallow} cached entity results of the query at once, instead of one by one as the
+	 * rows are processed, so that the second-level cache is checked in bulk, and missing
+	 * entities are fetched from the database in as few round trips as possible.
+	 * Processing the rows then finds the entities in the persistence context.
+	 *
+	 * @param queryOptions the options of the query, whose read-only mode applies
+	 *        to the loaded entities
+	 *
+	 * @since 8.0
+	 */
+	public void loadShallowCachedEntities(SharedSessionContractImplementor session, QueryOptions queryOptions) {
+		if ( numberOfRows > 1 && !session.isStateless() ) {
+			for ( var domainResult : resolvedMapping.getDomainResults() ) {
+				if ( domainResult instanceof AbstractEntityResultGraphNode entityResult ) {
+					final var persister = entityResult.getReferencedMappingContainer().getEntityPersister();
+					if ( persister.useShallowQueryCacheLayout() ) {
+						final int valueIndex = identifierValueIndex( entityResult );
+						if ( valueIndex >= 0 ) {
+							final Object[] ids = getCachedValues( valueIndex );
+							if ( ids.length > 1 ) {
+								persister.multiLoad( ids, session,
+										new ShallowCachedLoadOptions( queryOptions.isReadOnly() ) );
+							}
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * The position of the identifier of the given entity result in the values of a row,
+	 * or {@code -1} if the identifier is not a single basic value, as it was read from
+	 * the result set.
+	 */
+	private static int identifierValueIndex(AbstractEntityResultGraphNode entityResult) {
+		if ( entityResult.getIdentifierFetch() instanceof BasicFetch<?> identifierFetch
+				&& identifierFetch.getFetchedMapping() instanceof BasicValuedModelPart identifierMapping
+				&& identifierMapping.getJdbcMapping().getValueConverter() == null ) {
+			final var valueIndexes = new BitSet();
+			identifierFetch.collectValueIndexesToCache( valueIndexes );
+			return valueIndexes.cardinality() == 1 ? valueIndexes.nextSetBit( 0 ) : -1;
+		}
+		else {
+			return -1;
+		}
+	}
+
+	private Object[] getCachedValues(int valueIndex) {
+		final int cacheIndex = valueIndexesToCacheIndexes[valueIndex];
+		final var values = new LinkedHashSet<>( numberOfRows );
+		for ( int i = 0; i < numberOfRows; i++ ) {
+			final Object row = cachedResults.get( i + offset );
+			final Object value = row instanceof Object[] array ? array[cacheIndex] : row;
+			if ( value != null ) {
+				values.add( value );
+			}
+		}
+		return values.toArray();
+	}
+
+	private record ShallowCachedLoadOptions(Boolean readOnly) implements MultiIdLoadOptions {
+		@Override
+		public FindMultipleOption.SessionCheckMode getSessionCheckMode() {
+			return FindMultipleOption.SessionCheckMode.ENABLED;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			return true;
+		}
+
+		@Override
+		public Boolean getReadOnly(SessionImplementor session) {
+			return readOnly != null
+					? readOnly
+					: session.getLoadQueryInfluencers().getReadOnly();
+		}
+
+		@Override
+		public FindMultipleOption.RemovalsMode getRemovalsMode() {
+			return FindMultipleOption.RemovalsMode.INCLUDE;
+		}
+
+		@Override
+		public FindMultipleOption.OrderingMode getOrderingMode() {
+			return FindMultipleOption.OrderingMode.UNORDERED;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return LockOptions.NONE;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return null;
+		}
+	}
+
 	@Override
 	public void finishUp(SharedSessionContractImplementor session) {
 		cachedResults = null;
@@ -26,4 +26,14 @@
 	default int determineNumberOfResultElements(int rawElementCount) {
 		return rawElementCount;
 	}
+
+	/**
+	 * Does this transformation only read the "raw" row, without keeping a reference
+	 * to the array?  If so, the same array may be reused for every row.
+	 *
+	 * @since 8.0
+	 */
+	default boolean allowsRowReuse() {
+		return false;
+	}
 }
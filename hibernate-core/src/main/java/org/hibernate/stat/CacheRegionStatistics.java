@@ -5,6 +5,9 @@
 package org.hibernate.stat;
 
 import java.io.Serializable;
+import java.util.List;
+
+import org.hibernate.Incubating;
 
 /**
  * Second-level cache statistics of a specific region.
@@ -76,4 +79,111 @@ public interface CacheRegionStatistics extends Serializable {
 	 * is returned instead.
 	 */
 	long getSizeInMemory();
+
+	/**
+	 * The number of cache look-ups against the region which were served by its
+	 * near cache, on the heap, without accessing the cache provider. Unlike the
+	 * other counts, this is counted since the region was built.
+	 * <p>
+	 * If the region has no near cache, {@link #NO_EXTENDED_STAT_SUPPORT_RETURN}
+	 * is returned instead.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#NEAR_CACHE_MAX_ENTRIES
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	default long getNearCacheHitCount() {
+		return NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
+	/**
+	 * The number of cache look-ups against the region which were not served by
+	 * its near cache, and were forwarded to the cache provider. Unlike the other
+	 * counts, this is counted since the region was built.
+	 * <p>
+	 * If the region has no near cache, {@link #NO_EXTENDED_STAT_SUPPORT_RETURN}
+	 * is returned instead.
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	default long getNearCacheMissCount() {
+		return NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
+	/**
+	 * The number of elements currently held by the near cache of the region.
+	 * <p>
+	 * If the region has no near cache, {@link #NO_EXTENDED_STAT_SUPPORT_RETURN}
+	 * is returned instead.
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	default long getNearCacheElementCount() {
+		return NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
+	/**
+	 * The most frequently accessed keys of the region, in decreasing order of
+	 * sampled look-ups. Unlike the other counts, the sampled look-ups are counted
+	 * since the region was built.
+	 * <p>
+	 * If the accesses to the region are not sampled, an empty list is returned.
+	 *
+	 * @see org.hibernate.cfg.StatisticsSettings#CACHE_SAMPLING
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	default List<HotKey> getHotKeys() {
+		return List.of();
+	}
+
+	/**
+	 * An upper bound of the estimated size, in bytes, of the given percentage
+	 * of the sampled items put into the region.
+	 * <p>
+	 * If the accesses to the region are not sampled,
+	 * {@link #NO_EXTENDED_STAT_SUPPORT_RETURN} is returned instead.
+	 *
+	 * @param percentile a percentage, for example {@code 99} for the 99th percentile
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	default long getEntrySizePercentile(double percentile) {
+		return NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
+	/**
+	 * An upper bound of the time, in microseconds, elapsed between a sampled miss
+	 * and the put of the item loaded from the database, for the given percentage
+	 * of the sampled misses.
+	 * <p>
+	 * If the accesses to the region are not sampled,
+	 * {@link #NO_EXTENDED_STAT_SUPPORT_RETURN} is returned instead.
+	 *
+	 * @param percentile a percentage, for example {@code 99} for the 99th percentile
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	default long getLoadTimePercentile(double percentile) {
+		return NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
+	/**
+	 * A frequently accessed key of a region.
+	 *
+	 * @param key the string representation of the cache key
+	 * @param accessCount the number of sampled look-ups of the key
+	 * @param missCount the number of sampled look-ups of the key which missed
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	record HotKey(String key, long accessCount, long missCount) implements Serializable {
+	}
 }
@@ -42,4 +42,16 @@ public interface CollectionStatistics extends CacheableDataStatistics, Serializa
 	 * has been updated
 	 */
 	long getUpdateCount();
+
+	/**
+	 * The number of keys most recently chosen for the batch fetching of
+	 * this collection, when {@linkplain org.hibernate.cfg.FetchSettings#BATCH_FETCH_ADAPTIVE
+	 * adaptive batch fetching} is enabled, or {@code 0} if no batch was
+	 * adapted since the last Statistics clearing.
+	 *
+	 * @since 8.0
+	 */
+	default int getBatchFetchSize() {
+		return 0;
+	}
 }
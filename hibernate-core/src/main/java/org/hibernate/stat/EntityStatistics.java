@@ -48,4 +48,16 @@ public interface EntityStatistics extends CacheableDataStatistics, Serializable
 	 * has experienced an optimistic lock failure.
 	 */
 	long getOptimisticFailureCount();
+
+	/**
+	 * The number of keys most recently chosen for the batch fetching of
+	 * this entity, when {@linkplain org.hibernate.cfg.FetchSettings#BATCH_FETCH_ADAPTIVE
+	 * adaptive batch fetching} is enabled, or {@code 0} if no batch was
+	 * adapted since the last Statistics clearing.
+	 *
+	 * @since 8.0
+	 */
+	default int getBatchFetchSize() {
+		return 0;
+	}
 }
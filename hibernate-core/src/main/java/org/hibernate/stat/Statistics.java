@@ -385,6 +385,25 @@ public interface Statistics {
 	 */
 	long getCloseStatementCount();
 
+	/**
+	 * The number of prepared statements reused from the
+	 * {@linkplain org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 * statement cache} of a session, which are not counted by
+	 * {@link #getPrepareStatementCount()}.
+	 *
+	 * @since 8.0
+	 */
+	long getPreparedStatementCacheHitCount();
+
+	/**
+	 * The number of prepared statements <em>not</em> found in the
+	 * {@linkplain org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 * statement cache} of a session, and therefore prepared.
+	 *
+	 * @since 8.0
+	 */
+	long getPreparedStatementCacheMissCount();
+
 	/**
 	 * The number of Hibernate {@code StaleObjectStateException}s or JPA
 	 * {@code OptimisticLockException}s that have occurred.
@@ -393,6 +412,9 @@ public interface Statistics {
 
 	/**
 	 * The global number of query plans successfully retrieved from cache.
+	 * <p>
+	 * The plans of criteria queries, which have no query string, are only
+	 * counted globally, and not by the {@link QueryStatistics}.
 	 */
 	long getQueryPlanCacheHitCount();
 
@@ -5,12 +5,16 @@
 package org.hibernate.stat.internal;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.concurrent.atomic.LongAdder;
 
 import jakarta.annotation.Nullable;
+import org.hibernate.cache.spi.CacheRegionSamplingSupport;
 import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.NearCacheStatisticsSupport;
 import org.hibernate.cache.spi.Region;
 import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.spi.CacheRegionSampler;
 
 /**
  * Second level cache statistics of a specific region
@@ -20,6 +24,8 @@
 public class CacheRegionStatisticsImpl implements CacheRegionStatistics, Serializable {
 	private final String regionName;
 	private final transient @Nullable ExtendedStatisticsSupport extendedStatisticsSupport;
+	private final transient @Nullable NearCacheStatisticsSupport nearCacheStatisticsSupport;
+	private final transient @Nullable CacheRegionSampler sampler;
 
 	private final LongAdder hitCount = new LongAdder();
 	private final LongAdder missCount = new LongAdder();
@@ -32,6 +38,14 @@ public class CacheRegionStatisticsImpl implements CacheRegionStatistics, Seriali
 				region instanceof ExtendedStatisticsSupport extended
 						? extended
 						: null;
+		nearCacheStatisticsSupport =
+				region instanceof NearCacheStatisticsSupport nearCache && nearCache.isNearCacheEnabled()
+						? nearCache
+						: null;
+		sampler =
+				region instanceof CacheRegionSamplingSupport sampling
+						? sampling.getCacheRegionSampler()
+						: null;
 	}
 
 	@Override
@@ -80,6 +94,48 @@ public long getSizeInMemory() {
 				: extendedStatisticsSupport.getSizeInMemory();
 	}
 
+	@Override
+	public long getNearCacheHitCount() {
+		return nearCacheStatisticsSupport == null
+				? NO_EXTENDED_STAT_SUPPORT_RETURN
+				: nearCacheStatisticsSupport.getNearCacheHitCount();
+	}
+
+	@Override
+	public long getNearCacheMissCount() {
+		return nearCacheStatisticsSupport == null
+				? NO_EXTENDED_STAT_SUPPORT_RETURN
+				: nearCacheStatisticsSupport.getNearCacheMissCount();
+	}
+
+	@Override
+	public long getNearCacheElementCount() {
+		return nearCacheStatisticsSupport == null
+				? NO_EXTENDED_STAT_SUPPORT_RETURN
+				: nearCacheStatisticsSupport.getNearCacheElementCount();
+	}
+
+	@Override
+	public List<HotKey> getHotKeys() {
+		return sampler == null
+				? List.of()
+				: sampler.getHotKeys();
+	}
+
+	@Override
+	public long getEntrySizePercentile(double percentile) {
+		return sampler == null
+				? NO_EXTENDED_STAT_SUPPORT_RETURN
+				: sampler.getEntrySizePercentile( percentile );
+	}
+
+	@Override
+	public long getLoadTimePercentile(double percentile) {
+		return sampler == null
+				? NO_EXTENDED_STAT_SUPPORT_RETURN
+				: sampler.getLoadTimePercentile( percentile );
+	}
+
 	void incrementHitCount() {
 		hitCount.increment();
 	}
@@ -111,6 +167,16 @@ public String toString() {
 					.append( ",elementCountOnDisk=" ).append( getElementCountOnDisk() )
 					.append( ",sizeInMemory=" ).append( getSizeInMemory() );
 		}
+		if ( nearCacheStatisticsSupport != null ) {
+			string.append( ",nearCacheHitCount=" ).append( getNearCacheHitCount() )
+					.append( ",nearCacheMissCount=" ).append( getNearCacheMissCount() )
+					.append( ",nearCacheElementCount=" ).append( getNearCacheElementCount() );
+		}
+		if ( sampler != null ) {
+			string.append( ",hotKeys=" ).append( getHotKeys() )
+					.append( ",entrySizeP99=" ).append( getEntrySizePercentile( 99 ) )
+					.append( ",loadTimeP99=" ).append( getLoadTimePercentile( 99 ) );
+		}
 		return string.append( ']' ).toString();
 	}
 }
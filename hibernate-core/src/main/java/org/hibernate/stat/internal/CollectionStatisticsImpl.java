@@ -23,6 +23,7 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 	private final LongAdder updateCount = new LongAdder();
 	private final LongAdder removeCount = new LongAdder();
 	private final LongAdder recreateCount = new LongAdder();
+	private volatile int batchFetchSize;
 
 	CollectionStatisticsImpl(CollectionPersister persister) {
 		super( () -> {
@@ -52,6 +53,11 @@ public long getUpdateCount() {
 		return updateCount.sum();
 	}
 
+	@Override
+	public int getBatchFetchSize() {
+		return batchFetchSize;
+	}
+
 	void incrementLoadCount() {
 		loadCount.increment();
 	}
@@ -60,6 +66,10 @@ void incrementFetchCount() {
 		fetchCount.increment();
 	}
 
+	void setBatchFetchSize(int batchFetchSize) {
+		this.batchFetchSize = batchFetchSize;
+	}
+
 	void incrementUpdateCount() {
 		updateCount.increment();
 	}
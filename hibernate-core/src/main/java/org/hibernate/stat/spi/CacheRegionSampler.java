@@ -0,0 +1,313 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat.spi;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.annotation.Nonnull;
+
+import org.hibernate.Incubating;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+import org.hibernate.stat.CacheRegionStatistics;
+
+import static java.lang.Math.min;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Profiles a sample of the accesses to a second-level cache region, keeping:
+ * <ul>
+ * <li>the most frequently accessed keys, with a space-saving top-K algorithm,
+ *     which keeps a bounded number of counters, and replaces the smallest one
+ *     when a key without a counter is accessed,
+ * <li>a histogram of the estimated sizes of the items put into the region, and
+ * <li>a histogram of the time elapsed between a miss and the put of the item
+ *     loaded from the database.
+ * </ul>
+ * The histograms have one bucket per power of two, so that the reported
+ * percentiles are upper bounds, accurate within a factor of two. A miss
+ * which is not followed by a put within a minute, for example because the
+ * item does not exist, is forgotten, and does not count as a load.
+ * <p>
+ * Only one in every given number of accesses is sampled, which makes the
+ * profiling cheap enough to be enabled in production. The counts are therefore
+ * counts of sampled accesses. Unlike the other region statistics, they are kept
+ * since the region was built. A sampled access is dropped rather than waiting
+ * for another thread counting an access to the region.
+ *
+ * @see org.hibernate.cfg.StatisticsSettings#CACHE_SAMPLING
+ * @see CacheRegionStatistics#getHotKeys()
+ *
+ * @since 8.0
+ */
+@Incubating
+public class CacheRegionSampler {
+	private static final int MAX_PENDING_LOADS = 1024;
+	private static final long PENDING_LOAD_TIMEOUT = SECONDS.toNanos( 60 );
+	private static final int BUCKETS = 64;
+
+	private final int period;
+	private final int topKeys;
+	private final int counterCount;
+
+	private final Lock countersLock = new ReentrantLock();
+	// guarded by countersLock
+	private final Map<Object, KeyCounter> counters = new HashMap<>();
+	private final LongAdder[] entrySizes = histogram();
+	private final LongAdder[] loadTimes = histogram();
+	private final ConcurrentHashMap<Object, Long> pendingLoads = new ConcurrentHashMap<>();
+	private final AtomicLong nextPendingLoadsPurge = new AtomicLong( System.nanoTime() );
+
+	private static class KeyCounter {
+		private final Object key;
+		private long count;
+		private long missCount;
+
+		private KeyCounter(Object key, long count) {
+			this.key = key;
+			this.count = count;
+		}
+	}
+
+	/**
+	 * @param period one in {@code period} accesses is sampled
+	 * @param topKeys the number of hot keys reported
+	 */
+	public CacheRegionSampler(int period, int topKeys) {
+		this.period = period;
+		this.topKeys = topKeys;
+		// more counters than reported keys make the reported counts more accurate
+		this.counterCount = topKeys * 4;
+	}
+
+	private static LongAdder[] histogram() {
+		final var histogram = new LongAdder[BUCKETS];
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			histogram[i] = new LongAdder();
+		}
+		return histogram;
+	}
+
+	private boolean sample() {
+		return period == 1 || ThreadLocalRandom.current().nextInt( period ) == 0;
+	}
+
+	/**
+	 * Called after a look-up of the given key in the region.
+	 */
+	public void accessed(@Nonnull Object key, boolean hit) {
+		if ( sample() ) {
+			count( key, hit );
+			if ( !hit ) {
+				missed( key, System.nanoTime() );
+			}
+		}
+	}
+
+	private void missed(Object key, long now) {
+		if ( pendingLoads.size() >= MAX_PENDING_LOADS ) {
+			purgeExpiredPendingLoads( now );
+		}
+		if ( pendingLoads.size() < MAX_PENDING_LOADS ) {
+			// an expired miss of the key is replaced
+			pendingLoads.merge( key, now,
+					(previous, current) -> isExpired( previous, current ) ? current : previous );
+		}
+	}
+
+	/**
+	 * Removes the misses never followed by a put, at most once per second,
+	 * so that a full map of pending loads is not scanned on every miss.
+	 */
+	private void purgeExpiredPendingLoads(long now) {
+		final long purgeAt = nextPendingLoadsPurge.get();
+		if ( now - purgeAt >= 0
+				&& nextPendingLoadsPurge.compareAndSet( purgeAt, now + SECONDS.toNanos( 1 ) ) ) {
+			pendingLoads.values().removeIf( missedAt -> isExpired( missedAt, now ) );
+		}
+	}
+
+	private static boolean isExpired(long missedAt, long now) {
+		return now - missedAt > PENDING_LOAD_TIMEOUT;
+	}
+
+	/**
+	 * Called after an item was put into the region.
+	 */
+	public void put(@Nonnull Object key, Object value) {
+		if ( value instanceof SoftLock ) {
+			// not an item, but a lock held during an update
+			return;
+		}
+		if ( !pendingLoads.isEmpty() ) {
+			final Long missedAt = pendingLoads.remove( key );
+			final long now = System.nanoTime();
+			if ( missedAt != null && !isExpired( missedAt, now ) ) {
+				record( loadTimes, NANOSECONDS.toMicros( now - missedAt ) );
+			}
+		}
+		if ( sample() ) {
+			record( entrySizes, estimateSize( value, 2 ) );
+		}
+	}
+
+	private void count(Object key, boolean hit) {
+		if ( !countersLock.tryLock() ) {
+			// never block the thread accessing the cache
+			return;
+		}
+		try {
+			var counter = counters.get( key );
+			if ( counter == null ) {
+				long count = 0;
+				if ( counters.size() >= counterCount ) {
+					// the new key takes over the smallest counter,
+					// whose count bounds the count of the new key
+					final var smallest = counters.values().stream()
+							.min( Comparator.comparingLong( c -> c.count ) )
+							.orElseThrow();
+					counters.remove( smallest.key );
+					count = smallest.count;
+				}
+				counter = new KeyCounter( key, count );
+				counters.put( key, counter );
+			}
+			counter.count++;
+			if ( !hit ) {
+				counter.missCount++;
+			}
+		}
+		finally {
+			countersLock.unlock();
+		}
+	}
+
+	/**
+	 * The most frequently accessed keys of the region, in decreasing order of
+	 * sampled accesses.
+	 */
+	@Nonnull
+	public List<CacheRegionStatistics.HotKey> getHotKeys() {
+		countersLock.lock();
+		try {
+			final List<KeyCounter> sorted = new ArrayList<>( counters.values() );
+			sorted.sort( Comparator.comparingLong( (KeyCounter c) -> c.count ).reversed() );
+			final List<CacheRegionStatistics.HotKey> hotKeys = new ArrayList<>( min( topKeys, sorted.size() ) );
+			for ( int i = 0; i < sorted.size() && i < topKeys; i++ ) {
+				final var counter = sorted.get( i );
+				hotKeys.add( new CacheRegionStatistics.HotKey(
+						String.valueOf( counter.key ),
+						counter.count,
+						counter.missCount
+				) );
+			}
+			return hotKeys;
+		}
+		finally {
+			countersLock.unlock();
+		}
+	}
+
+	/**
+	 * The estimated size of the items put into the region, in bytes, below which
+	 * the given percentage of the sampled sizes falls, or {@code 0} if no size
+	 * was sampled.
+	 */
+	public long getEntrySizePercentile(double percentile) {
+		return percentile( entrySizes, percentile );
+	}
+
+	/**
+	 * The time elapsed between a miss and the put of the loaded item, in
+	 * microseconds, below which the given percentage of the sampled times falls,
+	 * or {@code 0} if no time was sampled.
+	 */
+	public long getLoadTimePercentile(double percentile) {
+		return percentile( loadTimes, percentile );
+	}
+
+	private static void record(LongAdder[] histogram, long value) {
+		histogram[BUCKETS - Long.numberOfLeadingZeros( Math.max( value, 0 ) )].increment();
+	}
+
+	private static long percentile(LongAdder[] histogram, double percentile) {
+		final long[] counts = new long[BUCKETS];
+		long total = 0;
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			counts[i] = histogram[i].sum();
+			total += counts[i];
+		}
+		if ( total == 0 ) {
+			return 0;
+		}
+		final long rank = (long) Math.ceil( total * percentile / 100 );
+		long cumulated = 0;
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			cumulated += counts[i];
+			if ( cumulated >= rank && counts[i] > 0 ) {
+				// the upper bound of the bucket
+				return i == 0 ? 0 : ( 1L << i ) - 1;
+			}
+		}
+		return Long.MAX_VALUE;
+	}
+
+	/**
+	 * A rough estimate of the heap size of a cached item, in bytes.
+	 */
+	private static long estimateSize(Object value, int depth) {
+		if ( value == null ) {
+			return 0;
+		}
+		else if ( value instanceof byte[] bytes ) {
+			return 16 + bytes.length;
+		}
+		else if ( value instanceof CharSequence string ) {
+			return 40 + string.length();
+		}
+		else if ( value instanceof Number || value instanceof Boolean || value instanceof Character ) {
+			return 16;
+		}
+		else if ( depth == 0 ) {
+			return 16;
+		}
+		else if ( value instanceof AbstractReadWriteAccess.Item item ) {
+			return 32 + estimateSize( item.getValue(), depth );
+		}
+		else if ( value instanceof CacheEntry entry ) {
+			return 32 + estimateSize( entry.getDisassembledState(), depth - 1 );
+		}
+		else if ( value instanceof CollectionCacheEntry entry ) {
+			return 16 + estimateSize( entry.getState(), depth - 1 );
+		}
+		else if ( value instanceof Object[] array ) {
+			long size = 16 + 4L * array.length;
+			for ( Object element : array ) {
+				size += estimateSize( element, depth - 1 );
+			}
+			return size;
+		}
+		else if ( value instanceof Collection<?> collection ) {
+			return 16 + 24L * collection.size();
+		}
+		else {
+			return 16;
+		}
+	}
+}
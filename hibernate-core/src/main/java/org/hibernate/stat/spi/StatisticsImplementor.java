@@ -50,6 +50,28 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void closeStatement();
 
+	/**
+	 * Callback about a prepared statement being reused from the
+	 * {@linkplain org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 * statement cache} of a session.
+	 *
+	 * @since 8.0
+	 */
+	default void preparedStatementCacheHit() {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback about a prepared statement not being found in the
+	 * {@linkplain org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 * statement cache} of a session.
+	 *
+	 * @since 8.0
+	 */
+	default void preparedStatementCacheMiss() {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback about a transaction completing.
 	 *
@@ -124,6 +146,34 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void fetchCollection(String role);
 
+	/**
+	 * Callback indicating the number of keys chosen for the next batch fetch of
+	 * an entity by {@linkplain org.hibernate.cfg.FetchSettings#BATCH_FETCH_ADAPTIVE
+	 * adaptive batch fetching}.
+	 *
+	 * @param entityName The name of the entity.
+	 * @param batchSize The number of keys.
+	 *
+	 * @since 8.0
+	 */
+	default void entityBatchFetchSize(String entityName, int batchSize) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the number of keys chosen for the next batch fetch of
+	 * a collection by {@linkplain org.hibernate.cfg.FetchSettings#BATCH_FETCH_ADAPTIVE
+	 * adaptive batch fetching}.
+	 *
+	 * @param role The collection role.
+	 * @param batchSize The number of keys.
+	 *
+	 * @since 8.0
+	 */
+	default void collectionBatchFetchSize(String role, int batchSize) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating a collection was updated.
 	 *
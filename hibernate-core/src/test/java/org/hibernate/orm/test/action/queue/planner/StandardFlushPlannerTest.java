@@ -18,6 +18,7 @@
 import org.hibernate.action.queue.spi.meta.TableDescriptor;
 import org.hibernate.action.queue.spi.plan.FlushOperation;
 import org.hibernate.action.queue.internal.plan.FlushPlan;
+import org.hibernate.action.queue.internal.plan.FlushPlanTemplate;
 import org.hibernate.action.queue.internal.plan.PlanStep;
 import org.hibernate.action.queue.internal.plan.FlushOperationGroup;
 import org.hibernate.action.queue.internal.plan.StandardFlushPlanner;
@@ -640,6 +641,140 @@ public void testBindingPatchOnlyOnInserts() {
 		}
 	}
 
+	@Test
+	public void testLevelSchedulingCoalescesIndependentGroups() {
+		// Two independent chains A1 -> B1 and A2 -> B2, where A1/A2 and B1/B2 share statement shapes
+		final FlushOperationGroup groupA1 = createGroup("tableA", MutationKind.INSERT, 1);
+		final FlushOperationGroup groupB1 = createGroup("tableB", MutationKind.INSERT, 2);
+		final FlushOperationGroup groupA2 = createGroup("tableA", MutationKind.INSERT, 1);
+		final FlushOperationGroup groupB2 = createGroup("tableB", MutationKind.INSERT, 2);
+
+		final GroupNode nodeA1 = new GroupNode(groupA1, 1L);
+		final GroupNode nodeB1 = new GroupNode(groupB1, 2L);
+		final GroupNode nodeA2 = new GroupNode(groupA2, 3L);
+		final GroupNode nodeB2 = new GroupNode(groupB2, 4L);
+
+		final Map<GroupNode, List<GraphEdge>> outgoing = new HashMap<>();
+		outgoing.put(nodeA1, List.of(createEdge(nodeA1, nodeB1, false, 1)));
+		outgoing.put(nodeA2, List.of(createEdge(nodeA2, nodeB2, false, 2)));
+
+		final List<GroupNode> nodes = List.of(nodeA1, nodeB1, nodeA2, nodeB2);
+
+		// topological ordering keeps each chain together: A1, B1, A2, B2
+		final FlushPlan standardPlan = new StandardFlushPlanner(DEFAULT_PLANNING_OPTIONS)
+				.plan(new Graph(nodes, outgoing));
+		assertEquals(4, standardPlan.steps().size());
+
+		final PlanningOptions levelOptions = new PlanningOptions(
+				true,
+				true,
+				false,
+				true,
+				PlanningOptions.UniqueCycleStrategy.IGNORE_UNIQUE_EDGES_IN_CYCLES,
+				true
+		);
+		final FlushPlan levelPlan = new StandardFlushPlanner(levelOptions)
+				.plan(new Graph(nodes, outgoing));
+
+		// level scheduling coalesces both A groups and both B groups
+		assertEquals(2, levelPlan.steps().size());
+		assertEquals(2, levelPlan.steps().get(0).operations().size());
+		assertEquals(2, levelPlan.steps().get(1).operations().size());
+		for (FlushOperation op : levelPlan.steps().get(0).operations()) {
+			assertEquals("tableA", op.getTableExpression());
+		}
+		for (FlushOperation op : levelPlan.steps().get(1).operations()) {
+			assertEquals("tableB", op.getTableExpression());
+		}
+	}
+
+	@Test
+	public void testPlanTemplateReplay() {
+		// B is encountered first, but depends on A: B(ordinal 2) <- A(ordinal 1), C(ordinal 3) independent
+		final FlushOperationGroup groupB = createGroup("tableB", MutationKind.INSERT, 2);
+		final FlushOperationGroup groupA = createGroup("tableA", MutationKind.INSERT, 1);
+		final FlushOperationGroup groupC = createGroup("tableC", MutationKind.INSERT, 3);
+
+		final List<FlushOperationGroup> sortedGroups = FlushPlanTemplate.sortGroups(List.of(groupB, groupA, groupC));
+		assertEquals("tableA", sortedGroups.get(0).tableExpression());
+
+		final GroupNode nodeA = new GroupNode(sortedGroups.get(0), 1L);
+		final GroupNode nodeB = new GroupNode(sortedGroups.get(1), 2L);
+		final GroupNode nodeC = new GroupNode(sortedGroups.get(2), 3L);
+		final Map<GroupNode, List<GraphEdge>> outgoing = new HashMap<>();
+		outgoing.put(nodeA, List.of(createEdge(nodeA, nodeB, false, 1)));
+
+		final FlushPlan plan = new StandardFlushPlanner(DEFAULT_PLANNING_OPTIONS)
+				.plan(new Graph(List.of(nodeA, nodeB, nodeC), outgoing));
+		final FlushPlanTemplate template = FlushPlanTemplate.capture(plan, sortedGroups);
+
+		// a later flush with the same shapes
+		final List<FlushOperationGroup> nextGroups = FlushPlanTemplate.sortGroups(List.of(
+				createGroup("tableB", MutationKind.INSERT, 2),
+				createGroup("tableA", MutationKind.INSERT, 1),
+				createGroup("tableC", MutationKind.INSERT, 3)
+		));
+		assertEquals(
+				FlushPlanTemplate.Key.from(sortedGroups, null),
+				FlushPlanTemplate.Key.from(nextGroups, null)
+		);
+
+		final FlushPlan replayed = template.instantiate(nextGroups);
+		assertEquals(plan.steps().size(), replayed.steps().size());
+		for (int i = 0; i < plan.steps().size(); i++) {
+			final List<FlushOperation> expected = plan.steps().get(i).operations();
+			final List<FlushOperation> actual = replayed.steps().get(i).operations();
+			assertEquals(expected.size(), actual.size());
+			for (int j = 0; j < expected.size(); j++) {
+				assertEquals(expected.get(j).getTableExpression(), actual.get(j).getTableExpression());
+				assertFalse(expected.get(j) == actual.get(j), "Replayed plan should use the new operations");
+			}
+		}
+	}
+
+	@Test
+	public void testLevelSchedulingCoalescesUnrelatedGroups() {
+		// Unrelated entities, no edges at all: A1, B1, A2, B2 where A1/A2 and B1/B2 share statement shapes
+		final FlushOperationGroup groupA1 = createGroup("tableA", MutationKind.INSERT, 1);
+		final FlushOperationGroup groupB1 = createGroup("tableB", MutationKind.INSERT, 2);
+		final FlushOperationGroup groupA2 = createGroup("tableA", MutationKind.INSERT, 1);
+		final FlushOperationGroup groupB2 = createGroup("tableB", MutationKind.INSERT, 2);
+
+		final List<GroupNode> nodes = List.of(
+				new GroupNode(groupA1, 1L),
+				new GroupNode(groupB1, 2L),
+				new GroupNode(groupA2, 3L),
+				new GroupNode(groupB2, 4L)
+		);
+
+		// natural ordering alternates the shapes
+		final FlushPlan standardPlan = new StandardFlushPlanner(DEFAULT_PLANNING_OPTIONS)
+				.plan(new Graph(nodes, new HashMap<>()));
+		assertEquals(4, standardPlan.steps().size());
+
+		final PlanningOptions levelOptions = new PlanningOptions(
+				true,
+				true,
+				false,
+				true,
+				PlanningOptions.UniqueCycleStrategy.IGNORE_UNIQUE_EDGES_IN_CYCLES,
+				true
+		);
+		final FlushPlan levelPlan = new StandardFlushPlanner(levelOptions)
+				.plan(new Graph(nodes, new HashMap<>()));
+
+		// all the groups form a single level, so both A groups and both B groups are coalesced
+		assertEquals(2, levelPlan.steps().size());
+		assertEquals(2, levelPlan.steps().get(0).operations().size());
+		assertEquals(2, levelPlan.steps().get(1).operations().size());
+		for (FlushOperation op : levelPlan.steps().get(0).operations()) {
+			assertEquals("tableA", op.getTableExpression());
+		}
+		for (FlushOperation op : levelPlan.steps().get(1).operations()) {
+			assertEquals("tableB", op.getTableExpression());
+		}
+	}
+
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Helper methods
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The chunks of a multi-row insert respect the row limit of the dialect
+ * when it is smaller than the parameter count limit.
+ */
+@DomainModel(annotatedClasses = MultiRowInsertRowLimitTest.Book.class)
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(
+		settingProviders = @SettingProvider(provider = MultiRowInsertRowLimitTest.TestSettingProvider.class, settingName = AvailableSettings.DIALECT),
+		settings = {
+				@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "10"),
+				@Setting(name = BatchSettings.MULTI_ROW_INSERTS, value = "true"),
+				@Setting(name = JdbcSettings.DIALECT_NATIVE_PARAM_MARKERS, value = "false")
+		}
+)
+@RequiresDialect(H2Dialect.class)
+public class MultiRowInsertRowLimitTest {
+
+	public static class TestSettingProvider implements SettingProvider.Provider<String> {
+		@Override
+		public String getSetting() {
+			return TestDialect.class.getName();
+		}
+	}
+
+	public static class TestDialect extends H2Dialect {
+		@Override
+		public int getParameterCountLimit() {
+			// room for 7 rows of 2 parameters
+			return 15;
+		}
+
+		@Override
+		public int getValuesListForInsertRowLimit() {
+			return 4;
+		}
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testRowLimit(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 10; i++ ) {
+				session.persist( new Book( i, "Book " + i ) );
+			}
+		} );
+
+		// chunks of at most 4 rows, although 7 rows would fit the parameter count limit
+		assertThat( inspector.getSqlQueries() )
+				.extracting( sql -> sql.split( "\\?" ).length - 1 )
+				.containsExactly( 8, 8, 4 );
+
+		scope.inSession( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Book", Long.class ).getSingleResult()
+		).isEqualTo( 10L ) );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
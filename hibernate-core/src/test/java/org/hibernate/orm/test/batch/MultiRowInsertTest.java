@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.cfg.JdbcSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		MultiRowInsertTest.Book.class,
+		MultiRowInsertTest.Vehicle.class,
+		MultiRowInsertTest.Car.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = {
+		@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "10"),
+		@Setting(name = BatchSettings.MULTI_ROW_INSERTS, value = "true"),
+		@Setting(name = JdbcSettings.DIALECT_NATIVE_PARAM_MARKERS, value = "false")
+})
+public class MultiRowInsertTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testMultiRowInsert(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 25; i++ ) {
+				session.persist( new Book( i, "Book " + i ) );
+			}
+		} );
+
+		// two full chunks of 10 rows, and one of 5 rows
+		assertThat( inspector.getSqlQueries() ).hasSize( 3 );
+		assertThat( inspector.getSqlQueries() )
+				.extracting( sql -> sql.split( "\\?" ).length - 1 )
+				.containsExactly( 20, 20, 10 );
+
+		scope.inSession( session -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Book", Long.class ).getSingleResult() )
+					.isEqualTo( 25L );
+			assertThat( session.find( Book.class, 17L ).title ).isEqualTo( "Book 17" );
+		} );
+	}
+
+	@Test
+	public void testMultiRowInsertJoinedInheritance(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 4; i++ ) {
+				session.persist( new Car( i, "Car " + i, (int) i + 1 ) );
+			}
+		} );
+
+		// one statement for each table
+		assertThat( inspector.getSqlQueries() ).hasSize( 2 );
+
+		scope.inSession( session -> {
+			final var car = session.find( Car.class, 3L );
+			assertThat( car.name ).isEqualTo( "Car 3" );
+			assertThat( car.doors ).isEqualTo( 4 );
+		} );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Vehicle")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Vehicle {
+		@Id
+		private Long id;
+
+		String name;
+
+		public Vehicle() {
+		}
+
+		public Vehicle(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Car")
+	public static class Car extends Vehicle {
+		int doors;
+
+		public Car() {
+		}
+
+		public Car(Long id, String name, int doors) {
+			super( id, name );
+			this.doors = doors;
+		}
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.FetchSettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.loader.ast.internal.MultiKeyLoadHelper;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = { AdaptiveBatchFetchTest.Employee.class, AdaptiveBatchFetchTest.Department.class })
+@SessionFactory
+@ServiceRegistry(settings = {
+		@Setting(name = FetchSettings.DEFAULT_BATCH_FETCH_SIZE, value = "2"),
+		@Setting(name = FetchSettings.BATCH_FETCH_ADAPTIVE, value = "true"),
+		@Setting(name = StatisticsSettings.GENERATE_STATISTICS, value = "true")
+})
+public class AdaptiveBatchFetchTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 8; i++ ) {
+				final Department department = new Department( i, "department-" + i );
+				session.persist( department );
+				session.persist( new Employee( i, department ) );
+			}
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testBatchSizeGrowsAfterFullBatch(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final List<Employee> employees =
+					session.createSelectionQuery( "from Employee order by id", Employee.class ).getResultList();
+
+			Hibernate.initialize( employees.get( 0 ).department );
+			final long initialized = employees.stream()
+					.filter( employee -> Hibernate.isInitialized( employee.department ) )
+					.count();
+			assertThat( initialized ).isEqualTo( 2 );
+
+			final int batchFetchSize = statistics.getEntityStatistics( Department.class.getName() ).getBatchFetchSize();
+			if ( MultiKeyLoadHelper.supportsSqlArrayType( scope.getSessionFactory().getJdbcServices().getDialect() ) ) {
+				// the first batch was full, so the next one is larger
+				assertThat( batchFetchSize ).isEqualTo( 4 );
+			}
+			else {
+				// only loaders passing the keys as an array adapt the batch size
+				assertThat( batchFetchSize ).isEqualTo( 0 );
+			}
+		} );
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Department department;
+
+		public Employee() {
+		}
+
+		public Employee(Integer id, Department department) {
+			this.id = id;
+			this.department = department;
+		}
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Department() {
+		}
+
+		public Department(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
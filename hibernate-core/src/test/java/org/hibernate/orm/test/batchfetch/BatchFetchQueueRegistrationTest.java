@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The keys of batch fetched associations are only added to the batch fetch queue
+ * once all rows of the result were processed; keys of entities which are loaded
+ * by a later row must not end up in the queue.
+ */
+@DomainModel(annotatedClasses = BatchFetchQueueRegistrationTest.Node.class)
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, value = "10"))
+public class BatchFetchQueueRegistrationTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Node root = new Node( 3, null );
+			final Node other = new Node( 6, null );
+			session.persist( root );
+			session.persist( other );
+			session.persist( new Node( 1, root ) );
+			session.persist( new Node( 2, root ) );
+			session.persist( new Node( 4, other ) );
+			session.persist( new Node( 5, other ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testKeyOfEntityLoadedByLaterRow(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+			final List<Node> nodes =
+					session.createSelectionQuery( "from Node where id <= 3 order by id", Node.class )
+							.getResultList();
+			assertThat( nodes ).hasSize( 3 );
+			// the parent is part of the result, so it is not loaded by a separate query
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+			assertThat( nodes.get( 0 ).parent ).isSameAs( nodes.get( 2 ) );
+			assertThat( nodes.get( 1 ).parent ).isSameAs( nodes.get( 2 ) );
+			assertThat( containsBatchLoadableKey( session, 3 ) ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testKeysOfAllRowsAreBatchLoaded(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+			final List<Node> nodes =
+					session.createSelectionQuery( "from Node where id in (1, 2, 4, 5) order by id", Node.class )
+							.getResultList();
+			assertThat( nodes ).hasSize( 4 );
+			// both parents are loaded by a single batch
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 2 );
+			for ( Node node : nodes ) {
+				assertThat( Hibernate.isInitialized( node.parent ) ).isTrue();
+			}
+			assertThat( containsBatchLoadableKey( session, 3 ) ).isFalse();
+			assertThat( containsBatchLoadableKey( session, 6 ) ).isFalse();
+		} );
+	}
+
+	private static boolean containsBatchLoadableKey(SessionImplementor session, Integer id) {
+		final EntityKey key = session.generateEntityKey( id,
+				session.getFactory().getMappingMetamodel().getEntityDescriptor( Node.class ) );
+		return session.getPersistenceContextInternal().getBatchFetchQueue().containsEntityKey( key );
+	}
+
+	@Entity(name = "Node")
+	@Table(name = "NODE_TABLE")
+	public static class Node {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		@Fetch(FetchMode.SELECT)
+		private Node parent;
+
+		public Node() {
+		}
+
+		public Node(Integer id, Node parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+}
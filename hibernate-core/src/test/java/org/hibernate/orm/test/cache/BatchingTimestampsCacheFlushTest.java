@@ -0,0 +1,57 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import org.hibernate.cache.internal.BatchingTimestampsCacheImpl;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A coalesced invalidation is written when the pending invalidations are flushed,
+ * even if the timestamps cache is not used anymore.
+ */
+@DomainModel
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = CacheSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = CacheSettings.CACHE_REGION_FACTORY, value = "org.hibernate.testing.cache.CachingRegionFactory"),
+		// long enough for the window never to elapse during the test
+		@Setting(name = CacheSettings.TIMESTAMPS_CACHE_BATCHING_WINDOW, value = "600000")
+})
+public class BatchingTimestampsCacheFlushTest {
+
+	@Test
+	public void testPendingInvalidationIsFlushed(SessionFactoryScope scope) {
+		final var timestampsCache =
+				(BatchingTimestampsCacheImpl) scope.getSessionFactory().getCache().getTimestampsCache();
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final String[] spaces = { "flushed" };
+		scope.inSession( session -> {
+			timestampsCache.invalidate( spaces, session );
+			statistics.clear();
+			timestampsCache.preInvalidate( spaces, session );
+			timestampsCache.invalidate( spaces, session );
+		} );
+		// only the pre-invalidation was written, the invalidation is pending
+		assertThat( statistics.getUpdateTimestampsCachePutCount() ).isEqualTo( 1 );
+
+		timestampsCache.flushPendingInvalidations();
+		assertThat( statistics.getUpdateTimestampsCachePutCount() ).isEqualTo( 2 );
+
+		// nothing is pending anymore
+		timestampsCache.flushPendingInvalidations();
+		assertThat( statistics.getUpdateTimestampsCachePutCount() ).isEqualTo( 2 );
+	}
+}
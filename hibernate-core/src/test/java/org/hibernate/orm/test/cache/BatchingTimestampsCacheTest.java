@@ -0,0 +1,129 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import org.hibernate.Session;
+import org.hibernate.cache.internal.BatchingTimestampsCacheImpl;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = BatchingTimestampsCacheTest.Item.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = CacheSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = CacheSettings.CACHE_REGION_FACTORY, value = "org.hibernate.testing.cache.CachingRegionFactory"),
+		@Setting(name = CacheSettings.TIMESTAMPS_CACHE_BATCHING_WINDOW, value = "600000")
+})
+public class BatchingTimestampsCacheTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Item( 1L, "first" ) ) );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+		scope.getSessionFactory().getCache().evictAllRegions();
+		scope.getSessionFactory().getCache().getTimestampsCache().clear();
+	}
+
+	@Test
+	public void testInvalidationsAreCoalesced(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getCache().getTimestampsCache() )
+				.isInstanceOf( BatchingTimestampsCacheImpl.class );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		rename( scope, "second" );
+		// the pre-invalidation is written, the invalidation is coalesced
+		// with the one of the transaction which persisted the item
+		assertThat( statistics.getUpdateTimestampsCachePutCount() ).isEqualTo( 1 );
+
+		rename( scope, "third" );
+		assertThat( statistics.getUpdateTimestampsCachePutCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testConcurrentPreInvalidationsAreNotCoalesced(SessionFactoryScope scope) {
+		final var timestampsCache = scope.getSessionFactory().getCache().getTimestampsCache();
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final String[] spaces = { "concurrent" };
+		scope.inSession( session -> {
+			timestampsCache.invalidate( spaces, session );
+			statistics.clear();
+
+			// two transactions write to the space concurrently
+			timestampsCache.preInvalidate( spaces, session );
+			timestampsCache.preInvalidate( spaces, session );
+			timestampsCache.invalidate( spaces, session );
+			timestampsCache.invalidate( spaces, session );
+			assertThat( statistics.getUpdateTimestampsCachePutCount() ).isEqualTo( 4 );
+
+			// a single one
+			timestampsCache.preInvalidate( spaces, session );
+			timestampsCache.invalidate( spaces, session );
+			assertThat( statistics.getUpdateTimestampsCachePutCount() ).isEqualTo( 5 );
+		} );
+	}
+
+	@Test
+	public void testCachedQueryResultsAreInvalidated(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> assertThat( getName( session ) ).isEqualTo( "first" ) );
+		scope.inTransaction( session -> assertThat( getName( session ) ).isEqualTo( "first" ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+
+		// the coalesced invalidation is observed locally
+		rename( scope, "second" );
+		scope.inTransaction( session -> assertThat( getName( session ) ).isEqualTo( "second" ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> assertThat( getName( session ) ).isEqualTo( "second" ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	private static void rename(SessionFactoryScope scope, String name) {
+		scope.inTransaction( session -> session.find( Item.class, 1L ).name = name );
+	}
+
+	private static String getName(Session session) {
+		return session.createSelectionQuery( "select name from Item", String.class )
+				.setCacheable( true )
+				.getSingleResult();
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,227 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.entry.BinaryCacheEntry;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		BinaryCacheEntryTest.Product.class,
+		BinaryCacheEntryTest.DiscountedProduct.class,
+		BinaryCacheEntryTest.Supplier.class
+})
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = CacheSettings.CACHE_REGION_FACTORY, value = "org.hibernate.testing.cache.CachingRegionFactory"),
+		@Setting(name = CacheSettings.USE_BINARY_CACHE_ENTRIES, value = "true")
+})
+public class BinaryCacheEntryTest {
+	private static final Instant CREATED = Instant.now().truncatedTo( ChronoUnit.MILLIS );
+	private static final UUID CODE = UUID.randomUUID();
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Supplier supplier = new Supplier( 1L, "ACME" );
+			session.persist( supplier );
+			final Product product = new Product( 1L, "Anvil", supplier );
+			product.price = new BigDecimal( "199.95" );
+			product.quantity = -3;
+			product.available = true;
+			product.weight = 42.5d;
+			product.code = CODE;
+			product.released = LocalDate.of( 2024, 2, 29 );
+			product.created = CREATED;
+			product.category = Category.TOOLS;
+			product.dimensions = new Dimensions( 10, 20 );
+			session.persist( product );
+			final DiscountedProduct discounted = new DiscountedProduct( 2L, "Rocket", supplier );
+			discounted.discount = 15;
+			session.persist( discounted );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testRoundTrip(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Product product = session.find( Product.class, 1L );
+			assertThat( product.name ).isEqualTo( "Anvil" );
+			assertThat( product.price ).isEqualByComparingTo( "199.95" );
+			assertThat( product.quantity ).isEqualTo( -3 );
+			assertThat( product.available ).isTrue();
+			assertThat( product.weight ).isEqualTo( 42.5d );
+			assertThat( product.code ).isEqualTo( CODE );
+			assertThat( product.released ).isEqualTo( LocalDate.of( 2024, 2, 29 ) );
+			assertThat( product.created ).isEqualTo( CREATED );
+			assertThat( product.category ).isEqualTo( Category.TOOLS );
+			assertThat( product.dimensions.width ).isEqualTo( 10 );
+			assertThat( product.dimensions.height ).isEqualTo( 20 );
+			assertThat( session.getIdentifier( product.supplier ) ).isEqualTo( 1L );
+
+			final Product discounted = session.find( Product.class, 2L );
+			assertThat( discounted ).isInstanceOf( DiscountedProduct.class );
+			assertThat( ( (DiscountedProduct) discounted ).discount ).isEqualTo( 15 );
+			assertThat( discounted.dimensions ).isNull();
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 2 );
+		assertThat( statistics.getPrepareStatementCount() ).isZero();
+	}
+
+	@Test
+	public void testStructure(SessionFactoryScope scope) {
+		final var persister = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( DiscountedProduct.class );
+		assertThat( persister.getCacheEntryStructure() ).isInstanceOf( BinaryCacheEntry.class );
+		scope.inTransaction( session -> {
+			final DiscountedProduct product = session.find( DiscountedProduct.class, 2L );
+			final var entry = persister.buildCacheEntry(
+					product,
+					persister.getValues( product ),
+					persister.getVersion( product ),
+					session
+			);
+			final Object structured = persister.getCacheEntryStructure().structure( entry );
+			assertThat( structured ).isInstanceOf( byte[].class );
+			final var destructured = (CacheEntry) persister.getCacheEntryStructure()
+					.destructure( structured, scope.getSessionFactory() );
+			assertThat( destructured.getSubclass() ).isEqualTo( DiscountedProduct.class.getName() );
+			assertThat( destructured.getVersion() ).isEqualTo( entry.getVersion() );
+			assertThat( destructured.getDisassembledState() ).containsExactly( entry.getDisassembledState() );
+		} );
+	}
+
+	public enum Category {
+		TOOLS,
+		EXPLOSIVES
+	}
+
+	@Embeddable
+	public static class Dimensions {
+		private int width;
+		private int height;
+
+		public Dimensions() {
+		}
+
+		public Dimensions(int width, int height) {
+			this.width = width;
+			this.height = height;
+		}
+	}
+
+	@Entity(name = "Supplier")
+	public static class Supplier {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Supplier() {
+		}
+
+		public Supplier(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Product")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Product {
+		@Id
+		private Long id;
+
+		@Version
+		private Integer version;
+
+		private String name;
+
+		private BigDecimal price;
+
+		private int quantity;
+
+		private boolean available;
+
+		private double weight;
+
+		private UUID code;
+
+		private LocalDate released;
+
+		private Instant created;
+
+		@Enumerated(EnumType.STRING)
+		private Category category;
+
+		@Embedded
+		private Dimensions dimensions;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Supplier supplier;
+
+		public Product() {
+		}
+
+		public Product(Long id, String name, Supplier supplier) {
+			this.id = id;
+			this.name = name;
+			this.supplier = supplier;
+		}
+	}
+
+	@Entity(name = "DiscountedProduct")
+	public static class DiscountedProduct extends Product {
+		private int discount;
+
+		public DiscountedProduct() {
+		}
+
+		public DiscountedProduct(Long id, String name, Supplier supplier) {
+			super( id, name, supplier );
+		}
+	}
+}
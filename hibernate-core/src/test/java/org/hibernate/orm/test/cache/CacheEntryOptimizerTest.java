@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.io.Serializable;
+import java.util.Date;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.CacheSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = CacheEntryOptimizerTest.Item.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = CacheSettings.CACHE_REGION_FACTORY, value = "org.hibernate.testing.cache.CachingRegionFactory"),
+		@Setting(name = CacheSettings.USE_CACHE_ENTRY_OPTIMIZER, value = "true")
+})
+public class CacheEntryOptimizerTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testDisassembleAndAssemble(SessionFactoryScope scope) {
+		final var factory = scope.getSessionFactory();
+		final var persister = factory.getMappingMetamodel().getEntityDescriptor( Item.class );
+		final var optimizer = persister.getCacheEntryOptimizer();
+		assertThat( optimizer ).isNotNull();
+
+		scope.inSession( session -> {
+			final var item = new Item( 1L, "item", 5, new Date( 1_000L ), null );
+			final Object[] state = persister.getValues( item );
+			final Serializable[] disassembled = optimizer.disassemble( state, session, item );
+			final var types = persister.getPropertyTypes();
+			for ( int i = 0; i < types.length; i++ ) {
+				assertThat( disassembled[i] ).isEqualTo( types[i].disassemble( state[i], session, item ) );
+			}
+			final Object[] assembled = optimizer.assemble( disassembled, session, item );
+			assertThat( assembled ).isEqualTo( state );
+		} );
+	}
+
+	@Test
+	public void testCacheHit(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final var parent = new Item( 1L, "parent", 1, new Date( 1_000L ), null );
+			session.persist( parent );
+			session.persist( new Item( 2L, "child", 2, new Date( 2_000L ), parent ) );
+		} );
+		statistics.clear();
+		scope.inSession( session -> {
+			final var child = session.find( Item.class, 2L );
+			assertThat( child.name ).isEqualTo( "child" );
+			assertThat( child.quantity ).isEqualTo( 2 );
+			assertThat( child.created.getTime() ).isEqualTo( 2_000L );
+			assertThat( child.parent.name ).isEqualTo( "parent" );
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 2 );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 0 );
+	}
+
+	@Entity(name = "Item")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Item {
+		@Id
+		private Long id;
+
+		private String name;
+
+		private Integer quantity;
+
+		private Date created;
+
+		@ManyToOne
+		private Item parent;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name, Integer quantity, Date created, Item parent) {
+			this.id = id;
+			this.name = name;
+			this.quantity = quantity;
+			this.created = created;
+			this.parent = parent;
+		}
+	}
+}
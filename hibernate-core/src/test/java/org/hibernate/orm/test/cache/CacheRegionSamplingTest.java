@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = CacheRegionSamplingTest.Item.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = CacheSettings.CACHE_REGION_FACTORY, value = "org.hibernate.testing.cache.CachingRegionFactory"),
+		@Setting(name = StatisticsSettings.CACHE_SAMPLING, value = "1"),
+		@Setting(name = StatisticsSettings.CACHE_SAMPLING_TOP_KEYS, value = "2")
+})
+public class CacheRegionSamplingTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 5; i++ ) {
+				session.persist( new Item( i, "Item " + i ) );
+			}
+		} );
+		scope.getSessionFactory().getCache().evictEntityData();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testSampling(SessionFactoryScope scope) {
+		for ( int i = 0; i < 5; i++ ) {
+			scope.inSession( session -> session.find( Item.class, 1L ) );
+		}
+		for ( int i = 0; i < 3; i++ ) {
+			scope.inSession( session -> session.find( Item.class, 2L ) );
+		}
+		scope.inSession( session -> session.find( Item.class, 3L ) );
+
+		final var regionStatistics =
+				scope.getSessionFactory().getStatistics()
+						.getDomainDataRegionStatistics( Item.class.getName() );
+		final var hotKeys = regionStatistics.getHotKeys();
+		assertThat( hotKeys ).hasSize( 2 );
+		assertThat( hotKeys.get( 0 ).key() ).contains( "#1" );
+		assertThat( hotKeys.get( 0 ).accessCount() ).isEqualTo( 5 );
+		assertThat( hotKeys.get( 0 ).missCount() ).isEqualTo( 1 );
+		assertThat( hotKeys.get( 1 ).key() ).contains( "#2" );
+		assertThat( hotKeys.get( 1 ).accessCount() ).isEqualTo( 3 );
+
+		assertThat( regionStatistics.getEntrySizePercentile( 50 ) ).isPositive();
+		assertThat( regionStatistics.getEntrySizePercentile( 99 ) )
+				.isGreaterThanOrEqualTo( regionStatistics.getEntrySizePercentile( 50 ) );
+		assertThat( regionStatistics.getLoadTimePercentile( 99 ) )
+				.isNotEqualTo( CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN );
+	}
+
+	@Entity(name = "Item")
+	@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+	public static class Item {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
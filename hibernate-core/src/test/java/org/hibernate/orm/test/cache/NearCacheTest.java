@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = { NearCacheTest.Currency.class, NearCacheTest.Account.class })
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = CacheSettings.CACHE_REGION_FACTORY, value = "org.hibernate.testing.cache.CachingRegionFactory"),
+		@Setting(name = CacheSettings.NEAR_CACHE_MAX_ENTRIES, value = "2"),
+		@Setting(name = CacheSettings.NEAR_CACHE_TTL, value = "60000")
+})
+public class NearCacheTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Currency( "EUR", "Euro" ) );
+			session.persist( new Currency( "USD", "US Dollar" ) );
+			session.persist( new Currency( "CHF", "Swiss Franc" ) );
+			session.persist( new Account( 1, "EUR" ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testReadOnlyRegion(SessionFactoryScope scope) {
+		final CacheRegionStatistics statistics = scope.getSessionFactory().getStatistics()
+				.getDomainDataRegionStatistics( Currency.class.getName() );
+		scope.inTransaction( session -> session.find( Currency.class, "CHF" ) );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Currency.class, "CHF" ).name ).isEqualTo( "Swiss Franc" );
+		} );
+		// the entry was put into the near cache on insert
+		assertThat( statistics.getNearCacheHitCount() ).isEqualTo( 2 );
+		assertThat( statistics.getHitCount() ).isEqualTo( 2 );
+		// the near cache is bounded
+		assertThat( statistics.getNearCacheElementCount() ).isLessThanOrEqualTo( 2 );
+
+		scope.getSessionFactory().getCache().evictEntityData( Currency.class, "CHF" );
+		scope.inTransaction( session -> {
+			final long misses = statistics.getNearCacheMissCount();
+			assertThat( session.find( Currency.class, "CHF" ) ).isNotNull();
+			assertThat( statistics.getNearCacheMissCount() ).isEqualTo( misses + 1 );
+		} );
+	}
+
+	@Test
+	public void testReadWriteRegion(SessionFactoryScope scope) {
+		final CacheRegionStatistics statistics = scope.getSessionFactory().getStatistics()
+				.getDomainDataRegionStatistics( Account.class.getName() );
+		scope.inTransaction( session -> session.find( Account.class, 1 ) );
+		scope.inTransaction( session -> session.find( Account.class, 1 ) );
+		assertThat( statistics.getHitCount() ).isEqualTo( 2 );
+		// read-write access never goes through the near cache
+		assertThat( statistics.getNearCacheHitCount() ).isZero();
+		assertThat( statistics.getNearCacheMissCount() ).isZero();
+	}
+
+	@Entity(name = "Currency")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+	public static class Currency {
+		@Id
+		private String code;
+
+		private String name;
+
+		public Currency() {
+		}
+
+		public Currency(String code, String name) {
+			this.code = code;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Account")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Account {
+		@Id
+		private Integer id;
+
+		private String currency;
+
+		public Account() {
+		}
+
+		public Account(Integer id, String currency) {
+			this.id = id;
+			this.currency = currency;
+		}
+	}
+}
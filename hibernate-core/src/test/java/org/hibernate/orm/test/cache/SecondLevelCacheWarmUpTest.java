@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.SecondLevelCacheWarmUp;
+import org.hibernate.cfg.CacheSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = SecondLevelCacheWarmUpTest.Book.class)
+@SessionFactory
+@ServiceRegistry(settings = {
+		@Setting(name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = CacheSettings.CACHE_REGION_FACTORY, value = "org.hibernate.testing.cache.CachingRegionFactory")
+})
+public class SecondLevelCacheWarmUpTest {
+	@TempDir
+	Path tempDir;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 10; i++ ) {
+				session.persist( new Book( i, "Book " + i ) );
+			}
+		} );
+		scope.getSessionFactory().getCache().evictEntityData();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testWarmUp(SessionFactoryScope scope) throws InterruptedException {
+		final var factory = scope.getSessionFactory();
+		final var warmUp = SecondLevelCacheWarmUp.create( Map.of(
+				CacheSettings.WARM_UP_ENTITIES, "Book",
+				CacheSettings.WARM_UP_BATCH_SIZE, "3",
+				CacheSettings.WARM_UP_THREADS, "2"
+		) );
+		assertThat( warmUp ).isNotNull();
+		warmUp.sessionFactoryCreated( factory );
+		assertThat( warmUp.awaitCompletion( 10, TimeUnit.SECONDS ) ).isTrue();
+		for ( long i = 1; i <= 10; i++ ) {
+			assertThat( factory.getCache().containsEntity( Book.class, i ) ).isTrue();
+		}
+	}
+
+	@Test
+	public void testWarmUpFromSnapshot(SessionFactoryScope scope) throws Exception {
+		final var factory = scope.getSessionFactory();
+		final Path snapshot = tempDir.resolve( "warm-up.snapshot" );
+		final Map<String, Object> settings = Map.of(
+				CacheSettings.WARM_UP_ENTITIES, "Book",
+				CacheSettings.WARM_UP_SNAPSHOT, snapshot.toString()
+		);
+
+		// without a snapshot, every instance is loaded, but none is recorded
+		final var warmUp = SecondLevelCacheWarmUp.create( settings );
+		warmUp.sessionFactoryCreated( factory );
+		assertThat( warmUp.awaitCompletion( 10, TimeUnit.SECONDS ) ).isTrue();
+		factory.getCache().evictEntityData();
+
+		// the instances loaded by the application are recorded
+		scope.inSession( session -> {
+			session.find( Book.class, 2L );
+			session.find( Book.class, 5L );
+			session.find( Book.class, 7L );
+		} );
+		// only those still held by the cache are written
+		factory.getCache().evictEntityData( Book.class, 7L );
+		warmUp.sessionFactoryClosing( factory );
+		assertThat( Files.readAllLines( snapshot ) ).hasSize( 2 );
+
+		factory.getCache().evictEntityData();
+		final var nextWarmUp = SecondLevelCacheWarmUp.create( settings );
+		nextWarmUp.sessionFactoryCreated( factory );
+		assertThat( nextWarmUp.awaitCompletion( 10, TimeUnit.SECONDS ) ).isTrue();
+		nextWarmUp.sessionFactoryClosing( factory );
+		for ( long i = 1; i <= 10; i++ ) {
+			assertThat( factory.getCache().containsEntity( Book.class, i ) ).isEqualTo( i == 2L || i == 5L );
+		}
+	}
+
+	@Test
+	public void testNoWarmUp() {
+		assertThat( SecondLevelCacheWarmUp.create( Map.of() ) ).isNull();
+	}
+
+	@Entity(name = "Book")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Book {
+		@Id
+		private Long id;
+
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		SingleFlightLoadTest.Item.class,
+		SingleFlightLoadTest.ReadWriteItem.class
+})
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = CacheSettings.CACHE_REGION_FACTORY, value = "org.hibernate.testing.cache.CachingRegionFactory"),
+		@Setting(name = CacheSettings.SINGLE_FLIGHT_LOAD_TIMEOUT, value = "10000")
+})
+public class SingleFlightLoadTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Item( 1L, "hot" ) );
+			session.persist( new ReadWriteItem( 1L, "hot" ) );
+		} );
+		scope.getSessionFactory().getCache().evictEntityData();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testConcurrentMissWaitsForLoad(SessionFactoryScope scope) {
+		// the waiting session is newer than the loading session
+		try ( var loading = scope.getSessionFactory().openSession();
+				var waiting = scope.getSessionFactory().openSession() ) {
+			assertWaitsForLoad( scope, Item.class, loading, waiting );
+		}
+	}
+
+	@Test
+	public void testOlderSessionWaitsForReadWriteLoad(SessionFactoryScope scope) {
+		// the waiting session is older than the loading session, so it
+		// could not read the item put by the loading session
+		try ( var waiting = scope.getSessionFactory().openSession();
+				var loading = scope.getSessionFactory().openSession() ) {
+			assertWaitsForLoad( scope, ReadWriteItem.class, loading, waiting );
+		}
+	}
+
+	private static void assertWaitsForLoad(
+			SessionFactoryScope scope,
+			Class<?> entityClass,
+			Session loading,
+			Session waiting) {
+		final var factory = scope.getSessionFactory();
+		final var persister = factory.getMappingMetamodel().getEntityDescriptor( entityClass );
+		final var cacheAccess = persister.getCacheAccessStrategy();
+		final var loads = ( (DomainDataRegionTemplate) cacheAccess.getRegion() ).getSingleFlightLoads();
+		final Object cacheKey = cacheAccess.generateCacheKey( 1L, persister, factory, null );
+		final Statistics statistics = factory.getStatistics();
+		statistics.clear();
+
+		// the first miss registers the loading session as the one loading the item
+		assertThat( cacheAccess.get( (SharedSessionContractImplementor) loading, cacheKey ) ).isNull();
+
+		final var cached = CompletableFuture.supplyAsync(
+				() -> cacheAccess.get( (SharedSessionContractImplementor) waiting, cacheKey )
+		);
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+		while ( loads.getWaitingSessionCount( cacheKey ) == 0 ) {
+			assertThat( cached ).isNotDone();
+			assertThat( System.nanoTime() ).isLessThan( deadline );
+			Thread.onSpinWait();
+		}
+
+		// the loading session misses the item again, without waiting for itself
+		assertThat( loading.find( entityClass, 1L ) ).isNotNull();
+		assertThat( cached ).succeedsWithin( 10, TimeUnit.SECONDS ).isNotNull();
+
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		assertThat( statistics.getSecondLevelCachePutCount() ).isEqualTo( 1 );
+	}
+
+	@Entity(name = "Item")
+	@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+	public static class Item {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "ReadWriteItem")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class ReadWriteItem {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public ReadWriteItem() {
+		}
+
+		public ReadWriteItem(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
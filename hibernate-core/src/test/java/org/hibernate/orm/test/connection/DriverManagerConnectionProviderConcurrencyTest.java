@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.connection;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.Environment;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProvider;
+
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The pool grows up to its maximum size when connections are requested concurrently,
+ * each new connection being handed to the thread which created it.
+ */
+@RequiresDialect(H2Dialect.class)
+public class DriverManagerConnectionProviderConcurrencyTest {
+
+	private static final int POOL_SIZE = 4;
+
+	@Test
+	public void testConcurrentGrowth() throws Exception {
+		final Map<String, Object> settings = new HashMap<>();
+		Environment.getProperties().forEach( (key, value) -> settings.put( (String) key, value ) );
+		settings.put( DriverManagerConnectionProvider.MIN_SIZE, "0" );
+		settings.put( DriverManagerConnectionProvider.INITIAL_SIZE, "0" );
+		settings.put( JdbcSettings.POOL_SIZE, String.valueOf( POOL_SIZE ) );
+
+		try ( var serviceRegistry = ServiceRegistryUtil.serviceRegistry() ) {
+			final var connectionProvider = new DriverManagerConnectionProvider();
+			connectionProvider.injectServices( serviceRegistry );
+			connectionProvider.configure( settings );
+			final ExecutorService executor = Executors.newFixedThreadPool( POOL_SIZE );
+			try {
+				final var barrier = new CyclicBarrier( POOL_SIZE );
+				final List<Future<Connection>> futures = new ArrayList<>();
+				for ( int i = 0; i < POOL_SIZE; i++ ) {
+					futures.add( executor.submit( () -> {
+						barrier.await( 10, TimeUnit.SECONDS );
+						return connectionProvider.getConnection();
+					} ) );
+				}
+				final List<Connection> connections = new ArrayList<>();
+				for ( var future : futures ) {
+					connections.add( future.get( 10, TimeUnit.SECONDS ) );
+				}
+				assertThat( connections ).doesNotHaveDuplicates();
+
+				assertThatThrownBy( connectionProvider::getConnection )
+						.isInstanceOf( HibernateException.class );
+
+				for ( var connection : connections ) {
+					connectionProvider.closeConnection( connection );
+				}
+				// the released connections are reused
+				final var connection = connectionProvider.getConnection();
+				assertThat( connections ).contains( connection );
+				connectionProvider.closeConnection( connection );
+			}
+			finally {
+				executor.shutdownNow();
+				connectionProvider.stop();
+			}
+		}
+	}
+}
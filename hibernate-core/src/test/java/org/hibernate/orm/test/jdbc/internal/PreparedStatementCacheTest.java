@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.jdbc.internal;
+
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = PreparedStatementCacheTest.Item.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = @Setting(name = JdbcSettings.STATEMENT_CACHE_SIZE, value = "2"))
+public class PreparedStatementCacheTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 5; i++ ) {
+				session.persist( new Item( i, "Item " + i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testReuseWithinTransaction(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 5; i++ ) {
+				assertThat( session.find( Item.class, i ).name ).isEqualTo( "Item " + i );
+			}
+		} );
+
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1L );
+		assertThat( statistics.getPreparedStatementCacheMissCount() ).isEqualTo( 1L );
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 4L );
+	}
+
+	@Test
+	public void testEviction(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			// three distinct statements, with room for two
+			for ( int i = 0; i < 2; i++ ) {
+				for ( String function : new String[] { "count", "min", "max" } ) {
+					assertThat( session.createSelectionQuery( "select " + function + "(id) from Item", Long.class )
+							.getSingleResult() ).isNotNull();
+				}
+			}
+		} );
+
+		// the least recently used statement is always the one needed next
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 0L );
+		assertThat( statistics.getPreparedStatementCacheMissCount() ).isEqualTo( 6L );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 6L );
+	}
+
+	@Test
+	public void testNotReusedAcrossTransactions(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inSession( session -> {
+			session.getTransaction().begin();
+			session.find( Item.class, 1L );
+			session.getTransaction().commit();
+			session.clear();
+
+			session.getTransaction().begin();
+			session.find( Item.class, 1L );
+			session.getTransaction().commit();
+		} );
+
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 0L );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2L );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.jpa.query;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.CacheLayout;
+import org.hibernate.annotations.QueryCacheLayout;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.loader.ast.internal.MultiKeyLoadHelper;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = CachedQueryShallowBulkLoadTest.Book.class)
+@SessionFactory(generateStatistics = true, useCollectingStatementInspector = true)
+@ServiceRegistry(settings = {
+		@Setting(name = CacheSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true")
+})
+public class CachedQueryShallowBulkLoadTest {
+	private static final String HQL = "from Book order by id";
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Book( i, "Book " + i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testEntitiesLoadedInBulk(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> assertThat( getBooks( session ) ).hasSize( 10 ) );
+
+		// the entities are neither in the second-level cache, nor in the session
+		scope.getSessionFactory().getCache().evictEntityData();
+		statistics.clear();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			final List<Book> books = getBooks( session );
+			assertThat( books ).extracting( book -> book.title )
+					.containsExactly( "Book 1", "Book 2", "Book 3", "Book 4", "Book 5",
+							"Book 6", "Book 7", "Book 8", "Book 9", "Book 10" );
+		} );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 10 );
+		if ( MultiKeyLoadHelper.supportsSqlArrayType( scope.getSessionFactory().getJdbcServices().getDialect() ) ) {
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+		}
+		else {
+			assertThat( statementInspector.getSqlQueries().size() ).isLessThan( 10 );
+		}
+
+		// the entities are in the second-level cache
+		statistics.clear();
+		statementInspector.clear();
+		scope.inTransaction( session -> assertThat( getBooks( session ) ).hasSize( 10 ) );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 10 );
+		assertThat( statementInspector.getSqlQueries() ).isEmpty();
+	}
+
+	@Test
+	public void testReadOnlyQuery(SessionFactoryScope scope) {
+		scope.inTransaction( session -> assertThat( getBooks( session ) ).hasSize( 10 ) );
+
+		scope.getSessionFactory().getCache().evictEntityData();
+		scope.inTransaction( session -> {
+			final List<Book> books = session.createSelectionQuery( HQL, Book.class )
+					.setCacheable( true )
+					.setReadOnly( true )
+					.getResultList();
+			assertThat( books ).hasSize( 10 );
+			// the entities loaded in bulk are read-only, like those of the query
+			assertThat( books ).allMatch( session::isReadOnly );
+		} );
+	}
+
+	private static List<Book> getBooks(Session session) {
+		return session.createSelectionQuery( HQL, Book.class )
+				.setCacheable( true )
+				.getResultList();
+	}
+
+	@Entity(name = "Book")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	@QueryCacheLayout(layout = CacheLayout.SHALLOW)
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
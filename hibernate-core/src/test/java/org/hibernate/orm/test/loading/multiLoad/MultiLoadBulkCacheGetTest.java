@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.loading.multiLoad;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionEventListener;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Entities resolved from the second-level cache by a multi-load or a batch
+ * load are looked up with a single access to the cache.
+ */
+@DomainModel(annotatedClasses = { MultiLoadBulkCacheGetTest.Author.class, MultiLoadBulkCacheGetTest.Book.class })
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, value = "10")
+})
+public class MultiLoadBulkCacheGetTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 5; i++ ) {
+				final Author author = new Author( i, "Author " + i );
+				session.persist( author );
+				session.persist( new Book( i, author ) );
+			}
+		} );
+		// put the authors in the cache
+		scope.getSessionFactory().getCache().evictAll();
+		scope.inTransaction( session ->
+				session.createSelectionQuery( "from Author", Author.class ).getResultList() );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+		scope.getSessionFactory().getCache().evictAll();
+	}
+
+	@Test
+	public void testFindMultiple(SessionFactoryScope scope) {
+		final CacheGetCounter counter = new CacheGetCounter();
+		try ( var session = scope.getSessionFactory().withOptions().eventListeners( counter ).openSession() ) {
+			final List<Author> authors = session.findMultiple( Author.class, List.of( 1L, 2L, 3L, 4L, 5L, 6L ) );
+			assertThat( authors ).hasSize( 6 );
+			assertThat( authors.subList( 0, 5 ) ).allMatch( author -> author != null && Hibernate.isInitialized( author ) );
+			assertThat( authors.get( 5 ) ).isNull();
+		}
+		assertThat( counter.cacheGets ).isEqualTo( 1 );
+		assertThat( scope.getSessionFactory().getStatistics().getSecondLevelCacheHitCount() ).isEqualTo( 5 );
+		assertThat( scope.getSessionFactory().getStatistics().getSecondLevelCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testBatchLoad(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictEntityData( Author.class, 3L );
+		final CacheGetCounter counter = new CacheGetCounter();
+		try ( var session = scope.getSessionFactory().withOptions().eventListeners( counter ).openSession() ) {
+			final List<Book> books =
+					session.createSelectionQuery( "from Book order by id", Book.class ).getResultList();
+			counter.cacheGets = 0;
+			// one get for the key being loaded, then the keys waiting
+			// in the batch fetch queue are looked up all at once
+			Hibernate.initialize( books.get( 2 ).author );
+			assertThat( counter.cacheGets ).isEqualTo( 2 );
+			assertThat( Hibernate.isInitialized( books.get( 2 ).author ) ).isTrue();
+			// the cached authors are not part of the batch
+			assertThat( Hibernate.isInitialized( books.get( 0 ).author ) ).isFalse();
+		}
+	}
+
+	private static class CacheGetCounter implements SessionEventListener {
+		private int cacheGets;
+
+		@Override
+		public void cacheGetStart() {
+			cacheGets++;
+		}
+	}
+
+	@Entity(name = "Author")
+	@Cacheable
+	public static class Author {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Long id, Author author) {
+			this.id = id;
+			this.author = author;
+		}
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.mapping.naturalid.caching;
+
+import java.util.List;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = MultiNaturalIdCachingTest.Account.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = CacheSettings.CACHE_REGION_FACTORY, value = "org.hibernate.testing.cache.CachingRegionFactory")
+})
+public class MultiNaturalIdCachingTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new Account( i, "code" + i ) );
+			}
+		} );
+		// forget the resolutions of two of the natural ids
+		final var factory = scope.getSessionFactory();
+		final var persister = factory.getMappingMetamodel().getEntityDescriptor( Account.class );
+		final var cacheAccess = persister.getNaturalIdCacheAccessStrategy();
+		scope.inSession( session -> {
+			cacheAccess.evict( cacheAccess.generateCacheKey( "code4", persister, session ) );
+			cacheAccess.evict( cacheAccess.generateCacheKey( "code5", persister, session ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testUnorderedMultiLoad(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inSession( session -> {
+			final List<Account> accounts = session.byMultipleNaturalId( Account.class )
+					.enableOrderedReturn( false )
+					.multiLoad( "code1", "code2", "code3", "code4", "code5", "code6" );
+			assertThat( accounts ).extracting( account -> account.id )
+					.containsExactlyInAnyOrder( 1, 2, 3, 4, 5 );
+		} );
+		assertResolution( statistics, 3 );
+	}
+
+	@Test
+	public void testOrderedMultiLoad(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inSession( session -> {
+			final List<Account> accounts = session.byMultipleNaturalId( Account.class )
+					.enableOrderedReturn( true )
+					.multiLoad( "code5", "code3", "code1", "code4", "code2" );
+			assertThat( accounts ).extracting( account -> account.id )
+					.containsExactly( 5, 3, 1, 4, 2 );
+		} );
+		assertResolution( statistics, 2 );
+	}
+
+	private static void assertResolution(Statistics statistics, int naturalIdCacheMisses) {
+		// the natural ids resolved by the cache are loaded by id from the cache,
+		// and the others are resolved by a single query
+		assertThat( statistics.getNaturalIdCacheHitCount() ).isEqualTo( 3 );
+		assertThat( statistics.getNaturalIdCacheMissCount() ).isEqualTo( naturalIdCacheMisses );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 3 );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+	}
+
+	@Entity(name = "Account")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	@NaturalIdCache
+	public static class Account {
+		@Id
+		private Integer id;
+
+		@NaturalId
+		private String code;
+
+		public Account() {
+		}
+
+		public Account(Integer id, String code) {
+			this.id = id;
+			this.code = code;
+		}
+	}
+}
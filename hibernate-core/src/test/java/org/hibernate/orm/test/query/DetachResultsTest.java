@@ -0,0 +1,232 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.jpa.HibernateHints;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = DetachResultsTest.Book.class)
+@SessionFactory
+public class DetachResultsTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Book( i, "Book " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testScroll(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Book managed = session.find( Book.class, 1 );
+			try ( ScrollableResults<Book> results = session.createSelectionQuery( "from Book order by id", Book.class )
+					.setHint( HibernateHints.HINT_DETACH_RESULTS, true )
+					.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				Book previous = null;
+				while ( results.next() ) {
+					final Book book = results.get();
+					assertThat( session.contains( book ) ).isTrue();
+					if ( book != managed ) {
+						assertThat( session.isReadOnly( book ) ).isTrue();
+					}
+					if ( previous != null && previous != managed ) {
+						assertThat( session.contains( previous ) ).isFalse();
+					}
+					previous = book;
+				}
+				assertThat( session.contains( previous ) ).isFalse();
+			}
+			// the entity which was managed before the query is left untouched
+			assertThat( session.contains( managed ) ).isTrue();
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testStream(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( Stream<Book> books = session.createSelectionQuery( "from Book order by id", Book.class )
+					.setHint( HibernateHints.HINT_DETACH_RESULTS, true )
+					.getResultStream() ) {
+				assertThat( books.map( Book::getTitle ) ).hasSize( 10 );
+			}
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( 0 );
+		} );
+	}
+
+	@Test
+	public void testStreamWithoutHint(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( Stream<Book> books = session.createSelectionQuery( "from Book order by id", Book.class )
+					.getResultStream() ) {
+				assertThat( books ).hasSize( 10 );
+			}
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( 10 );
+		} );
+	}
+
+	@Test
+	public void testPublisher(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<String> titles = new ArrayList<>();
+			final boolean[] completed = new boolean[1];
+			session.createSelectionQuery( "from Book order by id", Book.class )
+					.setHint( HibernateHints.HINT_DETACH_RESULTS, true )
+					.getResultPublisher()
+					.subscribe( new Flow.Subscriber<>() {
+						private Flow.Subscription subscription;
+
+						@Override
+						public void onSubscribe(Flow.Subscription subscription) {
+							this.subscription = subscription;
+							subscription.request( 3 );
+						}
+
+						@Override
+						public void onNext(Book book) {
+							titles.add( book.getTitle() );
+							// at most the entities of the current row are managed
+							assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() )
+									.isEqualTo( 1 );
+							if ( titles.size() % 3 == 0 ) {
+								subscription.request( 3 );
+							}
+						}
+
+						@Override
+						public void onError(Throwable throwable) {
+							throw new AssertionError( throwable );
+						}
+
+						@Override
+						public void onComplete() {
+							completed[0] = true;
+						}
+					} );
+			assertThat( titles ).hasSize( 10 );
+			assertThat( titles.get( 0 ) ).isEqualTo( "Book 1" );
+			assertThat( completed[0] ).isTrue();
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( 0 );
+		} );
+	}
+
+	@Test
+	public void testPublisherCancel(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Book> books = new ArrayList<>();
+			session.createSelectionQuery( "from Book order by id", Book.class )
+					.getResultPublisher()
+					.subscribe( new Flow.Subscriber<>() {
+						private Flow.Subscription subscription;
+
+						@Override
+						public void onSubscribe(Flow.Subscription subscription) {
+							this.subscription = subscription;
+							subscription.request( Long.MAX_VALUE );
+						}
+
+						@Override
+						public void onNext(Book book) {
+							books.add( book );
+							if ( books.size() == 4 ) {
+								subscription.cancel();
+							}
+						}
+
+						@Override
+						public void onError(Throwable throwable) {
+							throw new AssertionError( throwable );
+						}
+
+						@Override
+						public void onComplete() {
+							throw new AssertionError( "Cancelled subscription completed" );
+						}
+					} );
+			assertThat( books ).hasSize( 4 );
+		} );
+	}
+
+	@Test
+	public void testPublisherSubscriberFailure(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Throwable[] error = new Throwable[1];
+			final IllegalStateException failure = new IllegalStateException( "Subscriber failure" );
+			session.createSelectionQuery( "from Book order by id", Book.class )
+					.getResultPublisher()
+					.subscribe( new Flow.Subscriber<>() {
+						@Override
+						public void onSubscribe(Flow.Subscription subscription) {
+							subscription.request( Long.MAX_VALUE );
+						}
+
+						@Override
+						public void onNext(Book book) {
+							throw failure;
+						}
+
+						@Override
+						public void onError(Throwable throwable) {
+							error[0] = throwable;
+						}
+
+						@Override
+						public void onComplete() {
+							throw new AssertionError( "Failed subscription completed" );
+						}
+					} );
+			assertThat( error[0] ).isSameAs( failure );
+			// the underlying results were closed
+			assertThat( session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry()
+					.hasRegisteredResources() ).isFalse();
+		} );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+	}
+}
@@ -17,6 +17,7 @@
 import org.hibernate.query.Query;
 import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaRoot;
 import org.hibernate.stat.QueryStatistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.testing.orm.junit.DomainModel;
@@ -398,6 +399,31 @@ public void testCriteriaQueryCache(SessionFactoryScope scope) {
 		} );
 	}
 
+	@Test
+	public void testStructurallyIdenticalCriteriaQueries(SessionFactoryScope scope) {
+		var statistics = scope.getSessionFactory().getStatistics();
+
+		for ( long i = 1; i <= 3; i++ ) {
+			final String name = "Employee: " + i;
+			scope.inTransaction( entityManager -> {
+				// a fresh criteria tree each time, only differing in the bound value
+				HibernateCriteriaBuilder cb = entityManager.getCriteriaBuilder();
+				JpaCriteriaQuery<Employee> cq = cb.createQuery( Employee.class );
+				JpaRoot<Employee> root = cq.from( Employee.class );
+				cq.where( cb.equal( root.get( "name" ), name ) );
+				TypedQuery<Employee> typedQuery = entityManager.createQuery( cq );
+				typedQuery.setHint( AvailableHints.HINT_QUERY_PLAN_CACHEABLE, true );
+
+				assertEquals( name, typedQuery.getSingleResult().getName() );
+			} );
+		}
+
+		// the plan is only resolved for the first query
+		assertEquals( 1, statistics.getQueryPlanCacheMissCount() );
+		assertEquals( 2, statistics.getQueryPlanCacheHitCount() );
+
+	}
+
 	@Test
 	@JiraKey("HHH-16782")
 	public void testCriteriaQueryNoCopyTree(SessionFactoryScope scope) {
@@ -0,0 +1,198 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.StaleObjectStateException;
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.dialect.PostgreSQLDialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DomainModel(annotatedClasses = {
+		StatelessArrayParameterMutationTest.Book.class,
+		StatelessArrayParameterMutationTest.Author.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = {
+		@Setting(name = BatchSettings.ARRAY_PARAMETER_MUTATIONS, value = "true"),
+		@Setting(name = JdbcSettings.DIALECT_NATIVE_PARAM_MARKERS, value = "false")
+})
+public class StatelessArrayParameterMutationTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> {
+			for ( long i = 1; i <= 10; i++ ) {
+				session.insert( new Book( i, "Book " + i ) );
+				session.insert( new Author( i, "Author " + i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	@RequiresDialectFeature(feature = DialectFeatureChecks.UsesArrayForMultiValuedParameters.class)
+	public void testDeleteById(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+
+		scope.inStatelessTransaction( session -> session.deleteMultiple( authors( 2L, 4L, 6L ) ) );
+
+		assertThat( inspector.getSqlQueries() ).hasSize( 1 );
+		assertThat( inspector.getSqlQueries().get( 0 ) ).startsWithIgnoringCase( "delete" );
+		scope.inSession( session -> assertThat(
+				session.createSelectionQuery( "select id from Author order by id", Long.class ).getResultList()
+		).containsExactly( 1L, 3L, 5L, 7L, 8L, 9L, 10L ) );
+	}
+
+	@Test
+	public void testUpdate(SessionFactoryScope scope) {
+		final List<Book> books = scope.fromSession( session ->
+				session.createSelectionQuery( "from Book order by id", Book.class ).getResultList() );
+		for ( var book : books ) {
+			book.title = book.title.toUpperCase();
+		}
+
+		scope.inStatelessTransaction( session -> session.updateMultiple( books ) );
+
+		scope.inSession( session -> {
+			final var book = session.find( Book.class, 7L );
+			assertThat( book.title ).isEqualTo( "BOOK 7" );
+			assertThat( book.version ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	@RequiresDialect(PostgreSQLDialect.class)
+	public void testUpdateFromUnnest(SessionFactoryScope scope) {
+		final List<Book> books = scope.fromSession( session ->
+				session.createSelectionQuery( "from Book order by id", Book.class ).getResultList() );
+		for ( var book : books ) {
+			book.title = book.title + " (2nd edition)";
+		}
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+
+		scope.inStatelessTransaction( session -> session.updateMultiple( books ) );
+
+		assertThat( inspector.getSqlQueries() ).hasSize( 1 );
+		assertThat( inspector.getSqlQueries().get( 0 ) ).containsIgnoringCase( "unnest" );
+		scope.inSession( session ->
+				assertThat( session.find( Book.class, 3L ).title ).isEqualTo( "Book 3 (2nd edition)" ) );
+	}
+
+	@Test
+	public void testStaleVersion(SessionFactoryScope scope) {
+		final List<Book> books = scope.fromSession( session ->
+				session.createSelectionQuery( "from Book order by id", Book.class ).getResultList() );
+		scope.inStatelessTransaction( session -> {
+			final var book = session.get( Book.class, 5L );
+			book.title = "Concurrently updated";
+			session.update( book );
+		} );
+
+		assertThatThrownBy( () -> scope.inStatelessTransaction( session -> session.deleteMultiple( books ) ) )
+				.isInstanceOf( OptimisticLockException.class )
+				// the stale row is reported as in a JDBC batch
+				.satisfies( e -> {
+					final var staleObjectState = staleObjectStateException( e );
+					assertThat( staleObjectState.getEntityName() ).isEqualTo( Book.class.getName() );
+					assertThat( staleObjectState.getIdentifier() ).isEqualTo( 5L );
+				} );
+		scope.inSession( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Book", Long.class ).getSingleResult()
+		).isEqualTo( 10L ) );
+	}
+
+	@Test
+	public void testSingleDelete(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+
+		scope.inStatelessTransaction( session -> session.deleteMultiple( authors( 1L ) ) );
+
+		assertThat( inspector.getSqlQueries() ).hasSize( 1 );
+		assertThat( inspector.getSqlQueries().get( 0 ) ).doesNotContainIgnoringCase( "unnest" );
+	}
+
+	private static StaleObjectStateException staleObjectStateException(Throwable exception) {
+		for ( var cause = exception; cause != null; cause = cause.getCause() ) {
+			if ( cause instanceof StaleObjectStateException staleObjectState ) {
+				return staleObjectState;
+			}
+		}
+		throw new AssertionError( "No StaleObjectStateException in the cause chain", exception );
+	}
+
+	private static List<Author> authors(long... ids) {
+		final List<Author> authors = new ArrayList<>();
+		for ( long id : ids ) {
+			authors.add( new Author( id, null ) );
+		}
+		return authors;
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+
+		private String title;
+
+		@Version
+		private int version;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.dialect.PostgreSQLDialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = StatelessBulkInsertTest.Book.class)
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = {
+		@Setting(name = BatchSettings.BULK_INSERT, value = "true"),
+		@Setting(name = JdbcSettings.DIALECT_NATIVE_PARAM_MARKERS, value = "false")
+})
+public class StatelessBulkInsertTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testBulkInsert(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+
+		scope.inStatelessTransaction( session -> session.insertMultiple( books() ) );
+
+		// a bulk load or a single multi-row insert
+		assertThat( inspector.getSqlQueries() ).hasSizeLessThanOrEqualTo( 1 );
+		assertBooks( scope );
+	}
+
+	@Test
+	@RequiresDialect(PostgreSQLDialect.class)
+	public void testCopy(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+
+		scope.inStatelessTransaction( session -> session.insertMultiple( books() ) );
+
+		// COPY does not prepare any statement
+		assertThat( inspector.getSqlQueries() ).isEmpty();
+		assertBooks( scope );
+		// an empty string is distinguished from null
+		scope.inSession( session -> assertThat( session.find( Book.class, 27L ).title ).isEmpty() );
+	}
+
+	@Test
+	public void testSingleInsertIsNotBulk(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+
+		scope.inStatelessTransaction( session -> session.insert( new Book( 1L, "Single", null ) ) );
+
+		assertThat( inspector.getSqlQueries() ).hasSize( 1 );
+		assertThat( inspector.getSqlQueries().get( 0 ) ).startsWithIgnoringCase( "insert" );
+	}
+
+	private static List<Book> books() {
+		final List<Book> books = new ArrayList<>();
+		for ( long i = 1; i <= 25; i++ ) {
+			books.add( new Book( i, "Book " + i, LocalDate.of( 2000, 1, 1 ).plusDays( i ) ) );
+		}
+		// values which need quoting, and a null
+		books.add( new Book( 26L, "A \"quoted\", multi-line\ntitle", null ) );
+		books.add( new Book( 27L, "", null ) );
+		return books;
+	}
+
+	private static void assertBooks(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Book", Long.class ).getSingleResult() )
+					.isEqualTo( 27L );
+			final var book = session.find( Book.class, 17L );
+			assertThat( book.title ).isEqualTo( "Book 17" );
+			assertThat( book.published ).isEqualTo( LocalDate.of( 2000, 1, 18 ) );
+			final var quoted = session.find( Book.class, 26L );
+			assertThat( quoted.title ).isEqualTo( "A \"quoted\", multi-line\ntitle" );
+			assertThat( quoted.published ).isNull();
+		} );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+
+		private String title;
+
+		private LocalDate published;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, LocalDate published) {
+			this.id = id;
+			this.title = title;
+			this.published = published;
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.dialect.PostgreSQLDialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Temporal values loaded with {@code COPY} are the values the binders would have bound,
+ * whatever the JDBC time zone.
+ */
+@RequiresDialect(PostgreSQLDialect.class)
+@DomainModel(annotatedClasses = {
+		StatelessBulkInsertTimeZoneTest.Event.class,
+		StatelessBulkInsertTimeZoneTest.Meeting.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = {
+		@Setting(name = BatchSettings.BULK_INSERT, value = "true"),
+		@Setting(name = JdbcSettings.JDBC_TIME_ZONE, value = "Asia/Kolkata")
+})
+public class StatelessBulkInsertTimeZoneTest {
+
+	private static final OffsetDateTime HAPPENED =
+			OffsetDateTime.of( 2024, 3, 31, 1, 30, 15, 123_456_789, ZoneOffset.ofHours( -7 ) );
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testOffsetDateTime(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+
+		final List<Event> events = new ArrayList<>();
+		for ( long i = 1; i <= 10; i++ ) {
+			events.add( new Event( i, HAPPENED.plusHours( i ), HAPPENED.plusDays( i ).toInstant() ) );
+		}
+		scope.inStatelessTransaction( session -> session.insertMultiple( events ) );
+
+		// the instants are preserved, so the rows are copied
+		assertThat( inspector.getSqlQueries() ).isEmpty();
+		scope.inSession( session -> {
+			for ( long i = 1; i <= 10; i++ ) {
+				final var event = session.find( Event.class, i );
+				assertThat( event.happened.toInstant() )
+						.isEqualTo( HAPPENED.plusHours( i ).toInstant().plusNanos( 211 ) );
+				assertThat( event.recorded ).isEqualTo( HAPPENED.plusDays( i ).toInstant().plusNanos( 211 ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testLocalDateTime(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+
+		final LocalDateTime start = HAPPENED.toLocalDateTime().withNano( 0 );
+		final List<Meeting> meetings = new ArrayList<>();
+		for ( long i = 1; i <= 10; i++ ) {
+			meetings.add( new Meeting( i, start.plusHours( i ) ) );
+		}
+		scope.inStatelessTransaction( session -> session.insertMultiple( meetings ) );
+
+		// a timestamp is bound in the JDBC time zone, so the rows are inserted
+		assertThat( inspector.getSqlQueries() ).isNotEmpty();
+		assertThat( inspector.getSqlQueries().get( 0 ) ).startsWithIgnoringCase( "insert" );
+		scope.inSession( session -> {
+			for ( long i = 1; i <= 10; i++ ) {
+				assertThat( session.find( Meeting.class, i ).startsAt ).isEqualTo( start.plusHours( i ) );
+			}
+		} );
+	}
+
+	@Entity(name = "Event")
+	public static class Event {
+		@Id
+		private Long id;
+
+		private OffsetDateTime happened;
+
+		private Instant recorded;
+
+		public Event() {
+		}
+
+		public Event(Long id, OffsetDateTime happened, Instant recorded) {
+			this.id = id;
+			this.happened = happened;
+			this.recorded = recorded;
+		}
+	}
+
+	@Entity(name = "Meeting")
+	public static class Meeting {
+		@Id
+		private Long id;
+
+		private LocalDateTime startsAt;
+
+		public Meeting() {
+		}
+
+		public Meeting(Long id, LocalDateTime startsAt) {
+			this.id = id;
+			this.startsAt = startsAt;
+		}
+	}
+}
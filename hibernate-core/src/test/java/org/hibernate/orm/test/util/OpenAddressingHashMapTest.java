@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.hibernate.internal.util.collections.OpenAddressingHashMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OpenAddressingHashMapTest {
+	@Test
+	public void testPutGetRemove() {
+		final Map<String, Integer> map = new OpenAddressingHashMap<>();
+		assertNull( map.put( "a", 1 ) );
+		assertNull( map.put( "b", 2 ) );
+		assertEquals( 1, map.put( "a", 3 ) );
+		assertEquals( 2, map.size() );
+		assertEquals( 3, map.get( "a" ) );
+		assertTrue( map.containsKey( "b" ) );
+		assertTrue( map.containsValue( 2 ) );
+		assertEquals( 2, map.remove( "b" ) );
+		assertNull( map.remove( "b" ) );
+		assertFalse( map.containsKey( "b" ) );
+		assertNull( map.get( null ) );
+		assertEquals( 1, map.size() );
+		assertThrows( NullPointerException.class, () -> map.put( null, 1 ) );
+	}
+
+	@Test
+	public void testMatchesHashMap() {
+		final Map<Integer, Integer> expected = new HashMap<>();
+		final Map<Integer, Integer> map = new OpenAddressingHashMap<>( 4 );
+		// colliding hashes, growth and tombstone reuse
+		for ( int i = 0; i < 2000; i++ ) {
+			final Integer key = ( i * 64 ) % 3001;
+			expected.put( key, i );
+			map.put( key, i );
+			if ( i % 3 == 0 ) {
+				final Integer removed = ( ( i / 2 ) * 64 ) % 3001;
+				assertEquals( expected.remove( removed ), map.remove( removed ) );
+			}
+		}
+		assertEquals( expected, map );
+		assertEquals( map, expected );
+		assertEquals( expected.hashCode(), map.hashCode() );
+
+		map.clear();
+		assertTrue( map.isEmpty() );
+		assertFalse( map.keySet().iterator().hasNext() );
+	}
+
+	@Test
+	public void testIteratorRemoval() {
+		final Map<Integer, String> map = new OpenAddressingHashMap<>();
+		for ( int i = 0; i < 100; i++ ) {
+			map.put( i, Integer.toString( i ) );
+		}
+		final Iterator<Map.Entry<Integer, String>> iterator = map.entrySet().iterator();
+		while ( iterator.hasNext() ) {
+			final Map.Entry<Integer, String> entry = iterator.next();
+			if ( entry.getKey() % 2 == 0 ) {
+				iterator.remove();
+			}
+			else {
+				entry.setValue( "odd" );
+			}
+		}
+		assertEquals( 50, map.size() );
+		map.forEach( (key, value) -> {
+			assertEquals( 1, key % 2 );
+			assertEquals( "odd", value );
+		} );
+
+		final Iterator<Integer> keys = map.keySet().iterator();
+		keys.next();
+		map.put( 1000, "new" );
+		assertThrows( ConcurrentModificationException.class, keys::next );
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.util;
+
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.internal.util.cache.InternalCache;
+import org.hibernate.internal.util.cache.InternalCacheFactory;
+import org.hibernate.internal.util.config.ConfigurationException;
+import org.hibernate.service.spi.ServiceException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TinyLfuInternalCacheTest {
+
+	@Test
+	public void testBasicOperations() {
+		try (StandardServiceRegistry registry = newRegistry( "tinylfu" )) {
+			final InternalCache<String, String> cache = registry.requireService( InternalCacheFactory.class )
+					.createInternalCache( 10 );
+			assertNull( cache.get( "a" ) );
+			cache.put( "a", "1" );
+			assertEquals( "1", cache.get( "a" ) );
+			cache.put( "a", "2" );
+			assertEquals( "2", cache.get( "a" ) );
+			assertEquals( "2", cache.computeIfAbsent( "a", k -> "3" ) );
+			assertEquals( "b", cache.computeIfAbsent( "b", k -> k ) );
+			assertNull( cache.computeIfAbsent( "c", k -> null ) );
+			assertEquals( 2, cache.heldElementsEstimate() );
+			cache.remove( "b" );
+			assertNull( cache.get( "b" ) );
+			assertEquals( 1, cache.heldElementsEstimate() );
+			cache.put( "b", "4" );
+			assertEquals( "4", cache.get( "b" ) );
+			assertFalse( cache.remove( "b", "3" ) );
+			assertEquals( "4", cache.get( "b" ) );
+			assertTrue( cache.remove( "b", "4" ) );
+			assertNull( cache.get( "b" ) );
+			cache.clear();
+			assertEquals( 0, cache.heldElementsEstimate() );
+			assertNull( cache.get( "a" ) );
+		}
+	}
+
+	@Test
+	public void testHotEntriesSurviveScan() {
+		try (StandardServiceRegistry registry = newRegistry( "tinylfu" )) {
+			final InternalCache<Integer, Integer> cache = registry.requireService( InternalCacheFactory.class )
+					.createInternalCache( 100 );
+			for ( int round = 0; round < 20; round++ ) {
+				for ( int i = 0; i < 50; i++ ) {
+					cache.computeIfAbsent( i, k -> k );
+				}
+			}
+			// bursts of keys which are only ever used once
+			for ( int i = 1000; i < 11000; i++ ) {
+				cache.computeIfAbsent( i, k -> k );
+				if ( i % 4 == 0 ) {
+					cache.computeIfAbsent( i % 50, k -> k );
+				}
+			}
+			assertTrue( cache.heldElementsEstimate() <= 100 );
+
+			int hits = 0;
+			for ( int i = 0; i < 50; i++ ) {
+				if ( cache.get( i ) != null ) {
+					hits++;
+				}
+			}
+			assertTrue( hits >= 45, "Hot entries were evicted by the scan: " + hits + " hits out of 50" );
+		}
+	}
+
+	@Test
+	public void testUnknownEviction() {
+		try (StandardServiceRegistry registry = newRegistry( "fifo" )) {
+			final ServiceException exception = assertThrows( ServiceException.class,
+					() -> registry.requireService( InternalCacheFactory.class ) );
+			assertInstanceOf( ConfigurationException.class, exception.getCause() );
+		}
+	}
+
+	private static StandardServiceRegistry newRegistry(String eviction) {
+		return new StandardServiceRegistryBuilder()
+				.applySetting( QuerySettings.INTERNAL_CACHE_EVICTION, eviction )
+				.build();
+	}
+}
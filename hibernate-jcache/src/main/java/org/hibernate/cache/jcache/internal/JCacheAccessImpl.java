@@ -4,6 +4,8 @@
  */
 package org.hibernate.cache.jcache.internal;
 
+import java.util.Map;
+import java.util.Set;
 import javax.cache.Cache;
 
 import jakarta.annotation.Nonnull;
@@ -48,6 +50,21 @@ public void putIntoCache(
 		underlyingCache.put( key, value );
 	}
 
+	@Override
+	@Nonnull
+	public Map<Object, Object> getAllFromCache(
+			@Nonnull Set<?> keys,
+			@Nonnull SharedSessionContractImplementor session) {
+		return underlyingCache.getAll( keys );
+	}
+
+	@Override
+	public void putAllFromLoad(
+			@Nonnull Map<?, ?> items,
+			@Nonnull SharedSessionContractImplementor session) {
+		underlyingCache.putAll( items );
+	}
+
 	@Override
 	public void removeFromCache(@Nonnull Object key, @Nonnull SharedSessionContractImplementor session) {
 		underlyingCache.remove( key );
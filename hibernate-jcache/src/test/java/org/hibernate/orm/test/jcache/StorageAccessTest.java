@@ -4,6 +4,8 @@
  */
 package org.hibernate.orm.test.jcache;
 
+import java.util.Map;
+import java.util.Set;
 import javax.cache.Cache;
 
 import org.hibernate.cache.jcache.internal.JCacheAccessImpl;
@@ -63,6 +65,33 @@ public void testBasicStorageAccessUse() {
 		}
 	}
 
+	@Test
+	public void testBulkStorageAccessUse() {
+		TestHelper.preBuildAllCaches();
+		try (final SessionFactoryImplementor sessionFactory = TestHelper.buildStandardSessionFactory() ) {
+			final Region region = sessionFactory.getCache().getRegion( TestHelper.entityRegionNames[0] );
+
+			final JCacheAccessImpl access = (JCacheAccessImpl) ( (DomainDataRegionTemplate) region ).getCacheStorageAccess();
+			final Cache jcache = access.getUnderlyingCache();
+
+			inSession(
+					sessionFactory,
+					s -> {
+						access.putAllFromLoad( Map.of( "key1", "value1", "key2", "value2" ), s );
+						assertThat( jcache.get( "key1" ), equalTo( "value1" ) );
+						assertThat( jcache.get( "key2" ), equalTo( "value2" ) );
+						assertThat(
+								access.getAllFromCache( Set.of( "key1", "key2", "key3" ), s ),
+								equalTo( Map.of( "key1", "value1", "key2", "value2" ) )
+						);
+
+						access.evictData();
+						assertThat( access.getAllFromCache( Set.of( "key1", "key2" ), s ).isEmpty(), equalTo( true ) );
+					}
+			);
+		}
+	}
+
 	@Test
 	@SuppressWarnings({"EmptyTryBlock", "unused"})
 	public void testCachesReleasedOnSessionFactoryClose() {
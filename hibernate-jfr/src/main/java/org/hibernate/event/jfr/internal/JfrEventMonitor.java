@@ -51,6 +51,11 @@ public class JfrEventMonitor implements EventMonitor {
 	private static final EventType collectionUpdateEventType = EventType.getEventType( CollectionUpdateEvent.class );
 	private static final EventType collectionRemoveEventType = EventType.getEventType( CollectionRemoveEvent.class );
 
+	public JfrEventMonitor() {
+		// reports the VirtualThreadPinnedEvent, which is not tied to an operation of a session
+		VirtualThreadPinningMonitor.install();
+	}
+
 	@Override
 	public SessionOpenEvent beginSessionOpenEvent() {
 		if ( sessionOpenEventType.isEnabled() ) {
@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Reports a {@code jdk.VirtualThreadPinned} event whose stack trace goes
+ * through Hibernate code, identifying the innermost Hibernate frame.
+ *
+ * @see VirtualThreadPinningMonitor
+ */
+@Name(VirtualThreadPinnedEvent.NAME)
+@Label("Virtual Thread Pinned")
+@Category("Hibernate ORM")
+@Description("Virtual Thread Pinned to its Carrier in Hibernate Code")
+@StackTrace(false)
+@AllowNonPortable
+public class VirtualThreadPinnedEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.VirtualThreadPinned";
+
+	@Label("Pinning Site")
+	public String pinningSite;
+
+	@Label("Pinned Thread")
+	public String pinnedThread;
+
+	@Label("Pinned Duration")
+	@Timespan
+	public long pinnedDuration;
+
+	@Label("Stack Trace")
+	public String stackTrace;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
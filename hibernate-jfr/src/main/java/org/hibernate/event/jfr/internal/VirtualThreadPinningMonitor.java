@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Streams the {@code jdk.VirtualThreadPinned} events while the
+ * {@link VirtualThreadPinnedEvent} is enabled by some recording, and
+ * commits a {@link VirtualThreadPinnedEvent} for each of them whose
+ * stack trace goes through Hibernate code.
+ * <p>
+ * The JDK event is only emitted when a virtual thread was pinned for
+ * longer than its threshold, which is 20 milliseconds by default.
+ */
+@AllowNonPortable
+final class VirtualThreadPinningMonitor implements FlightRecorderListener {
+
+	private static final String JDK_EVENT_NAME = "jdk.VirtualThreadPinned";
+	private static final String HIBERNATE_PACKAGE = "org.hibernate.";
+
+	private static final EventType virtualThreadPinnedEventType = EventType.getEventType( VirtualThreadPinnedEvent.class );
+
+	private static final AtomicBoolean installed = new AtomicBoolean();
+
+	// only one thread at a time starts or closes the stream
+	private final AtomicBoolean changing = new AtomicBoolean();
+	private volatile RecordingStream stream;
+
+	private VirtualThreadPinningMonitor() {
+	}
+
+	/**
+	 * Register a listener starting and stopping the stream of pinning
+	 * events as recordings are started and stopped, at most once.
+	 */
+	static void install() {
+		if ( FlightRecorder.isAvailable() && installed.compareAndSet( false, true ) ) {
+			final var monitor = new VirtualThreadPinningMonitor();
+			FlightRecorder.addListener( monitor );
+			// a recording may already be running
+			monitor.update();
+		}
+	}
+
+	@Override
+	public void recordingStateChanged(Recording recording) {
+		update();
+	}
+
+	private void update() {
+		// No lock is held while calling Flight Recorder, which notifies its
+		// listeners while holding its own lock. Starting or closing the stream
+		// notifies this listener again from the same thread, and that nested
+		// notification is ignored. A notification ignored while another thread
+		// was changing the stream is handled by that thread checking again.
+		while ( changing.compareAndSet( false, true ) ) {
+			try {
+				if ( virtualThreadPinnedEventType.isEnabled() ) {
+					if ( stream == null ) {
+						final var starting = new RecordingStream();
+						starting.enable( JDK_EVENT_NAME ).withStackTrace();
+						starting.onEvent( JDK_EVENT_NAME, VirtualThreadPinningMonitor::pinned );
+						stream = starting;
+						starting.startAsync();
+					}
+				}
+				else if ( stream != null ) {
+					final var closing = stream;
+					stream = null;
+					closing.close();
+				}
+			}
+			finally {
+				changing.set( false );
+			}
+			if ( virtualThreadPinnedEventType.isEnabled() == ( stream != null ) ) {
+				break;
+			}
+		}
+	}
+
+	private static void pinned(RecordedEvent event) {
+		final var stackTrace = event.getStackTrace();
+		if ( stackTrace != null ) {
+			final List<RecordedFrame> frames = stackTrace.getFrames();
+			for ( RecordedFrame frame : frames ) {
+				// the innermost Hibernate frame is the one closest to the pinning
+				if ( frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith( HIBERNATE_PACKAGE ) ) {
+					final var pinnedEvent = new VirtualThreadPinnedEvent();
+					pinnedEvent.pinningSite = location( frame );
+					final var thread = event.getThread();
+					pinnedEvent.pinnedThread = thread == null ? null : thread.getJavaName();
+					pinnedEvent.pinnedDuration = event.getDuration().toNanos();
+					pinnedEvent.stackTrace = stackTrace( frames );
+					pinnedEvent.commit();
+					return;
+				}
+			}
+		}
+	}
+
+	private static String stackTrace(List<RecordedFrame> frames) {
+		final var stackTrace = new StringBuilder();
+		for ( RecordedFrame frame : frames ) {
+			if ( !stackTrace.isEmpty() ) {
+				stackTrace.append( '\n' );
+			}
+			stackTrace.append( location( frame ) );
+		}
+		return stackTrace.toString();
+	}
+
+	private static String location(RecordedFrame frame) {
+		final var method = frame.getMethod();
+		return method.getType().getName() + '.' + method.getName() + ':' + frame.getLineNumber();
+	}
+}
@@ -7,13 +7,16 @@
 import io.micrometer.common.lang.NonNullApi;
 import io.micrometer.common.lang.NonNullFields;
 import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.BaseUnits;
 import io.micrometer.core.instrument.binder.MeterBinder;
 import jakarta.annotation.Nullable;
 import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
 import org.hibernate.stat.Statistics;
 
 import java.util.Arrays;
@@ -29,6 +32,7 @@
 public class HibernateMetrics implements MeterBinder {
 
 	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
+	private static final double[] SAMPLED_QUANTILES = { 0.5, 0.95, 0.99 };
 
 	private final String cacheFactoryPrefix;
 	private final Iterable<Tag> tags;
@@ -141,6 +145,14 @@ public void bindTo(MeterRegistry registry) {
 		counter(registry, "hibernate.statements", "The number of prepared statements that were released",
 				Statistics::getCloseStatementCount, "status", "closed"
 		);
+		counter(registry, "hibernate.statements.cache",
+				"The number of prepared statements reused from the statement cache of a session",
+				Statistics::getPreparedStatementCacheHitCount, "result", "hit"
+		);
+		counter(registry, "hibernate.statements.cache",
+				"The number of prepared statements not found in the statement cache of a session",
+				Statistics::getPreparedStatementCacheMissCount, "result", "miss"
+		);
 
 		// Second Level Caching
 		// AWKWARD: getSecondLevelCacheRegionNames is the only way to retrieve a list of names
@@ -182,6 +194,33 @@ public void bindTo(MeterRegistry registry) {
 							"region",
 							regionName
 					);
+					if ( isSampled( regionName ) ) {
+						// the hot keys are not exported, since their number is unbounded
+						for ( double quantile : SAMPLED_QUANTILES ) {
+							Gauge.builder(
+									"hibernate.second.level.cache.entry.size",
+									statistics,
+									stats -> stats.getDomainDataRegionStatistics( regionName )
+											.getEntrySizePercentile( quantile * 100 )
+							)
+									.description( "The estimated size of the sampled entities/collections put in the cache" )
+									.baseUnit( BaseUnits.BYTES )
+									.tags( tags )
+									.tags( "region", regionName, "quantile", String.valueOf( quantile ) )
+									.register( registry );
+							TimeGauge.builder(
+									"hibernate.second.level.cache.load.time",
+									statistics,
+									TimeUnit.MICROSECONDS,
+									stats -> stats.getDomainDataRegionStatistics( regionName )
+											.getLoadTimePercentile( quantile * 100 )
+							)
+									.description( "The time between a sampled cache miss and the put of the entity/collection loaded from the database" )
+									.tags( tags )
+									.tags( "region", regionName, "quantile", String.valueOf( quantile ) )
+									.register( registry );
+						}
+					}
 				} );
 
 		// Entity information
@@ -336,6 +375,12 @@ public void bindTo(MeterRegistry registry) {
 		);
 	}
 
+	private boolean isSampled(String regionName) {
+		return statistics != null
+			&& statistics.getDomainDataRegionStatistics( regionName ).getEntrySizePercentile( 50 )
+				!= CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
 	private boolean hasDomainDataRegionStatistics(String regionName) {
 		// This appears to be a _qualified
 		// In 5.3, getDomainDataRegionStatistics (a new method) will throw an IllegalArgumentException
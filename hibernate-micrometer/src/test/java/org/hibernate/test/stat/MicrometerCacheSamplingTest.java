@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.test.stat;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.orm.micrometer.HibernateMetrics;
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hibernate.cfg.CacheSettings.CACHE_REGION_FACTORY;
+import static org.hibernate.cfg.CacheSettings.USE_SECOND_LEVEL_CACHE;
+import static org.hibernate.cfg.PersistenceSettings.SESSION_FACTORY_NAME_IS_JNDI;
+import static org.hibernate.cfg.StatisticsSettings.CACHE_SAMPLING;
+import static org.hibernate.cfg.StatisticsSettings.GENERATE_STATISTICS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The gauges of the entry sizes and load times of a sampled region.
+ */
+@SuppressWarnings("JUnitMalformedDeclaration")
+@ServiceRegistry(
+		settings = {
+				@Setting( name = USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = GENERATE_STATISTICS, value = "true" ),
+				@Setting( name = SESSION_FACTORY_NAME_IS_JNDI, value = "false" ),
+				@Setting( name = CACHE_SAMPLING, value = "1" ),
+		},
+		settingProviders = @SettingProvider( settingName = CACHE_REGION_FACTORY,
+				provider = CachingRegionFactory.SettingProvider.class )
+)
+@DomainModel(annotatedClasses = MicrometerCacheSamplingTest.Item.class)
+@SessionFactory( sessionFactoryName = "something" )
+public class MicrometerCacheSamplingTest {
+
+	private static final String REGION = "TheRegion";
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@BeforeEach
+	public void setUpMetrics(SessionFactoryScope factoryScope) {
+		var sessionFactory = factoryScope.getSessionFactory();
+		new HibernateMetrics( sessionFactory, sessionFactory.getName(), Tags.empty() ).bindTo( registry );
+	}
+
+	@AfterEach
+	public void cleanUpMetrics(SessionFactoryScope factoryScope) {
+		registry.clear();
+		factoryScope.dropData();
+	}
+
+	@Test
+	public void testSampledRegionGauges(SessionFactoryScope factoryScope) {
+		for ( String quantile : new String[] { "0.5", "0.95", "0.99" } ) {
+			assertNotNull( registry.get( "hibernate.second.level.cache.entry.size" )
+					.tags( "region", REGION, "quantile", quantile ).gauge() );
+			assertNotNull( registry.get( "hibernate.second.level.cache.load.time" )
+					.tags( "region", REGION, "quantile", quantile ).timeGauge() );
+		}
+
+		// nothing was sampled yet
+		assertEquals( 0, registry.get( "hibernate.second.level.cache.entry.size" )
+				.tags( "region", REGION, "quantile", "0.5" ).gauge().value(), 0 );
+
+		factoryScope.inTransaction( session -> session.persist( new Item( 1L, "sampled" ) ) );
+		factoryScope.getSessionFactory().getCache().evictEntityData();
+		// the miss is followed by the put of the loaded item
+		factoryScope.inSession( session -> session.find( Item.class, 1L ) );
+
+		final double entrySize = registry.get( "hibernate.second.level.cache.entry.size" )
+				.tags( "region", REGION, "quantile", "0.5" ).gauge().value();
+		assertTrue( entrySize > 0 );
+		assertTrue( registry.get( "hibernate.second.level.cache.entry.size" )
+				.tags( "region", REGION, "quantile", "0.99" ).gauge().value() >= entrySize );
+		assertTrue( registry.get( "hibernate.second.level.cache.load.time" )
+				.tags( "region", REGION, "quantile", "0.99" ).timeGauge().value( TimeUnit.MICROSECONDS ) >= 0 );
+	}
+
+	@Entity( name = "Item" )
+	@Table( name = "items" )
+	@Cache( region = REGION, usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class Item {
+		@Id
+		public Long id;
+
+		public String name;
+
+		protected Item() {
+		}
+
+		public Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -82,6 +82,8 @@ public void testMicrometerMetrics(SessionFactoryScope factoryScope) {
 
 		assertNotNull(registry.get("hibernate.statements").tags("status", "prepared").functionCounter());
 		assertNotNull(registry.get("hibernate.statements").tags("status", "closed").functionCounter());
+		assertNotNull(registry.get("hibernate.statements.cache").tags("result", "hit").functionCounter());
+		assertNotNull(registry.get("hibernate.statements.cache").tags("result", "miss").functionCounter());
 
 		// Second level cache disabled
 		verifyMeterNotFoundException("hibernate.second.level.cache.requests");
@@ -1393,6 +1393,12 @@ public boolean apply(Dialect dialect) {
 		}
 	}
 
+	public static class UsesArrayForMultiValuedParameters implements DialectFeatureCheck {
+		public boolean apply(Dialect dialect) {
+			return dialect.useArrayForMultiValuedParameters();
+		}
+	}
+
 	public static class SupportsStructuralArrays implements DialectFeatureCheck {
 		public boolean apply(Dialect dialect) {
 			return dialect.getPreferredSqlTypeCodeForArray() != SqlTypes.VARBINARY;
@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.testing.orm.junit;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+
+import org.jboss.logging.Logger;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * JUnit Jupiter extension which runs test methods, and the {@code @BeforeEach}
+ * and {@code @AfterEach} methods around them, on a virtual thread, and logs the
+ * stack of every virtual thread pinned to its carrier in Hibernate code.
+ * <p>
+ * The extension is registered through the {@link java.util.ServiceLoader} mechanism,
+ * and so is only active when JUnit extension autodetection is enabled, and when
+ * the system property {@value #VIRTUAL_THREADS} is {@code true}. Both are set by
+ * the build when it is invoked with {@code -PvirtualThreads}.
+ */
+public class VirtualThreadExtension implements InvocationInterceptor {
+
+	/**
+	 * The system property which enables running the tests on virtual threads.
+	 */
+	public static final String VIRTUAL_THREADS = "hibernate.testing.virtual_threads";
+
+	private static final Logger log = Logger.getLogger( VirtualThreadExtension.class );
+
+	private static final boolean enabled = Boolean.getBoolean( VIRTUAL_THREADS );
+
+	@Override
+	public void interceptTestMethod(
+			Invocation<Void> invocation,
+			ReflectiveInvocationContext<Method> invocationContext,
+			ExtensionContext extensionContext) throws Throwable {
+		proceed( invocation );
+	}
+
+	@Override
+	public void interceptTestTemplateMethod(
+			Invocation<Void> invocation,
+			ReflectiveInvocationContext<Method> invocationContext,
+			ExtensionContext extensionContext) throws Throwable {
+		proceed( invocation );
+	}
+
+	@Override
+	public void interceptBeforeEachMethod(
+			Invocation<Void> invocation,
+			ReflectiveInvocationContext<Method> invocationContext,
+			ExtensionContext extensionContext) throws Throwable {
+		proceed( invocation );
+	}
+
+	@Override
+	public void interceptAfterEachMethod(
+			Invocation<Void> invocation,
+			ReflectiveInvocationContext<Method> invocationContext,
+			ExtensionContext extensionContext) throws Throwable {
+		proceed( invocation );
+	}
+
+	private static void proceed(Invocation<Void> invocation) throws Throwable {
+		final ExecutorService executor = enabled ? VirtualThreads.EXECUTOR : null;
+		if ( executor == null ) {
+			invocation.proceed();
+		}
+		else {
+			try {
+				executor.submit( () -> {
+					invocation.proceed();
+					return null;
+				} ).get();
+			}
+			catch (ExecutionException e) {
+				throw e.getCause();
+			}
+		}
+	}
+
+	/**
+	 * Lazily holds the executor, so that nothing is started unless the extension is enabled.
+	 */
+	private static class VirtualThreads {
+		private static final ExecutorService EXECUTOR = createExecutor();
+
+		private static ExecutorService createExecutor() {
+			final ExecutorService executor;
+			try {
+				// the main sources are compiled against the baseline JDK
+				executor = (ExecutorService) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" )
+						.invoke( null );
+			}
+			catch (ReflectiveOperationException e) {
+				log.warnf( "Virtual threads are not supported by this JVM, running tests on platform threads" );
+				return null;
+			}
+			tracePinnedThreads();
+			return executor;
+		}
+
+		/**
+		 * Since JDK 24 {@code synchronized} no longer pins a virtual thread, and
+		 * {@code -Djdk.tracePinnedThreads} has been removed, so listen to the JFR
+		 * event reporting the remaining pinning sites instead.
+		 */
+		private static void tracePinnedThreads() {
+			final RecordingStream stream = new RecordingStream();
+			stream.enable( "jdk.VirtualThreadPinned" ).withStackTrace();
+			stream.onEvent( "jdk.VirtualThreadPinned", VirtualThreads::pinned );
+			stream.startAsync();
+		}
+
+		private static void pinned(RecordedEvent event) {
+			final var stackTrace = event.getStackTrace();
+			if ( stackTrace != null
+					&& stackTrace.getFrames().stream().anyMatch( VirtualThreads::isHibernateFrame ) ) {
+				final var frames = new StringBuilder();
+				for ( RecordedFrame frame : stackTrace.getFrames() ) {
+					frames.append( "\n\tat " )
+							.append( frame.getMethod().getType().getName() )
+							.append( '.' )
+							.append( frame.getMethod().getName() )
+							.append( "(line " )
+							.append( frame.getLineNumber() )
+							.append( ')' );
+				}
+				log.warnf( "Virtual thread pinned for %s:%s", event.getDuration(), frames );
+			}
+		}
+
+		private static boolean isHibernateFrame(RecordedFrame frame) {
+			return frame.isJavaFrame()
+				&& frame.getMethod().getType().getName().startsWith( "org.hibernate." );
+		}
+	}
+}